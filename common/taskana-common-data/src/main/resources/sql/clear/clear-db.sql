@@ -1,19 +1,25 @@
 -- the order is important!
 DELETE FROM TASK_COMMENT;
+DELETE FROM TASK_COMMENT_ARCHIVE;
 DELETE FROM CONFIGURATION;
 DELETE FROM TASK_HISTORY_EVENT;
 DELETE FROM WORKBASKET_HISTORY_EVENT;
 DELETE FROM CLASSIFICATION_HISTORY_EVENT;
 DELETE FROM ATTACHMENT;
 DELETE FROM TASK;
+DELETE FROM ATTACHMENT_ARCHIVE;
+DELETE FROM TASK_ARCHIVE;
 DELETE FROM WORKBASKET_ACCESS_LIST;
 DELETE FROM WORKBASKET;
 DELETE FROM DISTRIBUTION_TARGETS;
 DELETE FROM CLASSIFICATION;
 DELETE FROM OBJECT_REFERENCE;
+DELETE FROM OBJECT_REFERENCE_ARCHIVE;
 DELETE FROM SCHEDULED_JOB;
+DELETE FROM REPORT_SNAPSHOT;
 DELETE FROM USER_INFO;
 DELETE FROM GROUP_INFO;
 DELETE FROM PERMISSION_INFO;
 INSERT INTO CONFIGURATION (NAME) VALUES ('MASTER');
+UPDATE CACHE_VERSION SET VERSION = VERSION + 1;
 COMMIT;
@@ -1,17 +1,23 @@
 DROP TABLE TASKANA_SCHEMA_VERSION;
 DROP TABLE TASK_COMMENT;
+DROP TABLE TASK_COMMENT_ARCHIVE;
 DROP TABLE TASK_HISTORY_EVENT;
 DROP TABLE WORKBASKET_HISTORY_EVENT;
 DROP TABLE CLASSIFICATION_HISTORY_EVENT;
 DROP TABLE CONFIGURATION;
+DROP TABLE CACHE_VERSION;
 DROP TABLE ATTACHMENT;
 DROP TABLE TASK;
+DROP TABLE ATTACHMENT_ARCHIVE;
+DROP TABLE TASK_ARCHIVE;
 DROP TABLE WORKBASKET_ACCESS_LIST;
 DROP TABLE WORKBASKET;
 DROP TABLE DISTRIBUTION_TARGETS;
 DROP TABLE CLASSIFICATION;
 DROP TABLE OBJECT_REFERENCE;
+DROP TABLE OBJECT_REFERENCE_ARCHIVE;
 DROP TABLE SCHEDULED_JOB;
+DROP TABLE REPORT_SNAPSHOT;
 DROP TABLE USER_INFO;
 DROP TABLE GROUP_INFO;
 DROP TABLE PERMISSION_INFO;
@@ -30,4 +30,14 @@ public interface CurrentUserContext {
    * @return list containing all accessIds of the current user. Empty if there is no JAAS subject.
    */
   public List<String> getAccessIds();
+
+  /**
+   * Checks whether the given accessId is one of the accessIds of the current user.
+   *
+   * @param accessId the accessId to check
+   * @return true if the accessId is contained in {@linkplain #getAccessIds()}
+   */
+  default boolean hasAccessId(String accessId) {
+    return getAccessIds().contains(accessId);
+  }
 }
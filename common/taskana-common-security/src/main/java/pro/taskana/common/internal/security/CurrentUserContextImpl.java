@@ -2,20 +2,32 @@ package pro.taskana.common.internal.security;
 
 import static java.util.function.Predicate.not;
 
+import java.lang.ref.WeakReference;
 import java.lang.reflect.Method;
 import java.security.AccessController;
 import java.security.Principal;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 import javax.security.auth.Subject;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import pro.taskana.common.api.security.CurrentUserContext;
 import pro.taskana.common.api.security.GroupPrincipal;
 
+/**
+ * Implementation of the {@linkplain CurrentUserContext} based on the JAAS subject.
+ *
+ * <p>The userid and accessIds of the caller are resolved once per subject and kept in a snapshot
+ * per thread. As long as the same subject with the same principals is active, the snapshot is
+ * returned without inspecting the subject again.
+ */
 public class CurrentUserContextImpl implements CurrentUserContext {
 
   private static final String GET_UNIQUE_SECURITY_NAME_METHOD = "getUniqueSecurityName";
@@ -24,17 +36,22 @@ public class CurrentUserContextImpl implements CurrentUserContext {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(CurrentUserContextImpl.class);
   private final boolean shouldUseLowerCaseForAccessIds;
+  private final ThreadLocal<Snapshot> snapshotOfThread = new ThreadLocal<>();
+  private final Map<Class<?>, Method> uniqueSecurityNameMethods = new ConcurrentHashMap<>();
   private boolean runningOnWebSphere;
+  private Method getCallerSubjectMethod;
 
   public CurrentUserContextImpl(boolean shouldUseLowerCaseForAccessIds) {
     this.shouldUseLowerCaseForAccessIds = shouldUseLowerCaseForAccessIds;
     try {
-      Class.forName(WSSUBJECT_CLASSNAME);
+      Class<?> wsSubjectClass = Class.forName(WSSUBJECT_CLASSNAME);
+      getCallerSubjectMethod =
+          wsSubjectClass.getMethod(GET_CALLER_SUBJECT_METHOD, (Class<?>[]) null);
       if (LOGGER.isDebugEnabled()) {
         LOGGER.debug("WSSubject detected. Assuming that Taskana runs on IBM WebSphere.");
       }
       runningOnWebSphere = true;
-    } catch (ClassNotFoundException e) {
+    } catch (ClassNotFoundException | NoSuchMethodException e) {
       if (LOGGER.isDebugEnabled()) {
         LOGGER.debug("No WSSubject detected. Using JAAS subject further on.");
       }
@@ -44,15 +61,62 @@ public class CurrentUserContextImpl implements CurrentUserContext {
 
   @Override
   public String getUserid() {
-    return runningOnWebSphere ? getUserIdFromWsSubject() : getUserIdFromJaasSubject();
+    return getSnapshot().userId;
   }
 
   @Override
-  @SuppressWarnings("removal")
   public List<String> getGroupIds() {
+    return getSnapshot().groupIds;
+  }
+
+  @Override
+  public List<String> getAccessIds() {
+    return getSnapshot().accessIds;
+  }
+
+  @Override
+  public boolean hasAccessId(String accessId) {
+    return getSnapshot().accessIdSet.contains(accessId);
+  }
+
+  private Snapshot getSnapshot() {
+    Subject jaasSubject = getJaasSubject();
+    Subject wsSubject = runningOnWebSphere ? getWsCallerSubject() : null;
+    Snapshot snapshot = snapshotOfThread.get();
+    if (snapshot == null || !snapshot.isSnapshotOf(jaasSubject, wsSubject)) {
+      String userId =
+          runningOnWebSphere
+              ? getUserIdFromWsSubject(wsSubject)
+              : getUserIdFromJaasSubject(jaasSubject);
+      snapshot =
+          new Snapshot(jaasSubject, wsSubject, userId, getGroupIdsFromJaasSubject(jaasSubject));
+      snapshotOfThread.set(snapshot);
+    }
+    return snapshot;
+  }
+
+  @SuppressWarnings("removal")
+  private Subject getJaasSubject() {
     // TODO replace with Subject.current() when migrating to newer Version than 17
     Subject subject = Subject.getSubject(AccessController.getContext());
     LOGGER.trace("Subject of caller: {}", subject);
+    return subject;
+  }
+
+  private Subject getWsCallerSubject() {
+    try {
+      Subject callerSubject = (Subject) getCallerSubjectMethod.invoke(null, (Object[]) null);
+      if (LOGGER.isDebugEnabled()) {
+        LOGGER.debug("Subject of caller: {}", callerSubject);
+      }
+      return callerSubject;
+    } catch (Exception e) {
+      LOGGER.warn("Could not get user from WSSubject. Going ahead unauthorized.");
+      return null;
+    }
+  }
+
+  private List<String> getGroupIdsFromJaasSubject(Subject subject) {
     if (subject != null) {
       Set<GroupPrincipal> groups = subject.getPrincipals(GroupPrincipal.class);
       LOGGER.trace("Public groups of caller: {}", groups);
@@ -66,28 +130,15 @@ public class CurrentUserContextImpl implements CurrentUserContext {
     return Collections.emptyList();
   }
 
-  @Override
-  public List<String> getAccessIds() {
-    List<String> accessIds = new ArrayList<>(getGroupIds());
-    accessIds.add(getUserid());
-    return accessIds;
-  }
-
   /**
    * Returns the unique security name of the first public credentials found in the WSSubject as
    * userid.
    *
+   * @param callerSubject the WSSubject of the caller
    * @return the userid of the caller. If the userid could not be obtained, null is returned.
    */
-  private String getUserIdFromWsSubject() {
+  private String getUserIdFromWsSubject(Subject callerSubject) {
     try {
-      Class<?> wsSubjectClass = Class.forName(WSSUBJECT_CLASSNAME);
-      Method getCallerSubjectMethod =
-          wsSubjectClass.getMethod(GET_CALLER_SUBJECT_METHOD, (Class<?>[]) null);
-      Subject callerSubject = (Subject) getCallerSubjectMethod.invoke(null, (Object[]) null);
-      if (LOGGER.isDebugEnabled()) {
-        LOGGER.debug("Subject of caller: {}", callerSubject);
-      }
       if (callerSubject != null) {
         Set<Object> publicCredentials = callerSubject.getPublicCredentials();
         if (LOGGER.isDebugEnabled()) {
@@ -103,9 +154,7 @@ public class CurrentUserContextImpl implements CurrentUserContext {
                 // the module scope and introduce inconsistency.
                 credential -> {
                   try {
-                    return credential
-                        .getClass()
-                        .getMethod(GET_UNIQUE_SECURITY_NAME_METHOD, (Class<?>[]) null)
+                    return getUniqueSecurityNameMethod(credential.getClass())
                         .invoke(credential, (Object[]) null);
                   } catch (Exception e) {
                     throw new SecurityException("Could not retrieve principal", e);
@@ -126,11 +175,16 @@ public class CurrentUserContextImpl implements CurrentUserContext {
     return null;
   }
 
-  @SuppressWarnings("removal")
-  private String getUserIdFromJaasSubject() {
-    // TODO replace with Subject.current() when migrating to newer Version than 17
-    Subject subject = Subject.getSubject(AccessController.getContext());
-    LOGGER.trace("Subject of caller: {}", subject);
+  private Method getUniqueSecurityNameMethod(Class<?> credentialClass) throws Exception {
+    Method method = uniqueSecurityNameMethods.get(credentialClass);
+    if (method == null) {
+      method = credentialClass.getMethod(GET_UNIQUE_SECURITY_NAME_METHOD, (Class<?>[]) null);
+      uniqueSecurityNameMethods.put(credentialClass, method);
+    }
+    return method;
+  }
+
+  private String getUserIdFromJaasSubject(Subject subject) {
     if (subject != null) {
       Set<Principal> principals = subject.getPrincipals();
       LOGGER.trace("Public principals of caller: {}", principals);
@@ -154,4 +208,53 @@ public class CurrentUserContextImpl implements CurrentUserContext {
     LOGGER.trace("Found AccessId '{}'. Returning AccessId '{}' ", accessId, toReturn);
     return toReturn;
   }
+
+  /**
+   * Immutable view of the caller identified by a JAAS subject and an optional WSSubject. The
+   * principals and credentials of subjects which are not read-only are copied, so that any
+   * modification of them leads to a new snapshot.
+   */
+  private static class Snapshot {
+
+    private final WeakReference<Subject> jaasSubject;
+    private final WeakReference<Subject> wsSubject;
+    private final Set<Principal> jaasPrincipals;
+    private final Set<Object> wsCredentials;
+    private final String userId;
+    private final List<String> groupIds;
+    private final List<String> accessIds;
+    private final Set<String> accessIdSet;
+
+    private Snapshot(Subject jaasSubject, Subject wsSubject, String userId, List<String> groupIds) {
+      this.jaasSubject = jaasSubject == null ? null : new WeakReference<>(jaasSubject);
+      this.wsSubject = wsSubject == null ? null : new WeakReference<>(wsSubject);
+      this.jaasPrincipals = copyIfModifiable(jaasSubject, Subject::getPrincipals);
+      this.wsCredentials = copyIfModifiable(wsSubject, Subject::getPublicCredentials);
+      this.userId = userId;
+      this.groupIds = groupIds;
+      List<String> ids = new ArrayList<>(groupIds);
+      ids.add(userId);
+      this.accessIds = Collections.unmodifiableList(ids);
+      this.accessIdSet = Collections.unmodifiableSet(new HashSet<>(ids));
+    }
+
+    private static <T> Set<T> copyIfModifiable(
+        Subject subject, Function<Subject, Set<T>> elementsOfSubject) {
+      return subject == null || subject.isReadOnly()
+          ? null
+          : Set.copyOf(elementsOfSubject.apply(subject));
+    }
+
+    private static boolean isSameSubject(WeakReference<Subject> reference, Subject subject) {
+      // a cleared reference must not match a missing subject
+      return reference == null ? subject == null : subject != null && reference.get() == subject;
+    }
+
+    private boolean isSnapshotOf(Subject jaasSubject, Subject wsSubject) {
+      return isSameSubject(this.jaasSubject, jaasSubject)
+          && isSameSubject(this.wsSubject, wsSubject)
+          && (jaasPrincipals == null || jaasPrincipals.equals(jaasSubject.getPrincipals()))
+          && (wsCredentials == null || wsCredentials.equals(wsSubject.getPublicCredentials()));
+    }
+  }
 }
@@ -0,0 +1,110 @@
+package pro.taskana.common.test.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.security.PrivilegedAction;
+import javax.security.auth.Subject;
+import org.junit.jupiter.api.Test;
+import pro.taskana.common.api.security.CurrentUserContext;
+import pro.taskana.common.api.security.GroupPrincipal;
+import pro.taskana.common.api.security.UserPrincipal;
+import pro.taskana.common.internal.security.CurrentUserContextImpl;
+
+class CurrentUserContextImplTest {
+
+  private final CurrentUserContext currentUserContext = new CurrentUserContextImpl(true);
+
+  @Test
+  void should_ReturnSameAccessIds_When_SubjectDidNotChange() {
+    Subject subject = createSubject("User-1", "Group-1");
+
+    runAs(
+        subject,
+        () -> {
+          assertThat(currentUserContext.getAccessIds())
+              .containsExactlyInAnyOrder("user-1", "group-1")
+              .isSameAs(currentUserContext.getAccessIds());
+          assertThat(currentUserContext.hasAccessId("group-1")).isTrue();
+          assertThat(currentUserContext.hasAccessId("group-2")).isFalse();
+        });
+  }
+
+  @Test
+  void should_ResolveAccessIdsAgain_When_SubjectChanges() {
+    Subject subject = createSubject("user-1", "group-1");
+    Subject otherSubject = createSubject("user-2");
+
+    runAs(
+        subject,
+        () -> {
+          assertThat(currentUserContext.getUserid()).isEqualTo("user-1");
+          runAs(
+              otherSubject,
+              () -> assertThat(currentUserContext.getAccessIds()).containsExactly("user-2"));
+          assertThat(currentUserContext.getAccessIds())
+              .containsExactlyInAnyOrder("user-1", "group-1");
+        });
+    assertThat(currentUserContext.getUserid()).isNull();
+  }
+
+  @Test
+  void should_ResolveAccessIdsAgain_When_PrincipalIsAddedToSubject() {
+    Subject subject = createSubject("user-1");
+
+    runAs(
+        subject,
+        () -> {
+          assertThat(currentUserContext.getGroupIds()).isEmpty();
+          subject.getPrincipals().add(new GroupPrincipal("group-1"));
+          assertThat(currentUserContext.getGroupIds()).containsExactly("group-1");
+        });
+  }
+
+  @Test
+  void should_ResolveAccessIdsAgain_When_PrincipalOfSubjectIsReplaced() {
+    Subject subject = createSubject("user-1", "group-1");
+
+    runAs(
+        subject,
+        () -> {
+          assertThat(currentUserContext.hasAccessId("group-1")).isTrue();
+          subject.getPrincipals().remove(new GroupPrincipal("group-1"));
+          subject.getPrincipals().add(new GroupPrincipal("group-2"));
+          assertThat(currentUserContext.hasAccessId("group-1")).isFalse();
+          assertThat(currentUserContext.getGroupIds()).containsExactly("group-2");
+        });
+  }
+
+  @Test
+  void should_ReturnSameAccessIds_When_ReadOnlySubjectDidNotChange() {
+    Subject subject = createSubject("user-1", "group-1");
+    subject.setReadOnly();
+
+    runAs(
+        subject,
+        () ->
+            assertThat(currentUserContext.getAccessIds())
+                .containsExactlyInAnyOrder("user-1", "group-1")
+                .isSameAs(currentUserContext.getAccessIds()));
+  }
+
+  private static Subject createSubject(String userId, String... groupIds) {
+    Subject subject = new Subject();
+    subject.getPrincipals().add(new UserPrincipal(userId));
+    for (String groupId : groupIds) {
+      subject.getPrincipals().add(new GroupPrincipal(groupId));
+    }
+    return subject;
+  }
+
+  @SuppressWarnings("removal")
+  private static void runAs(Subject subject, Runnable runnable) {
+    Subject.doAs(
+        subject,
+        (PrivilegedAction<Void>)
+            () -> {
+              runnable.run();
+              return null;
+            });
+  }
+}
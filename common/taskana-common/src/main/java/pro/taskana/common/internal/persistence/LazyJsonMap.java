@@ -0,0 +1,144 @@
+package pro.taskana.common.internal.persistence;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.json.JSONObject;
+
+/**
+ * A Map which is read from a JSON column and decoded on its first access. As long as it isn't
+ * modified, the {@linkplain MapTypeHandler} writes the JSON it was read from instead of serializing
+ * it again. Changes to nested maps and lists can't be tracked, so a map which contains any is
+ * treated as modified once it is decoded. Like a HashMap, it isn't thread-safe.
+ */
+final class LazyJsonMap extends AbstractMap<String, Object> {
+
+  private final String json;
+  private Map<String, Object> decoded;
+  private boolean modified;
+  private Set<Entry<String, Object>> entrySet;
+
+  LazyJsonMap(String json) {
+    this.json = json;
+  }
+
+  boolean isDecoded() {
+    return decoded != null;
+  }
+
+  boolean isModified() {
+    return modified;
+  }
+
+  String getJson() {
+    return json;
+  }
+
+  @Override
+  public int size() {
+    return decode().size();
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return decode().isEmpty();
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    return decode().containsKey(key);
+  }
+
+  @Override
+  public boolean containsValue(Object value) {
+    return decode().containsValue(value);
+  }
+
+  @Override
+  public Object get(Object key) {
+    return decode().get(key);
+  }
+
+  @Override
+  public Object put(String key, Object value) {
+    modified = true;
+    return decode().put(key, value);
+  }
+
+  @Override
+  public Object remove(Object key) {
+    if (!decode().containsKey(key)) {
+      return null;
+    }
+    modified = true;
+    return decoded.remove(key);
+  }
+
+  @Override
+  public void clear() {
+    if (!decode().isEmpty()) {
+      modified = true;
+      decoded.clear();
+    }
+  }
+
+  @Override
+  public Set<Entry<String, Object>> entrySet() {
+    if (entrySet == null) {
+      entrySet = new EntrySet();
+    }
+    return entrySet;
+  }
+
+  private Map<String, Object> decode() {
+    if (decoded == null) {
+      decoded = new JSONObject(json).toMap();
+      modified =
+          decoded.values().stream()
+              .anyMatch(value -> value instanceof Map || value instanceof List);
+    }
+    return decoded;
+  }
+
+  // all modifications through the views end up in the iterator or an entry of this set
+  private class EntrySet extends AbstractSet<Entry<String, Object>> {
+
+    @Override
+    public int size() {
+      return decode().size();
+    }
+
+    @Override
+    public Iterator<Entry<String, Object>> iterator() {
+      Iterator<Entry<String, Object>> entries = decode().entrySet().iterator();
+      return new Iterator<>() {
+        @Override
+        public boolean hasNext() {
+          return entries.hasNext();
+        }
+
+        @Override
+        public Entry<String, Object> next() {
+          Entry<String, Object> entry = entries.next();
+          return new SimpleEntry<>(entry) {
+            @Override
+            public Object setValue(Object value) {
+              modified = true;
+              super.setValue(value);
+              return entry.setValue(value);
+            }
+          };
+        }
+
+        @Override
+        public void remove() {
+          entries.remove();
+          modified = true;
+        }
+      };
+    }
+  }
+}
@@ -12,7 +12,10 @@ import org.json.JSONObject;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-/** This Typehandler will transfer a Map into an xml blob and back. */
+/**
+ * This Typehandler will transfer a Map into a JSON blob and back. The JSON is only decoded when the
+ * Map is accessed for the first time.
+ */
 public class MapTypeHandler extends BaseTypeHandler<Map<String, Object>> {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(MapTypeHandler.class);
@@ -21,7 +24,10 @@ public class MapTypeHandler extends BaseTypeHandler<Map<String, Object>> {
   public void setNonNullParameter(
       PreparedStatement ps, int i, Map<String, Object> parameter, JdbcType jdbcType)
       throws SQLException {
-    if (parameter != null && parameter.size() > 0) {
+    if (parameter instanceof LazyJsonMap lazyJsonMap && !lazyJsonMap.isModified()) {
+      // the Map is unchanged since it was read, so its JSON can be written again
+      ps.setString(i, lazyJsonMap.getJson());
+    } else if (parameter != null && parameter.size() > 0) {
       if (LOGGER.isDebugEnabled()) {
         LOGGER.debug("Input-Map before serializing: {}", parameter);
       }
@@ -63,7 +69,6 @@ public class MapTypeHandler extends BaseTypeHandler<Map<String, Object>> {
   }
 
   private Map<String, Object> convertToMap(String fieldValue) {
-    JSONObject jsonObj = new JSONObject(fieldValue);
-    return jsonObj.toMap();
+    return new LazyJsonMap(fieldValue);
   }
 }
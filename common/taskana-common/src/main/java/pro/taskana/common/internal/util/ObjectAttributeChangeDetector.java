@@ -1,17 +1,32 @@
 package pro.taskana.common.internal.util;
 
-import static java.util.function.Predicate.not;
-import static pro.taskana.common.internal.util.CheckedFunction.wrap;
-
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
 import java.util.List;
 import java.util.Objects;
-import java.util.Optional;
 import org.json.JSONObject;
+import org.json.JSONStringer;
+import org.json.JSONWriter;
 import pro.taskana.common.api.exceptions.SystemException;
 
 public class ObjectAttributeChangeDetector {
 
+  // the attributes of a class are looked up once and compared with method handles afterwards
+  private static final ClassValue<List<Attribute>> ATTRIBUTES =
+      new ClassValue<>() {
+        @Override
+        protected List<Attribute> computeValue(Class<?> type) {
+          return ReflectionUtil.retrieveAllFields(type).stream()
+              .filter(field -> !Modifier.isStatic(field.getModifiers()))
+              .filter(field -> !"customAttributes".equals(field.getName()))
+              .map(Attribute::of)
+              .toList();
+        }
+      };
+
   private ObjectAttributeChangeDetector() {
     throw new IllegalStateException("Utility class");
   }
@@ -48,29 +63,18 @@ public class ObjectAttributeChangeDetector {
               oldObject.getClass().getName(), newObject.getClass().getName()));
     }
 
-    List<JSONObject> changedAttributes =
-        ReflectionUtil.retrieveAllFields(objectClass).stream()
-            .peek(field -> field.setAccessible(true))
-            .filter(not(field -> "customAttributes".equals(field.getName())))
-            .map(wrap(field -> Triplet.of(field, field.get(oldObject), field.get(newObject))))
-            .filter(not(t -> Objects.equals(t.getMiddle(), t.getRight())))
-            .map(t -> generateChangedAttribute(t.getLeft(), t.getMiddle(), t.getRight()))
-            .toList();
-
-    JSONObject changes = new JSONObject();
-    changes.put("changes", changedAttributes);
-    return changes.toString();
-  }
-
-  private static JSONObject generateChangedAttribute(
-      Field field, Object oldValue, Object newValue) {
-    JSONObject changedAttribute = new JSONObject();
-    changedAttribute.put("fieldName", field.getName());
-    changedAttribute.put(
-        "oldValue", Optional.ofNullable(oldValue).map(JSONObject::wrap).orElse(""));
-    changedAttribute.put(
-        "newValue", Optional.ofNullable(newValue).map(JSONObject::wrap).orElse(""));
-    return changedAttribute;
+    JSONWriter changes = new JSONStringer().object().key("changes").array();
+    for (Attribute attribute : ATTRIBUTES.get(objectClass)) {
+      try {
+        attribute.writeChange(changes, oldObject, newObject);
+      } catch (RuntimeException | Error e) {
+        throw e;
+      } catch (Throwable e) {
+        throw new SystemException(
+            String.format("Could not read the field '%s'.", attribute.name), e);
+      }
+    }
+    return changes.endArray().endObject().toString();
   }
 
   private static <T> String compareLists(T oldObject, T newObject) {
@@ -87,4 +91,115 @@ public class ObjectAttributeChangeDetector {
 
     return changes.toString();
   }
+
+  /**
+   * A field of a compared class. Fields of type int, long and boolean are read and compared without
+   * boxing their values.
+   */
+  private abstract static class Attribute {
+
+    protected final String name;
+    protected final MethodHandle getter;
+
+    private Attribute(String name, MethodHandle getter) {
+      this.name = name;
+      this.getter = getter;
+    }
+
+    private static Attribute of(Field field) {
+      MethodHandle getter;
+      try {
+        field.setAccessible(true);
+        getter = MethodHandles.lookup().unreflectGetter(field);
+      } catch (IllegalAccessException | RuntimeException e) {
+        throw new SystemException(
+            String.format(
+                "Could not access the field '%s' of %s.",
+                field.getName(), field.getDeclaringClass().getName()),
+            e);
+      }
+      Class<?> type = field.getType();
+      if (type == int.class || type == long.class) {
+        return new LongAttribute(field.getName(), getter);
+      } else if (type == boolean.class) {
+        return new BooleanAttribute(field.getName(), getter);
+      }
+      return new ObjectAttribute(field.getName(), getter);
+    }
+
+    protected static MethodHandle adapt(MethodHandle getter, Class<?> returnType) {
+      return getter.asType(MethodType.methodType(returnType, Object.class));
+    }
+
+    protected abstract void writeChange(JSONWriter writer, Object oldObject, Object newObject)
+        throws Throwable;
+
+    // only changed values are boxed. The keys keep the order of the details created before
+    protected void writeChangedValues(JSONWriter writer, Object newValue, Object oldValue) {
+      writer
+          .object()
+          .key("newValue")
+          .value(toJsonValue(newValue))
+          .key("fieldName")
+          .value(name)
+          .key("oldValue")
+          .value(toJsonValue(oldValue))
+          .endObject();
+    }
+
+    private static Object toJsonValue(Object value) {
+      return value == null ? "" : JSONObject.wrap(value);
+    }
+  }
+
+  private static final class ObjectAttribute extends Attribute {
+
+    private ObjectAttribute(String name, MethodHandle getter) {
+      super(name, adapt(getter, Object.class));
+    }
+
+    @Override
+    protected void writeChange(JSONWriter writer, Object oldObject, Object newObject)
+        throws Throwable {
+      Object oldValue = getter.invokeExact(oldObject);
+      Object newValue = getter.invokeExact(newObject);
+      if (!Objects.equals(oldValue, newValue)) {
+        writeChangedValues(writer, newValue, oldValue);
+      }
+    }
+  }
+
+  private static final class LongAttribute extends Attribute {
+
+    private LongAttribute(String name, MethodHandle getter) {
+      super(name, adapt(getter, long.class));
+    }
+
+    @Override
+    protected void writeChange(JSONWriter writer, Object oldObject, Object newObject)
+        throws Throwable {
+      long oldValue = (long) getter.invokeExact(oldObject);
+      long newValue = (long) getter.invokeExact(newObject);
+      if (oldValue != newValue) {
+        writeChangedValues(writer, newValue, oldValue);
+      }
+    }
+  }
+
+  private static final class BooleanAttribute extends Attribute {
+
+    private BooleanAttribute(String name, MethodHandle getter) {
+      super(name, adapt(getter, boolean.class));
+    }
+
+    @Override
+    protected void writeChange(JSONWriter writer, Object oldObject, Object newObject)
+        throws Throwable {
+      boolean oldValue = (boolean) getter.invokeExact(oldObject);
+      boolean newValue = (boolean) getter.invokeExact(newObject);
+      if (oldValue != newValue) {
+        writeChangedValues(writer, newValue, oldValue);
+      }
+    }
+  }
 }
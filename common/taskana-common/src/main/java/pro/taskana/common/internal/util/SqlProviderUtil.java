@@ -11,6 +11,27 @@ public class SqlProviderUtil {
 
   private SqlProviderUtil() {}
 
+  /**
+   * Returns the given table or, if the flag is set, the union of the table and its archive table.
+   * The archive table has the same columns in the same order as the table itself.
+   *
+   * @param table the name of the table
+   * @param includeArchivedFlag the property of the parameter object which decides whether the
+   *     archive table is included
+   * @return the table expression
+   */
+  public static String tableOrWithArchive(String table, String includeArchivedFlag) {
+    return "<choose><when test='"
+        + includeArchivedFlag
+        + "'>(SELECT * FROM "
+        + table
+        + " UNION ALL SELECT * FROM "
+        + table
+        + "_ARCHIVE)</when><otherwise>"
+        + table
+        + "</otherwise></choose>";
+  }
+
   public static StringBuilder whereIn(String collection, String column, StringBuilder sb) {
     sb.append("<if test='")
         .append(collection)
@@ -4,10 +4,14 @@ import static java.time.temporal.ChronoUnit.DAYS;
 
 import java.time.LocalDate;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
 import java.util.stream.LongStream;
 import java.util.stream.LongStream.Builder;
 import pro.taskana.common.api.CustomHoliday;
@@ -15,6 +19,8 @@ import pro.taskana.common.api.CustomHoliday;
 /**
  * The WorkingDaysToDaysConverter provides a method to convert an age in working days into an age in
  * days.
+ *
+ * <p>The holidays of a year are computed once and kept as a bitset indexed by the day of the year.
  */
 public class HolidaySchedule {
 
@@ -39,6 +45,8 @@ public class HolidaySchedule {
   private final boolean corpusChristiEnabled;
   private final Set<CustomHoliday> customHolidays;
   private final EasterCalculator easterCalculator;
+  private final Map<Integer, BitSet> holidaysByYear = new ConcurrentHashMap<>();
+  private final Map<Integer, BitSet> germanHolidaysByYear = new ConcurrentHashMap<>();
 
   public HolidaySchedule(boolean germanHolidaysEnabled, boolean corpusChristiEnabled) {
     this(germanHolidaysEnabled, corpusChristiEnabled, Collections.emptySet());
@@ -63,14 +71,36 @@ public class HolidaySchedule {
   }
 
   public boolean isHoliday(LocalDate date) {
-    if (germanHolidaysEnabled && isGermanHoliday(date)) {
+    return holidaysByYear
+        .computeIfAbsent(date.getYear(), year -> computeDays(year, this::computeIsHoliday))
+        .get(date.getDayOfYear() - 1);
+  }
+
+  public boolean isGermanHoliday(LocalDate date) {
+    return germanHolidaysByYear
+        .computeIfAbsent(date.getYear(), year -> computeDays(year, this::computeIsGermanHoliday))
+        .get(date.getDayOfYear() - 1);
+  }
+
+  private static BitSet computeDays(int year, Predicate<LocalDate> predicate) {
+    BitSet days = new BitSet();
+    LocalDate date = LocalDate.ofYearDay(year, 1);
+    while (date.getYear() == year) {
+      days.set(date.getDayOfYear() - 1, predicate.test(date));
+      date = date.plusDays(1);
+    }
+    return days;
+  }
+
+  private boolean computeIsHoliday(LocalDate date) {
+    if (germanHolidaysEnabled && computeIsGermanHoliday(date)) {
       return true;
     }
     // Custom holidays that can be configured in the TaskanaConfiguration
     return customHolidays.contains(CustomHoliday.of(date.getDayOfMonth(), date.getMonthValue()));
   }
 
-  public boolean isGermanHoliday(LocalDate date) {
+  private boolean computeIsGermanHoliday(LocalDate date) {
     if (GERMAN_HOLIDAYS.contains(CustomHoliday.of(date.getDayOfMonth(), date.getMonthValue()))) {
       return true;
     }
@@ -118,8 +148,9 @@ public class HolidaySchedule {
      * @return the date of Easter Sunday for the given year
      */
     LocalDate getEasterSunday(int year) {
-      if (cachedEasterDay != null && cachedEasterDay.getYear() == year) {
-        return cachedEasterDay;
+      LocalDate easterDay = cachedEasterDay;
+      if (easterDay != null && easterDay.getYear() == year) {
+        return easterDay;
       }
 
       // Algorithm for calculating the date of Easter Sunday
@@ -141,8 +172,9 @@ public class HolidaySchedule {
       int month = n / 31;
       int day = (n % 31) + 1;
 
-      cachedEasterDay = LocalDate.of(year, month, day);
-      return cachedEasterDay;
+      easterDay = LocalDate.of(year, month, day);
+      cachedEasterDay = easterDay;
+      return easterDay;
     }
   }
 }
@@ -0,0 +1,153 @@
+package pro.taskana.common.internal.workingtime;
+
+import java.time.LocalDate;
+import java.time.Year;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.ToLongFunction;
+import pro.taskana.common.api.exceptions.SystemException;
+
+/**
+ * Index over the amount of work per calendar day.
+ *
+ * <p>For each year, the cumulative amount of work is computed once when it is accessed for the
+ * first time. Afterwards, sums over ranges of days and searches for the day on which a given amount
+ * of work is reached only need a lookup or a binary search per year instead of visiting every
+ * single day.
+ */
+class WorkingCalendarIndex {
+
+  private final ToLongFunction<LocalDate> workOfDay;
+  private final Map<Integer, long[]> cumulativeWorkByYear = new ConcurrentHashMap<>();
+
+  /**
+   * Creates a WorkingCalendarIndex.
+   *
+   * @param workOfDay the amount of work of a given day. Must not be negative and must not change
+   *     over time.
+   */
+  WorkingCalendarIndex(ToLongFunction<LocalDate> workOfDay) {
+    this.workOfDay = workOfDay;
+  }
+
+  /**
+   * Computes the amount of work between two days.
+   *
+   * @param fromInclusive the first day
+   * @param toExclusive the day after the last day
+   * @return the amount of work of all days in the range. 0 if the range is empty.
+   */
+  long sum(LocalDate fromInclusive, LocalDate toExclusive) {
+    if (!toExclusive.isAfter(fromInclusive)) {
+      return 0;
+    }
+    long sum = 0;
+    int year = fromInclusive.getYear();
+    int fromIndex = fromInclusive.getDayOfYear() - 1;
+    while (year < toExclusive.getYear()) {
+      long[] cumulativeWork = getCumulativeWork(year);
+      sum += cumulativeWork[cumulativeWork.length - 1] - cumulativeWork[fromIndex];
+      year++;
+      fromIndex = 0;
+    }
+    long[] cumulativeWork = getCumulativeWork(year);
+    return sum + cumulativeWork[toExclusive.getDayOfYear() - 1] - cumulativeWork[fromIndex];
+  }
+
+  /**
+   * Finds the day on which <code>amount</code> is reached when summing up the work of the days
+   * starting at <code>fromInclusive</code>.
+   *
+   * @param fromInclusive the first day
+   * @param amount the amount of work. Must be positive.
+   * @return the first day <code>d</code> with <code>sum(fromInclusive, d + 1) &gt;= amount</code>
+   */
+  LocalDate findForward(LocalDate fromInclusive, long amount) {
+    int year = fromInclusive.getYear();
+    int fromIndex = fromInclusive.getDayOfYear() - 1;
+    long remaining = amount;
+    while (true) {
+      long[] cumulativeWork = getCumulativeWork(year);
+      int length = cumulativeWork.length - 1;
+      long available = cumulativeWork[length] - cumulativeWork[fromIndex];
+      if (available >= remaining) {
+        long target = cumulativeWork[fromIndex] + remaining;
+        // first index whose cumulative work reaches the target
+        int low = fromIndex + 1;
+        int high = length;
+        while (low < high) {
+          int middle = (low + high) >>> 1;
+          if (cumulativeWork[middle] < target) {
+            low = middle + 1;
+          } else {
+            high = middle;
+          }
+        }
+        return LocalDate.ofYearDay(year, low);
+      }
+      verifyWorkExists(year, fromIndex == 0 ? available : -1);
+      remaining -= available;
+      year++;
+      fromIndex = 0;
+    }
+  }
+
+  /**
+   * Finds the day on which <code>amount</code> is reached when summing up the work of the days
+   * backwards starting at <code>toInclusive</code>.
+   *
+   * @param toInclusive the last day
+   * @param amount the amount of work. Must be positive.
+   * @return the last day <code>d</code> with <code>sum(d, toInclusive + 1) &gt;= amount</code>
+   */
+  LocalDate findBackward(LocalDate toInclusive, long amount) {
+    int year = toInclusive.getYear();
+    int toIndex = toInclusive.getDayOfYear();
+    long remaining = amount;
+    while (true) {
+      long[] cumulativeWork = getCumulativeWork(year);
+      long available = cumulativeWork[toIndex];
+      if (available >= remaining) {
+        long target = cumulativeWork[toIndex] - remaining;
+        // last index whose cumulative work does not exceed the target
+        int low = 0;
+        int high = toIndex - 1;
+        while (low < high) {
+          int middle = (low + high + 1) >>> 1;
+          if (cumulativeWork[middle] <= target) {
+            low = middle;
+          } else {
+            high = middle - 1;
+          }
+        }
+        return LocalDate.ofYearDay(year, low + 1);
+      }
+      verifyWorkExists(year, toIndex == cumulativeWork.length - 1 ? available : -1);
+      remaining -= available;
+      year--;
+      toIndex = Year.of(year).length();
+    }
+  }
+
+  private void verifyWorkExists(int year, long workOfWholeYear) {
+    if (workOfWholeYear == 0) {
+      throw new SystemException(
+          String.format("There is no working time in the whole year %d", year));
+    }
+  }
+
+  private long[] getCumulativeWork(int year) {
+    return cumulativeWorkByYear.computeIfAbsent(year, this::computeCumulativeWork);
+  }
+
+  private long[] computeCumulativeWork(int year) {
+    int length = Year.of(year).length();
+    long[] cumulativeWork = new long[length + 1];
+    LocalDate day = LocalDate.ofYearDay(year, 1);
+    for (int i = 0; i < length; i++) {
+      cumulativeWork[i + 1] = cumulativeWork[i] + workOfDay.applyAsLong(day);
+      day = day.plusDays(1);
+    }
+    return cumulativeWork;
+  }
+}
@@ -4,6 +4,7 @@ import java.time.DayOfWeek;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDate;
+import java.time.LocalTime;
 import java.time.ZoneId;
 import java.time.temporal.ChronoUnit;
 import java.util.stream.LongStream;
@@ -13,12 +14,18 @@ import pro.taskana.common.api.exceptions.SystemException;
 
 public class WorkingDayCalculatorImpl implements WorkingTimeCalculator {
 
+  // Daylight saving time never shifts the local time by more than this amount.
+  private static final LocalTime EARLIEST_DATE_ALIGNED_TIME = LocalTime.of(3, 0);
+  private static final LocalTime LATEST_DATE_ALIGNED_TIME = LocalTime.of(21, 0);
+
   private final ZoneId zoneId;
   private final HolidaySchedule holidaySchedule;
+  private final WorkingCalendarIndex workingDayIndex;
 
   public WorkingDayCalculatorImpl(HolidaySchedule holidaySchedule, ZoneId zoneId) {
     this.holidaySchedule = holidaySchedule;
     this.zoneId = zoneId;
+    this.workingDayIndex = new WorkingCalendarIndex(date -> isWorkingDate(date) ? 1 : 0);
   }
 
   @Override
@@ -41,6 +48,10 @@ public class WorkingDayCalculatorImpl implements WorkingTimeCalculator {
     long days = Duration.between(first, second).abs().toDays();
     Instant firstInstant = first.isBefore(second) ? first : second;
 
+    if (isDateAligned(firstInstant)) {
+      LocalDate firstDate = toLocalDate(firstInstant);
+      return Duration.ofDays(workingDayIndex.sum(firstDate.plusDays(1), firstDate.plusDays(days)));
+    }
     long workingDaysBetween =
         LongStream.range(1, days)
             .mapToObj(day -> isWorkingDay(firstInstant.plus(day, ChronoUnit.DAYS)))
@@ -51,7 +62,7 @@ public class WorkingDayCalculatorImpl implements WorkingTimeCalculator {
 
   @Override
   public boolean isWorkingDay(Instant instant) {
-    return !isWeekend(instant) && !isHoliday(instant);
+    return isWorkingDate(toLocalDate(instant));
   }
 
   @Override
@@ -78,6 +89,14 @@ public class WorkingDayCalculatorImpl implements WorkingTimeCalculator {
     }
     int direction = calculateDirection(numberOfDays, zeroDirection);
     long limit = Math.abs(numberOfDays);
+    if (isDateAligned(startTime)) {
+      LocalDate startDate = toLocalDate(startTime);
+      LocalDate workingDay =
+          direction > 0
+              ? workingDayIndex.findForward(startDate, limit + 1)
+              : workingDayIndex.findBackward(startDate, limit + 1);
+      return ChronoUnit.DAYS.between(startDate, workingDay);
+    }
     return LongStream.iterate(0, i -> i + direction)
         .filter(day -> isWorkingDay(startTime.plus(day, ChronoUnit.DAYS)))
         .skip(limit)
@@ -93,6 +112,30 @@ public class WorkingDayCalculatorImpl implements WorkingTimeCalculator {
     }
   }
 
+  private boolean isWorkingDate(LocalDate date) {
+    DayOfWeek dayOfWeek = date.getDayOfWeek();
+    return dayOfWeek != DayOfWeek.SATURDAY
+        && dayOfWeek != DayOfWeek.SUNDAY
+        && !holidaySchedule.isHoliday(date);
+  }
+
+  /**
+   * Determines whether adding whole days to <code>instant</code> also adds the same number of days
+   * to its date. Otherwise, a daylight saving time change might move the result to another date and
+   * the days have to be checked one by one.
+   *
+   * @param instant the instant whole days are added to
+   * @return true if the date of the instant can be used to look up the working days
+   */
+  private boolean isDateAligned(Instant instant) {
+    if (zoneId.getRules().isFixedOffset()) {
+      return true;
+    }
+    LocalTime localTime = LocalTime.ofInstant(instant, zoneId);
+    return !localTime.isBefore(EARLIEST_DATE_ALIGNED_TIME)
+        && localTime.isBefore(LATEST_DATE_ALIGNED_TIME);
+  }
+
   private LocalDate toLocalDate(Instant instant) {
     return LocalDate.ofInstant(instant, zoneId);
   }
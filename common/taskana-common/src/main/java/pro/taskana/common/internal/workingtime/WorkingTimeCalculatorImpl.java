@@ -8,6 +8,7 @@ import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
@@ -16,13 +17,22 @@ import java.util.SortedSet;
 import pro.taskana.common.api.LocalTimeInterval;
 import pro.taskana.common.api.WorkingTimeCalculator;
 import pro.taskana.common.api.exceptions.InvalidArgumentException;
-
+import pro.taskana.common.api.exceptions.SystemException;
+
+/**
+ * Calculates working time based on the work slots of each day of the week.
+ *
+ * <p>The working time of whole days is looked up in a {@linkplain WorkingCalendarIndex}, so only
+ * the work slots of the first and the last day of an interval have to be visited.
+ */
 public class WorkingTimeCalculatorImpl implements WorkingTimeCalculator {
 
   private final ZoneId zoneId;
 
   private final HolidaySchedule holidaySchedule;
   private final WorkingTimeSchedule workingTimeSchedule;
+  // working time in nanoseconds per day
+  private final WorkingCalendarIndex workingTimeIndex;
 
   public WorkingTimeCalculatorImpl(
       HolidaySchedule holidaySchedule,
@@ -31,6 +41,7 @@ public class WorkingTimeCalculatorImpl implements WorkingTimeCalculator {
     this.holidaySchedule = holidaySchedule;
     this.workingTimeSchedule = new WorkingTimeSchedule(workingTimeSchedule);
     this.zoneId = Objects.requireNonNull(zoneId);
+    this.workingTimeIndex = new WorkingCalendarIndex(this::workingTimeOfDayInNanos);
   }
 
   @Override
@@ -38,8 +49,38 @@ public class WorkingTimeCalculatorImpl implements WorkingTimeCalculator {
       throws InvalidArgumentException {
     validatePositiveDuration(workingTime);
     ZonedDateTime workStartInTimeZone = toZonedDateTime(workStart);
-    WorkSlot workSlot = getWorkSlotOrPrevious(workStartInTimeZone);
-    return workSlot.subtractWorkingTime(workStartInTimeZone, workingTime).toInstant();
+    if (workingTime.isZero()) {
+      WorkSlot workSlot = getWorkSlotOrPrevious(workStartInTimeZone);
+      return workSlot.subtractWorkingTime(workStartInTimeZone, workingTime).toInstant();
+    }
+
+    // consume the working time of the day work starts on
+    LocalDate workStartDate = workStartInTimeZone.toLocalDate();
+    Duration remainingWorkingTime = workingTime;
+    for (WorkSlot workSlot : workSlotsForReversed(workStartDate)) {
+      ZonedDateTime latestWorkEnd = min(workStartInTimeZone, workSlot.end);
+      if (latestWorkEnd.isAfter(workSlot.start)) {
+        Duration untilStartOfWorkSlot = Duration.between(workSlot.start, latestWorkEnd);
+        if (remainingWorkingTime.compareTo(untilStartOfWorkSlot) <= 0) {
+          return latestWorkEnd.minus(remainingWorkingTime).toInstant();
+        }
+        remainingWorkingTime = remainingWorkingTime.minus(untilStartOfWorkSlot);
+      }
+    }
+
+    // skip all days which are consumed completely
+    LocalDate dueDate =
+        workingTimeIndex.findBackward(workStartDate.minusDays(1), remainingWorkingTime.toNanos());
+    remainingWorkingTime =
+        remainingWorkingTime.minusNanos(workingTimeIndex.sum(dueDate.plusDays(1), workStartDate));
+    for (WorkSlot workSlot : workSlotsForReversed(dueDate)) {
+      Duration durationOfWorkSlot = Duration.between(workSlot.start, workSlot.end);
+      if (remainingWorkingTime.compareTo(durationOfWorkSlot) <= 0) {
+        return workSlot.end.minus(remainingWorkingTime).toInstant();
+      }
+      remainingWorkingTime = remainingWorkingTime.minus(durationOfWorkSlot);
+    }
+    throw new SystemException("Internal Error: working time index is inconsistent");
   }
 
   @Override
@@ -47,8 +88,38 @@ public class WorkingTimeCalculatorImpl implements WorkingTimeCalculator {
       throws InvalidArgumentException {
     validatePositiveDuration(workingTime);
     ZonedDateTime workStartInTimeZone = toZonedDateTime(workStart);
-    WorkSlot workSlot = getWorkSlotOrNext(workStartInTimeZone);
-    return workSlot.addWorkingTime(workStartInTimeZone, workingTime).toInstant();
+    if (workingTime.isZero()) {
+      WorkSlot workSlot = getWorkSlotOrNext(workStartInTimeZone);
+      return workSlot.addWorkingTime(workStartInTimeZone, workingTime).toInstant();
+    }
+
+    // consume the working time of the day work starts on
+    LocalDate workStartDate = workStartInTimeZone.toLocalDate();
+    Duration remainingWorkingTime = workingTime;
+    for (WorkSlot workSlot : workSlotsFor(workStartDate)) {
+      ZonedDateTime earliestWorkStart = max(workStartInTimeZone, workSlot.start);
+      if (earliestWorkStart.isBefore(workSlot.end)) {
+        Duration untilEndOfWorkSlot = Duration.between(earliestWorkStart, workSlot.end);
+        if (remainingWorkingTime.compareTo(untilEndOfWorkSlot) <= 0) {
+          return earliestWorkStart.plus(remainingWorkingTime).toInstant();
+        }
+        remainingWorkingTime = remainingWorkingTime.minus(untilEndOfWorkSlot);
+      }
+    }
+
+    // skip all days which are consumed completely
+    LocalDate dueDate =
+        workingTimeIndex.findForward(workStartDate.plusDays(1), remainingWorkingTime.toNanos());
+    remainingWorkingTime =
+        remainingWorkingTime.minusNanos(workingTimeIndex.sum(workStartDate.plusDays(1), dueDate));
+    for (WorkSlot workSlot : workSlotsFor(dueDate)) {
+      Duration durationOfWorkSlot = Duration.between(workSlot.start, workSlot.end);
+      if (remainingWorkingTime.compareTo(durationOfWorkSlot) <= 0) {
+        return workSlot.start.plus(remainingWorkingTime).toInstant();
+      }
+      remainingWorkingTime = remainingWorkingTime.minus(durationOfWorkSlot);
+    }
+    throw new SystemException("Internal Error: working time index is inconsistent");
   }
 
   @Override
@@ -90,27 +161,55 @@ public class WorkingTimeCalculatorImpl implements WorkingTimeCalculator {
     return holidaySchedule.isGermanHoliday(toLocalDate(instant));
   }
 
-  private Duration calculateWorkingTime(ZonedDateTime from, ZonedDateTime to)
-      throws InvalidArgumentException {
-
-    WorkSlot bestMatchingWorkSlot = getWorkSlotOrNext(from);
-    ZonedDateTime earliestWorkStart = max(from, bestMatchingWorkSlot.start);
-    ZonedDateTime endOfWorkSlot = bestMatchingWorkSlot.end;
+  private Duration calculateWorkingTime(ZonedDateTime from, ZonedDateTime to) {
+    LocalDate fromDate = from.toLocalDate();
+    LocalDate toDate = to.toLocalDate();
+    Duration workingTime = workingTimeOfDayBetween(fromDate, from, to);
+    if (!fromDate.equals(toDate)) {
+      workingTime =
+          workingTime
+              .plusNanos(workingTimeIndex.sum(fromDate.plusDays(1), toDate))
+              .plus(workingTimeOfDayBetween(toDate, from, to));
+    }
+    return workingTime;
+  }
 
-    if (endOfWorkSlot.compareTo(to) >= 0) {
-      if (bestMatchingWorkSlot.start.compareTo(to) <= 0) {
-        // easy part. _from_ and _to_ are in the same work slot
-        return Duration.between(earliestWorkStart, to);
-      } else {
-        // _from_ and _to_ are before the bestMatchingWorkSlot aka between two work slots. We simply
-        // drop it
-        return Duration.ZERO;
+  private Duration workingTimeOfDayBetween(LocalDate day, ZonedDateTime from, ZonedDateTime to) {
+    Duration workingTime = Duration.ZERO;
+    for (WorkSlot workSlot : workSlotsFor(day)) {
+      ZonedDateTime start = max(from, workSlot.start);
+      ZonedDateTime end = min(to, workSlot.end);
+      if (start.isBefore(end)) {
+        workingTime = workingTime.plus(Duration.between(start, end));
       }
-    } else {
-      // Take the current duration and add the working time starting after this work slot.
-      return Duration.between(earliestWorkStart, endOfWorkSlot)
-          .plus(calculateWorkingTime(endOfWorkSlot, to));
     }
+    return workingTime;
+  }
+
+  private long workingTimeOfDayInNanos(LocalDate day) {
+    long workingTime = 0;
+    for (WorkSlot workSlot : workSlotsFor(day)) {
+      workingTime += Duration.between(workSlot.start, workSlot.end).toNanos();
+    }
+    return workingTime;
+  }
+
+  private List<WorkSlot> workSlotsFor(LocalDate day) {
+    if (holidaySchedule.isHoliday(day)) {
+      return List.of();
+    }
+    return workingTimeSchedule.workSlotsFor(day.getDayOfWeek()).stream()
+        .map(interval -> new WorkSlot(day, interval))
+        .toList();
+  }
+
+  private List<WorkSlot> workSlotsForReversed(LocalDate day) {
+    if (holidaySchedule.isHoliday(day)) {
+      return List.of();
+    }
+    return workingTimeSchedule.workSlotsForReversed(day.getDayOfWeek()).stream()
+        .map(interval -> new WorkSlot(day, interval))
+        .toList();
   }
 
   private void validateNonNullInstants(Instant first, Instant second) {
@@ -221,6 +221,22 @@ CREATE TABLE CONFIGURATION
 INSERT INTO CONFIGURATION (NAME)
 VALUES ('MASTER');
 
+CREATE TABLE CACHE_VERSION
+(
+    NAME    VARCHAR(32) NOT NULL,
+    VERSION BIGINT      NOT NULL,
+    PRIMARY KEY (NAME)
+);
+
+INSERT INTO CACHE_VERSION (NAME, VERSION)
+VALUES ('WORKBASKET_PERMISSION', 0);
+
+INSERT INTO CACHE_VERSION (NAME, VERSION)
+VALUES ('CLASSIFICATION_SUMMARY', 0);
+
+INSERT INTO CACHE_VERSION (NAME, VERSION)
+VALUES ('WORKBASKET_SUMMARY', 0);
+
 CREATE TABLE TASK_COMMENT
 (
     ID         VARCHAR(40) NOT NULL,
@@ -466,3 +482,42 @@ CREATE INDEX IDX_TASK_ID_HISTORY_EVENT ON TASK_HISTORY_EVENT
     ALLOW REVERSE SCANS COLLECT SAMPLED DETAILED STATISTICS;
 COMMIT WORK ;
 
+-- The archive tables are copies of the tables of the active tasks. They have the same columns in
+-- the same order, so that tasks can be moved with INSERT INTO ... SELECT * FROM ...
+
+CREATE TABLE TASK_ARCHIVE LIKE TASK;
+ALTER TABLE TASK_ARCHIVE ADD PRIMARY KEY (ID);
+ALTER TABLE TASK_ARCHIVE ADD CONSTRAINT UC_ARCHIVE_EXTERNAL_ID UNIQUE (EXTERNAL_ID);
+
+CREATE TABLE ATTACHMENT_ARCHIVE LIKE ATTACHMENT;
+ALTER TABLE ATTACHMENT_ARCHIVE ADD PRIMARY KEY (ID);
+CREATE INDEX IDX_ATTACHMENT_ARCHIVE_TASK_ID ON ATTACHMENT_ARCHIVE
+    (TASK_ID ASC);
+
+CREATE TABLE OBJECT_REFERENCE_ARCHIVE LIKE OBJECT_REFERENCE;
+CREATE INDEX IDX_OBJECT_REF_ARCH_TASK_ID ON OBJECT_REFERENCE_ARCHIVE
+    (TASK_ID ASC);
+
+CREATE TABLE TASK_COMMENT_ARCHIVE LIKE TASK_COMMENT;
+ALTER TABLE TASK_COMMENT_ARCHIVE ADD PRIMARY KEY (ID);
+CREATE INDEX IDX_TASK_COMMENT_ARCH_TASK_ID ON TASK_COMMENT_ARCHIVE
+    (TASK_ID ASC);
+
+-- The report snapshot contains the number of tasks per due age as of CREATED. It is refreshed
+-- by the ReportSnapshotJob and read by reports which accept a slightly stale result.
+CREATE TABLE REPORT_SNAPSHOT
+(
+    WORKBASKET_ID             VARCHAR(40) NULL,
+    WORKBASKET_KEY            VARCHAR(64) NULL,
+    DOMAIN                    VARCHAR(32) NULL,
+    CLASSIFICATION_ID         VARCHAR(40) NULL,
+    CLASSIFICATION_CATEGORY   VARCHAR(32) NULL,
+    STATE                     VARCHAR(20) NULL,
+    DUE_DAY                   DATE NOT NULL,
+    NUMBER_OF_TASKS           INT NOT NULL,
+    NUMBER_OF_ATTACHMENT_ROWS INT NOT NULL,
+    CREATED                   TIMESTAMP NOT NULL
+);
+CREATE INDEX IDX_REPORT_SNAPSHOT_WB_ID ON REPORT_SNAPSHOT
+    (WORKBASKET_ID ASC);
+COMMIT WORK;
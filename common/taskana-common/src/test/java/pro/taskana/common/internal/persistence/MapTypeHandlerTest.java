@@ -0,0 +1,110 @@
+package pro.taskana.common.internal.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.reflect.Proxy;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import org.json.JSONObject;
+import org.junit.jupiter.api.Test;
+
+class MapTypeHandlerTest {
+
+  private static final String JSON = "{\"key1\":\"value1\",\"key2\":\"value2\"}";
+
+  MapTypeHandler mapTypeHandler = new MapTypeHandler();
+
+  @Test
+  void should_NotDecodeJson_When_MapIsNotAccessed() throws Exception {
+    Map<String, Object> map = mapTypeHandler.getNullableResult(resultSet(JSON), "COLUMN");
+
+    assertThat(map).isInstanceOf(LazyJsonMap.class);
+    assertThat(((LazyJsonMap) map).isDecoded()).isFalse();
+  }
+
+  @Test
+  void should_DecodeJson_When_MapIsAccessed() throws Exception {
+    Map<String, Object> map = mapTypeHandler.getNullableResult(resultSet(JSON), "COLUMN");
+
+    assertThat(map)
+        .isEqualTo(Map.of("key1", "value1", "key2", "value2"))
+        .containsEntry("key1", "value1");
+    assertThat(((LazyJsonMap) map).isDecoded()).isTrue();
+    assertThat(((LazyJsonMap) map).isModified()).isFalse();
+  }
+
+  @Test
+  void should_WriteReadJson_When_MapIsNotModified() throws Exception {
+    Map<String, Object> map = mapTypeHandler.getNullableResult(resultSet(JSON), "COLUMN");
+    map.get("key1");
+
+    assertThat(write(map)).isSameAs(JSON);
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void should_SerializeMap_When_NestedMapOrListIsModified() throws Exception {
+    String json = "{\"key1\":{\"key2\":\"value2\"},\"key3\":[\"value3\"]}";
+    Map<String, Object> map = mapTypeHandler.getNullableResult(resultSet(json), "COLUMN");
+
+    ((Map<String, Object>) map.get("key1")).put("key2", "changed");
+    ((List<Object>) map.get("key3")).add("value4");
+
+    assertThat(new JSONObject(write(map)).toMap())
+        .isEqualTo(Map.of("key1", Map.of("key2", "changed"), "key3", List.of("value3", "value4")));
+  }
+
+  @Test
+  void should_SerializeMap_When_MapIsModified() throws Exception {
+    List<Consumer<Map<String, Object>>> modifications =
+        List.of(
+            map -> map.put("key3", "value3"),
+            map -> map.remove("key1"),
+            map -> map.keySet().remove("key1"),
+            map -> map.entrySet().iterator().next().setValue("value3"),
+            map -> map.replaceAll((key, value) -> "value3"),
+            map -> map.computeIfAbsent("key3", key -> "value3"),
+            Map::clear);
+
+    for (Consumer<Map<String, Object>> modification : modifications) {
+      Map<String, Object> map = mapTypeHandler.getNullableResult(resultSet(JSON), "COLUMN");
+      Map<String, Object> expected = new HashMap<>(map);
+      modification.accept(map);
+      modification.accept(expected);
+
+      String json = write(map);
+
+      assertThat(map).isEqualTo(expected);
+      assertThat(json == null ? Map.of() : new JSONObject(json).toMap()).isEqualTo(expected);
+    }
+  }
+
+  private static ResultSet resultSet(String value) {
+    return (ResultSet)
+        Proxy.newProxyInstance(
+            MapTypeHandlerTest.class.getClassLoader(),
+            new Class<?>[] {ResultSet.class},
+            (proxy, method, args) -> "getString".equals(method.getName()) ? value : null);
+  }
+
+  private String write(Map<String, Object> map) throws Exception {
+    Map<Integer, String> parameters = new HashMap<>();
+    PreparedStatement preparedStatement =
+        (PreparedStatement)
+            Proxy.newProxyInstance(
+                MapTypeHandlerTest.class.getClassLoader(),
+                new Class<?>[] {PreparedStatement.class},
+                (proxy, method, args) -> {
+                  if ("setString".equals(method.getName())) {
+                    parameters.put((Integer) args[0], (String) args[1]);
+                  }
+                  return null;
+                });
+    mapTypeHandler.setNonNullParameter(preparedStatement, 1, map, null);
+    return parameters.get(1);
+  }
+}
@@ -0,0 +1,57 @@
+package pro.taskana.common.internal.workingtime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class WorkingCalendarIndexTest {
+
+  private final WorkingCalendarIndex cut =
+      new WorkingCalendarIndex(
+          date -> date.getDayOfWeek() == DayOfWeek.SUNDAY ? 0 : date.getDayOfWeek().getValue());
+
+  @Test
+  void should_SumWorkOfAllDays_When_RangeSpansSeveralYears() {
+    LocalDate from = LocalDate.parse("2019-12-01");
+    LocalDate to = LocalDate.parse("2024-03-01");
+
+    assertThat(cut.sum(from, to)).isEqualTo(sumDayByDay(from, to));
+    assertThat(cut.sum(to, from)).isZero();
+    assertThat(cut.sum(from, from)).isZero();
+  }
+
+  @Test
+  void should_FindDayOnWhichAmountIsReached() {
+    LocalDate from = LocalDate.parse("2023-12-20");
+
+    for (long amount : List.of(1L, 3L, 21L, 22L, 500L, 5000L)) {
+      LocalDate found = cut.findForward(from, amount);
+
+      assertThat(sumDayByDay(from, found.plusDays(1))).isGreaterThanOrEqualTo(amount);
+      assertThat(sumDayByDay(from, found)).isLessThan(amount);
+    }
+  }
+
+  @Test
+  void should_FindDayOnWhichAmountIsReached_When_SearchingBackward() {
+    LocalDate to = LocalDate.parse("2024-01-10");
+
+    for (long amount : List.of(1L, 3L, 21L, 22L, 500L, 5000L)) {
+      LocalDate found = cut.findBackward(to, amount);
+
+      assertThat(sumDayByDay(found, to.plusDays(1))).isGreaterThanOrEqualTo(amount);
+      assertThat(sumDayByDay(found.plusDays(1), to.plusDays(1))).isLessThan(amount);
+    }
+  }
+
+  private static long sumDayByDay(LocalDate fromInclusive, LocalDate toExclusive) {
+    long sum = 0;
+    for (LocalDate day = fromInclusive; day.isBefore(toExclusive); day = day.plusDays(1)) {
+      sum += day.getDayOfWeek() == DayOfWeek.SUNDAY ? 0 : day.getDayOfWeek().getValue();
+    }
+    return sum;
+  }
+}
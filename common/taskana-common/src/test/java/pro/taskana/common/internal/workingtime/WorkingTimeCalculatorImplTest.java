@@ -11,6 +11,7 @@ import java.time.LocalTime;
 import java.time.ZoneId;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import org.junit.jupiter.api.Nested;
@@ -603,4 +604,55 @@ class WorkingTimeCalculatorImplTest {
       assertThat(duration).isEqualTo(Duration.ofHours(8));
     }
   }
+
+  @Nested
+  class WorkingTimeAcrossSeveralYears {
+
+    private final ZoneId cet = ZoneId.of("Europe/Berlin");
+    private final Set<LocalTimeInterval> standardWorkingSlots =
+        Set.of(
+            new LocalTimeInterval(LocalTime.of(6, 0), LocalTime.of(12, 0)),
+            new LocalTimeInterval(LocalTime.of(13, 0), LocalTime.of(18, 0)));
+    private final WorkingTimeCalculator cut =
+        new WorkingTimeCalculatorImpl(
+            new HolidaySchedule(true, true),
+            Map.of(
+                DayOfWeek.MONDAY, standardWorkingSlots,
+                DayOfWeek.TUESDAY, standardWorkingSlots,
+                DayOfWeek.WEDNESDAY, standardWorkingSlots,
+                DayOfWeek.THURSDAY, standardWorkingSlots,
+                DayOfWeek.FRIDAY, standardWorkingSlots),
+            cet);
+
+    @Test
+    void addsWorkingTimeAcrossYearBoundary() {
+      Instant wednesday9oClock =
+          ZonedDateTime.of(LocalDateTime.parse("2022-12-21T09:00:00"), cet).toInstant();
+
+      // the second day of Christmas is a holiday
+      Instant dueDate = cut.addWorkingTime(wednesday9oClock, Duration.ofHours(7 * 11));
+
+      assertThat(dueDate)
+          .isEqualTo(ZonedDateTime.of(LocalDateTime.parse("2023-01-02T09:00:00"), cet).toInstant());
+    }
+
+    @Test
+    void isConsistentWithWorkingTimeBetween() {
+      Instant start = ZonedDateTime.of(LocalDateTime.parse("2021-06-15T10:17:00"), cet).toInstant();
+
+      for (Duration workingTime :
+          List.of(
+              Duration.ofMinutes(1),
+              Duration.ofHours(11),
+              Duration.ofHours(123).plusMinutes(45),
+              Duration.ofHours(11 * 700))) {
+        Instant dueDate = cut.addWorkingTime(start, workingTime);
+        Instant earliestStart = cut.subtractWorkingTime(start, workingTime);
+
+        assertThat(cut.workingTimeBetween(start, dueDate)).isEqualTo(workingTime);
+        assertThat(cut.workingTimeBetween(earliestStart, start)).isEqualTo(workingTime);
+        assertThat(cut.subtractWorkingTime(dueDate, workingTime)).isEqualTo(start);
+      }
+    }
+  }
 }
@@ -1,8 +1,10 @@
 package pro.taskana.simplehistory.impl;
 
 import java.lang.reflect.Field;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
 import org.apache.ibatis.session.SqlSession;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -13,6 +15,7 @@ import pro.taskana.common.api.exceptions.NotAuthorizedException;
 import pro.taskana.common.api.exceptions.SystemException;
 import pro.taskana.common.internal.InternalTaskanaEngine;
 import pro.taskana.common.internal.TaskanaEngineImpl;
+import pro.taskana.common.internal.util.CollectionUtil;
 import pro.taskana.simplehistory.impl.classification.ClassificationHistoryEventMapper;
 import pro.taskana.simplehistory.impl.classification.ClassificationHistoryQuery;
 import pro.taskana.simplehistory.impl.classification.ClassificationHistoryQueryMapper;
@@ -34,6 +37,10 @@ import pro.taskana.user.internal.UserMapper;
 public class SimpleHistoryServiceImpl implements TaskanaHistory {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(SimpleHistoryServiceImpl.class);
+  private static final int MAX_EVENTS_PER_INSERT = 100;
+  private final LongAdder insertedEvents = new LongAdder();
+  private final LongAdder insertStatements = new LongAdder();
+  private final LongAdder insertNanos = new LongAdder();
   private TaskHistoryEventMapper taskHistoryEventMapper;
   private WorkbasketHistoryEventMapper workbasketHistoryEventMapper;
   private ClassificationHistoryEventMapper classificationHistoryEventMapper;
@@ -148,6 +155,62 @@ public class SimpleHistoryServiceImpl implements TaskanaHistory {
     classificationHistoryEventMapper.insert(event);
   }
 
+  @Override
+  public void createEvents(List<TaskHistoryEvent> events) {
+    Instant now = Instant.now();
+    for (TaskHistoryEvent event : events) {
+      if (event.getCreated() == null) {
+        event.setCreated(now);
+      }
+    }
+    internalTaskanaEngine.executeInDatabaseConnection(
+        () -> {
+          for (List<TaskHistoryEvent> chunk :
+              CollectionUtil.partitionBasedOnSize(events, MAX_EVENTS_PER_INSERT)) {
+            long start = System.nanoTime();
+            taskHistoryEventMapper.insertMultiple(chunk);
+            long duration = System.nanoTime() - start;
+            insertedEvents.add(chunk.size());
+            insertStatements.increment();
+            insertNanos.add(duration);
+            if (LOGGER.isDebugEnabled()) {
+              LOGGER.debug(
+                  "Inserted {} task history events with one statement in {}",
+                  chunk.size(),
+                  Duration.ofNanos(duration));
+            }
+          }
+        });
+  }
+
+  /**
+   * Returns the number of task history events inserted by {@linkplain #createEvents(List)}.
+   *
+   * @return the number of inserted events
+   */
+  public long getInsertedEventCount() {
+    return insertedEvents.sum();
+  }
+
+  /**
+   * Returns the number of statements executed by {@linkplain #createEvents(List)}. Together with
+   * {@linkplain #getInsertedEventCount()} it yields the average number of events per statement.
+   *
+   * @return the number of executed insert statements
+   */
+  public long getInsertStatementCount() {
+    return insertStatements.sum();
+  }
+
+  /**
+   * Returns the time spent executing the statements of {@linkplain #createEvents(List)}.
+   *
+   * @return the accumulated duration of the insert statements
+   */
+  public Duration getInsertDuration() {
+    return Duration.ofNanos(insertNanos.sum());
+  }
+
   @Override
   public void deleteHistoryEventsByTaskIds(List<String> taskIds)
       throws InvalidArgumentException, NotAuthorizedException {
@@ -0,0 +1,49 @@
+package acceptance.events.task;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import acceptance.AbstractAccTest;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import pro.taskana.simplehistory.impl.SimpleHistoryServiceImpl;
+import pro.taskana.spi.history.api.events.task.TaskHistoryEvent;
+import pro.taskana.spi.history.api.events.task.TaskHistoryEventType;
+
+class CreateTaskHistoryEventsAccTest extends AbstractAccTest {
+
+  private final SimpleHistoryServiceImpl historyService = getHistoryService();
+
+  @Test
+  void should_InsertAllEvents_When_CreatingMoreEventsThanFitIntoOneStatement() throws Exception {
+    List<TaskHistoryEvent> events = new ArrayList<>();
+    for (int i = 0; i < 250; i++) {
+      events.add(
+          createTaskHistoryEvent(
+              "WBI:100000000000000000000000000000000001",
+              String.format("TKI:%036d", 900000 + i),
+              TaskHistoryEventType.CLAIMED.getName(),
+              null,
+              "user-1-1",
+              "details" + i));
+    }
+
+    long insertedEventCount = historyService.getInsertedEventCount();
+    long insertStatementCount = historyService.getInsertStatementCount();
+
+    historyService.createEvents(events);
+
+    assertThat(historyService.getInsertedEventCount() - insertedEventCount).isEqualTo(250);
+    assertThat(historyService.getInsertStatementCount() - insertStatementCount).isEqualTo(3);
+    assertThat(historyService.getInsertDuration()).isPositive();
+
+    String[] taskIds = events.stream().map(TaskHistoryEvent::getTaskId).toArray(String[]::new);
+    assertThat(historyService.createTaskHistoryQuery().taskIdIn(taskIds).count()).isEqualTo(250);
+    for (TaskHistoryEvent event : List.of(events.get(0), events.get(100), events.get(249))) {
+      TaskHistoryEvent readEvent = historyService.getTaskHistoryEvent(event.getId());
+      assertThat(readEvent.getTaskId()).isEqualTo(event.getTaskId());
+      assertThat(readEvent.getDetails()).isEqualTo(event.getDetails());
+      assertThat(readEvent.getCreated()).isNotNull();
+    }
+  }
+}
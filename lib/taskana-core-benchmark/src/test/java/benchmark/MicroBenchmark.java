@@ -0,0 +1,132 @@
+package benchmark;
+
+import java.util.Arrays;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A minimal harness for micro-benchmarks of TASKANA.
+ *
+ * <p>An operation is called for a number of warm-up rounds, so that the JIT compiles it, and then
+ * for a number of measured rounds. Each round calls the operation repeatedly for a fixed time. The
+ * reported time per operation is the median of the measured rounds. The results of the operation
+ * are kept alive, so that the JIT can't eliminate its calls.
+ *
+ * <p>The benchmarks don't run with the regular build. Once the modules are installed, they are run
+ * with {@code mvn -B test -Pbenchmark -pl :taskana-core-benchmark}. The rounds can be configured
+ * with the system properties {@code benchmark.warmupRounds}, {@code benchmark.measurementRounds}
+ * and {@code benchmark.roundMillis}.
+ */
+public final class MicroBenchmark {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(MicroBenchmark.class);
+  private static final int WARMUP_ROUNDS = Integer.getInteger("benchmark.warmupRounds", 5);
+  private static final int MEASUREMENT_ROUNDS =
+      Integer.getInteger("benchmark.measurementRounds", 10);
+  private static final long ROUND_NANOS =
+      TimeUnit.MILLISECONDS.toNanos(Long.getLong("benchmark.roundMillis", 500));
+  // a batch of calls should take long enough for System.nanoTime() to be negligible
+  private static final long MIN_BATCH_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+
+  private static volatile int sink;
+
+  private MicroBenchmark() {
+    throw new IllegalStateException("Utility class");
+  }
+
+  /**
+   * Measures the time per call of an operation and logs it.
+   *
+   * @param name the name of the operation in the log
+   * @param operation the operation to measure
+   * @return the measured time per call
+   * @throws Exception if the operation fails
+   */
+  public static Result measure(String name, Callable<?> operation) throws Exception {
+    int batchSize = 1;
+    for (int round = 0; round < WARMUP_ROUNDS; round++) {
+      while (runBatch(operation, batchSize) < MIN_BATCH_NANOS) {
+        batchSize *= 2;
+      }
+      runRound(operation, batchSize);
+    }
+    double[] nanosPerOperation = new double[MEASUREMENT_ROUNDS];
+    for (int round = 0; round < MEASUREMENT_ROUNDS; round++) {
+      nanosPerOperation[round] = runRound(operation, batchSize);
+    }
+    Arrays.sort(nanosPerOperation);
+    Result result =
+        new Result(
+            name,
+            nanosPerOperation[nanosPerOperation.length / 2],
+            nanosPerOperation[0],
+            nanosPerOperation[nanosPerOperation.length - 1]);
+    LOGGER.info("{}", result);
+    return result;
+  }
+
+  /**
+   * Measures a baseline and a candidate for the same task and logs how much faster the candidate
+   * is.
+   *
+   * @param name the name of the task in the log
+   * @param baseline the operation to compare against
+   * @param candidate the operation which should be faster
+   * @return the speedup of the candidate, the baseline time divided by the candidate time
+   * @throws Exception if one of the operations fails
+   */
+  public static double compare(String name, Callable<?> baseline, Callable<?> candidate)
+      throws Exception {
+    Result baselineResult = measure(name + " (baseline)", baseline);
+    Result candidateResult = measure(name, candidate);
+    double speedup = baselineResult.nanosPerOperation() / candidateResult.nanosPerOperation();
+    LOGGER.info(String.format("%s: %.2fx the throughput of the baseline", name, speedup));
+    return speedup;
+  }
+
+  private static double runRound(Callable<?> operation, int batchSize) throws Exception {
+    long operations = 0;
+    long elapsed = 0;
+    while (elapsed < ROUND_NANOS) {
+      elapsed += runBatch(operation, batchSize);
+      operations += batchSize;
+    }
+    return (double) elapsed / operations;
+  }
+
+  private static long runBatch(Callable<?> operation, int batchSize) throws Exception {
+    int hash = 0;
+    long start = System.nanoTime();
+    for (int i = 0; i < batchSize; i++) {
+      // the identity hash doesn't depend on the content, so it doesn't add work to the operation
+      hash += System.identityHashCode(operation.call());
+    }
+    long elapsed = System.nanoTime() - start;
+    sink += hash;
+    return elapsed;
+  }
+
+  /**
+   * The time per call of a measured operation.
+   *
+   * @param name the name of the operation
+   * @param nanosPerOperation the median of the measured rounds
+   * @param minNanosPerOperation the fastest measured round
+   * @param maxNanosPerOperation the slowest measured round
+   */
+  public record Result(
+      String name,
+      double nanosPerOperation,
+      double minNanosPerOperation,
+      double maxNanosPerOperation) {
+
+    @Override
+    public String toString() {
+      return String.format(
+          "%-60s %14.1f ns/op (min %.1f, max %.1f)",
+          name, nanosPerOperation, minNanosPerOperation, maxNanosPerOperation);
+    }
+  }
+}
@@ -0,0 +1,84 @@
+package benchmark.common;
+
+import static benchmark.MicroBenchmark.compare;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.reflect.Proxy;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.json.JSONObject;
+import org.junit.jupiter.api.Test;
+import pro.taskana.common.internal.persistence.MapTypeHandler;
+
+class MapTypeHandlerBenchmark {
+
+  private static final String JSON =
+      new JSONObject(
+              IntStream.range(0, 20)
+                  .boxed()
+                  .collect(Collectors.toMap(i -> "attribute" + i, i -> "value of attribute " + i)))
+          .toString();
+
+  private final MapTypeHandler mapTypeHandler = new MapTypeHandler();
+  private final ResultSet resultSet = resultSet(JSON);
+  private final String[] written = new String[1];
+  private final PreparedStatement preparedStatement = preparedStatement(written);
+
+  @Test
+  void readMapWithoutAccessingIt() throws Exception {
+    assertThat(mapTypeHandler.getNullableResult(resultSet, "COLUMN")).hasSize(20);
+
+    // a task summary query reads the custom attributes of every row, most are never accessed
+    compare(
+        "read map column(20 entries, not accessed)",
+        () -> new JSONObject(resultSet.getString("COLUMN")).toMap(),
+        () -> mapTypeHandler.getNullableResult(resultSet, "COLUMN"));
+  }
+
+  @Test
+  void readAndWriteUnmodifiedMap() throws Exception {
+    mapTypeHandler.setNonNullParameter(
+        preparedStatement, 1, mapTypeHandler.getNullableResult(resultSet, "COLUMN"), null);
+    assertThat(new JSONObject(written[0]).toMap()).isEqualTo(new JSONObject(JSON).toMap());
+
+    // updating a task writes back its custom attributes, even if only other fields changed
+    compare(
+        "read, access and write map column(20 entries, not modified)",
+        () -> {
+          Map<String, Object> map = new JSONObject(resultSet.getString("COLUMN")).toMap();
+          map.get("attribute1");
+          preparedStatement.setString(1, new JSONObject(map).toString());
+          return written[0];
+        },
+        () -> {
+          Map<String, Object> map = mapTypeHandler.getNullableResult(resultSet, "COLUMN");
+          map.get("attribute1");
+          mapTypeHandler.setNonNullParameter(preparedStatement, 1, map, null);
+          return written[0];
+        });
+  }
+
+  private static ResultSet resultSet(String value) {
+    return (ResultSet)
+        Proxy.newProxyInstance(
+            MapTypeHandlerBenchmark.class.getClassLoader(),
+            new Class<?>[] {ResultSet.class},
+            (proxy, method, args) -> "getString".equals(method.getName()) ? value : null);
+  }
+
+  private static PreparedStatement preparedStatement(String[] written) {
+    return (PreparedStatement)
+        Proxy.newProxyInstance(
+            MapTypeHandlerBenchmark.class.getClassLoader(),
+            new Class<?>[] {PreparedStatement.class},
+            (proxy, method, args) -> {
+              if ("setString".equals(method.getName())) {
+                written[0] = (String) args[1];
+              }
+              return null;
+            });
+  }
+}
@@ -0,0 +1,60 @@
+package benchmark.common;
+
+import static benchmark.MicroBenchmark.measure;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import pro.taskana.TaskanaConfiguration.Builder;
+import pro.taskana.common.api.TaskanaEngine;
+import pro.taskana.common.api.TaskanaRole;
+import pro.taskana.testapi.TaskanaConfigurationModifier;
+import pro.taskana.testapi.TaskanaInject;
+import pro.taskana.testapi.TaskanaIntegrationTest;
+import pro.taskana.testapi.security.WithAccessId;
+
+@TaskanaIntegrationTest
+class RoleMembershipBenchmark implements TaskanaConfigurationModifier {
+
+  private static final int NUMBER_OF_GROUPS = 5000;
+
+  @TaskanaInject TaskanaEngine taskanaEngine;
+
+  @Override
+  public Builder modify(Builder builder) {
+    Map<TaskanaRole, Set<String>> roleMap = new EnumMap<>(TaskanaRole.class);
+    roleMap.put(TaskanaRole.ADMIN, Set.of("admin"));
+    roleMap.put(TaskanaRole.BUSINESS_ADMIN, Set.of("businessadmin"));
+    roleMap.put(
+        TaskanaRole.USER,
+        IntStream.range(0, NUMBER_OF_GROUPS).mapToObj(this::group).collect(Collectors.toSet()));
+    roleMap.put(
+        TaskanaRole.MONITOR,
+        IntStream.range(0, NUMBER_OF_GROUPS)
+            .filter(i -> i % 2 == 0)
+            .mapToObj(this::group)
+            .collect(Collectors.toSet()));
+    return builder.roleMap(roleMap);
+  }
+
+  @WithAccessId(user = "user-1-1", groups = "cn=group-4711,cn=groups,ou=test,o=taskana")
+  @Test
+  void isUserInRoleWithLargeRoleMap() throws Exception {
+    assertThat(taskanaEngine.isUserInRole(TaskanaRole.USER)).isTrue();
+
+    measure(
+        "TaskanaEngine.isUserInRole(USER) with 5000 groups",
+        () -> taskanaEngine.isUserInRole(TaskanaRole.USER));
+    measure(
+        "TaskanaEngine.isUserInRole(ADMIN, MONITOR) with 5000 groups",
+        () -> taskanaEngine.isUserInRole(TaskanaRole.ADMIN, TaskanaRole.MONITOR));
+  }
+
+  private String group(int i) {
+    return "cn=group-" + i + ",cn=groups,ou=test,o=taskana";
+  }
+}
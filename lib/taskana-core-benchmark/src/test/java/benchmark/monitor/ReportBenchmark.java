@@ -0,0 +1,71 @@
+package benchmark.monitor;
+
+import static benchmark.MicroBenchmark.measure;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import pro.taskana.monitor.api.reports.WorkbasketReport;
+import pro.taskana.monitor.api.reports.header.TimeIntervalColumnHeader;
+import pro.taskana.monitor.api.reports.item.MonitorQueryItem;
+
+class ReportBenchmark {
+
+  private static final int NUMBER_OF_ITEMS = 10_000;
+
+  private final List<MonitorQueryItem> items = createItems();
+
+  @Test
+  void addItemsToReportWithDailyColumns() throws Exception {
+    // one column per day of the next and the last 30 days, and one for everything beyond
+    List<TimeIntervalColumnHeader> columnHeaders = new ArrayList<>();
+    columnHeaders.add(new TimeIntervalColumnHeader(Integer.MIN_VALUE, -31));
+    IntStream.rangeClosed(-30, 30)
+        .mapToObj(TimeIntervalColumnHeader::new)
+        .forEach(columnHeaders::add);
+    columnHeaders.add(new TimeIntervalColumnHeader(31, Integer.MAX_VALUE));
+
+    assertThat(addItems(columnHeaders).getSumRow().getTotalValue()).isEqualTo(NUMBER_OF_ITEMS);
+
+    measure("Report.addItems(10000 items, 63 columns)", () -> addItems(columnHeaders));
+  }
+
+  @Test
+  void addItemsToReportWithOverlappingColumns() throws Exception {
+    List<TimeIntervalColumnHeader> columnHeaders =
+        List.of(
+            new TimeIntervalColumnHeader(Integer.MIN_VALUE, -1),
+            new TimeIntervalColumnHeader(-30, -1),
+            new TimeIntervalColumnHeader(-7, -1),
+            new TimeIntervalColumnHeader(0),
+            new TimeIntervalColumnHeader(1, 7),
+            new TimeIntervalColumnHeader(1, 30),
+            new TimeIntervalColumnHeader(1, Integer.MAX_VALUE));
+
+    measure("Report.addItems(10000 items, 7 overlapping columns)", () -> addItems(columnHeaders));
+  }
+
+  private WorkbasketReport addItems(List<TimeIntervalColumnHeader> columnHeaders) {
+    WorkbasketReport report = new WorkbasketReport(columnHeaders);
+    report.addItems(items);
+    return report;
+  }
+
+  private static List<MonitorQueryItem> createItems() {
+    Random random = new Random(42);
+    return IntStream.range(0, NUMBER_OF_ITEMS)
+        .mapToObj(
+            i -> {
+              MonitorQueryItem item = new MonitorQueryItem();
+              item.setKey("WBI:" + random.nextInt(50));
+              item.setAgeInDays(random.nextInt(121) - 60);
+              item.setNumberOfTasks(1);
+              return item;
+            })
+        .collect(Collectors.toList());
+  }
+}
@@ -0,0 +1,75 @@
+package benchmark.priority;
+
+import static benchmark.MicroBenchmark.compare;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.OptionalInt;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import pro.taskana.TaskanaConfiguration.Builder;
+import pro.taskana.common.api.TaskanaEngine;
+import pro.taskana.common.internal.TaskanaEngineImpl;
+import pro.taskana.spi.priority.api.PriorityServiceProvider;
+import pro.taskana.spi.priority.internal.PriorityServiceManager;
+import pro.taskana.task.api.models.TaskSummary;
+import pro.taskana.task.internal.models.TaskSummaryImpl;
+import pro.taskana.testapi.TaskanaConfigurationModifier;
+import pro.taskana.testapi.TaskanaInject;
+import pro.taskana.testapi.TaskanaIntegrationTest;
+import pro.taskana.testapi.WithServiceProvider;
+
+@WithServiceProvider(
+    serviceProviderInterface = PriorityServiceProvider.class,
+    serviceProviders = PriorityServiceManagerBenchmark.RemotePriorityServiceProvider.class)
+@TaskanaIntegrationTest
+class PriorityServiceManagerBenchmark implements TaskanaConfigurationModifier {
+
+  private static final int NUMBER_OF_TASKS = 1000;
+  private static final int PARALLELISM = 4;
+
+  @TaskanaInject TaskanaEngine taskanaEngine;
+
+  @Override
+  public Builder modify(Builder builder) {
+    return builder.priorityServiceProviderParallelism(PARALLELISM);
+  }
+
+  @Test
+  void calculatePrioritiesOfTasksWithOneProvider() throws Exception {
+    PriorityServiceManager priorityServiceManager =
+        ((TaskanaEngineImpl) taskanaEngine).getPriorityServiceManager();
+    PriorityServiceProvider provider = new RemotePriorityServiceProvider();
+    List<TaskSummary> tasks =
+        IntStream.range(0, NUMBER_OF_TASKS).mapToObj(i -> (TaskSummary) createTask(i)).toList();
+
+    assertThat(priorityServiceManager.calculatePrioritiesOfTasks(tasks))
+        .isEqualTo(provider.calculatePriorities(tasks));
+
+    // with a single provider the whole batch used to be calculated on the calling thread
+    compare(
+        "calculatePrioritiesOfTasks(1000 tasks, 1 provider, parallelism 4)",
+        () -> provider.calculatePriorities(tasks),
+        () -> priorityServiceManager.calculatePrioritiesOfTasks(tasks));
+  }
+
+  private static TaskSummaryImpl createTask(int i) {
+    TaskSummaryImpl task = new TaskSummaryImpl();
+    task.setId(String.format("TKI:%036d", i));
+    return task;
+  }
+
+  /** Simulates a provider which looks up the priority of each task in an external system. */
+  static class RemotePriorityServiceProvider implements PriorityServiceProvider {
+
+    private static final long LATENCY_NANOS = TimeUnit.MICROSECONDS.toNanos(20);
+
+    @Override
+    public OptionalInt calculatePriority(TaskSummary taskSummary) {
+      LockSupport.parkNanos(LATENCY_NANOS);
+      return OptionalInt.of(taskSummary.getId().hashCode() & 0xFF);
+    }
+  }
+}
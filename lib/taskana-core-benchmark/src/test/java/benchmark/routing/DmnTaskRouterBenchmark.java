@@ -0,0 +1,112 @@
+package benchmark.routing;
+
+import static benchmark.MicroBenchmark.compare;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.camunda.bpm.model.dmn.Dmn;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import pro.taskana.TaskanaConfiguration.Builder;
+import pro.taskana.common.api.TaskanaEngine;
+import pro.taskana.common.internal.InternalTaskanaEngine;
+import pro.taskana.routing.dmn.DmnTaskRouter;
+import pro.taskana.spi.routing.api.TaskRoutingProvider;
+import pro.taskana.spi.routing.internal.TaskRoutingManager;
+import pro.taskana.task.api.TaskService;
+import pro.taskana.task.api.models.Task;
+import pro.taskana.testapi.TaskanaConfigurationModifier;
+import pro.taskana.testapi.TaskanaInject;
+import pro.taskana.testapi.TaskanaIntegrationTest;
+import pro.taskana.testapi.WithServiceProvider;
+import pro.taskana.testapi.builder.ObjectReferenceBuilder;
+import pro.taskana.testapi.builder.WorkbasketAccessItemBuilder;
+import pro.taskana.testapi.builder.WorkbasketBuilder;
+import pro.taskana.testapi.security.WithAccessId;
+import pro.taskana.workbasket.api.WorkbasketPermission;
+import pro.taskana.workbasket.api.WorkbasketService;
+import pro.taskana.workbasket.api.WorkbasketType;
+import pro.taskana.workbasket.api.models.WorkbasketSummary;
+
+@WithServiceProvider(
+    serviceProviderInterface = TaskRoutingProvider.class,
+    serviceProviders = DmnTaskRouter.class)
+@TaskanaIntegrationTest
+class DmnTaskRouterBenchmark implements TaskanaConfigurationModifier {
+
+  // the number of rules in routing/dmn-table.dmn, each routes to its own workbasket
+  private static final int NUMBER_OF_RULES = 10;
+
+  @TaskanaInject TaskanaEngine taskanaEngine;
+  @TaskanaInject InternalTaskanaEngine internalTaskanaEngine;
+  @TaskanaInject TaskService taskService;
+  @TaskanaInject WorkbasketService workbasketService;
+
+  List<WorkbasketSummary> workbaskets = new ArrayList<>();
+
+  @Override
+  public Builder modify(Builder builder) {
+    return builder.workbasketPermissionCacheEnabled(true);
+  }
+
+  @WithAccessId(user = "businessadmin")
+  @BeforeAll
+  void setup() throws Exception {
+    for (int i = 0; i < NUMBER_OF_RULES; i++) {
+      WorkbasketSummary workbasket =
+          WorkbasketBuilder.newWorkbasket()
+              .key("ROUTING_" + i)
+              .domain("DOMAIN_A")
+              .name("Routing target " + i)
+              .type(WorkbasketType.GROUP)
+              .buildAndStoreAsSummary(workbasketService);
+      WorkbasketAccessItemBuilder.newWorkbasketAccessItem()
+          .workbasketId(workbasket.getId())
+          .accessId("user-1-1")
+          .permission(WorkbasketPermission.READ)
+          .permission(WorkbasketPermission.APPEND)
+          .buildAndStore(workbasketService);
+      workbaskets.add(workbasket);
+    }
+    try (InputStream stream = getClass().getResourceAsStream("/routing/dmn-table.dmn")) {
+      DmnTaskRouter.reload(taskanaEngine, Dmn.readModelFromStream(stream));
+    }
+  }
+
+  @WithAccessId(user = "user-1-1")
+  @Test
+  void routeTasks() throws Exception {
+    TaskRoutingManager taskRoutingManager = internalTaskanaEngine.getTaskRoutingManager();
+    List<Task> tasks = IntStream.range(0, NUMBER_OF_RULES).mapToObj(this::createTask).toList();
+
+    assertThat(tasks)
+        .map(taskRoutingManager::determineWorkbasketId)
+        .containsExactlyElementsOf(workbaskets.stream().map(WorkbasketSummary::getId).toList());
+
+    // every routed task used to look up the workbasket of the matching rule by key and domain
+    compare(
+        "determineWorkbasketId(10 tasks, 10 rules)",
+        () -> {
+          List<String> workbasketIds = new ArrayList<>();
+          for (int i = 0; i < tasks.size(); i++) {
+            workbasketIds.add(workbasketService.getWorkbasket("ROUTING_" + i, "DOMAIN_A").getId());
+          }
+          return workbasketIds;
+        },
+        () -> tasks.stream().map(taskRoutingManager::determineWorkbasketId).toList());
+  }
+
+  private Task createTask(int i) {
+    Task task = taskService.newTask();
+    task.setPrimaryObjRef(
+        ObjectReferenceBuilder.newObjectReference()
+            .company("company")
+            .type("MyType")
+            .value(String.format("%08d", i))
+            .build());
+    return task;
+  }
+}
@@ -0,0 +1,105 @@
+package benchmark.task;
+
+import static benchmark.MicroBenchmark.measure;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import org.junit.jupiter.api.Test;
+import pro.taskana.common.internal.util.ObjectAttributeChangeDetector;
+import pro.taskana.task.api.TaskCustomField;
+import pro.taskana.task.api.TaskCustomIntField;
+import pro.taskana.task.api.TaskState;
+import pro.taskana.task.internal.models.TaskImpl;
+import pro.taskana.workbasket.api.WorkbasketCustomField;
+import pro.taskana.workbasket.api.WorkbasketType;
+import pro.taskana.workbasket.internal.models.WorkbasketImpl;
+
+class ObjectAttributeChangeDetectorBenchmark {
+
+  @Test
+  void determineChangesOfUpdatedTask() throws Exception {
+    TaskImpl newTask = createTask();
+    newTask.setName("changed name");
+    newTask.setPriority(42);
+    newTask.setCustomField(TaskCustomField.CUSTOM_3, "changed");
+    TaskImpl oldTask = createTask();
+
+    assertThat(ObjectAttributeChangeDetector.determineChangesInAttributes(oldTask, newTask))
+        .contains("changed name");
+
+    measure(
+        "determineChangesInAttributes(3 changed fields)",
+        () -> ObjectAttributeChangeDetector.determineChangesInAttributes(oldTask, newTask));
+  }
+
+  @Test
+  void determineChangesOfCreatedTask() throws Exception {
+    TaskImpl emptyTask = new TaskImpl();
+    TaskImpl task = createTask();
+
+    measure(
+        "determineChangesInAttributes(empty task, new task)",
+        () -> ObjectAttributeChangeDetector.determineChangesInAttributes(emptyTask, task));
+  }
+
+  @Test
+  void determineChangesOfUpdatedWorkbasket() throws Exception {
+    WorkbasketImpl newWorkbasket = createWorkbasket();
+    newWorkbasket.setName("changed name");
+    newWorkbasket.setCustomField(WorkbasketCustomField.CUSTOM_2, "changed");
+    WorkbasketImpl oldWorkbasket = createWorkbasket();
+
+    assertThat(
+            ObjectAttributeChangeDetector.determineChangesInAttributes(
+                oldWorkbasket, newWorkbasket))
+        .contains("changed name");
+
+    // updateWorkbasket computes the details of its history event like this
+    measure(
+        "determineChangesInAttributes(workbasket, 2 changed fields)",
+        () ->
+            ObjectAttributeChangeDetector.determineChangesInAttributes(
+                oldWorkbasket, newWorkbasket));
+  }
+
+  private static TaskImpl createTask() {
+    TaskImpl task = new TaskImpl();
+    task.setId("TKI:000000000000000000000000000000000001");
+    task.setExternalId("ETI:000000000000000000000000000000000001");
+    task.setCreated(Instant.parse("2024-01-01T08:00:00Z"));
+    task.setModified(Instant.parse("2024-01-02T08:00:00Z"));
+    task.setDue(Instant.parse("2024-01-10T08:00:00Z"));
+    task.setName("name");
+    task.setNote("note");
+    task.setDescription("description");
+    task.setState(TaskState.READY);
+    task.setPriority(1);
+    task.setBusinessProcessId("BPI:1");
+    for (TaskCustomField customField : TaskCustomField.values()) {
+      task.setCustomField(customField, customField.name());
+    }
+    for (TaskCustomIntField customIntField : TaskCustomIntField.values()) {
+      task.setCustomIntField(customIntField, customIntField.ordinal());
+    }
+    return task;
+  }
+
+  private static WorkbasketImpl createWorkbasket() {
+    WorkbasketImpl workbasket = new WorkbasketImpl();
+    workbasket.setId("WBI:000000000000000000000000000000000001");
+    workbasket.setKey("KEY");
+    workbasket.setName("name");
+    workbasket.setDescription("description");
+    workbasket.setOwner("owner");
+    workbasket.setDomain("DOMAIN_A");
+    workbasket.setType(WorkbasketType.PERSONAL);
+    workbasket.setCreated(Instant.parse("2024-01-01T08:00:00Z"));
+    workbasket.setModified(Instant.parse("2024-01-02T08:00:00Z"));
+    workbasket.setOrgLevel1("org level 1");
+    workbasket.setOrgLevel2("org level 2");
+    for (WorkbasketCustomField customField : WorkbasketCustomField.values()) {
+      workbasket.setCustomField(customField, customField.name());
+    }
+    return workbasket;
+  }
+}
@@ -0,0 +1,82 @@
+package benchmark.task;
+
+import static benchmark.MicroBenchmark.compare;
+import static org.assertj.core.api.Assertions.assertThat;
+import static pro.taskana.testapi.DefaultTestEntities.defaultTestClassification;
+import static pro.taskana.testapi.DefaultTestEntities.defaultTestObjectReference;
+import static pro.taskana.testapi.DefaultTestEntities.defaultTestWorkbasket;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import pro.taskana.classification.api.ClassificationService;
+import pro.taskana.classification.api.models.ClassificationSummary;
+import pro.taskana.common.api.BaseQuery.SortDirection;
+import pro.taskana.task.api.TaskCustomField;
+import pro.taskana.task.api.TaskQuery;
+import pro.taskana.task.api.TaskQueryColumnName;
+import pro.taskana.task.api.TaskService;
+import pro.taskana.testapi.TaskanaInject;
+import pro.taskana.testapi.TaskanaIntegrationTest;
+import pro.taskana.testapi.builder.TaskAttachmentBuilder;
+import pro.taskana.testapi.builder.TaskBuilder;
+import pro.taskana.testapi.security.WithAccessId;
+import pro.taskana.workbasket.api.WorkbasketService;
+import pro.taskana.workbasket.api.models.WorkbasketSummary;
+
+@TaskanaIntegrationTest
+class TaskQueryBenchmark {
+
+  private static final int NUMBER_OF_TASKS = 200;
+
+  @TaskanaInject TaskService taskService;
+
+  WorkbasketSummary workbasket;
+
+  @WithAccessId(user = "businessadmin")
+  @BeforeAll
+  void setup(ClassificationService classificationService, WorkbasketService workbasketService)
+      throws Exception {
+    ClassificationSummary classification =
+        defaultTestClassification().buildAndStoreAsSummary(classificationService);
+    workbasket = defaultTestWorkbasket().buildAndStoreAsSummary(workbasketService);
+    for (int i = 0; i < NUMBER_OF_TASKS; i++) {
+      TaskBuilder taskBuilder =
+          TaskBuilder.newTask()
+              .name("Task " + i)
+              .description("description of task " + i)
+              .note("note of task " + i)
+              .classificationSummary(classification)
+              .workbasketSummary(workbasket)
+              .primaryObjRef(defaultTestObjectReference().build())
+              .objectReferences(defaultTestObjectReference().build())
+              .attachments(
+                  TaskAttachmentBuilder.newAttachment()
+                      .classificationSummary(classification)
+                      .objectReference(defaultTestObjectReference().build())
+                      .build());
+      for (TaskCustomField customField : TaskCustomField.values()) {
+        taskBuilder.customAttribute(customField, customField.name() + " of task " + i);
+      }
+      taskBuilder.buildAndStore(taskService, "admin");
+    }
+  }
+
+  @WithAccessId(user = "admin")
+  @Test
+  void listTasksWithSelectedColumns() throws Exception {
+    assertThat(createQuery().select(TaskQueryColumnName.NAME).list()).hasSize(NUMBER_OF_TASKS);
+
+    // a task list which only shows the names of the tasks
+    compare(
+        "TaskQuery.list(200 tasks, select NAME)",
+        () -> createQuery().list(),
+        () -> createQuery().select(TaskQueryColumnName.NAME).list());
+  }
+
+  private TaskQuery createQuery() {
+    return taskService
+        .createTaskQuery()
+        .workbasketIdIn(workbasket.getId())
+        .orderByName(SortDirection.ASCENDING);
+  }
+}
@@ -0,0 +1,99 @@
+package benchmark.workingtime;
+
+import static benchmark.MicroBenchmark.measure;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import pro.taskana.common.api.LocalTimeInterval;
+import pro.taskana.common.api.WorkingTimeCalculator;
+import pro.taskana.common.internal.workingtime.HolidaySchedule;
+import pro.taskana.common.internal.workingtime.WorkingDayCalculatorImpl;
+import pro.taskana.common.internal.workingtime.WorkingTimeCalculatorImpl;
+
+class WorkingTimeCalculatorBenchmark {
+
+  private static final ZoneId ZONE = ZoneId.of("Europe/Berlin");
+  private static final Set<LocalTimeInterval> WORKING_SLOTS =
+      Set.of(
+          new LocalTimeInterval(LocalTime.of(8, 0), LocalTime.of(12, 0)),
+          new LocalTimeInterval(LocalTime.of(13, 0), LocalTime.of(17, 0)));
+
+  private final WorkingTimeCalculator workingTimeCalculator =
+      new WorkingTimeCalculatorImpl(
+          new HolidaySchedule(true, true),
+          Map.of(
+              DayOfWeek.MONDAY, WORKING_SLOTS,
+              DayOfWeek.TUESDAY, WORKING_SLOTS,
+              DayOfWeek.WEDNESDAY, WORKING_SLOTS,
+              DayOfWeek.THURSDAY, WORKING_SLOTS,
+              DayOfWeek.FRIDAY, WORKING_SLOTS),
+          ZONE);
+  private final WorkingTimeCalculator workingDayCalculator =
+      new WorkingDayCalculatorImpl(new HolidaySchedule(true, true), ZONE);
+  // random instants within two years, so that the benchmark doesn't measure a single path
+  private final Instant[] starts =
+      new Random(42)
+          .longs(1024, 0, Duration.ofDays(730).toSeconds())
+          .mapToObj(Instant.parse("2023-01-01T00:00:00Z")::plusSeconds)
+          .toArray(Instant[]::new);
+  private int next;
+
+  @Test
+  void addEightWorkingHours() throws Exception {
+    measure(
+        "WorkingTimeCalculator.addWorkingTime(8h)",
+        () -> workingTimeCalculator.addWorkingTime(nextStart(), Duration.ofHours(8)));
+  }
+
+  @Test
+  void addTwoThousandWorkingHours() throws Exception {
+    measure(
+        "WorkingTimeCalculator.addWorkingTime(2000h)",
+        () -> workingTimeCalculator.addWorkingTime(nextStart(), Duration.ofHours(2000)));
+  }
+
+  @Test
+  void subtractEightWorkingHours() throws Exception {
+    measure(
+        "WorkingTimeCalculator.subtractWorkingTime(8h)",
+        () -> workingTimeCalculator.subtractWorkingTime(nextStart(), Duration.ofHours(8)));
+  }
+
+  @Test
+  void workingTimeBetweenOneYear() throws Exception {
+    measure(
+        "WorkingTimeCalculator.workingTimeBetween(365 days)",
+        () -> {
+          Instant start = nextStart();
+          return workingTimeCalculator.workingTimeBetween(start, start.plus(Duration.ofDays(365)));
+        });
+  }
+
+  @Test
+  void addThirtyWorkingDays() throws Exception {
+    measure(
+        "WorkingDayCalculator.addWorkingTime(30 days)",
+        () -> workingDayCalculator.addWorkingTime(nextStart(), Duration.ofDays(30)));
+  }
+
+  @Test
+  void workingDaysBetweenOneYear() throws Exception {
+    measure(
+        "WorkingDayCalculator.workingTimeBetween(365 days)",
+        () -> {
+          Instant start = nextStart();
+          return workingDayCalculator.workingTimeBetween(start, start.plus(Duration.ofDays(365)));
+        });
+  }
+
+  private Instant nextStart() {
+    return starts[next++ & (starts.length - 1)];
+  }
+}
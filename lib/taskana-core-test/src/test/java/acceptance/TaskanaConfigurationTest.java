@@ -94,6 +94,7 @@ class TaskanaConfigurationTest {
       assertThat(configuration.isSecurityEnabled()).isTrue();
       assertThat(configuration.getDomains()).isEqualTo(Collections.emptyList());
       assertThat(configuration.isEnforceServiceLevel()).isTrue();
+      assertThat(configuration.getPriorityServiceProviderParallelism()).isEqualTo(1);
       // authentication configuration
       assertThat(configuration.getRoleMap())
           .isEqualTo(
@@ -122,9 +123,17 @@ class TaskanaConfigurationTest {
       assertThat(configuration.getJobBatchSize()).isEqualTo(100);
       assertThat(configuration.getJobFirstRun()).isEqualTo(Instant.parse("2023-01-01T00:00:00Z"));
       assertThat(configuration.getJobRunEvery()).isEqualTo(Duration.ofDays(1));
+      assertThat(configuration.isJobLeaseEnabled()).isFalse();
+      assertThat(configuration.getJobLeaseDuration()).isEqualTo(Duration.ofMinutes(5));
       assertThat(configuration.isTaskCleanupJobEnabled()).isTrue();
       assertThat(configuration.getTaskCleanupJobMinimumAge()).isEqualTo(Duration.ofDays(14));
       assertThat(configuration.isTaskCleanupJobAllCompletedSameParentBusiness()).isTrue();
+      assertThat(configuration.getTaskCleanupJobShardCount()).isEqualTo(1);
+      assertThat(configuration.isTaskArchiveJobEnabled()).isFalse();
+      assertThat(configuration.getTaskArchiveJobMinimumAge()).isEqualTo(Duration.ofDays(14));
+      assertThat(configuration.isReportSnapshotJobEnabled()).isFalse();
+      assertThat(configuration.getReportSnapshotJobRunEvery()).isEqualTo(Duration.ofMinutes(1));
+      assertThat(configuration.getReportSnapshotMaxAge()).isEqualTo(Duration.ofMinutes(5));
       assertThat(configuration.isWorkbasketCleanupJobEnabled()).isTrue();
       assertThat(configuration.isSimpleHistoryCleanupJobEnabled()).isFalse();
       assertThat(configuration.getSimpleHistoryCleanupJobBatchSize()).isEqualTo(100);
@@ -133,6 +142,8 @@ class TaskanaConfigurationTest {
       assertThat(configuration.isSimpleHistoryCleanupJobAllCompletedSameParentBusiness()).isTrue();
       assertThat(configuration.isTaskUpdatePriorityJobEnabled()).isFalse();
       assertThat(configuration.getTaskUpdatePriorityJobBatchSize()).isEqualTo(100);
+      assertThat(configuration.getTaskUpdatePriorityJobWorkerCount()).isEqualTo(1);
+      assertThat(configuration.getTaskUpdatePriorityJobShardCount()).isEqualTo(1);
       assertThat(configuration.getTaskUpdatePriorityJobFirstRun())
           .isEqualTo(Instant.parse("2023-01-01T00:00:00Z"));
       assertThat(configuration.getTaskUpdatePriorityJobRunEvery()).isEqualTo(Duration.ofDays(1));
@@ -145,6 +156,16 @@ class TaskanaConfigurationTest {
       assertThat(configuration.isAddAdditionalUserInfo()).isFalse();
       assertThat(configuration.getMinimalPermissionsToAssignDomains())
           .isEqualTo(Collections.emptySet());
+      // cache configuration
+      assertThat(configuration.isWorkbasketPermissionCacheEnabled()).isFalse();
+      assertThat(configuration.getWorkbasketPermissionCacheMaxSize()).isEqualTo(10000);
+      assertThat(configuration.getWorkbasketPermissionCacheVersionCheckInterval())
+          .isEqualTo(Duration.ofSeconds(10));
+      assertThat(configuration.isSummaryCacheEnabled()).isFalse();
+      assertThat(configuration.getSummaryCacheMaxSize()).isEqualTo(10000);
+      assertThat(configuration.getSummaryCacheVersionCheckInterval())
+          .isEqualTo(Duration.ofSeconds(10));
+      assertThat(configuration.getReportCacheTimeToLive()).isEqualTo(Duration.ZERO);
     }
 
     @Test
@@ -159,6 +180,7 @@ class TaskanaConfigurationTest {
       assertThat(configuration.getDomains())
           .isEqualTo(List.of("DOMAIN_A", "DOMAIN_B", MASTER_DOMAIN));
       assertThat(configuration.isEnforceServiceLevel()).isFalse();
+      assertThat(configuration.getPriorityServiceProviderParallelism()).isEqualTo(4);
       // authentication configuration
       assertThat(configuration.getRoleMap())
           .isEqualTo(
@@ -197,9 +219,17 @@ class TaskanaConfigurationTest {
       assertThat(configuration.getJobBatchSize()).isEqualTo(50);
       assertThat(configuration.getJobFirstRun()).isEqualTo(Instant.parse("2018-07-25T08:00:00Z"));
       assertThat(configuration.getJobRunEvery()).isEqualTo(Duration.ofDays(2));
+      assertThat(configuration.isJobLeaseEnabled()).isTrue();
+      assertThat(configuration.getJobLeaseDuration()).isEqualTo(Duration.ofMinutes(2));
       assertThat(configuration.isTaskCleanupJobEnabled()).isFalse();
       assertThat(configuration.getTaskCleanupJobMinimumAge()).isEqualTo(Duration.ofDays(15));
       assertThat(configuration.isTaskCleanupJobAllCompletedSameParentBusiness()).isFalse();
+      assertThat(configuration.getTaskCleanupJobShardCount()).isEqualTo(3);
+      assertThat(configuration.isTaskArchiveJobEnabled()).isTrue();
+      assertThat(configuration.getTaskArchiveJobMinimumAge()).isEqualTo(Duration.ofDays(30));
+      assertThat(configuration.isReportSnapshotJobEnabled()).isTrue();
+      assertThat(configuration.getReportSnapshotJobRunEvery()).isEqualTo(Duration.ofMinutes(2));
+      assertThat(configuration.getReportSnapshotMaxAge()).isEqualTo(Duration.ofMinutes(10));
       assertThat(configuration.isWorkbasketCleanupJobEnabled()).isFalse();
       assertThat(configuration.isSimpleHistoryCleanupJobEnabled()).isTrue();
       assertThat(configuration.getSimpleHistoryCleanupJobBatchSize()).isEqualTo(50);
@@ -208,6 +238,8 @@ class TaskanaConfigurationTest {
       assertThat(configuration.isSimpleHistoryCleanupJobAllCompletedSameParentBusiness()).isFalse();
       assertThat(configuration.isTaskUpdatePriorityJobEnabled()).isTrue();
       assertThat(configuration.getTaskUpdatePriorityJobBatchSize()).isEqualTo(50);
+      assertThat(configuration.getTaskUpdatePriorityJobWorkerCount()).isEqualTo(4);
+      assertThat(configuration.getTaskUpdatePriorityJobShardCount()).isEqualTo(5);
       assertThat(configuration.getTaskUpdatePriorityJobFirstRun())
           .isEqualTo(Instant.parse("2018-07-25T08:00:00Z"));
       assertThat(configuration.getTaskUpdatePriorityJobRunEvery()).isEqualTo(Duration.ofDays(3));
@@ -220,6 +252,16 @@ class TaskanaConfigurationTest {
       assertThat(configuration.isAddAdditionalUserInfo()).isTrue();
       assertThat(configuration.getMinimalPermissionsToAssignDomains())
           .isEqualTo(Set.of(WorkbasketPermission.READ, WorkbasketPermission.OPEN));
+      // cache configuration
+      assertThat(configuration.isWorkbasketPermissionCacheEnabled()).isEqualTo(true);
+      assertThat(configuration.getWorkbasketPermissionCacheMaxSize()).isEqualTo(500);
+      assertThat(configuration.getWorkbasketPermissionCacheVersionCheckInterval())
+          .isEqualTo(Duration.ofSeconds(30));
+      assertThat(configuration.isSummaryCacheEnabled()).isEqualTo(true);
+      assertThat(configuration.getSummaryCacheMaxSize()).isEqualTo(300);
+      assertThat(configuration.getSummaryCacheVersionCheckInterval())
+          .isEqualTo(Duration.ofSeconds(20));
+      assertThat(configuration.getReportCacheTimeToLive()).isEqualTo(Duration.ofSeconds(30));
       assertThat(configuration.getProperties())
           .contains(
               Map.entry("my_custom_property1", "my_custom_value1"),
@@ -236,6 +278,7 @@ class TaskanaConfigurationTest {
       boolean expectedSecurityEnabled = false;
       List<String> expectedDomains = List.of("A", "B");
       boolean expectedEnforceServiceLevel = false;
+      int expectedPriorityServiceProviderParallelism = 3;
 
       // authentication configuration
       Map<TaskanaRole, Set<String>> expectedRoleMap =
@@ -271,10 +314,18 @@ class TaskanaConfigurationTest {
       Instant expectedJobFirstJun = Instant.MIN;
       Duration expectedJobRunEvery = Duration.ofDays(2);
       Duration expectedJobLockExpirationPeriod = Duration.ofDays(2);
+      boolean expectedJobLeaseEnabled = true;
+      Duration expectedJobLeaseDuration = Duration.ofMinutes(7);
       boolean expectedTaskCleanupJobEnabled = false;
       Duration expectedTaskCleanupJobMinimumAge = Duration.ofDays(1);
       boolean expectedTaskCleanupJobAllCompletedSameParentBusiness = false;
       Duration expectedTaskCleanupJobLockExpirationPeriod = Duration.ofDays(2);
+      int expectedTaskCleanupJobShardCount = 4;
+      boolean expectedTaskArchiveJobEnabled = true;
+      Duration expectedTaskArchiveJobMinimumAge = Duration.ofDays(3);
+      boolean expectedReportSnapshotJobEnabled = true;
+      Duration expectedReportSnapshotJobRunEvery = Duration.ofMinutes(3);
+      Duration expectedReportSnapshotMaxAge = Duration.ofMinutes(7);
       boolean expectedWorkbasketCleanupJobEnabled = false;
       Duration expectedWorkbasketCleanupJobLockExpirationPeriod = Duration.ofDays(2);
       boolean expectedSimpleHistoryCleanupJobEnabled = true;
@@ -284,6 +335,8 @@ class TaskanaConfigurationTest {
       Duration expectedSimpleHistoryCleanupJobLockExpirationPeriod = Duration.ofDays(2);
       boolean expectedTaskUpdatePriorityJobEnabled = true;
       int expectedPriorityJobBatchSize = 49;
+      int expectedPriorityJobWorkerCount = 3;
+      int expectedPriorityJobShardCount = 6;
       Instant expectedPriorityJobFirstRun = Instant.MIN.plus(1, ChronoUnit.DAYS);
       Duration expectedTaskUpdatePriorityJobRunEvery = Duration.ofMinutes(17);
       Duration expectedTaskUpdatePriorityJobLockExpirationPeriod = Duration.ofDays(2);
@@ -299,6 +352,14 @@ class TaskanaConfigurationTest {
       // database configuration
       boolean expectedUseSpecificDb2Taskquery = false;
 
+      // cache configuration
+      boolean expectedWorkbasketPermissionCacheEnabled = true;
+      int expectedWorkbasketPermissionCacheMaxSize = 42;
+      Duration expectedWorkbasketPermissionCacheVersionCheckInterval = Duration.ofMinutes(1);
+      boolean expectedSummaryCacheEnabled = true;
+      int expectedSummaryCacheMaxSize = 43;
+      Duration expectedSummaryCacheVersionCheckInterval = Duration.ofMinutes(2);
+      Duration expectedReportCacheTimeToLive = Duration.ofSeconds(15);
       // when
       TaskanaConfiguration configuration =
           new Builder(
@@ -309,6 +370,7 @@ class TaskanaConfigurationTest {
               // general configuration
               .domains(expectedDomains)
               .enforceServiceLevel(expectedEnforceServiceLevel)
+              .priorityServiceProviderParallelism(expectedPriorityServiceProviderParallelism)
               // authentication configuration
               .roleMap(expectedRoleMap)
               // classification configuration
@@ -336,11 +398,19 @@ class TaskanaConfigurationTest {
               .jobFirstRun(expectedJobFirstJun)
               .jobRunEvery(expectedJobRunEvery)
               .jobLockExpirationPeriod(expectedJobLockExpirationPeriod)
+              .jobLeaseEnabled(expectedJobLeaseEnabled)
+              .jobLeaseDuration(expectedJobLeaseDuration)
               .taskCleanupJobEnabled(expectedTaskCleanupJobEnabled)
               .taskCleanupJobMinimumAge(expectedTaskCleanupJobMinimumAge)
               .taskCleanupJobAllCompletedSameParentBusiness(
                   expectedTaskCleanupJobAllCompletedSameParentBusiness)
               .taskCleanupJobLockExpirationPeriod(expectedTaskCleanupJobLockExpirationPeriod)
+              .taskCleanupJobShardCount(expectedTaskCleanupJobShardCount)
+              .taskArchiveJobEnabled(expectedTaskArchiveJobEnabled)
+              .taskArchiveJobMinimumAge(expectedTaskArchiveJobMinimumAge)
+              .reportSnapshotJobEnabled(expectedReportSnapshotJobEnabled)
+              .reportSnapshotJobRunEvery(expectedReportSnapshotJobRunEvery)
+              .reportSnapshotMaxAge(expectedReportSnapshotMaxAge)
               .workbasketCleanupJobEnabled(expectedWorkbasketCleanupJobEnabled)
               .workbasketCleanupJobLockExpirationPeriod(
                   expectedWorkbasketCleanupJobLockExpirationPeriod)
@@ -353,6 +423,8 @@ class TaskanaConfigurationTest {
                   expectedSimpleHistoryCleanupJobLockExpirationPeriod)
               .taskUpdatePriorityJobEnabled(expectedTaskUpdatePriorityJobEnabled)
               .taskUpdatePriorityJobBatchSize(expectedPriorityJobBatchSize)
+              .taskUpdatePriorityJobWorkerCount(expectedPriorityJobWorkerCount)
+              .taskUpdatePriorityJobShardCount(expectedPriorityJobShardCount)
               .taskUpdatePriorityJobFirstRun(expectedPriorityJobFirstRun)
               .taskUpdatePriorityJobRunEvery(expectedTaskUpdatePriorityJobRunEvery)
               .taskUpdatePriorityJobLockExpirationPeriod(
@@ -366,6 +438,15 @@ class TaskanaConfigurationTest {
               .addAdditionalUserInfo(expectedAddAdditionalUserInfo)
               .minimalPermissionsToAssignDomains(expectedMinimalPermissionsToAssignDomains)
               .useSpecificDb2Taskquery(expectedUseSpecificDb2Taskquery)
+              // cache configuration
+              .workbasketPermissionCacheEnabled(expectedWorkbasketPermissionCacheEnabled)
+              .workbasketPermissionCacheMaxSize(expectedWorkbasketPermissionCacheMaxSize)
+              .workbasketPermissionCacheVersionCheckInterval(
+                  expectedWorkbasketPermissionCacheVersionCheckInterval)
+              .summaryCacheEnabled(expectedSummaryCacheEnabled)
+              .summaryCacheMaxSize(expectedSummaryCacheMaxSize)
+              .summaryCacheVersionCheckInterval(expectedSummaryCacheVersionCheckInterval)
+              .reportCacheTimeToLive(expectedReportCacheTimeToLive)
               .build();
 
       // then
@@ -378,6 +459,8 @@ class TaskanaConfigurationTest {
       assertThat(configuration.isSecurityEnabled()).isEqualTo(expectedSecurityEnabled);
       assertThat(configuration.getDomains()).isEqualTo(expectedDomains);
       assertThat(configuration.isEnforceServiceLevel()).isEqualTo(expectedEnforceServiceLevel);
+      assertThat(configuration.getPriorityServiceProviderParallelism())
+          .isEqualTo(expectedPriorityServiceProviderParallelism);
       // authentication configuration
       assertThat(configuration.getRoleMap()).isEqualTo(expectedRoleMap);
       // classification configuration
@@ -410,11 +493,23 @@ class TaskanaConfigurationTest {
       assertThat(configuration.getJobBatchSize()).isEqualTo(expectedJobBatchSize);
       assertThat(configuration.getJobFirstRun()).isEqualTo(expectedJobFirstJun);
       assertThat(configuration.getJobRunEvery()).isEqualTo(expectedJobRunEvery);
+      assertThat(configuration.isJobLeaseEnabled()).isEqualTo(expectedJobLeaseEnabled);
+      assertThat(configuration.getJobLeaseDuration()).isEqualTo(expectedJobLeaseDuration);
       assertThat(configuration.isTaskCleanupJobEnabled()).isEqualTo(expectedTaskCleanupJobEnabled);
       assertThat(configuration.getTaskCleanupJobMinimumAge())
           .isEqualTo(expectedTaskCleanupJobMinimumAge);
       assertThat(configuration.isTaskCleanupJobAllCompletedSameParentBusiness())
           .isEqualTo(expectedTaskCleanupJobAllCompletedSameParentBusiness);
+      assertThat(configuration.getTaskCleanupJobShardCount())
+          .isEqualTo(expectedTaskCleanupJobShardCount);
+      assertThat(configuration.isTaskArchiveJobEnabled()).isEqualTo(expectedTaskArchiveJobEnabled);
+      assertThat(configuration.getTaskArchiveJobMinimumAge())
+          .isEqualTo(expectedTaskArchiveJobMinimumAge);
+      assertThat(configuration.isReportSnapshotJobEnabled())
+          .isEqualTo(expectedReportSnapshotJobEnabled);
+      assertThat(configuration.getReportSnapshotJobRunEvery())
+          .isEqualTo(expectedReportSnapshotJobRunEvery);
+      assertThat(configuration.getReportSnapshotMaxAge()).isEqualTo(expectedReportSnapshotMaxAge);
       assertThat(configuration.isWorkbasketCleanupJobEnabled())
           .isEqualTo(expectedWorkbasketCleanupJobEnabled);
       assertThat(configuration.isSimpleHistoryCleanupJobEnabled())
@@ -429,6 +524,10 @@ class TaskanaConfigurationTest {
           .isEqualTo(expectedTaskUpdatePriorityJobEnabled);
       assertThat(configuration.getTaskUpdatePriorityJobBatchSize())
           .isEqualTo(expectedPriorityJobBatchSize);
+      assertThat(configuration.getTaskUpdatePriorityJobWorkerCount())
+          .isEqualTo(expectedPriorityJobWorkerCount);
+      assertThat(configuration.getTaskUpdatePriorityJobShardCount())
+          .isEqualTo(expectedPriorityJobShardCount);
       assertThat(configuration.getTaskUpdatePriorityJobFirstRun())
           .isEqualTo(expectedPriorityJobFirstRun);
       assertThat(configuration.getTaskUpdatePriorityJobRunEvery())
@@ -444,6 +543,18 @@ class TaskanaConfigurationTest {
       assertThat(configuration.isAddAdditionalUserInfo()).isEqualTo(expectedAddAdditionalUserInfo);
       assertThat(configuration.getMinimalPermissionsToAssignDomains())
           .isEqualTo(expectedMinimalPermissionsToAssignDomains);
+      // cache configuration
+      assertThat(configuration.isWorkbasketPermissionCacheEnabled())
+          .isEqualTo(expectedWorkbasketPermissionCacheEnabled);
+      assertThat(configuration.getWorkbasketPermissionCacheMaxSize())
+          .isEqualTo(expectedWorkbasketPermissionCacheMaxSize);
+      assertThat(configuration.getWorkbasketPermissionCacheVersionCheckInterval())
+          .isEqualTo(expectedWorkbasketPermissionCacheVersionCheckInterval);
+      assertThat(configuration.isSummaryCacheEnabled()).isEqualTo(expectedSummaryCacheEnabled);
+      assertThat(configuration.getSummaryCacheMaxSize()).isEqualTo(expectedSummaryCacheMaxSize);
+      assertThat(configuration.getSummaryCacheVersionCheckInterval())
+          .isEqualTo(expectedSummaryCacheVersionCheckInterval);
+      assertThat(configuration.getReportCacheTimeToLive()).isEqualTo(expectedReportCacheTimeToLive);
     }
 
     @Test
@@ -454,6 +565,7 @@ class TaskanaConfigurationTest {
               // general configuration
               .domains(List.of("A", "B"))
               .enforceServiceLevel(false)
+              .priorityServiceProviderParallelism(2)
               // authentication configuration
               .roleMap(Map.of(TaskanaRole.ADMIN, Set.of("admin")))
               // classification configuration
@@ -483,10 +595,18 @@ class TaskanaConfigurationTest {
               .jobFirstRun(Instant.MIN)
               .jobRunEvery(Duration.ofDays(2))
               .jobLockExpirationPeriod(Duration.ofDays(2))
+              .jobLeaseEnabled(true)
+              .jobLeaseDuration(Duration.ofMinutes(3))
               .taskCleanupJobEnabled(false)
               .taskCleanupJobMinimumAge(Duration.ofDays(1))
               .taskCleanupJobAllCompletedSameParentBusiness(false)
               .taskCleanupJobLockExpirationPeriod(Duration.ofDays(6))
+              .taskCleanupJobShardCount(2)
+              .taskArchiveJobEnabled(true)
+              .taskArchiveJobMinimumAge(Duration.ofDays(5))
+              .reportSnapshotJobEnabled(true)
+              .reportSnapshotJobRunEvery(Duration.ofMinutes(4))
+              .reportSnapshotMaxAge(Duration.ofMinutes(8))
               .workbasketCleanupJobEnabled(false)
               .workbasketCleanupJobLockExpirationPeriod(Duration.ofDays(7))
               .simpleHistoryCleanupJobEnabled(true)
@@ -496,6 +616,8 @@ class TaskanaConfigurationTest {
               .simpleHistoryCleanupJobLockExpirationPeriod(Duration.ofDays(9))
               .taskUpdatePriorityJobEnabled(true)
               .taskUpdatePriorityJobBatchSize(49)
+              .taskUpdatePriorityJobWorkerCount(3)
+              .taskUpdatePriorityJobShardCount(4)
               .taskUpdatePriorityJobFirstRun(Instant.MIN.plus(1, ChronoUnit.DAYS))
               .taskUpdatePriorityJobRunEvery(Duration.ofMinutes(17))
               .taskUpdatePriorityJobLockExpirationPeriod(Duration.ofDays(10))
@@ -509,6 +631,14 @@ class TaskanaConfigurationTest {
               .minimalPermissionsToAssignDomains(Set.of(WorkbasketPermission.CUSTOM_2))
               // database configuration
               .useSpecificDb2Taskquery(false)
+              // cache configuration
+              .workbasketPermissionCacheEnabled(true)
+              .workbasketPermissionCacheMaxSize(42)
+              .workbasketPermissionCacheVersionCheckInterval(Duration.ofMinutes(1))
+              .summaryCacheEnabled(true)
+              .summaryCacheMaxSize(42)
+              .summaryCacheVersionCheckInterval(Duration.ofMinutes(1))
+              .reportCacheTimeToLive(Duration.ofSeconds(5))
               .build();
 
       TaskanaConfiguration copyConfiguration = new Builder(configuration).build();
@@ -893,6 +1023,61 @@ class TaskanaConfigurationTest {
                   + " must be a positive integer");
     }
 
+    @ParameterizedTest
+    @ValueSource(ints = {-1, 0})
+    void should_ThrowInvalidArgumentEx_When_TaskUpdatePriorityJobWorkerCountIsNotPositive(
+        int priorityJobWorkerCount) {
+
+      TaskanaConfiguration.Builder builder =
+          new TaskanaConfiguration.Builder(
+                  TestContainerExtension.createDataSourceForH2(), false, "TASKANA")
+              .taskUpdatePriorityJobWorkerCount(priorityJobWorkerCount);
+
+      ThrowingCallable call = builder::build;
+
+      assertThatThrownBy(call)
+          .isInstanceOf(InvalidArgumentException.class)
+          .hasMessageContaining(
+              "Parameter taskUpdatePriorityJobWorkerCount (taskana.jobs.priority.task.workerCount)"
+                  + " must be a positive integer");
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 17})
+    void should_ThrowInvalidArgumentEx_When_TaskUpdatePriorityJobShardCountIsOutOfRange(
+        int priorityJobShardCount) {
+
+      TaskanaConfiguration.Builder builder =
+          new TaskanaConfiguration.Builder(
+                  TestContainerExtension.createDataSourceForH2(), false, "TASKANA")
+              .taskUpdatePriorityJobShardCount(priorityJobShardCount);
+
+      ThrowingCallable call = builder::build;
+
+      assertThatThrownBy(call)
+          .isInstanceOf(InvalidArgumentException.class)
+          .hasMessageContaining(
+              "Parameter taskUpdatePriorityJobShardCount (taskana.jobs.priority.task.shardCount)"
+                  + " must be between 1 and 16");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"PT-1M", "PT0M"})
+    void should_ThrowInvalidArgumentEx_When_JobLeaseDurationIsNotPositive(String leaseDuration) {
+      TaskanaConfiguration.Builder builder =
+          new TaskanaConfiguration.Builder(
+                  TestContainerExtension.createDataSourceForH2(), false, "TASKANA")
+              .jobLeaseDuration(Duration.parse(leaseDuration));
+
+      ThrowingCallable call = builder::build;
+
+      assertThatThrownBy(call)
+          .isInstanceOf(InvalidArgumentException.class)
+          .hasMessageContaining(
+              "Parameter jobLeaseDuration (taskana.jobs.lease.duration) must be a positive"
+                  + " duration");
+    }
+
     @ParameterizedTest
     @ValueSource(strings = {"P-1D", "P0D"})
     void should_ThrowInvalidArgumentEx_When_TaskPriorityUpdatePriorityJobRunEveryIsNotPositive(
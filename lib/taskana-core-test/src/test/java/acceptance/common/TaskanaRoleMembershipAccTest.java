@@ -0,0 +1,76 @@
+package acceptance.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import pro.taskana.TaskanaConfiguration.Builder;
+import pro.taskana.common.api.TaskanaEngine;
+import pro.taskana.common.api.TaskanaRole;
+import pro.taskana.testapi.TaskanaConfigurationModifier;
+import pro.taskana.testapi.TaskanaInject;
+import pro.taskana.testapi.TaskanaIntegrationTest;
+import pro.taskana.testapi.security.WithAccessId;
+
+@TaskanaIntegrationTest
+class TaskanaRoleMembershipAccTest implements TaskanaConfigurationModifier {
+
+  private static final int NUMBER_OF_GROUPS = 5000;
+
+  @TaskanaInject TaskanaEngine taskanaEngine;
+
+  @Override
+  public Builder modify(Builder builder) {
+    Map<TaskanaRole, Set<String>> roleMap = new EnumMap<>(TaskanaRole.class);
+    roleMap.put(TaskanaRole.ADMIN, Set.of("admin"));
+    roleMap.put(TaskanaRole.BUSINESS_ADMIN, Set.of("businessadmin"));
+    roleMap.put(
+        TaskanaRole.USER,
+        IntStream.range(0, NUMBER_OF_GROUPS).mapToObj(this::group).collect(Collectors.toSet()));
+    roleMap.put(
+        TaskanaRole.MONITOR,
+        IntStream.range(0, NUMBER_OF_GROUPS)
+            .filter(i -> i % 2 == 0)
+            .mapToObj(this::group)
+            .collect(Collectors.toSet()));
+    return builder.roleMap(roleMap);
+  }
+
+  @WithAccessId(user = "user-1-1", groups = "cn=group-4711,cn=groups,ou=test,o=taskana")
+  @Test
+  void should_ResolveRoleOfGroup_When_GroupIsMemberOfOneRole() {
+    assertThat(taskanaEngine.isUserInRole(TaskanaRole.USER)).isTrue();
+    assertThat(taskanaEngine.isUserInRole(TaskanaRole.MONITOR)).isFalse();
+    assertThat(taskanaEngine.isUserInRole(TaskanaRole.ADMIN, TaskanaRole.MONITOR)).isFalse();
+  }
+
+  @WithAccessId(user = "user-1-1", groups = "cn=group-4712,cn=groups,ou=test,o=taskana")
+  @Test
+  void should_ResolveAllRolesOfGroup_When_GroupIsMemberOfSeveralRoles() {
+    assertThat(taskanaEngine.isUserInRole(TaskanaRole.USER)).isTrue();
+    assertThat(taskanaEngine.isUserInRole(TaskanaRole.MONITOR)).isTrue();
+    assertThat(taskanaEngine.isUserInRole(TaskanaRole.ADMIN, TaskanaRole.MONITOR)).isTrue();
+    assertThat(taskanaEngine.isUserInRole(TaskanaRole.ADMIN)).isFalse();
+  }
+
+  @WithAccessId(user = "user-1-1", groups = "cn=group-5000,cn=groups,ou=test,o=taskana")
+  @Test
+  void should_NotResolveAnyRole_When_NoAccessIdIsConfigured() {
+    assertThat(taskanaEngine.isUserInRole(TaskanaRole.values())).isFalse();
+  }
+
+  @WithAccessId(user = "admin")
+  @Test
+  void should_ResolveRoleOfUser_When_UserIsConfigured() {
+    assertThat(taskanaEngine.isUserInRole(TaskanaRole.ADMIN)).isTrue();
+    assertThat(taskanaEngine.isUserInRole(TaskanaRole.USER)).isFalse();
+  }
+
+  private String group(int i) {
+    return "cn=group-" + i + ",cn=groups,ou=test,o=taskana";
+  }
+}
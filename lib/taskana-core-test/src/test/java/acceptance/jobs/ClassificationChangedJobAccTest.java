@@ -0,0 +1,122 @@
+package acceptance.jobs;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static pro.taskana.testapi.DefaultTestEntities.defaultTestClassification;
+import static pro.taskana.testapi.DefaultTestEntities.defaultTestObjectReference;
+import static pro.taskana.testapi.DefaultTestEntities.defaultTestWorkbasket;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import pro.taskana.TaskanaConfiguration.Builder;
+import pro.taskana.classification.api.ClassificationService;
+import pro.taskana.classification.api.models.Classification;
+import pro.taskana.classification.api.models.ClassificationSummary;
+import pro.taskana.classification.internal.jobs.ClassificationChangedJob;
+import pro.taskana.common.api.ScheduledJob;
+import pro.taskana.common.api.TaskanaEngine;
+import pro.taskana.common.internal.JobMapper;
+import pro.taskana.task.api.TaskService;
+import pro.taskana.task.api.TaskState;
+import pro.taskana.task.api.models.Task;
+import pro.taskana.task.api.models.TaskSummary;
+import pro.taskana.task.internal.jobs.TaskRefreshJob;
+import pro.taskana.testapi.TaskanaConfigurationModifier;
+import pro.taskana.testapi.TaskanaInject;
+import pro.taskana.testapi.TaskanaIntegrationTest;
+import pro.taskana.testapi.builder.TaskAttachmentBuilder;
+import pro.taskana.testapi.builder.TaskBuilder;
+import pro.taskana.testapi.security.WithAccessId;
+import pro.taskana.workbasket.api.WorkbasketService;
+import pro.taskana.workbasket.api.models.WorkbasketSummary;
+
+// All tests are executed as admin, because the jobrunner needs admin rights.
+@TaskanaIntegrationTest
+class ClassificationChangedJobAccTest implements TaskanaConfigurationModifier {
+
+  @TaskanaInject TaskanaEngine taskanaEngine;
+  @TaskanaInject TaskService taskService;
+  @TaskanaInject ClassificationService classificationService;
+  @TaskanaInject WorkbasketService workbasketService;
+  @TaskanaInject JobMapper jobMapper;
+
+  @Override
+  public Builder modify(Builder builder) {
+    return builder.jobBatchSize(2);
+  }
+
+  @WithAccessId(user = "admin")
+  @Test
+  void should_RefreshAffectedTasksInIdRanges_When_TasksExceedBatchSize() throws Exception {
+    Classification classification =
+        defaultTestClassification()
+            .priority(1)
+            .serviceLevel("P1D")
+            .buildAndStore(classificationService);
+    ClassificationSummary otherClassification =
+        defaultTestClassification().priority(1).buildAndStoreAsSummary(classificationService);
+    WorkbasketSummary workbasket =
+        defaultTestWorkbasket().buildAndStoreAsSummary(workbasketService);
+    List<String> affectedTaskIds = new ArrayList<>();
+    for (int i = 0; i < 4; i++) {
+      affectedTaskIds.add(
+          TaskBuilder.newTask()
+              .classificationSummary(classification.asSummary())
+              .workbasketSummary(workbasket)
+              .primaryObjRef(defaultTestObjectReference().build())
+              .buildAndStore(taskService)
+              .getId());
+    }
+    affectedTaskIds.add(
+        TaskBuilder.newTask()
+            .classificationSummary(otherClassification)
+            .attachments(
+                TaskAttachmentBuilder.newAttachment()
+                    .classificationSummary(classification.asSummary())
+                    .objectReference(defaultTestObjectReference().build())
+                    .build())
+            .workbasketSummary(workbasket)
+            .primaryObjRef(defaultTestObjectReference().build())
+            .buildAndStore(taskService)
+            .getId());
+    final TaskSummary completedTask =
+        TaskBuilder.newTask()
+            .classificationSummary(classification.asSummary())
+            .workbasketSummary(workbasket)
+            .primaryObjRef(defaultTestObjectReference().build())
+            .state(TaskState.COMPLETED)
+            .completed(Instant.now())
+            .buildAndStoreAsSummary(taskService);
+
+    classification.setPriority(42);
+    classificationService.updateClassification(classification);
+    for (ScheduledJob scheduledJob : findJobsToRun(ClassificationChangedJob.class)) {
+      new ClassificationChangedJob(taskanaEngine, null, scheduledJob).run();
+    }
+    List<ScheduledJob> taskRefreshJobs = findJobsToRun(TaskRefreshJob.class);
+    for (ScheduledJob scheduledJob : taskRefreshJobs) {
+      new TaskRefreshJob(taskanaEngine, null, scheduledJob).run();
+    }
+
+    assertThat(taskRefreshJobs)
+        .hasSize(3)
+        .extracting(ScheduledJob::getArguments)
+        .allSatisfy(
+            args ->
+                assertThat(args)
+                    .doesNotContainKey(TaskRefreshJob.TASK_IDS)
+                    .containsEntry(TaskRefreshJob.CLASSIFICATION_ID, classification.getId()));
+    for (String taskId : affectedTaskIds) {
+      assertThat(taskService.getTask(taskId)).extracting(Task::getPriority).isEqualTo(42);
+    }
+    assertThat(taskService.getTask(completedTask.getId()).getPriority())
+        .isEqualTo(completedTask.getPriority());
+  }
+
+  private List<ScheduledJob> findJobsToRun(Class<?> jobClass) {
+    return jobMapper.findJobsToRun(Instant.now()).stream()
+        .filter(job -> job.getType().equals(jobClass.getName()))
+        .toList();
+  }
+}
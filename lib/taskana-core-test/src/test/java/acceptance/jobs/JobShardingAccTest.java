@@ -0,0 +1,168 @@
+package acceptance.jobs;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import pro.taskana.TaskanaConfiguration.Builder;
+import pro.taskana.classification.api.ClassificationService;
+import pro.taskana.classification.api.models.ClassificationSummary;
+import pro.taskana.common.api.JobService;
+import pro.taskana.common.api.ScheduledJob;
+import pro.taskana.common.api.TaskanaEngine;
+import pro.taskana.common.internal.JobMapper;
+import pro.taskana.common.internal.JobServiceImpl;
+import pro.taskana.common.internal.jobs.AbstractTaskanaJob;
+import pro.taskana.common.internal.jobs.JobRunner;
+import pro.taskana.common.internal.jobs.JobShard;
+import pro.taskana.common.internal.util.IdGenerator;
+import pro.taskana.task.api.TaskService;
+import pro.taskana.task.api.TaskState;
+import pro.taskana.task.internal.jobs.TaskCleanupJob;
+import pro.taskana.testapi.DefaultTestEntities;
+import pro.taskana.testapi.TaskanaConfigurationModifier;
+import pro.taskana.testapi.TaskanaInject;
+import pro.taskana.testapi.TaskanaIntegrationTest;
+import pro.taskana.testapi.builder.TaskBuilder;
+import pro.taskana.testapi.security.WithAccessId;
+import pro.taskana.workbasket.api.WorkbasketService;
+import pro.taskana.workbasket.api.models.WorkbasketSummary;
+
+// All tests are executed as admin, because the jobrunner needs admin rights.
+@TaskanaIntegrationTest
+class JobShardingAccTest implements TaskanaConfigurationModifier {
+
+  @TaskanaInject TaskanaEngine taskanaEngine;
+  @TaskanaInject TaskService taskService;
+  @TaskanaInject JobService jobService;
+  @TaskanaInject JobMapper jobMapper;
+
+  ClassificationSummary classification;
+  WorkbasketSummary workbasket;
+
+  @Override
+  public Builder modify(Builder builder) {
+    return builder
+        .taskCleanupJobShardCount(3)
+        .taskCleanupJobMinimumAge(Duration.ofDays(5))
+        .jobLeaseEnabled(true)
+        .jobLeaseDuration(Duration.ofMinutes(2));
+  }
+
+  @WithAccessId(user = "businessadmin")
+  @BeforeAll
+  void setup(ClassificationService classificationService, WorkbasketService workbasketService)
+      throws Exception {
+    classification =
+        DefaultTestEntities.defaultTestClassification()
+            .buildAndStoreAsSummary(classificationService);
+    workbasket =
+        DefaultTestEntities.defaultTestWorkbasket().buildAndStoreAsSummary(workbasketService);
+  }
+
+  @AfterEach
+  void cleanupJobs() {
+    jobMapper.deleteMultiple(TaskCleanupJob.class.getName());
+  }
+
+  @Test
+  void should_AssignEachIdToExactlyOneShard() {
+    List<JobShard> shards = IntStream.range(0, 3).mapToObj(i -> new JobShard(i, 3)).toList();
+    List<String> ids = new ArrayList<>(List.of("TKI:", "TKI:XYZ", "TKI:ABC"));
+    IntStream.range(0, 100).forEach(i -> ids.add(IdGenerator.generateWithPrefix("TKI")));
+
+    assertThat(ids)
+        .allSatisfy(id -> assertThat(shards).filteredOn(shard -> shard.contains(id)).hasSize(1));
+  }
+
+  @WithAccessId(user = "admin")
+  @Test
+  void should_DeleteTasksOfAllShards_When_RunningShardedTaskCleanupJob() throws Exception {
+    List<String> taskIds = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      taskIds.add(
+          TaskBuilder.newTask()
+              .workbasketSummary(workbasket)
+              .classificationSummary(classification)
+              .primaryObjRef(DefaultTestEntities.defaultTestObjectReference().build())
+              .state(TaskState.COMPLETED)
+              .completed(Instant.now().minus(6, ChronoUnit.DAYS))
+              .buildAndStore(taskService)
+              .getId());
+    }
+    ScheduledJob scheduledJob = new ScheduledJob();
+    scheduledJob.setType(TaskCleanupJob.class.getName());
+    scheduledJob.setDue(Instant.now().minus(1, ChronoUnit.MINUTES));
+    jobService.createJob(scheduledJob);
+
+    new JobRunner(taskanaEngine).runJobs();
+
+    assertThat(taskService.createTaskQuery().idIn(taskIds.toArray(new String[0])).count()).isZero();
+    assertThat(jobMapper.findJobsToRun(Instant.now().plus(Duration.ofDays(2))))
+        .filteredOn(job -> TaskCleanupJob.class.getName().equals(job.getType()))
+        .singleElement()
+        .extracting(ScheduledJob::getArguments)
+        .satisfies(arguments -> assertThat(JobShard.fromArguments(arguments)).isNull());
+  }
+
+  @WithAccessId(user = "admin")
+  @Test
+  void should_KeepLeasedJobs_When_InitializingSchedule() {
+    createShardJob(new JobShard(1, 3));
+    ScheduledJob leasedJob =
+        ((JobServiceImpl) jobService)
+            .findJobsToRun().stream()
+                .filter(job -> TaskCleanupJob.class.getName().equals(job.getType()))
+                .findFirst()
+                .orElseThrow();
+    ((JobServiceImpl) jobService).lockJob(leasedJob, "other node");
+    createShardJob(new JobShard(2, 3));
+
+    AbstractTaskanaJob.initializeSchedule(taskanaEngine, TaskCleanupJob.class);
+
+    assertThat(jobMapper.findJobsToRun(Instant.now().plus(Duration.ofMinutes(3))))
+        .filteredOn(job -> TaskCleanupJob.class.getName().equals(job.getType()))
+        .extracting(job -> JobShard.fromArguments(job.getArguments()))
+        .filteredOn(Objects::nonNull)
+        .extracting(JobShard::getIndex)
+        .containsExactly(1);
+  }
+
+  @Test
+  void should_LockJobForLeaseDuration_When_LeaseIsEnabled() {
+    ScheduledJob scheduledJob = new ScheduledJob();
+    scheduledJob.setType(TaskCleanupJob.class.getName());
+    scheduledJob.setDue(Instant.now().minus(1, ChronoUnit.MINUTES));
+    jobService.createJob(scheduledJob);
+    ScheduledJob jobToRun =
+        ((JobServiceImpl) jobService)
+            .findJobsToRun().stream()
+                .filter(job -> TaskCleanupJob.class.getName().equals(job.getType()))
+                .findFirst()
+                .orElseThrow();
+
+    Instant before = Instant.now();
+    ScheduledJob lockedJob = ((JobServiceImpl) jobService).lockJob(jobToRun, "owner");
+
+    assertThat(lockedJob.getLockExpires())
+        .isBetween(
+            before.plus(Duration.ofMinutes(2)).truncatedTo(ChronoUnit.MILLIS),
+            Instant.now().plus(Duration.ofMinutes(2)));
+  }
+
+  private void createShardJob(JobShard shard) {
+    ScheduledJob scheduledJob = new ScheduledJob();
+    scheduledJob.setType(TaskCleanupJob.class.getName());
+    scheduledJob.setDue(Instant.now().minus(1, ChronoUnit.MINUTES));
+    scheduledJob.setArguments(shard.toArguments());
+    jobService.createJob(scheduledJob);
+  }
+}
@@ -0,0 +1,199 @@
+package acceptance.jobs;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static pro.taskana.testapi.DefaultTestEntities.defaultTestClassification;
+import static pro.taskana.testapi.DefaultTestEntities.defaultTestObjectReference;
+import static pro.taskana.testapi.DefaultTestEntities.defaultTestWorkbasket;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+import org.junit.jupiter.api.condition.DisabledIfEnvironmentVariable;
+import pro.taskana.TaskanaConfiguration.Builder;
+import pro.taskana.classification.api.ClassificationService;
+import pro.taskana.classification.api.models.ClassificationSummary;
+import pro.taskana.common.api.TaskanaEngine;
+import pro.taskana.monitor.api.MonitorService;
+import pro.taskana.monitor.api.TaskTimestamp;
+import pro.taskana.monitor.api.reports.ClassificationCategoryReport;
+import pro.taskana.monitor.api.reports.WorkbasketReport;
+import pro.taskana.monitor.api.reports.header.TimeIntervalColumnHeader;
+import pro.taskana.monitor.internal.jobs.ReportSnapshotJob;
+import pro.taskana.task.api.TaskService;
+import pro.taskana.task.api.models.Attachment;
+import pro.taskana.testapi.CleanTaskanaContext;
+import pro.taskana.testapi.TaskanaConfigurationModifier;
+import pro.taskana.testapi.TaskanaInject;
+import pro.taskana.testapi.TaskanaIntegrationTest;
+import pro.taskana.testapi.builder.TaskAttachmentBuilder;
+import pro.taskana.testapi.builder.TaskBuilder;
+import pro.taskana.testapi.security.WithAccessId;
+import pro.taskana.workbasket.api.WorkbasketService;
+import pro.taskana.workbasket.api.models.WorkbasketSummary;
+
+// All tests are executed as admin, because the jobrunner needs admin rights.
+@TaskanaIntegrationTest
+class ReportSnapshotJobAccTest implements TaskanaConfigurationModifier {
+
+  @TaskanaInject TaskanaEngine taskanaEngine;
+  @TaskanaInject TaskService taskService;
+  @TaskanaInject MonitorService monitorService;
+
+  ClassificationSummary classification;
+  WorkbasketSummary workbasket;
+
+  @Override
+  public Builder modify(Builder builder) {
+    return builder.reportSnapshotJobEnabled(true).reportSnapshotMaxAge(Duration.ofDays(1));
+  }
+
+  @WithAccessId(user = "admin")
+  @BeforeAll
+  void setup(ClassificationService classificationService, WorkbasketService workbasketService)
+      throws Exception {
+    classification = defaultTestClassification().buildAndStoreAsSummary(classificationService);
+    workbasket = defaultTestWorkbasket().buildAndStoreAsSummary(workbasketService);
+    createTask().attachments(createAttachment(), createAttachment()).buildAndStore(taskService);
+    createTask().buildAndStore(taskService);
+
+    new ReportSnapshotJob(taskanaEngine, null, null).run();
+
+    // created after the snapshot, so it is only counted by the reports on the TASK table
+    createTask().buildAndStore(taskService);
+  }
+
+  // like the query on the TASK table, the workbasket report counts a task once per attachment
+  @DisabledIfEnvironmentVariable(named = "DB", matches = "POSTGRES")
+  @WithAccessId(user = "admin")
+  @Test
+  void should_ReadWorkbasketReportFromSnapshot_When_SnapshotIsRecentEnough() throws Exception {
+    WorkbasketReport report =
+        monitorService
+            .createWorkbasketReportBuilder()
+            .workbasketIdIn(List.of(workbasket.getId()))
+            .buildReport();
+
+    assertThat(report.rowSize()).isOne();
+    assertThat(report.getRow(workbasket.getKey()).getTotalValue()).isEqualTo(3);
+  }
+
+  @DisabledIfEnvironmentVariable(named = "DB", matches = "POSTGRES")
+  @WithAccessId(user = "admin")
+  @Test
+  void should_ReadClassificationCategoryReportFromSnapshot_When_SnapshotIsRecentEnough()
+      throws Exception {
+    ClassificationCategoryReport report =
+        monitorService
+            .createClassificationCategoryReportBuilder()
+            .workbasketIdIn(List.of(workbasket.getId()))
+            .buildReport();
+
+    assertThat(report.getSumRow().getTotalValue()).isEqualTo(2);
+  }
+
+  @WithAccessId(user = "admin")
+  @Test
+  void should_ReadReportFromTaskTable_When_SnapshotCannotAnswerTheReport() throws Exception {
+    WorkbasketReport plannedReport =
+        monitorService
+            .createWorkbasketReportBuilder()
+            .workbasketIdIn(List.of(workbasket.getId()))
+            .buildReport(TaskTimestamp.PLANNED);
+    WorkbasketReport archivedReport =
+        monitorService
+            .createWorkbasketReportBuilder()
+            .workbasketIdIn(List.of(workbasket.getId()))
+            .includeArchived()
+            .buildReport();
+
+    assertThat(plannedReport.getSumRow().getTotalValue()).isEqualTo(4);
+    assertThat(archivedReport.getSumRow().getTotalValue()).isEqualTo(4);
+  }
+
+  // The snapshot stores the due day of the tasks only, so it has to assign each task to the same
+  // column as the report on the TASK table, no matter at which time of day the task is due.
+  @Nested
+  @CleanTaskanaContext
+  @TestInstance(Lifecycle.PER_CLASS)
+  class CompareWithReportFromTaskTable implements TaskanaConfigurationModifier {
+
+    @TaskanaInject TaskanaEngine taskanaEngine;
+    @TaskanaInject TaskService taskService;
+    @TaskanaInject MonitorService monitorService;
+
+    WorkbasketSummary workbasket;
+
+    @Override
+    public Builder modify(Builder builder) {
+      return builder.reportSnapshotJobEnabled(true).reportSnapshotMaxAge(Duration.ofDays(1));
+    }
+
+    @WithAccessId(user = "admin")
+    @BeforeAll
+    void setup(ClassificationService classificationService, WorkbasketService workbasketService)
+        throws Exception {
+      ClassificationSummary classification =
+          defaultTestClassification().buildAndStoreAsSummary(classificationService);
+      workbasket = defaultTestWorkbasket().buildAndStoreAsSummary(workbasketService);
+      Instant now = Instant.now();
+      for (int hours = -73; hours <= 73; hours += 4) {
+        TaskBuilder.newTask()
+            .classificationSummary(classification)
+            .workbasketSummary(workbasket)
+            .primaryObjRef(defaultTestObjectReference().build())
+            .due(now.plus(hours, ChronoUnit.HOURS))
+            .buildAndStore(taskService);
+      }
+    }
+
+    @WithAccessId(user = "admin")
+    @Test
+    void should_ComputeSameReportFromSnapshotAsFromTaskTable() throws Exception {
+      List<TimeIntervalColumnHeader> columnHeaders =
+          IntStream.rangeClosed(-10, 10)
+              .mapToObj(TimeIntervalColumnHeader::new)
+              .collect(Collectors.toList());
+      // there is no snapshot yet, so this report is computed from the TASK table
+      WorkbasketReport reportFromTaskTable =
+          monitorService
+              .createWorkbasketReportBuilder()
+              .workbasketIdIn(List.of(workbasket.getId()))
+              .withColumnHeaders(columnHeaders)
+              .buildReport();
+
+      new ReportSnapshotJob(taskanaEngine, null, null).run();
+      WorkbasketReport reportFromSnapshot =
+          monitorService
+              .createWorkbasketReportBuilder()
+              .workbasketIdIn(List.of(workbasket.getId()))
+              .withColumnHeaders(columnHeaders)
+              .buildReport();
+
+      assertThat(reportFromSnapshot.getSumRow().getTotalValue()).isEqualTo(37);
+      assertThat(reportFromSnapshot.getSumRow().getCells())
+          .containsExactly(reportFromTaskTable.getSumRow().getCells());
+    }
+  }
+
+  private TaskBuilder createTask() {
+    return TaskBuilder.newTask()
+        .classificationSummary(classification)
+        .workbasketSummary(workbasket)
+        .primaryObjRef(defaultTestObjectReference().build());
+  }
+
+  private Attachment createAttachment() {
+    return TaskAttachmentBuilder.newAttachment()
+        .classificationSummary(classification)
+        .objectReference(defaultTestObjectReference().build())
+        .build();
+  }
+}
@@ -0,0 +1,178 @@
+package acceptance.jobs;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static pro.taskana.testapi.DefaultTestEntities.defaultTestClassification;
+import static pro.taskana.testapi.DefaultTestEntities.defaultTestObjectReference;
+import static pro.taskana.testapi.DefaultTestEntities.defaultTestWorkbasket;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import pro.taskana.TaskanaConfiguration.Builder;
+import pro.taskana.classification.api.ClassificationService;
+import pro.taskana.classification.api.models.ClassificationSummary;
+import pro.taskana.common.api.BulkOperationResults;
+import pro.taskana.common.api.TaskanaEngine;
+import pro.taskana.common.api.exceptions.TaskanaException;
+import pro.taskana.monitor.api.MonitorService;
+import pro.taskana.monitor.api.reports.WorkbasketReport;
+import pro.taskana.task.api.TaskService;
+import pro.taskana.task.api.TaskState;
+import pro.taskana.task.api.exceptions.TaskAlreadyExistException;
+import pro.taskana.task.api.exceptions.TaskNotFoundException;
+import pro.taskana.task.api.models.Task;
+import pro.taskana.task.api.models.TaskSummary;
+import pro.taskana.task.internal.jobs.TaskArchiveJob;
+import pro.taskana.testapi.TaskanaConfigurationModifier;
+import pro.taskana.testapi.TaskanaInject;
+import pro.taskana.testapi.TaskanaIntegrationTest;
+import pro.taskana.testapi.builder.TaskAttachmentBuilder;
+import pro.taskana.testapi.builder.TaskBuilder;
+import pro.taskana.testapi.builder.TaskCommentBuilder;
+import pro.taskana.testapi.security.WithAccessId;
+import pro.taskana.workbasket.api.WorkbasketService;
+import pro.taskana.workbasket.api.models.WorkbasketSummary;
+
+// All tests are executed as admin, because the jobrunner needs admin rights.
+@TaskanaIntegrationTest
+class TaskArchiveJobAccTest implements TaskanaConfigurationModifier {
+
+  @TaskanaInject TaskanaEngine taskanaEngine;
+  @TaskanaInject TaskService taskService;
+  @TaskanaInject MonitorService monitorService;
+
+  WorkbasketSummary workbasket;
+  TaskSummary activeTask;
+  TaskSummary completedTask;
+  TaskSummary archivedTask;
+
+  @Override
+  public Builder modify(Builder builder) {
+    return builder.jobBatchSize(1).taskArchiveJobEnabled(true);
+  }
+
+  @WithAccessId(user = "admin")
+  @BeforeAll
+  void setup(ClassificationService classificationService, WorkbasketService workbasketService)
+      throws Exception {
+    ClassificationSummary classification =
+        defaultTestClassification().buildAndStoreAsSummary(classificationService);
+    workbasket = defaultTestWorkbasket().buildAndStoreAsSummary(workbasketService);
+    activeTask =
+        createTaskInState(classification, TaskState.READY, null)
+            .buildAndStoreAsSummary(taskService);
+    completedTask =
+        createTaskInState(classification, TaskState.COMPLETED, Instant.now())
+            .buildAndStoreAsSummary(taskService);
+    archivedTask =
+        createTaskInState(
+                classification, TaskState.CANCELLED, Instant.now().minus(20, ChronoUnit.DAYS))
+            .attachments(
+                TaskAttachmentBuilder.newAttachment()
+                    .classificationSummary(classification)
+                    .objectReference(defaultTestObjectReference().build())
+                    .build())
+            .buildAndStoreAsSummary(taskService);
+    TaskCommentBuilder.newTaskComment()
+        .taskId(archivedTask.getId())
+        .textField("archived comment")
+        .buildAndStore(taskService);
+
+    new TaskArchiveJob(taskanaEngine, null, null).run();
+  }
+
+  @WithAccessId(user = "admin")
+  @Test
+  void should_QueryOnlyActiveTasks_When_ArchivedTasksAreNotIncluded() {
+    List<TaskSummary> tasks =
+        taskService.createTaskQuery().workbasketIdIn(workbasket.getId()).list();
+
+    assertThat(tasks)
+        .extracting(TaskSummary::getId)
+        .containsExactlyInAnyOrder(activeTask.getId(), completedTask.getId());
+    assertThatThrownBy(() -> taskService.getTask(archivedTask.getId()))
+        .isInstanceOf(TaskNotFoundException.class);
+  }
+
+  @WithAccessId(user = "admin")
+  @Test
+  void should_QueryArchivedTasksWithAttachments_When_ArchivedTasksAreIncluded() {
+    List<TaskSummary> tasks =
+        taskService
+            .createTaskQuery()
+            .workbasketIdIn(workbasket.getId())
+            .includeArchived()
+            .orderByTaskId(null)
+            .list();
+
+    assertThat(tasks)
+        .extracting(TaskSummary::getId)
+        .containsExactlyInAnyOrder(activeTask.getId(), completedTask.getId(), archivedTask.getId());
+    assertThat(tasks)
+        .filteredOn(task -> task.getId().equals(archivedTask.getId()))
+        .singleElement()
+        .satisfies(
+            task -> {
+              assertThat(task.getAttachmentSummaries()).hasSize(1);
+              assertThat(task.getPrimaryObjRef()).isNotNull();
+            });
+    assertThat(
+            taskService
+                .createTaskQuery()
+                .workbasketIdIn(workbasket.getId())
+                .includeArchived()
+                .count())
+        .isEqualTo(3);
+  }
+
+  @WithAccessId(user = "admin")
+  @Test
+  void should_CountArchivedTasksInReport_When_ArchivedTasksAreIncluded() throws Exception {
+    WorkbasketReport activeReport =
+        monitorService
+            .createWorkbasketReportBuilder()
+            .workbasketIdIn(List.of(workbasket.getId()))
+            .buildReport();
+    WorkbasketReport fullReport =
+        monitorService
+            .createWorkbasketReportBuilder()
+            .workbasketIdIn(List.of(workbasket.getId()))
+            .includeArchived()
+            .buildReport();
+
+    assertThat(activeReport.getSumRow().getTotalValue()).isEqualTo(2);
+    assertThat(fullReport.getSumRow().getTotalValue()).isEqualTo(3);
+  }
+
+  @WithAccessId(user = "admin")
+  @Test
+  void should_ThrowException_When_CreatingTaskWithExternalIdOfArchivedTask() {
+    assertThatThrownBy(() -> taskService.createTask(newTaskWithExternalIdOfArchivedTask()))
+        .isInstanceOf(TaskAlreadyExistException.class);
+    BulkOperationResults<String, TaskanaException> results =
+        taskService.createTasks(List.of(newTaskWithExternalIdOfArchivedTask()));
+    assertThat(results.getErrorForId(archivedTask.getExternalId()))
+        .isInstanceOf(TaskAlreadyExistException.class);
+  }
+
+  private Task newTaskWithExternalIdOfArchivedTask() {
+    Task task = taskService.newTask(workbasket.getId());
+    task.setClassificationKey(archivedTask.getClassificationSummary().getKey());
+    task.setPrimaryObjRef(defaultTestObjectReference().build());
+    task.setExternalId(archivedTask.getExternalId());
+    return task;
+  }
+
+  private TaskBuilder createTaskInState(
+      ClassificationSummary classification, TaskState state, Instant completed) {
+    return TaskBuilder.newTask()
+        .classificationSummary(classification)
+        .workbasketSummary(workbasket)
+        .primaryObjRef(defaultTestObjectReference().build())
+        .state(state)
+        .completed(completed);
+  }
+}
@@ -25,6 +25,7 @@ import pro.taskana.task.api.TaskService;
 import pro.taskana.task.api.TaskState;
 import pro.taskana.task.api.models.ObjectReference;
 import pro.taskana.task.api.models.TaskSummary;
+import pro.taskana.task.internal.jobs.TaskArchiveJob;
 import pro.taskana.task.internal.jobs.TaskCleanupJob;
 import pro.taskana.testapi.DefaultTestEntities;
 import pro.taskana.testapi.TaskanaConfigurationModifier;
@@ -287,4 +288,116 @@ class TaskCleanupJobAccTest {
       return DynamicTest.stream(iterator, c -> "for parentBusinessProcessId = '" + c + "'", test);
     }
   }
+
+  @Nested
+  @TestInstance(Lifecycle.PER_CLASS)
+  class CleanCompletedTasksInChunks implements TaskanaConfigurationModifier {
+
+    @TaskanaInject TaskanaEngine taskanaEngine;
+
+    @Override
+    public Builder modify(Builder builder) {
+      return builder
+          .jobBatchSize(2)
+          .taskCleanupJobMinimumAge(Duration.ofDays(5))
+          .taskCleanupJobAllCompletedSameParentBusiness(true);
+    }
+
+    @WithAccessId(user = "admin")
+    @Test
+    void should_CheckParentBusinessProcessAcrossChunks_When_TasksExceedBatchSize()
+        throws Exception {
+      WorkbasketSummary workbasket =
+          DefaultTestEntities.defaultTestWorkbasket().buildAndStoreAsSummary(workbasketService);
+      TaskBuilder taskBuilder =
+          TaskBuilder.newTask()
+              .workbasketSummary(workbasket)
+              .classificationSummary(classification)
+              .primaryObjRef(primaryObjRef)
+              .state(TaskState.COMPLETED)
+              .completed(Instant.now().minus(10, ChronoUnit.DAYS));
+      for (int i = 0; i < 3; i++) {
+        taskBuilder.parentBusinessProcessId("ChunkedParentProcessId_1");
+        taskBuilder.buildAndStoreAsSummary(taskService);
+        taskBuilder.parentBusinessProcessId(null).buildAndStoreAsSummary(taskService);
+      }
+      TaskSummary taskSummaryCompleted =
+          taskBuilder
+              .parentBusinessProcessId("ChunkedParentProcessId_2")
+              .buildAndStoreAsSummary(taskService);
+      TaskSummary taskSummaryClaimed =
+          taskBuilder.state(TaskState.CLAIMED).completed(null).buildAndStoreAsSummary(taskService);
+
+      TaskCleanupJob job = new TaskCleanupJob(taskanaEngine, null, null);
+      job.run();
+
+      List<TaskSummary> taskSummaries = taskService.createTaskQuery().list();
+      assertThat(taskSummaries)
+          .filteredOn(t -> t.getWorkbasketSummary().equals(workbasket))
+          .containsExactlyInAnyOrder(taskSummaryCompleted, taskSummaryClaimed);
+    }
+  }
+
+  @Nested
+  @TestInstance(Lifecycle.PER_CLASS)
+  class CleanArchivedTasks implements TaskanaConfigurationModifier {
+
+    @TaskanaInject TaskanaEngine taskanaEngine;
+
+    @Override
+    public Builder modify(Builder builder) {
+      return builder
+          .taskArchiveJobMinimumAge(Duration.ofDays(5))
+          .taskCleanupJobMinimumAge(Duration.ofDays(10))
+          .taskCleanupJobAllCompletedSameParentBusiness(true);
+    }
+
+    @WithAccessId(user = "admin")
+    @Test
+    void should_CleanArchivedTasks_When_CompletedTimestampIsOlderThenTaskCleanupJobMinimumAge()
+        throws Exception {
+      WorkbasketSummary workbasket =
+          DefaultTestEntities.defaultTestWorkbasket().buildAndStoreAsSummary(workbasketService);
+      TaskBuilder taskBuilder =
+          TaskBuilder.newTask()
+              .workbasketSummary(workbasket)
+              .classificationSummary(classification)
+              .primaryObjRef(primaryObjRef)
+              .state(TaskState.COMPLETED)
+              .completed(Instant.now().minus(20, ChronoUnit.DAYS));
+      final TaskSummary taskSummaryToDelete = taskBuilder.buildAndStoreAsSummary(taskService);
+      final TaskSummary taskSummaryWithActiveSibling =
+          taskBuilder
+              .parentBusinessProcessId("ArchivedParentProcessId")
+              .buildAndStoreAsSummary(taskService);
+      final TaskSummary taskSummaryTooYoung =
+          taskBuilder
+              .parentBusinessProcessId(null)
+              .completed(Instant.now().minus(7, ChronoUnit.DAYS))
+              .buildAndStoreAsSummary(taskService);
+      TaskSummary taskSummaryClaimed =
+          taskBuilder
+              .parentBusinessProcessId("ArchivedParentProcessId")
+              .state(TaskState.CLAIMED)
+              .completed(null)
+              .buildAndStoreAsSummary(taskService);
+      new TaskArchiveJob(taskanaEngine, null, null).run();
+
+      TaskCleanupJob job = new TaskCleanupJob(taskanaEngine, null, null);
+      job.run();
+
+      List<TaskSummary> taskSummaries =
+          taskService.createTaskQuery().workbasketIdIn(workbasket.getId()).list();
+      assertThat(taskSummaries).containsExactly(taskSummaryClaimed);
+      List<TaskSummary> allTaskSummaries =
+          taskService.createTaskQuery().workbasketIdIn(workbasket.getId()).includeArchived().list();
+      assertThat(allTaskSummaries)
+          .extracting(TaskSummary::getId)
+          .containsExactlyInAnyOrder(
+              taskSummaryWithActiveSibling.getId(),
+              taskSummaryTooYoung.getId(),
+              taskSummaryClaimed.getId())
+          .doesNotContain(taskSummaryToDelete.getId());
+    }
+  }
 }
@@ -0,0 +1,152 @@
+package acceptance.jobs;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import acceptance.jobs.TaskUpdatePriorityJobWithWorkersAccTest.TestVariablePriorityServiceProvider;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import pro.taskana.TaskanaConfiguration.Builder;
+import pro.taskana.classification.api.ClassificationService;
+import pro.taskana.classification.api.models.ClassificationSummary;
+import pro.taskana.common.api.JobService;
+import pro.taskana.common.api.ScheduledJob;
+import pro.taskana.common.api.TaskanaEngine;
+import pro.taskana.common.internal.JobServiceImpl;
+import pro.taskana.spi.priority.api.PriorityServiceProvider;
+import pro.taskana.task.api.TaskService;
+import pro.taskana.task.api.models.TaskSummary;
+import pro.taskana.task.internal.jobs.TaskUpdatePriorityJob;
+import pro.taskana.testapi.DefaultTestEntities;
+import pro.taskana.testapi.TaskanaConfigurationModifier;
+import pro.taskana.testapi.TaskanaInject;
+import pro.taskana.testapi.TaskanaIntegrationTest;
+import pro.taskana.testapi.WithServiceProvider;
+import pro.taskana.testapi.builder.TaskBuilder;
+import pro.taskana.testapi.builder.WorkbasketAccessItemBuilder;
+import pro.taskana.testapi.security.WithAccessId;
+import pro.taskana.workbasket.api.WorkbasketPermission;
+import pro.taskana.workbasket.api.WorkbasketService;
+import pro.taskana.workbasket.api.models.WorkbasketSummary;
+
+@TaskanaIntegrationTest
+@WithServiceProvider(
+    serviceProviderInterface = PriorityServiceProvider.class,
+    serviceProviders = TestVariablePriorityServiceProvider.class)
+class TaskUpdatePriorityJobWithWorkersAccTest implements TaskanaConfigurationModifier {
+
+  private static final AtomicInteger SPI_PRIORITY = new AtomicInteger(1);
+
+  @TaskanaInject TaskanaEngine taskanaEngine;
+  @TaskanaInject TaskService taskService;
+  @TaskanaInject JobService jobService;
+
+  ClassificationSummary classificationSummary;
+  WorkbasketSummary workbasketSummary;
+
+  @Override
+  public Builder modify(Builder builder) {
+    return builder.taskUpdatePriorityJobBatchSize(2).taskUpdatePriorityJobWorkerCount(3);
+  }
+
+  @WithAccessId(user = "admin")
+  @BeforeAll
+  void setup(ClassificationService classificationService, WorkbasketService workbasketService)
+      throws Exception {
+    classificationSummary =
+        DefaultTestEntities.defaultTestClassification()
+            .buildAndStoreAsSummary(classificationService);
+    workbasketSummary =
+        DefaultTestEntities.defaultTestWorkbasket().buildAndStoreAsSummary(workbasketService);
+    WorkbasketAccessItemBuilder.newWorkbasketAccessItem()
+        .workbasketId(workbasketSummary.getId())
+        .accessId("whatever")
+        .permission(WorkbasketPermission.READ)
+        .permission(WorkbasketPermission.READTASKS)
+        .buildAndStore(workbasketService);
+  }
+
+  @WithAccessId(user = "admin")
+  @Test
+  void should_UpdatePriorityOfAllTasks_When_RunningWithSeveralWorkers() throws Exception {
+    SPI_PRIORITY.set(1);
+    List<String> taskIds = createTasks(7);
+
+    SPI_PRIORITY.set(2);
+    new TaskUpdatePriorityJob(taskanaEngine).execute();
+
+    assertThat(getTaskSummaries(taskIds)).extracting(TaskSummary::getPriority).containsOnly(2);
+  }
+
+  @WithAccessId(user = "admin")
+  @Test
+  void should_ResumeAfterLastProcessedTaskId_When_JobIsRunAgain() throws Exception {
+    SPI_PRIORITY.set(3);
+    List<String> taskIds = createTasks(5);
+    taskIds.sort(null);
+    String lastProcessedTaskId = taskIds.get(1);
+    ScheduledJob scheduledJob = createScheduledJob(lastProcessedTaskId);
+
+    SPI_PRIORITY.set(4);
+    new TaskUpdatePriorityJob(taskanaEngine, null, scheduledJob).execute();
+
+    assertThat(getTaskSummaries(taskIds.subList(0, 2)))
+        .extracting(TaskSummary::getPriority)
+        .containsOnly(3);
+    assertThat(getTaskSummaries(taskIds.subList(2, 5)))
+        .extracting(TaskSummary::getPriority)
+        .containsOnly(4);
+    assertThat(findTaskUpdatePriorityJob().getArguments())
+        .extractingByKey(TaskUpdatePriorityJob.LAST_PROCESSED_TASK_ID)
+        .asString()
+        .isGreaterThanOrEqualTo(taskIds.get(4));
+  }
+
+  private List<String> createTasks(int count) throws Exception {
+    List<String> taskIds = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      taskIds.add(
+          TaskBuilder.newTask()
+              .classificationSummary(classificationSummary)
+              .workbasketSummary(workbasketSummary)
+              .primaryObjRef(DefaultTestEntities.defaultTestObjectReference().build())
+              .buildAndStore(taskService)
+              .getId());
+    }
+    return taskIds;
+  }
+
+  private List<TaskSummary> getTaskSummaries(List<String> taskIds) {
+    return taskService.createTaskQuery().idIn(taskIds.toArray(new String[0])).list();
+  }
+
+  private ScheduledJob createScheduledJob(String lastProcessedTaskId) {
+    ScheduledJob job = new ScheduledJob();
+    job.setType(TaskUpdatePriorityJob.class.getName());
+    job.setDue(Instant.now().minus(1, ChronoUnit.DAYS));
+    job.setArguments(Map.of(TaskUpdatePriorityJob.LAST_PROCESSED_TASK_ID, lastProcessedTaskId));
+    jobService.createJob(job);
+    return findTaskUpdatePriorityJob();
+  }
+
+  private ScheduledJob findTaskUpdatePriorityJob() {
+    List<ScheduledJob> jobs = ((JobServiceImpl) jobService).findJobsToRun();
+    return jobs.stream()
+        .filter(job -> TaskUpdatePriorityJob.class.getName().equals(job.getType()))
+        .findFirst()
+        .orElseThrow();
+  }
+
+  static class TestVariablePriorityServiceProvider implements PriorityServiceProvider {
+    @Override
+    public OptionalInt calculatePriority(TaskSummary taskSummary) {
+      return OptionalInt.of(SPI_PRIORITY.get());
+    }
+  }
+}
@@ -1,21 +1,30 @@
 package acceptance.jobs.helper;
 
+import static acceptance.jobs.helper.TaskUpdatePriorityWorkerAccTest.WithBatchSpi.BatchPriorityServiceProvider.BATCH_CALLS;
+import static acceptance.jobs.helper.TaskUpdatePriorityWorkerAccTest.WithBatchSpi.BatchPriorityServiceProvider.BATCH_PRIORITY;
 import static acceptance.jobs.helper.TaskUpdatePriorityWorkerAccTest.WithSpi.DummyPriorityServiceProvider.SPI_PRIORITY;
 import static org.assertj.core.api.Assertions.assertThat;
 
+import acceptance.jobs.helper.TaskUpdatePriorityWorkerAccTest.WithBatchSpi.BatchPriorityServiceProvider;
+import acceptance.jobs.helper.TaskUpdatePriorityWorkerAccTest.WithBatchSpi.OtherBatchPriorityServiceProvider;
 import acceptance.jobs.helper.TaskUpdatePriorityWorkerAccTest.WithSpi.DummyPriorityServiceProvider;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.OptionalInt;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.IntPredicate;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
 import org.junit.jupiter.api.TestInstance.Lifecycle;
+import pro.taskana.TaskanaConfiguration.Builder;
 import pro.taskana.classification.api.ClassificationService;
 import pro.taskana.classification.api.models.ClassificationSummary;
 import pro.taskana.common.api.TaskanaEngine;
+import pro.taskana.common.internal.TaskanaEngineImpl;
+import pro.taskana.common.internal.jobs.JobShard;
 import pro.taskana.spi.priority.api.PriorityServiceProvider;
 import pro.taskana.task.api.TaskService;
 import pro.taskana.task.api.TaskState;
@@ -24,6 +33,7 @@ import pro.taskana.task.api.models.TaskSummary;
 import pro.taskana.task.internal.jobs.helper.TaskUpdatePriorityWorker;
 import pro.taskana.task.internal.models.TaskImpl;
 import pro.taskana.testapi.DefaultTestEntities;
+import pro.taskana.testapi.TaskanaConfigurationModifier;
 import pro.taskana.testapi.TaskanaInject;
 import pro.taskana.testapi.TaskanaIntegrationTest;
 import pro.taskana.testapi.WithServiceProvider;
@@ -90,6 +100,40 @@ class TaskUpdatePriorityWorkerAccTest {
     assertThat(allRelevantTaskIds).containsExactlyInAnyOrder(task1.getId(), task2.getId());
   }
 
+  @Test
+  @WithAccessId(user = "admin")
+  void should_LoadRelevantTaskIdsPageByPage() {
+    // when
+    List<String> allRelevantTaskIds = new ArrayList<>();
+    List<String> page = worker.getRelevantTaskIdsAfter(null, 1);
+    while (!page.isEmpty()) {
+      assertThat(page).hasSize(1);
+      allRelevantTaskIds.addAll(page);
+      page = worker.getRelevantTaskIdsAfter(page.get(0), 1);
+    }
+
+    // then
+    assertThat(allRelevantTaskIds)
+        .isSorted()
+        .contains(task1.getId(), task2.getId())
+        .doesNotContain(completedTask.getId());
+  }
+
+  @Test
+  @WithAccessId(user = "admin")
+  void should_SplitRelevantTaskIdsIntoDisjointShards() {
+    // when
+    List<String> shardedTaskIds = new ArrayList<>();
+    for (int i = 0; i < 3; i++) {
+      shardedTaskIds.addAll(worker.getRelevantTaskIdsAfter(null, 1000, new JobShard(i, 3)));
+    }
+
+    // then
+    assertThat(shardedTaskIds)
+        .doesNotHaveDuplicates()
+        .containsExactlyInAnyOrderElementsOf(worker.getRelevantTaskIdsAfter(null, 1000));
+  }
+
   @Test
   @WithAccessId(user = "admin")
   void should_LoadExistingTaskIds() {
@@ -156,6 +200,9 @@ class TaskUpdatePriorityWorkerAccTest {
       Task updatedTask = taskService.getTask(oldTask.getId());
       assertThat(updatedTaskIds).containsExactly(oldTask.getId());
       assertThat(updatedTask.getPriority()).isEqualTo(SPI_PRIORITY);
+
+      // the task would be found by the tests of the relevant task ids
+      taskService.forceDeleteTask(oldTask.getId());
     }
 
     class DummyPriorityServiceProvider implements PriorityServiceProvider {
@@ -167,4 +214,107 @@ class TaskUpdatePriorityWorkerAccTest {
       }
     }
   }
+
+  @Nested
+  @WithServiceProvider(
+      serviceProviderInterface = PriorityServiceProvider.class,
+      serviceProviders = {
+        BatchPriorityServiceProvider.class,
+        OtherBatchPriorityServiceProvider.class
+      })
+  @TestInstance(Lifecycle.PER_CLASS)
+  class WithBatchSpi implements TaskanaConfigurationModifier {
+
+    @TaskanaInject TaskanaEngine taskanaEngine;
+    @TaskanaInject TaskService taskService;
+    TaskUpdatePriorityWorker worker;
+
+    @Override
+    public Builder modify(Builder builder) {
+      return builder.priorityServiceProviderParallelism(2);
+    }
+
+    @BeforeAll
+    void setup() {
+      worker = new TaskUpdatePriorityWorker(taskanaEngine);
+    }
+
+    @Test
+    @WithAccessId(user = "admin")
+    void should_CallEachProviderPerSubBatchInParallel_When_ExecutingBatch() throws Exception {
+      Task task1 = createTask();
+      Task task2 = createTask();
+      Task task3 = createTask();
+      BATCH_CALLS.clear();
+
+      List<String> updatedTaskIds =
+          worker.executeBatch(List.of(task1.getId(), task2.getId(), task3.getId()));
+
+      assertThat(updatedTaskIds)
+          .containsExactlyInAnyOrder(task1.getId(), task2.getId(), task3.getId());
+      assertThat(taskService.getTask(task1.getId()).getPriority()).isEqualTo(BATCH_PRIORITY);
+      assertThat(taskService.getTask(task2.getId()).getPriority()).isEqualTo(BATCH_PRIORITY);
+      assertThat(taskService.getTask(task3.getId()).getPriority()).isEqualTo(BATCH_PRIORITY);
+      // the 3 tasks are split into 2 sub-batches, which are calculated by both providers
+      assertThat(BATCH_CALLS)
+          .hasSize(4)
+          .allSatisfy(
+              call -> {
+                assertThat(call.threadName()).startsWith("taskana-priority-");
+                assertThat(call.userId()).isEqualTo("admin");
+              })
+          .extracting(BatchCall::numberOfTasks)
+          .containsExactlyInAnyOrder(2, 1, 2, 1);
+      assertThat(
+              ((TaskanaEngineImpl) taskanaEngine).getPriorityServiceManager().getCalculationTimes())
+          .containsOnlyKeys(
+              BatchPriorityServiceProvider.class.getName(),
+              OtherBatchPriorityServiceProvider.class.getName());
+
+      // the tasks would be found by the tests of the relevant task ids
+      for (Task task : List.of(task1, task2, task3)) {
+        taskService.forceDeleteTask(task.getId());
+      }
+    }
+
+    private Task createTask() throws Exception {
+      return TaskBuilder.newTask()
+          .classificationSummary(classificationSummary)
+          .workbasketSummary(workbasketSummary)
+          .priority(1337)
+          .primaryObjRef(DefaultTestEntities.defaultTestObjectReference().build())
+          .buildAndStore(taskService);
+    }
+
+    record BatchCall(String threadName, String userId, int numberOfTasks) {}
+
+    class BatchPriorityServiceProvider implements PriorityServiceProvider {
+      static final int BATCH_PRIORITY = 20;
+      static final List<BatchCall> BATCH_CALLS = new CopyOnWriteArrayList<>();
+
+      private TaskanaEngine taskanaEngine;
+
+      @Override
+      public void initialize(TaskanaEngine taskanaEngine) {
+        this.taskanaEngine = taskanaEngine;
+      }
+
+      @Override
+      public OptionalInt calculatePriority(TaskSummary taskSummary) {
+        return OptionalInt.of(BATCH_PRIORITY);
+      }
+
+      @Override
+      public List<OptionalInt> calculatePriorities(List<TaskSummary> taskSummaries) {
+        BATCH_CALLS.add(
+            new BatchCall(
+                Thread.currentThread().getName(),
+                taskanaEngine.getCurrentUserContext().getUserid(),
+                taskSummaries.size()));
+        return taskSummaries.stream().map(this::calculatePriority).toList();
+      }
+    }
+
+    class OtherBatchPriorityServiceProvider extends BatchPriorityServiceProvider {}
+  }
 }
@@ -0,0 +1,193 @@
+package acceptance.report;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static pro.taskana.common.internal.util.CheckedSupplier.wrap;
+import static pro.taskana.testapi.DefaultTestEntities.defaultTestClassification;
+import static pro.taskana.testapi.DefaultTestEntities.defaultTestObjectReference;
+import static pro.taskana.testapi.DefaultTestEntities.defaultTestWorkbasket;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import pro.taskana.TaskanaConfiguration.Builder;
+import pro.taskana.classification.api.ClassificationService;
+import pro.taskana.classification.api.models.ClassificationSummary;
+import pro.taskana.common.api.TaskanaEngine;
+import pro.taskana.common.api.exceptions.NotAuthorizedException;
+import pro.taskana.common.internal.TaskanaEngineImpl;
+import pro.taskana.monitor.api.MonitorService;
+import pro.taskana.monitor.api.reports.WorkbasketReport;
+import pro.taskana.monitor.api.reports.item.MonitorQueryItem;
+import pro.taskana.monitor.internal.ReportCache;
+import pro.taskana.task.api.TaskService;
+import pro.taskana.task.api.TaskState;
+import pro.taskana.testapi.TaskanaConfigurationModifier;
+import pro.taskana.testapi.TaskanaInject;
+import pro.taskana.testapi.TaskanaIntegrationTest;
+import pro.taskana.testapi.builder.TaskBuilder;
+import pro.taskana.testapi.security.WithAccessId;
+import pro.taskana.workbasket.api.WorkbasketService;
+import pro.taskana.workbasket.api.models.WorkbasketSummary;
+
+@TaskanaIntegrationTest
+class ProvideReportWithReportCacheAccTest implements TaskanaConfigurationModifier {
+
+  @TaskanaInject TaskanaEngine taskanaEngine;
+  @TaskanaInject TaskService taskService;
+  @TaskanaInject MonitorService monitorService;
+  @TaskanaInject ClassificationService classificationService;
+  @TaskanaInject WorkbasketService workbasketService;
+
+  ReportCache reportCache;
+  ClassificationSummary classification;
+
+  @Override
+  public Builder modify(Builder builder) {
+    return builder.reportCacheTimeToLive(Duration.ofHours(1));
+  }
+
+  @WithAccessId(user = "admin")
+  @BeforeAll
+  void setup() throws Exception {
+    reportCache = ((TaskanaEngineImpl) taskanaEngine).getReportCache();
+    classification = defaultTestClassification().buildAndStoreAsSummary(classificationService);
+  }
+
+  @WithAccessId(user = "monitor")
+  @Test
+  void should_ServeReportFromCache_When_IdenticalReportIsRequestedAgain() throws Exception {
+    List<WorkbasketSummary> workbaskets = createWorkbasketsWithTask();
+    WorkbasketReport report =
+        monitorService
+            .createWorkbasketReportBuilder()
+            .workbasketIdIn(List.of(workbaskets.get(0).getId(), workbaskets.get(1).getId()))
+            .buildReport();
+    createTask(workbaskets.get(0));
+    long hits = reportCache.getHitCount();
+
+    WorkbasketReport cachedReport =
+        monitorService
+            .createWorkbasketReportBuilder()
+            .workbasketIdIn(List.of(workbaskets.get(1).getId(), workbaskets.get(0).getId()))
+            .buildReport();
+
+    assertThat(cachedReport.getSumRow().getTotalValue()).isEqualTo(2);
+    assertThat(cachedReport.rowTitles()).isEqualTo(report.rowTitles());
+    assertThat(reportCache.getHitCount()).isEqualTo(hits + 1);
+  }
+
+  @WithAccessId(user = "monitor")
+  @Test
+  void should_NotShareReport_When_IdenticalReportIsRequestedAgain() throws Exception {
+    List<WorkbasketSummary> workbaskets = createWorkbasketsWithTask();
+    WorkbasketReport report =
+        monitorService
+            .createWorkbasketReportBuilder()
+            .workbasketIdIn(List.of(workbaskets.get(0).getId(), workbaskets.get(1).getId()))
+            .buildReport();
+    MonitorQueryItem item = new MonitorQueryItem();
+    item.setKey(workbaskets.get(0).getKey());
+    item.setNumberOfTasks(5);
+    report.addItem(item);
+    report.getRows().remove(workbaskets.get(1).getKey());
+    long hits = reportCache.getHitCount();
+
+    WorkbasketReport cachedReport =
+        monitorService
+            .createWorkbasketReportBuilder()
+            .workbasketIdIn(List.of(workbaskets.get(0).getId(), workbaskets.get(1).getId()))
+            .buildReport();
+
+    assertThat(cachedReport).isNotSameAs(report);
+    assertThat(cachedReport.rowSize()).isEqualTo(2);
+    assertThat(cachedReport.getSumRow().getTotalValue()).isEqualTo(2);
+    assertThat(reportCache.getHitCount()).isEqualTo(hits + 1);
+  }
+
+  @WithAccessId(user = "monitor")
+  @Test
+  void should_ComputeReport_When_FiltersOfReportDiffer() throws Exception {
+    List<WorkbasketSummary> workbaskets = createWorkbasketsWithTask();
+    List<String> workbasketIds = List.of(workbaskets.get(0).getId(), workbaskets.get(1).getId());
+    monitorService.createWorkbasketReportBuilder().workbasketIdIn(workbasketIds).buildReport();
+    createTask(workbaskets.get(0));
+    long misses = reportCache.getMissCount();
+
+    WorkbasketReport report =
+        monitorService
+            .createWorkbasketReportBuilder()
+            .workbasketIdIn(workbasketIds)
+            .stateIn(List.of(TaskState.READY))
+            .buildReport();
+
+    assertThat(report.getSumRow().getTotalValue()).isEqualTo(3);
+    assertThat(reportCache.getMissCount()).isEqualTo(misses + 1);
+  }
+
+  @WithAccessId(user = "user-1-1")
+  @Test
+  void should_ThrowException_When_UserIsNotAuthorizedForCachedReport() {
+    assertThatThrownBy(() -> monitorService.createWorkbasketReportBuilder().buildReport())
+        .isInstanceOf(NotAuthorizedException.class);
+  }
+
+  @Test
+  void should_ComputeReportOnlyOnce_When_IdenticalReportsAreRequestedConcurrently()
+      throws Exception {
+    ReportCache cache = new ReportCache(Duration.ofHours(1));
+    AtomicInteger computations = new AtomicInteger();
+    CountDownLatch computationStarted = new CountDownLatch(1);
+    CountDownLatch computationReleased = new CountDownLatch(1);
+
+    final CompletableFuture<String> first =
+        CompletableFuture.supplyAsync(
+            wrap(
+                () ->
+                    cache.get(
+                        "key",
+                        () -> {
+                          computations.incrementAndGet();
+                          computationStarted.countDown();
+                          computationReleased.await(10, TimeUnit.SECONDS);
+                          return "report";
+                        })));
+    computationStarted.await(10, TimeUnit.SECONDS);
+    CompletableFuture<String> second =
+        CompletableFuture.supplyAsync(
+            () -> cache.get("key", () -> "report" + computations.incrementAndGet()));
+    while (cache.getCoalescedCount() == 0 && !second.isDone()) {
+      Thread.onSpinWait();
+    }
+    computationReleased.countDown();
+
+    assertThat(first.get(10, TimeUnit.SECONDS)).isEqualTo("report");
+    assertThat(second.get(10, TimeUnit.SECONDS)).isEqualTo("report");
+    assertThat(computations).hasValue(1);
+    assertThat(cache.getCoalescedCount()).isOne();
+    assertThat(cache.getMissCount()).isOne();
+  }
+
+  private List<WorkbasketSummary> createWorkbasketsWithTask() throws Exception {
+    WorkbasketSummary workbasket1 =
+        defaultTestWorkbasket().buildAndStoreAsSummary(workbasketService, "admin");
+    WorkbasketSummary workbasket2 =
+        defaultTestWorkbasket().buildAndStoreAsSummary(workbasketService, "admin");
+    createTask(workbasket1);
+    createTask(workbasket2);
+    return List.of(workbasket1, workbasket2);
+  }
+
+  private void createTask(WorkbasketSummary workbasket) throws Exception {
+    TaskBuilder.newTask()
+        .classificationSummary(classification)
+        .workbasketSummary(workbasket)
+        .primaryObjRef(defaultTestObjectReference().build())
+        .buildAndStore(taskService, "admin");
+  }
+}
@@ -0,0 +1,242 @@
+package acceptance.task.claim;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static pro.taskana.testapi.DefaultTestEntities.defaultTestClassification;
+import static pro.taskana.testapi.DefaultTestEntities.defaultTestObjectReference;
+import static pro.taskana.testapi.DefaultTestEntities.defaultTestWorkbasket;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import pro.taskana.classification.api.ClassificationService;
+import pro.taskana.classification.api.models.ClassificationSummary;
+import pro.taskana.common.api.TaskanaEngine;
+import pro.taskana.common.api.exceptions.InvalidArgumentException;
+import pro.taskana.common.internal.util.CheckedRunnable;
+import pro.taskana.common.internal.util.CheckedSupplier;
+import pro.taskana.task.api.TaskService;
+import pro.taskana.task.api.TaskState;
+import pro.taskana.task.api.models.ObjectReference;
+import pro.taskana.task.api.models.Task;
+import pro.taskana.task.api.models.TaskSummary;
+import pro.taskana.testapi.TaskanaEngineProxy;
+import pro.taskana.testapi.TaskanaInject;
+import pro.taskana.testapi.TaskanaIntegrationTest;
+import pro.taskana.testapi.builder.TaskBuilder;
+import pro.taskana.testapi.builder.WorkbasketAccessItemBuilder;
+import pro.taskana.testapi.security.WithAccessId;
+import pro.taskana.workbasket.api.WorkbasketPermission;
+import pro.taskana.workbasket.api.WorkbasketService;
+import pro.taskana.workbasket.api.models.WorkbasketSummary;
+
+@TaskanaIntegrationTest
+class SelectAndClaimTasksAccTest {
+  @TaskanaInject TaskService taskService;
+  @TaskanaInject WorkbasketService workbasketService;
+  @TaskanaInject TaskanaEngine taskanaEngine;
+
+  ClassificationSummary defaultClassificationSummary;
+  ObjectReference defaultObjectReference;
+
+  @WithAccessId(user = "businessadmin")
+  @BeforeAll
+  void setup(ClassificationService classificationService) throws Exception {
+    defaultClassificationSummary =
+        defaultTestClassification().buildAndStoreAsSummary(classificationService);
+    defaultObjectReference = defaultTestObjectReference().build();
+  }
+
+  @WithAccessId(user = "user-1-2")
+  @Test
+  void should_ClaimUpToMaxTasks_When_MoreTasksAreReady() throws Exception {
+    WorkbasketSummary workbasket = createWorkbasket(true);
+    List<String> readyTaskIds = new ArrayList<>();
+    for (int i = 0; i < 5; i++) {
+      readyTaskIds.add(createTask(workbasket, TaskState.READY).getId());
+    }
+
+    List<TaskSummary> claimedTasks =
+        taskService.selectAndClaim(
+            taskService.createTaskQuery().workbasketIdIn(workbasket.getId()), 3);
+
+    assertThat(claimedTasks)
+        .hasSize(3)
+        .allSatisfy(
+            task -> {
+              assertThat(readyTaskIds).contains(task.getId());
+              assertThat(task.getState()).isEqualTo(TaskState.CLAIMED);
+              assertThat(task.getOwner()).isEqualTo("user-1-2");
+              assertThat(task.isRead()).isTrue();
+              assertThat(task.getClaimed()).isNotNull().isEqualTo(task.getModified());
+            });
+    for (TaskSummary claimedTask : claimedTasks) {
+      Task readTask = taskService.getTask(claimedTask.getId());
+      assertThat(readTask.getState()).isEqualTo(TaskState.CLAIMED);
+      assertThat(readTask.getOwner()).isEqualTo("user-1-2");
+      assertThat(readTask.getClaimed()).isEqualTo(claimedTask.getClaimed());
+    }
+    assertThat(
+            taskService
+                .createTaskQuery()
+                .workbasketIdIn(workbasket.getId())
+                .stateIn(TaskState.READY)
+                .count())
+        .isEqualTo(2);
+  }
+
+  @WithAccessId(user = "user-1-2")
+  @Test
+  void should_OnlyClaimReadyTasks_When_QueryReturnsTasksInOtherStates() throws Exception {
+    WorkbasketSummary workbasket = createWorkbasket(true);
+    Task readyTask = createTask(workbasket, TaskState.READY);
+    createTask(workbasket, TaskState.READY_FOR_REVIEW);
+    createTask(workbasket, TaskState.COMPLETED);
+
+    List<TaskSummary> claimedTasks =
+        taskService.selectAndClaim(
+            taskService.createTaskQuery().workbasketIdIn(workbasket.getId()), 10);
+
+    assertThat(claimedTasks).extracting(TaskSummary::getId).containsExactly(readyTask.getId());
+  }
+
+  @WithAccessId(user = "user-1-2")
+  @Test
+  void should_NotClaimTasks_When_ReadyTaskIsOwnedByAnotherUser() throws Exception {
+    WorkbasketSummary workbasket = createWorkbasket(true);
+    Task ownTask = createTask(workbasket, TaskState.READY, "user-1-2");
+    Task foreignTask = createTask(workbasket, TaskState.READY, "user-1-1");
+
+    List<TaskSummary> claimedTasks =
+        taskService.selectAndClaim(
+            taskService.createTaskQuery().workbasketIdIn(workbasket.getId()), 10);
+
+    assertThat(claimedTasks).extracting(TaskSummary::getId).containsExactly(ownTask.getId());
+    Task readForeignTask = taskService.getTask(foreignTask.getId());
+    assertThat(readForeignTask.getState()).isEqualTo(TaskState.READY);
+    assertThat(readForeignTask.getOwner()).isEqualTo("user-1-1");
+  }
+
+  @WithAccessId(user = "user-1-2")
+  @Test
+  void should_NotClaimTasks_When_UserHasNoEditTasksPermission() throws Exception {
+    WorkbasketSummary workbasket = createWorkbasket(false);
+    Task task = createTask(workbasket, TaskState.READY);
+
+    List<TaskSummary> claimedTasks =
+        taskService.selectAndClaim(
+            taskService.createTaskQuery().workbasketIdIn(workbasket.getId()), 10);
+
+    assertThat(claimedTasks).isEmpty();
+    assertThat(taskService.getTask(task.getId()).getState()).isEqualTo(TaskState.READY);
+  }
+
+  @WithAccessId(user = "user-1-2")
+  @Test
+  void should_SkipTasksLockedByAnotherTransaction_When_ClaimingConcurrently() throws Exception {
+    WorkbasketSummary workbasket = createWorkbasket(true);
+    for (int i = 0; i < 4; i++) {
+      createTask(workbasket, TaskState.READY);
+    }
+    List<List<TaskSummary>> concurrentlyClaimedTasks = new ArrayList<>();
+
+    List<TaskSummary> claimedTasks =
+        new TaskanaEngineProxy(taskanaEngine)
+            .getEngine()
+            .executeInDatabaseTransaction(
+                () -> {
+                  List<TaskSummary> tasks =
+                      CheckedSupplier.wrap(
+                              () ->
+                                  taskService.selectAndClaim(
+                                      taskService
+                                          .createTaskQuery()
+                                          .workbasketIdIn(workbasket.getId()),
+                                      2))
+                          .get();
+                  // the claimed Tasks stay locked until this transaction is committed
+                  Thread claimer =
+                      new Thread(
+                          () ->
+                              concurrentlyClaimedTasks.add(
+                                  CheckedSupplier.wrap(
+                                          () ->
+                                              taskService.selectAndClaim(
+                                                  taskService
+                                                      .createTaskQuery()
+                                                      .workbasketIdIn(workbasket.getId()),
+                                                  4))
+                                      .get()));
+                  claimer.start();
+                  CheckedRunnable.wrap(claimer::join).run();
+                  return tasks;
+                });
+
+    assertThat(claimedTasks).hasSize(2);
+    assertThat(concurrentlyClaimedTasks)
+        .singleElement()
+        .satisfies(
+            tasks ->
+                assertThat(tasks)
+                    .extracting(TaskSummary::getId)
+                    .hasSize(2)
+                    .doesNotContainAnyElementsOf(
+                        claimedTasks.stream().map(TaskSummary::getId).toList()));
+  }
+
+  @WithAccessId(user = "user-1-2")
+  @Test
+  void should_ThrowException_When_MaxTasksIsNotPositive() {
+    assertThatThrownBy(() -> taskService.selectAndClaim(taskService.createTaskQuery(), 0))
+        .isInstanceOf(InvalidArgumentException.class);
+  }
+
+  @WithAccessId(user = "user-1-2")
+  @Test
+  void should_ThrowException_When_UsingLockResultsWithSelectAndClaimOfSeveralTasks() {
+    assertThatThrownBy(
+            () -> taskService.selectAndClaim(taskService.createTaskQuery().lockResultsEquals(5), 3))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage(
+            "The params \"lockResultsEquals\" and \"selectAndClaim\" cannot be used together!");
+  }
+
+  private WorkbasketSummary createWorkbasket(boolean editTasks) throws Exception {
+    WorkbasketSummary workbasket =
+        defaultTestWorkbasket().buildAndStoreAsSummary(workbasketService, "businessadmin");
+    WorkbasketAccessItemBuilder accessItem =
+        WorkbasketAccessItemBuilder.newWorkbasketAccessItem()
+            .workbasketId(workbasket.getId())
+            .accessId("user-1-2")
+            .permission(WorkbasketPermission.OPEN)
+            .permission(WorkbasketPermission.READ)
+            .permission(WorkbasketPermission.READTASKS)
+            .permission(WorkbasketPermission.APPEND);
+    if (editTasks) {
+      accessItem.permission(WorkbasketPermission.EDITTASKS);
+    }
+    accessItem.buildAndStore(workbasketService, "businessadmin");
+    return workbasket;
+  }
+
+  private Task createTask(WorkbasketSummary workbasket, TaskState state) throws Exception {
+    return createTask(workbasket, state, null);
+  }
+
+  private Task createTask(WorkbasketSummary workbasket, TaskState state, String owner)
+      throws Exception {
+    TaskBuilder taskBuilder =
+        TaskBuilder.newTask()
+            .state(state)
+            .classificationSummary(defaultClassificationSummary)
+            .workbasketSummary(workbasket)
+            .primaryObjRef(defaultObjectReference)
+            .owner(owner);
+    if (state == TaskState.COMPLETED) {
+      taskBuilder.claimed(Instant.now()).completed(Instant.now()).owner("user-1-2");
+    }
+    return taskBuilder.buildAndStore(taskService, "admin");
+  }
+}
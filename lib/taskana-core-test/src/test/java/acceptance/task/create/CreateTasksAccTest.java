@@ -0,0 +1,193 @@
+package acceptance.task.create;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static pro.taskana.testapi.DefaultTestEntities.defaultTestClassification;
+import static pro.taskana.testapi.DefaultTestEntities.defaultTestObjectReference;
+import static pro.taskana.testapi.DefaultTestEntities.defaultTestWorkbasket;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import pro.taskana.classification.api.ClassificationService;
+import pro.taskana.classification.api.exceptions.ClassificationNotFoundException;
+import pro.taskana.classification.api.models.ClassificationSummary;
+import pro.taskana.common.api.BulkOperationResults;
+import pro.taskana.common.api.exceptions.TaskanaException;
+import pro.taskana.task.api.TaskService;
+import pro.taskana.task.api.TaskState;
+import pro.taskana.task.api.exceptions.TaskAlreadyExistException;
+import pro.taskana.task.api.models.Attachment;
+import pro.taskana.task.api.models.ObjectReference;
+import pro.taskana.task.api.models.Task;
+import pro.taskana.testapi.TaskanaInject;
+import pro.taskana.testapi.TaskanaIntegrationTest;
+import pro.taskana.testapi.builder.ObjectReferenceBuilder;
+import pro.taskana.testapi.builder.TaskAttachmentBuilder;
+import pro.taskana.testapi.builder.WorkbasketAccessItemBuilder;
+import pro.taskana.testapi.security.WithAccessId;
+import pro.taskana.workbasket.api.WorkbasketPermission;
+import pro.taskana.workbasket.api.WorkbasketService;
+import pro.taskana.workbasket.api.exceptions.NotAuthorizedOnWorkbasketException;
+import pro.taskana.workbasket.api.models.WorkbasketSummary;
+
+@TaskanaIntegrationTest
+class CreateTasksAccTest {
+  @TaskanaInject TaskService taskService;
+
+  ClassificationSummary defaultClassificationSummary;
+  WorkbasketSummary defaultWorkbasketSummary;
+  WorkbasketSummary readOnlyWorkbasketSummary;
+  ObjectReference defaultObjectReference;
+
+  @WithAccessId(user = "businessadmin")
+  @BeforeAll
+  void setup(ClassificationService classificationService, WorkbasketService workbasketService)
+      throws Exception {
+    defaultClassificationSummary =
+        defaultTestClassification().buildAndStoreAsSummary(classificationService);
+    defaultWorkbasketSummary = defaultTestWorkbasket().buildAndStoreAsSummary(workbasketService);
+    readOnlyWorkbasketSummary = defaultTestWorkbasket().buildAndStoreAsSummary(workbasketService);
+
+    WorkbasketAccessItemBuilder.newWorkbasketAccessItem()
+        .workbasketId(defaultWorkbasketSummary.getId())
+        .accessId("user-1-2")
+        .permission(WorkbasketPermission.READ)
+        .permission(WorkbasketPermission.READTASKS)
+        .permission(WorkbasketPermission.APPEND)
+        .buildAndStore(workbasketService);
+    WorkbasketAccessItemBuilder.newWorkbasketAccessItem()
+        .workbasketId(readOnlyWorkbasketSummary.getId())
+        .accessId("user-1-2")
+        .permission(WorkbasketPermission.READ)
+        .permission(WorkbasketPermission.READTASKS)
+        .buildAndStore(workbasketService);
+    defaultObjectReference = defaultTestObjectReference().build();
+  }
+
+  @WithAccessId(user = "user-1-2")
+  @Test
+  void should_CreateAllTasks_When_AllTasksAreValid() throws Exception {
+    List<Task> tasks = new ArrayList<>();
+    for (int i = 0; i < 250; i++) {
+      tasks.add(createDefaultTask());
+    }
+
+    BulkOperationResults<String, TaskanaException> results = taskService.createTasks(tasks);
+
+    assertThat(results.containsErrors()).isFalse();
+    assertThat(tasks)
+        .allSatisfy(
+            task -> {
+              assertThat(task.getId()).startsWith("TKI:");
+              assertThat(task.getExternalId()).startsWith("ETI:");
+              assertThat(task.getState()).isEqualTo(TaskState.READY);
+              assertThat(task.getCreator()).isEqualTo("user-1-2");
+            });
+    assertThat(
+            taskService
+                .createTaskQuery()
+                .idIn(tasks.stream().map(Task::getId).toArray(String[]::new))
+                .count())
+        .isEqualTo(250);
+  }
+
+  @WithAccessId(user = "user-1-2")
+  @Test
+  void should_CreateAttachmentsAndSecondaryObjectReferences_When_CreatingTasks() throws Exception {
+    Task task = createDefaultTask();
+    Attachment attachment =
+        TaskAttachmentBuilder.newAttachment()
+            .objectReference(defaultObjectReference)
+            .classificationSummary(defaultClassificationSummary)
+            .received(Instant.parse("2023-01-02T10:00:00Z"))
+            .build();
+    task.addAttachment(attachment);
+    ObjectReference secondaryObjectReference =
+        ObjectReferenceBuilder.newObjectReference()
+            .company("Company")
+            .system("System")
+            .systemInstance("Instance")
+            .type("Type")
+            .value("Value")
+            .build();
+    task.addSecondaryObjectReference(secondaryObjectReference);
+
+    BulkOperationResults<String, TaskanaException> results = taskService.createTasks(List.of(task));
+
+    assertThat(results.containsErrors()).isFalse();
+    Task readTask = taskService.getTask(task.getId());
+    assertThat(readTask.getReceived()).isEqualTo(Instant.parse("2023-01-02T10:00:00Z"));
+    assertThat(readTask.getAttachments())
+        .singleElement()
+        .satisfies(
+            a -> {
+              assertThat(a.getTaskId()).isEqualTo(task.getId());
+              assertThat(a.getClassificationSummary().getId())
+                  .isEqualTo(defaultClassificationSummary.getId());
+            });
+    assertThat(readTask.getSecondaryObjectReferences())
+        .singleElement()
+        .satisfies(
+            o -> {
+              assertThat(o.getTaskId()).isEqualTo(task.getId());
+              assertThat(o.getValue()).isEqualTo("Value");
+            });
+  }
+
+  @WithAccessId(user = "user-1-2")
+  @Test
+  void should_ReportFailedTasksAndCreateRemainingTasks_When_SomeTasksAreInvalid() throws Exception {
+    Task existingTask = createDefaultTask();
+    existingTask.setExternalId("ETI:existing-external-id");
+    taskService.createTask(existingTask);
+
+    Task validTask = createDefaultTask();
+    validTask.setExternalId("ETI:valid-external-id");
+    Task duplicateInList = createDefaultTask();
+    duplicateInList.setExternalId("ETI:valid-external-id");
+    Task duplicateInDatabase = createDefaultTask();
+    duplicateInDatabase.setExternalId("ETI:existing-external-id");
+    Task notAuthorized = taskService.newTask(readOnlyWorkbasketSummary.getId());
+    notAuthorized.setClassificationKey(defaultClassificationSummary.getKey());
+    notAuthorized.setPrimaryObjRef(defaultObjectReference);
+    notAuthorized.setExternalId("ETI:not-authorized");
+    Task unknownClassification = createDefaultTask();
+    unknownClassification.setClassificationKey("UNKNOWN");
+    unknownClassification.setExternalId("ETI:unknown-classification");
+
+    BulkOperationResults<String, TaskanaException> results =
+        taskService.createTasks(
+            List.of(
+                validTask,
+                duplicateInList,
+                duplicateInDatabase,
+                notAuthorized,
+                unknownClassification));
+
+    assertThat(results.getErrorMap())
+        .containsOnlyKeys(
+            "ETI:valid-external-id",
+            "ETI:existing-external-id",
+            "ETI:not-authorized",
+            "ETI:unknown-classification");
+    assertThat(results.getErrorForId("ETI:valid-external-id"))
+        .isInstanceOf(TaskAlreadyExistException.class);
+    assertThat(results.getErrorForId("ETI:existing-external-id"))
+        .isInstanceOf(TaskAlreadyExistException.class);
+    assertThat(results.getErrorForId("ETI:not-authorized"))
+        .isInstanceOf(NotAuthorizedOnWorkbasketException.class);
+    assertThat(results.getErrorForId("ETI:unknown-classification"))
+        .isInstanceOf(ClassificationNotFoundException.class);
+    assertThat(taskService.getTask(validTask.getId()).getExternalId())
+        .isEqualTo("ETI:valid-external-id");
+  }
+
+  private Task createDefaultTask() {
+    Task task = taskService.newTask(defaultWorkbasketSummary.getId());
+    task.setClassificationKey(defaultClassificationSummary.getKey());
+    task.setPrimaryObjRef(defaultObjectReference);
+    return task;
+  }
+}
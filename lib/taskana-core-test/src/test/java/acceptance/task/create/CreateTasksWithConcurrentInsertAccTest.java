@@ -0,0 +1,127 @@
+package acceptance.task.create;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static pro.taskana.testapi.DefaultTestEntities.defaultTestClassification;
+import static pro.taskana.testapi.DefaultTestEntities.defaultTestObjectReference;
+import static pro.taskana.testapi.DefaultTestEntities.defaultTestWorkbasket;
+
+import acceptance.task.create.CreateTasksWithConcurrentInsertAccTest.ConcurrentlyCreatingPriorityProvider;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalInt;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import pro.taskana.classification.api.ClassificationService;
+import pro.taskana.classification.api.models.ClassificationSummary;
+import pro.taskana.common.api.BulkOperationResults;
+import pro.taskana.common.api.TaskanaEngine;
+import pro.taskana.common.api.exceptions.TaskanaException;
+import pro.taskana.spi.priority.api.PriorityServiceProvider;
+import pro.taskana.task.api.TaskService;
+import pro.taskana.task.api.exceptions.TaskAlreadyExistException;
+import pro.taskana.task.api.models.Task;
+import pro.taskana.task.api.models.TaskSummary;
+import pro.taskana.testapi.TaskanaInject;
+import pro.taskana.testapi.TaskanaIntegrationTest;
+import pro.taskana.testapi.WithServiceProvider;
+import pro.taskana.testapi.builder.WorkbasketAccessItemBuilder;
+import pro.taskana.testapi.security.WithAccessId;
+import pro.taskana.workbasket.api.WorkbasketPermission;
+import pro.taskana.workbasket.api.WorkbasketService;
+import pro.taskana.workbasket.api.models.WorkbasketSummary;
+
+@TaskanaIntegrationTest
+@WithServiceProvider(
+    serviceProviderInterface = PriorityServiceProvider.class,
+    serviceProviders = ConcurrentlyCreatingPriorityProvider.class)
+class CreateTasksWithConcurrentInsertAccTest {
+
+  private static final String CONCURRENT_EXTERNAL_ID = "ETI:concurrently-created";
+
+  @TaskanaInject TaskService taskService;
+
+  ClassificationSummary classificationSummary;
+  WorkbasketSummary workbasketSummary;
+
+  @WithAccessId(user = "businessadmin")
+  @BeforeAll
+  void setup(ClassificationService classificationService, WorkbasketService workbasketService)
+      throws Exception {
+    classificationSummary =
+        defaultTestClassification().buildAndStoreAsSummary(classificationService);
+    workbasketSummary = defaultTestWorkbasket().buildAndStoreAsSummary(workbasketService);
+
+    WorkbasketAccessItemBuilder.newWorkbasketAccessItem()
+        .workbasketId(workbasketSummary.getId())
+        .accessId("user-1-2")
+        .permission(WorkbasketPermission.READ)
+        .permission(WorkbasketPermission.READTASKS)
+        .permission(WorkbasketPermission.APPEND)
+        .buildAndStore(workbasketService);
+  }
+
+  @WithAccessId(user = "user-1-2")
+  @Test
+  void should_OnlyReportDuplicate_When_ExternalIdIsCreatedConcurrently() throws Exception {
+    List<Task> tasks = new ArrayList<>();
+    for (int i = 0; i < 5; i++) {
+      tasks.add(createTask("ETI:created-in-batch-" + i));
+    }
+    tasks.add(createTask(CONCURRENT_EXTERNAL_ID));
+
+    BulkOperationResults<String, TaskanaException> results = taskService.createTasks(tasks);
+
+    assertThat(results.getFailedIds()).containsExactly(CONCURRENT_EXTERNAL_ID);
+    assertThat(results.getErrorForId(CONCURRENT_EXTERNAL_ID))
+        .isInstanceOf(TaskAlreadyExistException.class);
+    assertThat(
+            taskService
+                .createTaskQuery()
+                .externalIdIn(
+                    tasks.stream().map(Task::getExternalId).distinct().toArray(String[]::new))
+                .count())
+        .isEqualTo(6);
+  }
+
+  private Task createTask(String externalId) {
+    Task task = taskService.newTask(workbasketSummary.getId());
+    task.setClassificationKey(classificationSummary.getKey());
+    task.setPrimaryObjRef(defaultTestObjectReference().build());
+    task.setExternalId(externalId);
+    return task;
+  }
+
+  /**
+   * Creates a Task with the external id {@value #CONCURRENT_EXTERNAL_ID} while the priority of a
+   * Task with that external id is calculated. This happens after createTasks has checked that the
+   * external ids don't exist yet, as if another transaction created the Task in the meantime.
+   */
+  static class ConcurrentlyCreatingPriorityProvider implements PriorityServiceProvider {
+
+    private TaskanaEngine taskanaEngine;
+    private boolean created;
+
+    @Override
+    public void initialize(TaskanaEngine taskanaEngine) {
+      this.taskanaEngine = taskanaEngine;
+    }
+
+    @Override
+    public OptionalInt calculatePriority(TaskSummary taskSummary) {
+      if (CONCURRENT_EXTERNAL_ID.equals(taskSummary.getExternalId()) && !created) {
+        created = true;
+        TaskService taskService = taskanaEngine.getTaskService();
+        Task task = taskService.newTask(taskSummary.getWorkbasketSummary().getId());
+        task.setClassificationKey(taskSummary.getClassificationSummary().getKey());
+        task.setPrimaryObjRef(taskSummary.getPrimaryObjRef());
+        task.setExternalId(CONCURRENT_EXTERNAL_ID);
+        try {
+          taskService.createTask(task);
+        } catch (TaskanaException e) {
+          throw new IllegalStateException(e);
+        }
+      }
+      return OptionalInt.empty();
+    }
+  }
+}
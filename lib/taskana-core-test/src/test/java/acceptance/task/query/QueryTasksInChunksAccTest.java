@@ -0,0 +1,98 @@
+package acceptance.task.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static pro.taskana.testapi.DefaultTestEntities.defaultTestClassification;
+import static pro.taskana.testapi.DefaultTestEntities.defaultTestObjectReference;
+import static pro.taskana.testapi.DefaultTestEntities.defaultTestWorkbasket;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import pro.taskana.classification.api.ClassificationService;
+import pro.taskana.classification.api.models.ClassificationSummary;
+import pro.taskana.common.api.BaseQuery.SortDirection;
+import pro.taskana.task.api.TaskQuery;
+import pro.taskana.task.api.TaskService;
+import pro.taskana.task.api.models.TaskSummary;
+import pro.taskana.testapi.TaskanaInject;
+import pro.taskana.testapi.TaskanaIntegrationTest;
+import pro.taskana.testapi.builder.TaskBuilder;
+import pro.taskana.testapi.security.WithAccessId;
+import pro.taskana.workbasket.api.WorkbasketService;
+import pro.taskana.workbasket.api.models.WorkbasketSummary;
+
+@TaskanaIntegrationTest
+class QueryTasksInChunksAccTest {
+
+  @TaskanaInject TaskService taskService;
+
+  WorkbasketSummary workbasket;
+
+  @WithAccessId(user = "businessadmin")
+  @BeforeAll
+  void setup(ClassificationService classificationService, WorkbasketService workbasketService)
+      throws Exception {
+    ClassificationSummary classification =
+        defaultTestClassification().buildAndStoreAsSummary(classificationService);
+    workbasket = defaultTestWorkbasket().buildAndStoreAsSummary(workbasketService);
+    for (int i = 0; i < 7; i++) {
+      TaskBuilder.newTask()
+          .classificationSummary(classification)
+          .workbasketSummary(workbasket)
+          .primaryObjRef(defaultTestObjectReference().build())
+          .buildAndStore(taskService, "admin");
+    }
+  }
+
+  @WithAccessId(user = "admin")
+  @Test
+  void should_PassAllTasksInChunks_When_IteratingOverQuery() {
+    List<TaskSummary> expectedTasks = createQuery().list();
+    List<Integer> chunkSizes = new ArrayList<>();
+    List<TaskSummary> tasks = new ArrayList<>();
+
+    createQuery()
+        .forEach(
+            3,
+            chunk -> {
+              chunkSizes.add(chunk.size());
+              tasks.addAll(chunk);
+            });
+
+    assertThat(chunkSizes).containsExactly(3, 3, 1);
+    assertThat(tasks).containsExactlyElementsOf(expectedTasks);
+    assertThat(tasks)
+        .allSatisfy(
+            task -> {
+              assertThat(task.getClassificationSummary().getServiceLevel()).isNotNull();
+              assertThat(task.getWorkbasketSummary().getName()).isNotNull();
+            });
+  }
+
+  @WithAccessId(user = "admin")
+  @Test
+  void should_NotCallConsumer_When_QueryHasNoResult() {
+    List<List<TaskSummary>> chunks = new ArrayList<>();
+
+    createQuery().nameIn("does not exist").forEach(3, chunks::add);
+
+    assertThat(chunks).isEmpty();
+  }
+
+  @WithAccessId(user = "admin")
+  @Test
+  void should_ThrowException_When_ChunkSizeIsNotPositive() {
+    assertThatThrownBy(() -> createQuery().forEach(0, chunk -> {}))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private TaskQuery createQuery() {
+    return taskService
+        .createTaskQuery()
+        .workbasketIdIn(workbasket.getId())
+        .orderByCreated(SortDirection.ASCENDING)
+        .orderByTaskId(SortDirection.ASCENDING);
+  }
+}
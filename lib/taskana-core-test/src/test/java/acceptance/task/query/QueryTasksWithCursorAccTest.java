@@ -0,0 +1,102 @@
+package acceptance.task.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static pro.taskana.testapi.DefaultTestEntities.defaultTestClassification;
+import static pro.taskana.testapi.DefaultTestEntities.defaultTestObjectReference;
+import static pro.taskana.testapi.DefaultTestEntities.defaultTestWorkbasket;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import pro.taskana.classification.api.ClassificationService;
+import pro.taskana.classification.api.models.ClassificationSummary;
+import pro.taskana.common.api.BaseQuery.SortDirection;
+import pro.taskana.task.api.TaskQuery;
+import pro.taskana.task.api.TaskService;
+import pro.taskana.task.api.models.TaskSummary;
+import pro.taskana.testapi.TaskanaInject;
+import pro.taskana.testapi.TaskanaIntegrationTest;
+import pro.taskana.testapi.builder.TaskBuilder;
+import pro.taskana.testapi.security.WithAccessId;
+import pro.taskana.workbasket.api.WorkbasketService;
+import pro.taskana.workbasket.api.models.WorkbasketSummary;
+
+@TaskanaIntegrationTest
+class QueryTasksWithCursorAccTest {
+
+  @TaskanaInject TaskService taskService;
+
+  WorkbasketSummary workbasket;
+
+  @WithAccessId(user = "businessadmin")
+  @BeforeAll
+  void setup(ClassificationService classificationService, WorkbasketService workbasketService)
+      throws Exception {
+    ClassificationSummary classification =
+        defaultTestClassification().buildAndStoreAsSummary(classificationService);
+    workbasket = defaultTestWorkbasket().buildAndStoreAsSummary(workbasketService);
+    for (int i = 0; i < 7; i++) {
+      TaskBuilder.newTask()
+          .classificationSummary(classification)
+          .workbasketSummary(workbasket)
+          .primaryObjRef(defaultTestObjectReference().build())
+          .buildAndStore(taskService, "admin");
+    }
+  }
+
+  @WithAccessId(user = "admin")
+  @Test
+  void should_ReturnAllTasksInOrder_When_FollowingTheCursors() {
+    List<TaskSummary> expectedTasks =
+        createQuery().orderByPriority(SortDirection.DESCENDING).orderByTaskId(null).list();
+
+    List<TaskSummary> tasks = new ArrayList<>();
+    String cursor = null;
+    List<TaskSummary> page;
+    do {
+      TaskQuery query = createQuery().orderByPriority(SortDirection.DESCENDING);
+      page = query.listAfter(cursor, 3);
+      tasks.addAll(page);
+      if (!page.isEmpty()) {
+        cursor = query.cursorOf(page.get(page.size() - 1));
+      }
+    } while (page.size() == 3);
+
+    assertThat(tasks).hasSize(7).containsExactlyElementsOf(expectedTasks);
+  }
+
+  @WithAccessId(user = "admin")
+  @Test
+  void should_ReturnFirstTasks_When_CursorIsNull() {
+    List<TaskSummary> tasks = createQuery().orderByCreated(null).listAfter(null, 2);
+
+    assertThat(tasks)
+        .containsExactlyElementsOf(
+            createQuery().orderByCreated(null).orderByTaskId(null).list(0, 2));
+  }
+
+  @WithAccessId(user = "admin")
+  @Test
+  void should_ThrowException_When_CursorDoesNotMatchSortCriteria() {
+    TaskQuery query = createQuery().orderByPriority(null);
+    String cursor = query.cursorOf(query.list().get(0));
+
+    assertThatThrownBy(
+            () -> createQuery().orderByDue(null).orderByPriority(null).listAfter(cursor, 2))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @WithAccessId(user = "admin")
+  @Test
+  void should_ThrowException_When_SortingByUnsupportedColumn() {
+    assertThatThrownBy(() -> createQuery().orderByOwner(null).listAfter(null, 2))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Sorting by 'OWNER' is not supported for keyset pagination.");
+  }
+
+  private TaskQuery createQuery() {
+    return taskService.createTaskQuery().workbasketIdIn(workbasket.getId());
+  }
+}
@@ -0,0 +1,144 @@
+package acceptance.task.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static pro.taskana.testapi.DefaultTestEntities.defaultTestClassification;
+import static pro.taskana.testapi.DefaultTestEntities.defaultTestObjectReference;
+import static pro.taskana.testapi.DefaultTestEntities.defaultTestWorkbasket;
+
+import java.util.List;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import pro.taskana.classification.api.ClassificationService;
+import pro.taskana.classification.api.models.ClassificationSummary;
+import pro.taskana.common.api.BaseQuery.SortDirection;
+import pro.taskana.task.api.TaskCustomField;
+import pro.taskana.task.api.TaskQuery;
+import pro.taskana.task.api.TaskQueryColumnName;
+import pro.taskana.task.api.TaskService;
+import pro.taskana.task.api.models.TaskSummary;
+import pro.taskana.testapi.TaskanaInject;
+import pro.taskana.testapi.TaskanaIntegrationTest;
+import pro.taskana.testapi.builder.TaskAttachmentBuilder;
+import pro.taskana.testapi.builder.TaskBuilder;
+import pro.taskana.testapi.security.WithAccessId;
+import pro.taskana.workbasket.api.WorkbasketService;
+import pro.taskana.workbasket.api.models.WorkbasketSummary;
+
+@TaskanaIntegrationTest
+class QueryTasksWithSelectedColumnsAccTest {
+
+  @TaskanaInject TaskService taskService;
+
+  ClassificationSummary classification;
+  WorkbasketSummary workbasket;
+
+  @WithAccessId(user = "businessadmin")
+  @BeforeAll
+  void setup(ClassificationService classificationService, WorkbasketService workbasketService)
+      throws Exception {
+    classification = defaultTestClassification().buildAndStoreAsSummary(classificationService);
+    workbasket = defaultTestWorkbasket().buildAndStoreAsSummary(workbasketService);
+    for (int i = 0; i < 3; i++) {
+      TaskBuilder.newTask()
+          .name("Task " + i)
+          .customAttribute(TaskCustomField.CUSTOM_1, "custom " + i)
+          .classificationSummary(classification)
+          .workbasketSummary(workbasket)
+          .primaryObjRef(defaultTestObjectReference().build())
+          .objectReferences(defaultTestObjectReference().build())
+          .attachments(
+              TaskAttachmentBuilder.newAttachment()
+                  .classificationSummary(classification)
+                  .objectReference(defaultTestObjectReference().build())
+                  .build())
+          .buildAndStore(taskService, "admin");
+    }
+  }
+
+  @WithAccessId(user = "admin")
+  @Test
+  void should_OnlyReadSelectedColumns_When_ColumnsAreSelected() {
+    List<TaskSummary> expectedTasks = createQuery().list();
+
+    List<TaskSummary> tasks = createQuery().select(TaskQueryColumnName.NAME).list();
+
+    assertThat(tasks)
+        .extracting(TaskSummary::getId)
+        .containsExactlyElementsOf(expectedTasks.stream().map(TaskSummary::getId).toList());
+    assertThat(tasks)
+        .allSatisfy(
+            task -> {
+              assertThat(task.getName()).startsWith("Task ");
+              assertThat(task.getCreated()).isNotNull();
+              assertThat(task.getCustomField(TaskCustomField.CUSTOM_1)).isNull();
+              assertThat(task.getClassificationSummary()).isNull();
+              assertThat(task.getWorkbasketSummary()).isNull();
+              assertThat(task.getAttachmentSummaries()).isEmpty();
+              assertThat(task.getSecondaryObjectReferences()).isEmpty();
+            });
+  }
+
+  @WithAccessId(user = "admin")
+  @Test
+  void should_AddContainedSummaries_When_SelectedColumnsRequireThem() {
+    List<TaskSummary> tasks =
+        createQuery()
+            .select(
+                TaskQueryColumnName.CLASSIFICATION_NAME,
+                TaskQueryColumnName.A_CHANNEL,
+                TaskQueryColumnName.O_VALUE)
+            .list();
+
+    assertThat(tasks)
+        .hasSize(3)
+        .allSatisfy(
+            task -> {
+              assertThat(task.getClassificationSummary().getName())
+                  .isEqualTo(classification.getName());
+              assertThat(task.getAttachmentSummaries()).hasSize(1);
+              assertThat(task.getAttachmentSummaries().get(0).getClassificationSummary().getName())
+                  .isEqualTo(classification.getName());
+              assertThat(task.getSecondaryObjectReferences()).hasSize(1);
+              assertThat(task.getWorkbasketSummary()).isNull();
+            });
+  }
+
+  @WithAccessId(user = "admin")
+  @Test
+  void should_ReturnSameTasks_When_PagingWithCursorOverSelectedColumns() {
+    List<TaskSummary> expectedTasks = createQuery().list();
+    TaskQuery query = createQuery().select(TaskQueryColumnName.NAME);
+
+    List<TaskSummary> firstPage = query.listAfter(null, 2);
+    List<TaskSummary> secondPage =
+        query.listAfter(query.cursorOf(firstPage.get(firstPage.size() - 1)), 2);
+
+    assertThat(firstPage).extracting(TaskSummary::getName).hasSize(2);
+    assertThat(secondPage).extracting(TaskSummary::getName).hasSize(1);
+    assertThat(List.of(firstPage.get(0), firstPage.get(1), secondPage.get(0)))
+        .extracting(TaskSummary::getId)
+        .containsExactlyElementsOf(expectedTasks.stream().map(TaskSummary::getId).toList());
+  }
+
+  @WithAccessId(user = "admin")
+  @Test
+  void should_ThrowException_When_NoColumnIsSelected() {
+    assertThatThrownBy(() -> createQuery().select()).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @WithAccessId(user = "admin")
+  @Test
+  void should_ThrowException_When_SelectingColumnsOfGroupedQuery() {
+    assertThatThrownBy(() -> createQuery().select(TaskQueryColumnName.NAME).groupByPor().list())
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private TaskQuery createQuery() {
+    return taskService
+        .createTaskQuery()
+        .workbasketIdIn(workbasket.getId())
+        .orderByCreated(SortDirection.ASCENDING)
+        .orderByTaskId(SortDirection.ASCENDING);
+  }
+}
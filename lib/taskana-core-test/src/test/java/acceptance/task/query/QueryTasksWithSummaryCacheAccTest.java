@@ -0,0 +1,229 @@
+package acceptance.task.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static pro.taskana.common.internal.util.CheckedSupplier.wrap;
+import static pro.taskana.testapi.DefaultTestEntities.defaultTestClassification;
+import static pro.taskana.testapi.DefaultTestEntities.defaultTestObjectReference;
+import static pro.taskana.testapi.DefaultTestEntities.defaultTestWorkbasket;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+import pro.taskana.TaskanaConfiguration.Builder;
+import pro.taskana.classification.api.ClassificationService;
+import pro.taskana.classification.api.models.Classification;
+import pro.taskana.classification.api.models.ClassificationSummary;
+import pro.taskana.common.api.TaskanaEngine;
+import pro.taskana.common.internal.CacheVersionMapper;
+import pro.taskana.common.internal.SummaryCache;
+import pro.taskana.common.internal.TaskanaEngineImpl;
+import pro.taskana.common.internal.util.CheckedRunnable;
+import pro.taskana.task.api.TaskService;
+import pro.taskana.task.api.models.TaskSummary;
+import pro.taskana.testapi.TaskanaConfigurationModifier;
+import pro.taskana.testapi.TaskanaEngineProxy;
+import pro.taskana.testapi.TaskanaInject;
+import pro.taskana.testapi.TaskanaIntegrationTest;
+import pro.taskana.testapi.builder.TaskBuilder;
+import pro.taskana.testapi.builder.WorkbasketAccessItemBuilder;
+import pro.taskana.testapi.security.WithAccessId;
+import pro.taskana.workbasket.api.WorkbasketPermission;
+import pro.taskana.workbasket.api.WorkbasketService;
+import pro.taskana.workbasket.api.models.Workbasket;
+import pro.taskana.workbasket.api.models.WorkbasketSummary;
+import pro.taskana.workbasket.internal.WorkbasketServiceImpl;
+import pro.taskana.workbasket.internal.models.WorkbasketSummaryImpl;
+
+@TaskanaIntegrationTest
+class QueryTasksWithSummaryCacheAccTest implements TaskanaConfigurationModifier {
+
+  @TaskanaInject TaskanaEngine taskanaEngine;
+  @TaskanaInject TaskService taskService;
+  @TaskanaInject ClassificationService classificationService;
+  @TaskanaInject WorkbasketService workbasketService;
+
+  SummaryCache<ClassificationSummary> classificationCache;
+  SummaryCache<WorkbasketSummary> workbasketCache;
+
+  @Override
+  public Builder modify(Builder builder) {
+    return builder.summaryCacheEnabled(true).summaryCacheVersionCheckInterval(Duration.ZERO);
+  }
+
+  @BeforeAll
+  void setup() {
+    classificationCache = ((TaskanaEngineImpl) taskanaEngine).getClassificationSummaryCache();
+    workbasketCache = ((TaskanaEngineImpl) taskanaEngine).getWorkbasketSummaryCache();
+  }
+
+  @WithAccessId(user = "user-1-1")
+  @Test
+  void should_ServeSummariesFromCache_When_QueryingTasksTwice() throws Exception {
+    WorkbasketSummary workbasket = createWorkbasketWithTask(createClassification());
+    taskService.createTaskQuery().workbasketIdIn(workbasket.getId()).list();
+    long classificationHits = classificationCache.getHitCount();
+    long workbasketHits = workbasketCache.getHitCount();
+
+    List<TaskSummary> tasks =
+        taskService.createTaskQuery().workbasketIdIn(workbasket.getId()).list();
+
+    assertThat(tasks)
+        .singleElement()
+        .extracting(TaskSummary::getWorkbasketSummary)
+        .isEqualTo(workbasket);
+    assertThat(classificationCache.getHitCount()).isEqualTo(classificationHits + 1);
+    assertThat(workbasketCache.getHitCount()).isEqualTo(workbasketHits + 1);
+    assertThat(classificationCache.getHitRate()).isPositive();
+  }
+
+  @WithAccessId(user = "user-1-1")
+  @Test
+  void should_ReturnUpdatedClassificationName_When_ClassificationWasUpdated() throws Exception {
+    ClassificationSummary classificationSummary = createClassification();
+    WorkbasketSummary workbasket = createWorkbasketWithTask(classificationSummary);
+    taskService.createTaskQuery().workbasketIdIn(workbasket.getId()).list();
+
+    Classification classification =
+        taskanaEngine.runAsAdmin(
+            wrap(() -> classificationService.getClassification(classificationSummary.getId())));
+    classification.setName("updated name");
+    taskanaEngine.runAsAdmin(
+        wrap(() -> classificationService.updateClassification(classification)));
+    List<TaskSummary> tasks =
+        taskService.createTaskQuery().workbasketIdIn(workbasket.getId()).list();
+
+    assertThat(tasks)
+        .singleElement()
+        .extracting(task -> task.getClassificationSummary().getName())
+        .isEqualTo("updated name");
+  }
+
+  @WithAccessId(user = "user-1-1")
+  @Test
+  void should_ReturnUpdatedWorkbasketName_When_WorkbasketWasUpdatedByAnotherInstance()
+      throws Exception {
+    WorkbasketSummary workbasketSummary = createWorkbasketWithTask(createClassification());
+    taskService.createTaskQuery().workbasketIdIn(workbasketSummary.getId()).list();
+
+    TaskanaEngineProxy engineProxy = new TaskanaEngineProxy(taskanaEngine);
+    CacheVersionMapper cacheVersionMapper =
+        engineProxy.getEngine().getSqlSession().getMapper(CacheVersionMapper.class);
+    long invalidations = workbasketCache.getInvalidationCount();
+    try {
+      engineProxy.openConnection();
+      cacheVersionMapper.incrementVersion(WorkbasketServiceImpl.SUMMARY_CACHE_NAME);
+    } finally {
+      engineProxy.returnConnection();
+    }
+    taskService.createTaskQuery().workbasketIdIn(workbasketSummary.getId()).list();
+
+    assertThat(workbasketCache.getInvalidationCount()).isEqualTo(invalidations + 1);
+  }
+
+  @WithAccessId(user = "businessadmin")
+  @Test
+  void should_NotReturnCachedCopy_When_CallerModifiesReturnedSummary() throws Exception {
+    Workbasket workbasket = defaultTestWorkbasket().buildAndStore(workbasketService);
+    List<WorkbasketSummary> summaries =
+        ((WorkbasketServiceImpl) workbasketService)
+            .getWorkbasketSummaries(List.of(workbasket.getId()));
+    ((WorkbasketSummaryImpl) summaries.get(0)).setName("modified by caller");
+
+    List<WorkbasketSummary> summariesAgain =
+        ((WorkbasketServiceImpl) workbasketService)
+            .getWorkbasketSummaries(List.of(workbasket.getId()));
+
+    assertThat(summariesAgain).singleElement().isEqualTo(workbasket.asSummary());
+  }
+
+  @Nested
+  @TestInstance(Lifecycle.PER_CLASS)
+  class WithoutFrequentVersionCheck implements TaskanaConfigurationModifier {
+
+    @TaskanaInject TaskanaEngine taskanaEngine;
+    @TaskanaInject TaskService taskService;
+    @TaskanaInject ClassificationService classificationService;
+
+    @Override
+    public Builder modify(Builder builder) {
+      return builder
+          .summaryCacheEnabled(true)
+          .summaryCacheVersionCheckInterval(Duration.ofHours(1));
+    }
+
+    @WithAccessId(user = "user-1-1")
+    @Test
+    void should_ReturnUpdatedClassificationName_When_ConcurrentReaderCachedOldNameBeforeCommit()
+        throws Exception {
+      ClassificationSummary classificationSummary = createClassification();
+      WorkbasketSummary workbasket = createWorkbasketWithTask(classificationSummary);
+      taskService.createTaskQuery().workbasketIdIn(workbasket.getId()).list();
+      Classification classification =
+          taskanaEngine.runAsAdmin(
+              wrap(() -> classificationService.getClassification(classificationSummary.getId())));
+      classification.setName("updated name");
+      List<List<TaskSummary>> concurrentlyReadTasks = new ArrayList<>();
+
+      new TaskanaEngineProxy(taskanaEngine)
+          .getEngine()
+          .executeInDatabaseTransaction(
+              () -> {
+                taskanaEngine.runAsAdmin(
+                    wrap(() -> classificationService.updateClassification(classification)));
+                // the reader doesn't see the uncommitted name and caches the old one
+                Thread reader =
+                    new Thread(
+                        () ->
+                            concurrentlyReadTasks.add(
+                                taskService
+                                    .createTaskQuery()
+                                    .workbasketIdIn(workbasket.getId())
+                                    .list()));
+                reader.start();
+                CheckedRunnable.wrap(reader::join).run();
+                return null;
+              });
+      List<TaskSummary> tasks =
+          taskService.createTaskQuery().workbasketIdIn(workbasket.getId()).list();
+
+      assertThat(concurrentlyReadTasks)
+          .singleElement()
+          .extracting(readTasks -> readTasks.get(0).getClassificationSummary().getName())
+          .isEqualTo(classificationSummary.getName());
+      assertThat(tasks)
+          .singleElement()
+          .extracting(task -> task.getClassificationSummary().getName())
+          .isEqualTo("updated name");
+    }
+  }
+
+  private ClassificationSummary createClassification() throws Exception {
+    return defaultTestClassification()
+        .buildAndStoreAsSummary(classificationService, "businessadmin");
+  }
+
+  private WorkbasketSummary createWorkbasketWithTask(ClassificationSummary classification)
+      throws Exception {
+    WorkbasketSummary workbasket =
+        defaultTestWorkbasket().buildAndStoreAsSummary(workbasketService, "businessadmin");
+    WorkbasketAccessItemBuilder.newWorkbasketAccessItem()
+        .workbasketId(workbasket.getId())
+        .accessId("user-1-1")
+        .permission(WorkbasketPermission.OPEN)
+        .permission(WorkbasketPermission.READ)
+        .permission(WorkbasketPermission.READTASKS)
+        .permission(WorkbasketPermission.APPEND)
+        .buildAndStore(workbasketService, "businessadmin");
+    TaskBuilder.newTask()
+        .classificationSummary(classification)
+        .workbasketSummary(workbasket)
+        .primaryObjRef(defaultTestObjectReference().build())
+        .buildAndStore(taskService, "admin");
+    return workbasket;
+  }
+}
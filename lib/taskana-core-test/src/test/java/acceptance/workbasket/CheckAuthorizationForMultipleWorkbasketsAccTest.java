@@ -0,0 +1,117 @@
+package acceptance.workbasket;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import pro.taskana.common.api.BulkOperationResults;
+import pro.taskana.common.api.KeyDomain;
+import pro.taskana.common.api.exceptions.TaskanaException;
+import pro.taskana.testapi.DefaultTestEntities;
+import pro.taskana.testapi.TaskanaInject;
+import pro.taskana.testapi.TaskanaIntegrationTest;
+import pro.taskana.testapi.builder.WorkbasketAccessItemBuilder;
+import pro.taskana.testapi.security.WithAccessId;
+import pro.taskana.workbasket.api.WorkbasketPermission;
+import pro.taskana.workbasket.api.WorkbasketService;
+import pro.taskana.workbasket.api.exceptions.NotAuthorizedOnWorkbasketException;
+import pro.taskana.workbasket.api.exceptions.WorkbasketNotFoundException;
+import pro.taskana.workbasket.api.models.WorkbasketSummary;
+
+@TaskanaIntegrationTest
+class CheckAuthorizationForMultipleWorkbasketsAccTest {
+
+  @TaskanaInject WorkbasketService workbasketService;
+
+  WorkbasketSummary authorizedWorkbasket;
+  WorkbasketSummary unauthorizedWorkbasket;
+
+  @WithAccessId(user = "businessadmin")
+  @BeforeAll
+  void setup() throws Exception {
+    authorizedWorkbasket =
+        DefaultTestEntities.defaultTestWorkbasket().buildAndStoreAsSummary(workbasketService);
+    unauthorizedWorkbasket =
+        DefaultTestEntities.defaultTestWorkbasket().buildAndStoreAsSummary(workbasketService);
+
+    WorkbasketAccessItemBuilder.newWorkbasketAccessItem()
+        .workbasketId(authorizedWorkbasket.getId())
+        .accessId("user-1-1")
+        .permission(WorkbasketPermission.READ)
+        .permission(WorkbasketPermission.TRANSFER)
+        .buildAndStore(workbasketService);
+    WorkbasketAccessItemBuilder.newWorkbasketAccessItem()
+        .workbasketId(unauthorizedWorkbasket.getId())
+        .accessId("user-1-1")
+        .permission(WorkbasketPermission.READ)
+        .buildAndStore(workbasketService);
+  }
+
+  @WithAccessId(user = "user-1-1")
+  @Test
+  void should_ReturnOutcomePerWorkbasket_When_CheckingAuthorizationForIds() {
+    BulkOperationResults<String, TaskanaException> results =
+        workbasketService.checkAuthorization(
+            List.of(authorizedWorkbasket.getId(), unauthorizedWorkbasket.getId(), "WBI:invalid"),
+            WorkbasketPermission.READ,
+            WorkbasketPermission.TRANSFER);
+
+    assertThat(results.getFailedIds())
+        .containsExactlyInAnyOrder(unauthorizedWorkbasket.getId(), "WBI:invalid");
+    assertThat(results.getErrorForId(unauthorizedWorkbasket.getId()))
+        .isInstanceOf(NotAuthorizedOnWorkbasketException.class);
+    assertThat(results.getErrorForId("WBI:invalid"))
+        .isInstanceOf(WorkbasketNotFoundException.class);
+  }
+
+  @WithAccessId(user = "user-1-1")
+  @Test
+  void should_ReturnOutcomePerWorkbasket_When_CheckingAuthorizationForKeyDomains() {
+    KeyDomain authorized =
+        new KeyDomain(
+            authorizedWorkbasket.getKey().toUpperCase(), authorizedWorkbasket.getDomain());
+    KeyDomain unauthorized =
+        new KeyDomain(unauthorizedWorkbasket.getKey(), unauthorizedWorkbasket.getDomain());
+    KeyDomain invalid = new KeyDomain("invalid", authorizedWorkbasket.getDomain());
+
+    BulkOperationResults<KeyDomain, TaskanaException> results =
+        workbasketService.checkAuthorizationByKeyDomain(
+            List.of(authorized, unauthorized, invalid),
+            WorkbasketPermission.READ,
+            WorkbasketPermission.TRANSFER);
+
+    assertThat(results.getFailedIds()).containsExactlyInAnyOrder(unauthorized, invalid);
+    assertThat(results.getErrorForId(unauthorized))
+        .isInstanceOf(NotAuthorizedOnWorkbasketException.class);
+    assertThat(results.getErrorForId(invalid)).isInstanceOf(WorkbasketNotFoundException.class);
+  }
+
+  @WithAccessId(user = "admin")
+  @Test
+  void should_OnlyReportMissingWorkbaskets_When_UserIsAdmin() {
+    BulkOperationResults<String, TaskanaException> results =
+        workbasketService.checkAuthorization(
+            List.of(unauthorizedWorkbasket.getId(), "WBI:invalid"), WorkbasketPermission.TRANSFER);
+
+    assertThat(results.getFailedIds()).containsExactly("WBI:invalid");
+  }
+
+  @WithAccessId(user = "user-1-1")
+  @Test
+  void should_CheckAllWorkbaskets_When_IdsExceedMaximumSizeOfInList() {
+    List<String> invalidIds =
+        IntStream.range(0, 2500).mapToObj(i -> "WBI:invalid-" + i).collect(Collectors.toList());
+    List<String> workbasketIds =
+        Stream.concat(Stream.of(authorizedWorkbasket.getId()), invalidIds.stream())
+            .collect(Collectors.toList());
+
+    BulkOperationResults<String, TaskanaException> results =
+        workbasketService.checkAuthorization(workbasketIds, WorkbasketPermission.READ);
+
+    assertThat(results.getFailedIds()).containsExactlyInAnyOrderElementsOf(invalidIds);
+  }
+}
@@ -0,0 +1,110 @@
+package acceptance.workbasket;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static pro.taskana.common.internal.util.CheckedSupplier.wrap;
+
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import pro.taskana.TaskanaConfiguration.Builder;
+import pro.taskana.common.api.TaskanaEngine;
+import pro.taskana.common.internal.CacheVersionMapper;
+import pro.taskana.common.internal.TaskanaEngineImpl;
+import pro.taskana.testapi.DefaultTestEntities;
+import pro.taskana.testapi.TaskanaConfigurationModifier;
+import pro.taskana.testapi.TaskanaEngineProxy;
+import pro.taskana.testapi.TaskanaInject;
+import pro.taskana.testapi.TaskanaIntegrationTest;
+import pro.taskana.testapi.builder.WorkbasketAccessItemBuilder;
+import pro.taskana.testapi.security.WithAccessId;
+import pro.taskana.workbasket.api.WorkbasketPermission;
+import pro.taskana.workbasket.api.WorkbasketService;
+import pro.taskana.workbasket.api.exceptions.NotAuthorizedOnWorkbasketException;
+import pro.taskana.workbasket.api.models.WorkbasketAccessItem;
+import pro.taskana.workbasket.api.models.WorkbasketSummary;
+import pro.taskana.workbasket.internal.WorkbasketPermissionCache;
+
+@TaskanaIntegrationTest
+class WorkbasketPermissionCacheAccTest implements TaskanaConfigurationModifier {
+
+  @TaskanaInject TaskanaEngine taskanaEngine;
+  @TaskanaInject WorkbasketService workbasketService;
+
+  WorkbasketPermissionCache cache;
+
+  @Override
+  public Builder modify(Builder builder) {
+    return builder
+        .workbasketPermissionCacheEnabled(true)
+        .workbasketPermissionCacheVersionCheckInterval(Duration.ZERO);
+  }
+
+  @BeforeAll
+  void setup() {
+    cache = ((TaskanaEngineImpl) taskanaEngine).getWorkbasketPermissionCache();
+  }
+
+  @WithAccessId(user = "user-1-1")
+  @Test
+  void should_UseCachedPermissions_When_CheckingAuthorizationTwice() throws Exception {
+    WorkbasketSummary workbasket = createWorkbasketWithReadPermissionForUser11();
+    long hits = cache.getHitCount();
+
+    workbasketService.checkAuthorization(workbasket.getId(), WorkbasketPermission.READ);
+    workbasketService.checkAuthorization(workbasket.getId(), WorkbasketPermission.READ);
+
+    assertThat(cache.getHitCount()).isEqualTo(hits + 1);
+  }
+
+  @WithAccessId(user = "user-1-1")
+  @Test
+  void should_ReevaluatePermissions_When_AccessItemIsUpdated() throws Exception {
+    WorkbasketSummary workbasket = createWorkbasketWithReadPermissionForUser11();
+    workbasketService.checkAuthorization(workbasket.getId(), WorkbasketPermission.READ);
+
+    WorkbasketAccessItem accessItem =
+        taskanaEngine.runAsAdmin(
+            wrap(() -> workbasketService.getWorkbasketAccessItems(workbasket.getId()).get(0)));
+    accessItem.setPermission(WorkbasketPermission.READ, false);
+    taskanaEngine.runAsAdmin(wrap(() -> workbasketService.updateWorkbasketAccessItem(accessItem)));
+
+    assertThatThrownBy(
+            () ->
+                workbasketService.checkAuthorization(workbasket.getId(), WorkbasketPermission.READ))
+        .isInstanceOf(NotAuthorizedOnWorkbasketException.class);
+  }
+
+  @WithAccessId(user = "user-1-1")
+  @Test
+  void should_ClearCache_When_VersionIsIncrementedByAnotherInstance() throws Exception {
+    WorkbasketSummary workbasket = createWorkbasketWithReadPermissionForUser11();
+    workbasketService.checkAuthorization(workbasket.getId(), WorkbasketPermission.READ);
+    long invalidations = cache.getInvalidationCount();
+
+    TaskanaEngineProxy engineProxy = new TaskanaEngineProxy(taskanaEngine);
+    CacheVersionMapper cacheVersionMapper =
+        engineProxy.getEngine().getSqlSession().getMapper(CacheVersionMapper.class);
+    try {
+      engineProxy.openConnection();
+      cacheVersionMapper.incrementVersion(WorkbasketPermissionCache.CACHE_NAME);
+    } finally {
+      engineProxy.returnConnection();
+    }
+    workbasketService.checkAuthorization(workbasket.getId(), WorkbasketPermission.READ);
+
+    assertThat(cache.getInvalidationCount()).isEqualTo(invalidations + 1);
+  }
+
+  WorkbasketSummary createWorkbasketWithReadPermissionForUser11() throws Exception {
+    WorkbasketSummary workbasket =
+        DefaultTestEntities.defaultTestWorkbasket()
+            .buildAndStoreAsSummary(workbasketService, "businessadmin");
+    WorkbasketAccessItemBuilder.newWorkbasketAccessItem()
+        .workbasketId(workbasket.getId())
+        .accessId("user-1-1")
+        .permission(WorkbasketPermission.READ)
+        .buildAndStore(workbasketService, "businessadmin");
+    return workbasket;
+  }
+}
@@ -62,6 +62,7 @@ public class TaskanaConfiguration {
 
   private final List<String> domains;
   private final boolean enforceServiceLevel;
+  private final int priorityServiceProviderParallelism;
   // endregion
 
   // region authentication configuration
@@ -98,10 +99,18 @@ public class TaskanaConfiguration {
   private final Instant jobFirstRun;
   private final Duration jobRunEvery;
   private final Duration jobLockExpirationPeriod;
+  private final boolean jobLeaseEnabled;
+  private final Duration jobLeaseDuration;
   private final boolean taskCleanupJobEnabled;
   private final Duration taskCleanupJobMinimumAge;
   private final boolean taskCleanupJobAllCompletedSameParentBusiness;
   private final Duration taskCleanupJobLockExpirationPeriod;
+  private final int taskCleanupJobShardCount;
+  private final boolean taskArchiveJobEnabled;
+  private final Duration taskArchiveJobMinimumAge;
+  private final boolean reportSnapshotJobEnabled;
+  private final Duration reportSnapshotJobRunEvery;
+  private final Duration reportSnapshotMaxAge;
 
   private final boolean workbasketCleanupJobEnabled;
 
@@ -113,6 +122,8 @@ public class TaskanaConfiguration {
   private final Duration simpleHistoryCleanupJobLockExpirationPeriod;
   private final boolean taskUpdatePriorityJobEnabled;
   private final int taskUpdatePriorityJobBatchSize;
+  private final int taskUpdatePriorityJobWorkerCount;
+  private final int taskUpdatePriorityJobShardCount;
   private final Instant taskUpdatePriorityJobFirstRun;
   private final Duration taskUpdatePriorityJobRunEvery;
   private final Duration taskUpdatePriorityJobLockExpirationPeriod;
@@ -134,8 +145,19 @@ public class TaskanaConfiguration {
   private final boolean useSpecificDb2Taskquery;
   // endregion
 
+  // region cache configuration
+  private final boolean workbasketPermissionCacheEnabled;
+  private final int workbasketPermissionCacheMaxSize;
+  private final Duration workbasketPermissionCacheVersionCheckInterval;
+  private final boolean summaryCacheEnabled;
+  private final int summaryCacheMaxSize;
+  private final Duration summaryCacheVersionCheckInterval;
+  private final Duration reportCacheTimeToLive;
+  // endregion
+
   // region custom configuration
   private final Map<String, String> properties;
+
   // endregion
 
   private TaskanaConfiguration(Builder builder) {
@@ -146,6 +168,7 @@ public class TaskanaConfiguration {
     this.securityEnabled = builder.securityEnabled;
     this.domains = Collections.unmodifiableList(builder.domains);
     this.enforceServiceLevel = builder.enforceServiceLevel;
+    this.priorityServiceProviderParallelism = builder.priorityServiceProviderParallelism;
     // authentication configuration
     this.roleMap =
         builder.roleMap.entrySet().stream()
@@ -189,11 +212,19 @@ public class TaskanaConfiguration {
     this.jobFirstRun = builder.jobFirstRun;
     this.jobRunEvery = builder.jobRunEvery;
     this.jobLockExpirationPeriod = builder.jobLockExpirationPeriod;
+    this.jobLeaseEnabled = builder.jobLeaseEnabled;
+    this.jobLeaseDuration = builder.jobLeaseDuration;
     this.taskCleanupJobEnabled = builder.taskCleanupJobEnabled;
     this.taskCleanupJobMinimumAge = builder.taskCleanupJobMinimumAge;
     this.taskCleanupJobAllCompletedSameParentBusiness =
         builder.taskCleanupJobAllCompletedSameParentBusiness;
     this.taskCleanupJobLockExpirationPeriod = builder.taskCleanupJobLockExpirationPeriod;
+    this.taskCleanupJobShardCount = builder.taskCleanupJobShardCount;
+    this.taskArchiveJobEnabled = builder.taskArchiveJobEnabled;
+    this.taskArchiveJobMinimumAge = builder.taskArchiveJobMinimumAge;
+    this.reportSnapshotJobEnabled = builder.reportSnapshotJobEnabled;
+    this.reportSnapshotJobRunEvery = builder.reportSnapshotJobRunEvery;
+    this.reportSnapshotMaxAge = builder.reportSnapshotMaxAge;
     this.workbasketCleanupJobEnabled = builder.workbasketCleanupJobEnabled;
     this.workbasketCleanupJobLockExpirationPeriod =
         builder.workbasketCleanupJobLockExpirationPeriod;
@@ -206,6 +237,8 @@ public class TaskanaConfiguration {
         builder.simpleHistoryCleanupJobLockExpirationPeriod;
     this.taskUpdatePriorityJobEnabled = builder.taskUpdatePriorityJobEnabled;
     this.taskUpdatePriorityJobBatchSize = builder.taskUpdatePriorityJobBatchSize;
+    this.taskUpdatePriorityJobWorkerCount = builder.taskUpdatePriorityJobWorkerCount;
+    this.taskUpdatePriorityJobShardCount = builder.taskUpdatePriorityJobShardCount;
     this.taskUpdatePriorityJobFirstRun = builder.taskUpdatePriorityJobFirstRun;
     this.taskUpdatePriorityJobRunEvery = builder.taskUpdatePriorityJobRunEvery;
     this.taskUpdatePriorityJobLockExpirationPeriod =
@@ -221,6 +254,15 @@ public class TaskanaConfiguration {
         Collections.unmodifiableSet(builder.minimalPermissionsToAssignDomains);
     // database configuration
     this.useSpecificDb2Taskquery = builder.useSpecificDb2Taskquery;
+    // cache configuration
+    this.workbasketPermissionCacheEnabled = builder.workbasketPermissionCacheEnabled;
+    this.workbasketPermissionCacheMaxSize = builder.workbasketPermissionCacheMaxSize;
+    this.workbasketPermissionCacheVersionCheckInterval =
+        builder.workbasketPermissionCacheVersionCheckInterval;
+    this.summaryCacheEnabled = builder.summaryCacheEnabled;
+    this.summaryCacheMaxSize = builder.summaryCacheMaxSize;
+    this.summaryCacheVersionCheckInterval = builder.summaryCacheVersionCheckInterval;
+    this.reportCacheTimeToLive = builder.reportCacheTimeToLive;
     // custom configuration
     this.properties = Map.copyOf(builder.properties);
   }
@@ -275,6 +317,10 @@ public class TaskanaConfiguration {
     return enforceServiceLevel;
   }
 
+  public int getPriorityServiceProviderParallelism() {
+    return priorityServiceProviderParallelism;
+  }
+
   public Map<TaskanaRole, Set<String>> getRoleMap() {
     return roleMap;
   }
@@ -351,6 +397,14 @@ public class TaskanaConfiguration {
     return jobLockExpirationPeriod;
   }
 
+  public boolean isJobLeaseEnabled() {
+    return jobLeaseEnabled;
+  }
+
+  public Duration getJobLeaseDuration() {
+    return jobLeaseDuration;
+  }
+
   public boolean isTaskCleanupJobEnabled() {
     return taskCleanupJobEnabled;
   }
@@ -367,6 +421,30 @@ public class TaskanaConfiguration {
     return taskCleanupJobLockExpirationPeriod;
   }
 
+  public int getTaskCleanupJobShardCount() {
+    return taskCleanupJobShardCount;
+  }
+
+  public boolean isTaskArchiveJobEnabled() {
+    return taskArchiveJobEnabled;
+  }
+
+  public Duration getTaskArchiveJobMinimumAge() {
+    return taskArchiveJobMinimumAge;
+  }
+
+  public boolean isReportSnapshotJobEnabled() {
+    return reportSnapshotJobEnabled;
+  }
+
+  public Duration getReportSnapshotJobRunEvery() {
+    return reportSnapshotJobRunEvery;
+  }
+
+  public Duration getReportSnapshotMaxAge() {
+    return reportSnapshotMaxAge;
+  }
+
   public boolean isWorkbasketCleanupJobEnabled() {
     return workbasketCleanupJobEnabled;
   }
@@ -403,6 +481,14 @@ public class TaskanaConfiguration {
     return taskUpdatePriorityJobBatchSize;
   }
 
+  public int getTaskUpdatePriorityJobWorkerCount() {
+    return taskUpdatePriorityJobWorkerCount;
+  }
+
+  public int getTaskUpdatePriorityJobShardCount() {
+    return taskUpdatePriorityJobShardCount;
+  }
+
   public Instant getTaskUpdatePriorityJobFirstRun() {
     return taskUpdatePriorityJobFirstRun;
   }
@@ -447,6 +533,34 @@ public class TaskanaConfiguration {
     return useSpecificDb2Taskquery;
   }
 
+  public boolean isWorkbasketPermissionCacheEnabled() {
+    return workbasketPermissionCacheEnabled;
+  }
+
+  public int getWorkbasketPermissionCacheMaxSize() {
+    return workbasketPermissionCacheMaxSize;
+  }
+
+  public Duration getWorkbasketPermissionCacheVersionCheckInterval() {
+    return workbasketPermissionCacheVersionCheckInterval;
+  }
+
+  public boolean isSummaryCacheEnabled() {
+    return summaryCacheEnabled;
+  }
+
+  public int getSummaryCacheMaxSize() {
+    return summaryCacheMaxSize;
+  }
+
+  public Duration getSummaryCacheVersionCheckInterval() {
+    return summaryCacheVersionCheckInterval;
+  }
+
+  public Duration getReportCacheTimeToLive() {
+    return reportCacheTimeToLive;
+  }
+
   /**
    * return all properties loaded from taskana properties file. Per Design the normal Properties are
    * not immutable, so we return here an ImmutableMap, because we don't want direct changes in the
@@ -471,6 +585,7 @@ public class TaskanaConfiguration {
         securityEnabled,
         domains,
         enforceServiceLevel,
+        priorityServiceProviderParallelism,
         roleMap,
         classificationTypes,
         classificationCategoriesByType,
@@ -491,10 +606,18 @@ public class TaskanaConfiguration {
         jobFirstRun,
         jobRunEvery,
         jobLockExpirationPeriod,
+        jobLeaseEnabled,
+        jobLeaseDuration,
         taskCleanupJobEnabled,
         taskCleanupJobMinimumAge,
         taskCleanupJobAllCompletedSameParentBusiness,
         taskCleanupJobLockExpirationPeriod,
+        taskCleanupJobShardCount,
+        taskArchiveJobEnabled,
+        taskArchiveJobMinimumAge,
+        reportSnapshotJobEnabled,
+        reportSnapshotJobRunEvery,
+        reportSnapshotMaxAge,
         workbasketCleanupJobEnabled,
         workbasketCleanupJobLockExpirationPeriod,
         simpleHistoryCleanupJobEnabled,
@@ -504,6 +627,8 @@ public class TaskanaConfiguration {
         simpleHistoryCleanupJobLockExpirationPeriod,
         taskUpdatePriorityJobEnabled,
         taskUpdatePriorityJobBatchSize,
+        taskUpdatePriorityJobWorkerCount,
+        taskUpdatePriorityJobShardCount,
         taskUpdatePriorityJobFirstRun,
         taskUpdatePriorityJobRunEvery,
         taskUpdatePriorityJobLockExpirationPeriod,
@@ -515,6 +640,13 @@ public class TaskanaConfiguration {
         addAdditionalUserInfo,
         minimalPermissionsToAssignDomains,
         useSpecificDb2Taskquery,
+        workbasketPermissionCacheEnabled,
+        workbasketPermissionCacheMaxSize,
+        workbasketPermissionCacheVersionCheckInterval,
+        summaryCacheEnabled,
+        summaryCacheMaxSize,
+        summaryCacheVersionCheckInterval,
+        reportCacheTimeToLive,
         properties);
   }
 
@@ -530,6 +662,7 @@ public class TaskanaConfiguration {
     return useManagedTransactions == other.useManagedTransactions
         && securityEnabled == other.securityEnabled
         && enforceServiceLevel == other.enforceServiceLevel
+        && priorityServiceProviderParallelism == other.priorityServiceProviderParallelism
         && useWorkingTimeCalculation == other.useWorkingTimeCalculation
         && germanPublicHolidaysEnabled == other.germanPublicHolidaysEnabled
         && germanPublicHolidaysCorpusChristiEnabled
@@ -551,6 +684,12 @@ public class TaskanaConfiguration {
             == other.simpleHistoryCleanupJobAllCompletedSameParentBusiness
         && taskUpdatePriorityJobEnabled == other.taskUpdatePriorityJobEnabled
         && taskUpdatePriorityJobBatchSize == other.taskUpdatePriorityJobBatchSize
+        && taskUpdatePriorityJobWorkerCount == other.taskUpdatePriorityJobWorkerCount
+        && taskUpdatePriorityJobShardCount == other.taskUpdatePriorityJobShardCount
+        && jobLeaseEnabled == other.jobLeaseEnabled
+        && taskCleanupJobShardCount == other.taskCleanupJobShardCount
+        && taskArchiveJobEnabled == other.taskArchiveJobEnabled
+        && reportSnapshotJobEnabled == other.reportSnapshotJobEnabled
         && userInfoRefreshJobEnabled == other.userInfoRefreshJobEnabled
         && addAdditionalUserInfo == other.addAdditionalUserInfo
         && useSpecificDb2Taskquery == other.useSpecificDb2Taskquery
@@ -568,9 +707,13 @@ public class TaskanaConfiguration {
         && Objects.equals(jobFirstRun, other.jobFirstRun)
         && Objects.equals(jobRunEvery, other.jobRunEvery)
         && Objects.equals(jobLockExpirationPeriod, other.jobLockExpirationPeriod)
+        && Objects.equals(jobLeaseDuration, other.jobLeaseDuration)
         && Objects.equals(taskCleanupJobMinimumAge, other.taskCleanupJobMinimumAge)
         && Objects.equals(
             taskCleanupJobLockExpirationPeriod, other.taskCleanupJobLockExpirationPeriod)
+        && Objects.equals(taskArchiveJobMinimumAge, other.taskArchiveJobMinimumAge)
+        && Objects.equals(reportSnapshotJobRunEvery, other.reportSnapshotJobRunEvery)
+        && Objects.equals(reportSnapshotMaxAge, other.reportSnapshotMaxAge)
         && Objects.equals(
             workbasketCleanupJobLockExpirationPeriod,
             other.workbasketCleanupJobLockExpirationPeriod)
@@ -591,6 +734,15 @@ public class TaskanaConfiguration {
         && Objects.equals(customJobs, other.customJobs)
         && Objects.equals(
             minimalPermissionsToAssignDomains, other.minimalPermissionsToAssignDomains)
+        && workbasketPermissionCacheEnabled == other.workbasketPermissionCacheEnabled
+        && workbasketPermissionCacheMaxSize == other.workbasketPermissionCacheMaxSize
+        && Objects.equals(
+            workbasketPermissionCacheVersionCheckInterval,
+            other.workbasketPermissionCacheVersionCheckInterval)
+        && summaryCacheEnabled == other.summaryCacheEnabled
+        && summaryCacheMaxSize == other.summaryCacheMaxSize
+        && Objects.equals(summaryCacheVersionCheckInterval, other.summaryCacheVersionCheckInterval)
+        && Objects.equals(reportCacheTimeToLive, other.reportCacheTimeToLive)
         && Objects.equals(properties, other.properties);
   }
 
@@ -610,6 +762,8 @@ public class TaskanaConfiguration {
         + domains
         + ", enforceServiceLevel="
         + enforceServiceLevel
+        + ", priorityServiceProviderParallelism="
+        + priorityServiceProviderParallelism
         + ", roleMap="
         + roleMap
         + ", classificationTypes="
@@ -651,6 +805,10 @@ public class TaskanaConfiguration {
         + jobRunEvery
         + ", jobLockExpirationPeriod="
         + jobLockExpirationPeriod
+        + ", jobLeaseEnabled="
+        + jobLeaseEnabled
+        + ", jobLeaseDuration="
+        + jobLeaseDuration
         + ", taskCleanupJobEnabled="
         + taskCleanupJobEnabled
         + ", taskCleanupJobMinimumAge="
@@ -659,6 +817,18 @@ public class TaskanaConfiguration {
         + taskCleanupJobAllCompletedSameParentBusiness
         + ", taskCleanupJobLockExpirationPeriod="
         + taskCleanupJobLockExpirationPeriod
+        + ", taskCleanupJobShardCount="
+        + taskCleanupJobShardCount
+        + ", taskArchiveJobEnabled="
+        + taskArchiveJobEnabled
+        + ", taskArchiveJobMinimumAge="
+        + taskArchiveJobMinimumAge
+        + ", reportSnapshotJobEnabled="
+        + reportSnapshotJobEnabled
+        + ", reportSnapshotJobRunEvery="
+        + reportSnapshotJobRunEvery
+        + ", reportSnapshotMaxAge="
+        + reportSnapshotMaxAge
         + ", workbasketCleanupJobEnabled="
         + workbasketCleanupJobEnabled
         + ", workbasketCleanupJobLockExpirationPeriod="
@@ -677,6 +847,10 @@ public class TaskanaConfiguration {
         + taskUpdatePriorityJobEnabled
         + ", taskUpdatePriorityJobBatchSize="
         + taskUpdatePriorityJobBatchSize
+        + ", taskUpdatePriorityJobWorkerCount="
+        + taskUpdatePriorityJobWorkerCount
+        + ", taskUpdatePriorityJobShardCount="
+        + taskUpdatePriorityJobShardCount
         + ", taskUpdatePriorityJobFirstRun="
         + taskUpdatePriorityJobFirstRun
         + ", taskUpdatePriorityJobRunEvery="
@@ -699,6 +873,20 @@ public class TaskanaConfiguration {
         + minimalPermissionsToAssignDomains
         + ", useSpecificDb2Taskquery="
         + useSpecificDb2Taskquery
+        + ", workbasketPermissionCacheEnabled="
+        + workbasketPermissionCacheEnabled
+        + ", workbasketPermissionCacheMaxSize="
+        + workbasketPermissionCacheMaxSize
+        + ", workbasketPermissionCacheVersionCheckInterval="
+        + workbasketPermissionCacheVersionCheckInterval
+        + ", summaryCacheEnabled="
+        + summaryCacheEnabled
+        + ", summaryCacheMaxSize="
+        + summaryCacheMaxSize
+        + ", summaryCacheVersionCheckInterval="
+        + summaryCacheVersionCheckInterval
+        + ", reportCacheTimeToLive="
+        + reportCacheTimeToLive
         + ", properties="
         + properties
         + '}';
@@ -723,6 +911,10 @@ public class TaskanaConfiguration {
 
     @TaskanaProperty("taskana.servicelevel.validation.enforce")
     private boolean enforceServiceLevel = true;
+
+    @TaskanaProperty("taskana.priority.serviceProvider.parallelism")
+    private int priorityServiceProviderParallelism = 1;
+
     // endregion
 
     // region authentication configuration
@@ -796,6 +988,12 @@ public class TaskanaConfiguration {
     @TaskanaProperty("taskana.jobs.lockExpirationPeriod")
     private Duration jobLockExpirationPeriod = Duration.ofMinutes(30);
 
+    @TaskanaProperty("taskana.jobs.lease.enable")
+    private boolean jobLeaseEnabled = false;
+
+    @TaskanaProperty("taskana.jobs.lease.duration")
+    private Duration jobLeaseDuration = Duration.ofMinutes(5);
+
     @TaskanaProperty("taskana.jobs.cleanup.task.enable")
     private boolean taskCleanupJobEnabled = true;
 
@@ -808,6 +1006,24 @@ public class TaskanaConfiguration {
     @TaskanaProperty("taskana.jobs.cleanup.task.lockExpirationPeriod")
     private Duration taskCleanupJobLockExpirationPeriod = Duration.ofMinutes(30);
 
+    @TaskanaProperty("taskana.jobs.cleanup.task.shardCount")
+    private int taskCleanupJobShardCount = 1;
+
+    @TaskanaProperty("taskana.jobs.archive.task.enable")
+    private boolean taskArchiveJobEnabled = false;
+
+    @TaskanaProperty("taskana.jobs.archive.task.minimumAge")
+    private Duration taskArchiveJobMinimumAge = Duration.ofDays(14);
+
+    @TaskanaProperty("taskana.jobs.snapshot.report.enable")
+    private boolean reportSnapshotJobEnabled = false;
+
+    @TaskanaProperty("taskana.jobs.snapshot.report.runEvery")
+    private Duration reportSnapshotJobRunEvery = Duration.ofMinutes(1);
+
+    @TaskanaProperty("taskana.jobs.snapshot.report.maxAge")
+    private Duration reportSnapshotMaxAge = Duration.ofMinutes(5);
+
     @TaskanaProperty("taskana.jobs.cleanup.workbasket.enable")
     private boolean workbasketCleanupJobEnabled = true;
 
@@ -835,6 +1051,12 @@ public class TaskanaConfiguration {
     @TaskanaProperty("taskana.jobs.priority.task.batchSize")
     private int taskUpdatePriorityJobBatchSize = 100;
 
+    @TaskanaProperty("taskana.jobs.priority.task.workerCount")
+    private int taskUpdatePriorityJobWorkerCount = 1;
+
+    @TaskanaProperty("taskana.jobs.priority.task.shardCount")
+    private int taskUpdatePriorityJobShardCount = 1;
+
     @TaskanaProperty("taskana.jobs.priority.task.firstRunAt")
     private Instant taskUpdatePriorityJobFirstRun = Instant.parse("2023-01-01T00:00:00Z");
 
@@ -871,10 +1093,36 @@ public class TaskanaConfiguration {
     // region database configuration
     @TaskanaProperty("taskana.feature.useSpecificDb2Taskquery")
     private boolean useSpecificDb2Taskquery = true;
+
+    // endregion
+
+    // region cache configuration
+    @TaskanaProperty("taskana.cache.workbasketPermission.enabled")
+    private boolean workbasketPermissionCacheEnabled = false;
+
+    @TaskanaProperty("taskana.cache.workbasketPermission.maxSize")
+    private int workbasketPermissionCacheMaxSize = 10000;
+
+    @TaskanaProperty("taskana.cache.workbasketPermission.versionCheckInterval")
+    private Duration workbasketPermissionCacheVersionCheckInterval = Duration.ofSeconds(10);
+
+    @TaskanaProperty("taskana.cache.summary.enabled")
+    private boolean summaryCacheEnabled = false;
+
+    @TaskanaProperty("taskana.cache.summary.maxSize")
+    private int summaryCacheMaxSize = 10000;
+
+    @TaskanaProperty("taskana.cache.summary.versionCheckInterval")
+    private Duration summaryCacheVersionCheckInterval = Duration.ofSeconds(10);
+
+    @TaskanaProperty("taskana.cache.report.timeToLive")
+    private Duration reportCacheTimeToLive = Duration.ZERO;
+
     // endregion
 
     // region custom configuration
     private Map<String, String> properties = Collections.emptyMap();
+
     // endregion
 
     public Builder(DataSource dataSource, boolean useManagedTransactions, String schemaName) {
@@ -931,6 +1179,7 @@ public class TaskanaConfiguration {
       this.securityEnabled = securityEnabled;
       this.domains = conf.domains;
       this.enforceServiceLevel = conf.enforceServiceLevel;
+      this.priorityServiceProviderParallelism = conf.priorityServiceProviderParallelism;
       // authentication configuration
       this.roleMap = conf.roleMap;
       // classification configuration
@@ -956,11 +1205,19 @@ public class TaskanaConfiguration {
       this.jobFirstRun = conf.jobFirstRun;
       this.jobRunEvery = conf.jobRunEvery;
       this.jobLockExpirationPeriod = conf.jobLockExpirationPeriod;
+      this.jobLeaseEnabled = conf.jobLeaseEnabled;
+      this.jobLeaseDuration = conf.jobLeaseDuration;
       this.taskCleanupJobEnabled = conf.taskCleanupJobEnabled;
       this.taskCleanupJobMinimumAge = conf.taskCleanupJobMinimumAge;
       this.taskCleanupJobAllCompletedSameParentBusiness =
           conf.taskCleanupJobAllCompletedSameParentBusiness;
       this.taskCleanupJobLockExpirationPeriod = conf.taskCleanupJobLockExpirationPeriod;
+      this.taskCleanupJobShardCount = conf.taskCleanupJobShardCount;
+      this.taskArchiveJobEnabled = conf.taskArchiveJobEnabled;
+      this.taskArchiveJobMinimumAge = conf.taskArchiveJobMinimumAge;
+      this.reportSnapshotJobEnabled = conf.reportSnapshotJobEnabled;
+      this.reportSnapshotJobRunEvery = conf.reportSnapshotJobRunEvery;
+      this.reportSnapshotMaxAge = conf.reportSnapshotMaxAge;
       this.workbasketCleanupJobEnabled = conf.workbasketCleanupJobEnabled;
       this.workbasketCleanupJobLockExpirationPeriod = conf.workbasketCleanupJobLockExpirationPeriod;
       this.simpleHistoryCleanupJobEnabled = conf.simpleHistoryCleanupJobEnabled;
@@ -972,6 +1229,8 @@ public class TaskanaConfiguration {
           conf.simpleHistoryCleanupJobLockExpirationPeriod;
       this.taskUpdatePriorityJobEnabled = conf.taskUpdatePriorityJobEnabled;
       this.taskUpdatePriorityJobBatchSize = conf.taskUpdatePriorityJobBatchSize;
+      this.taskUpdatePriorityJobWorkerCount = conf.taskUpdatePriorityJobWorkerCount;
+      this.taskUpdatePriorityJobShardCount = conf.taskUpdatePriorityJobShardCount;
       this.taskUpdatePriorityJobFirstRun = conf.taskUpdatePriorityJobFirstRun;
       this.taskUpdatePriorityJobRunEvery = conf.taskUpdatePriorityJobRunEvery;
       this.taskUpdatePriorityJobLockExpirationPeriod =
@@ -986,6 +1245,15 @@ public class TaskanaConfiguration {
       this.minimalPermissionsToAssignDomains = conf.minimalPermissionsToAssignDomains;
       // database configuration
       this.useSpecificDb2Taskquery = conf.useSpecificDb2Taskquery;
+      // cache configuration
+      this.workbasketPermissionCacheEnabled = conf.workbasketPermissionCacheEnabled;
+      this.workbasketPermissionCacheMaxSize = conf.workbasketPermissionCacheMaxSize;
+      this.workbasketPermissionCacheVersionCheckInterval =
+          conf.workbasketPermissionCacheVersionCheckInterval;
+      this.summaryCacheEnabled = conf.summaryCacheEnabled;
+      this.summaryCacheMaxSize = conf.summaryCacheMaxSize;
+      this.summaryCacheVersionCheckInterval = conf.summaryCacheVersionCheckInterval;
+      this.reportCacheTimeToLive = conf.reportCacheTimeToLive;
       // custom configuration
       this.properties = conf.properties;
     }
@@ -1055,6 +1323,12 @@ public class TaskanaConfiguration {
       this.enforceServiceLevel = enforceServiceLevel;
       return this;
     }
+
+    public Builder priorityServiceProviderParallelism(int priorityServiceProviderParallelism) {
+      this.priorityServiceProviderParallelism = priorityServiceProviderParallelism;
+      return this;
+    }
+
     // endregion
 
     // region authentication configuration
@@ -1183,6 +1457,16 @@ public class TaskanaConfiguration {
       return this;
     }
 
+    public Builder jobLeaseEnabled(boolean jobLeaseEnabled) {
+      this.jobLeaseEnabled = jobLeaseEnabled;
+      return this;
+    }
+
+    public Builder jobLeaseDuration(Duration jobLeaseDuration) {
+      this.jobLeaseDuration = jobLeaseDuration;
+      return this;
+    }
+
     public Builder taskCleanupJobMinimumAge(Duration taskCleanupJobMinimumAge) {
       this.taskCleanupJobMinimumAge = taskCleanupJobMinimumAge;
       return this;
@@ -1200,6 +1484,36 @@ public class TaskanaConfiguration {
       return this;
     }
 
+    public Builder taskCleanupJobShardCount(int taskCleanupJobShardCount) {
+      this.taskCleanupJobShardCount = taskCleanupJobShardCount;
+      return this;
+    }
+
+    public Builder taskArchiveJobEnabled(boolean taskArchiveJobEnabled) {
+      this.taskArchiveJobEnabled = taskArchiveJobEnabled;
+      return this;
+    }
+
+    public Builder taskArchiveJobMinimumAge(Duration taskArchiveJobMinimumAge) {
+      this.taskArchiveJobMinimumAge = taskArchiveJobMinimumAge;
+      return this;
+    }
+
+    public Builder reportSnapshotJobEnabled(boolean reportSnapshotJobEnabled) {
+      this.reportSnapshotJobEnabled = reportSnapshotJobEnabled;
+      return this;
+    }
+
+    public Builder reportSnapshotJobRunEvery(Duration reportSnapshotJobRunEvery) {
+      this.reportSnapshotJobRunEvery = reportSnapshotJobRunEvery;
+      return this;
+    }
+
+    public Builder reportSnapshotMaxAge(Duration reportSnapshotMaxAge) {
+      this.reportSnapshotMaxAge = reportSnapshotMaxAge;
+      return this;
+    }
+
     public Builder workbasketCleanupJobEnabled(boolean workbasketCleanupJobEnabled) {
       this.workbasketCleanupJobEnabled = workbasketCleanupJobEnabled;
       return this;
@@ -1250,6 +1564,16 @@ public class TaskanaConfiguration {
       return this;
     }
 
+    public Builder taskUpdatePriorityJobWorkerCount(int taskUpdatePriorityJobWorkerCount) {
+      this.taskUpdatePriorityJobWorkerCount = taskUpdatePriorityJobWorkerCount;
+      return this;
+    }
+
+    public Builder taskUpdatePriorityJobShardCount(int taskUpdatePriorityJobShardCount) {
+      this.taskUpdatePriorityJobShardCount = taskUpdatePriorityJobShardCount;
+      return this;
+    }
+
     public Builder taskUpdatePriorityJobFirstRun(Instant taskUpdatePriorityJobFirstRun) {
       this.taskUpdatePriorityJobFirstRun = taskUpdatePriorityJobFirstRun;
       return this;
@@ -1313,6 +1637,49 @@ public class TaskanaConfiguration {
       return this;
     }
 
+    // endregion
+
+    // region cache configuration
+
+    public Builder workbasketPermissionCacheEnabled(boolean workbasketPermissionCacheEnabled) {
+      this.workbasketPermissionCacheEnabled = workbasketPermissionCacheEnabled;
+      return this;
+    }
+
+    public Builder workbasketPermissionCacheMaxSize(int workbasketPermissionCacheMaxSize) {
+      this.workbasketPermissionCacheMaxSize = workbasketPermissionCacheMaxSize;
+      return this;
+    }
+
+    public Builder workbasketPermissionCacheVersionCheckInterval(
+        Duration workbasketPermissionCacheVersionCheckInterval) {
+      this.workbasketPermissionCacheVersionCheckInterval =
+          workbasketPermissionCacheVersionCheckInterval;
+      return this;
+    }
+
+    public Builder summaryCacheEnabled(boolean summaryCacheEnabled) {
+      this.summaryCacheEnabled = summaryCacheEnabled;
+      return this;
+    }
+
+    public Builder summaryCacheMaxSize(int summaryCacheMaxSize) {
+      this.summaryCacheMaxSize = summaryCacheMaxSize;
+      return this;
+    }
+
+    public Builder summaryCacheVersionCheckInterval(Duration summaryCacheVersionCheckInterval) {
+      this.summaryCacheVersionCheckInterval = summaryCacheVersionCheckInterval;
+      return this;
+    }
+
+    public Builder reportCacheTimeToLive(Duration reportCacheTimeToLive) {
+      this.reportCacheTimeToLive = reportCacheTimeToLive;
+      return this;
+    }
+
+    // endregion
+
     public TaskanaConfiguration build() {
       adjustConfiguration();
       validateConfiguration();
@@ -1387,6 +1754,11 @@ public class TaskanaConfiguration {
     }
 
     private void validateConfiguration() {
+      if (priorityServiceProviderParallelism <= 0) {
+        throw new InvalidArgumentException(
+            "Parameter priorityServiceProviderParallelism "
+                + "(taskana.priority.serviceProvider.parallelism) must be a positive integer");
+      }
       if (jobBatchSize <= 0) {
         throw new InvalidArgumentException(
             "Parameter jobBatchSize (taskana.jobs.batchSize) must be a positive integer");
@@ -1411,11 +1783,33 @@ public class TaskanaConfiguration {
             "Parameter taskCleanupJobMinimumAge "
                 + "(taskana.jobs.cleanup.task.minimumAge) must not be negative");
       }
+      if (taskArchiveJobMinimumAge == null || taskArchiveJobMinimumAge.isNegative()) {
+        throw new InvalidArgumentException(
+            "Parameter taskArchiveJobMinimumAge "
+                + "(taskana.jobs.archive.task.minimumAge) must not be negative");
+      }
+      if (reportSnapshotJobRunEvery == null
+          || reportSnapshotJobRunEvery.isNegative()
+          || reportSnapshotJobRunEvery.isZero()) {
+        throw new InvalidArgumentException(
+            "Parameter reportSnapshotJobRunEvery "
+                + "(taskana.jobs.snapshot.report.runEvery) must be a positive duration");
+      }
+      if (reportSnapshotMaxAge == null || reportSnapshotMaxAge.isNegative()) {
+        throw new InvalidArgumentException(
+            "Parameter reportSnapshotMaxAge "
+                + "(taskana.jobs.snapshot.report.maxAge) must not be negative");
+      }
       if (taskUpdatePriorityJobBatchSize <= 0) {
         throw new InvalidArgumentException(
             "Parameter taskUpdatePriorityJobBatchSize (taskana.jobs.priority.task.batchSize)"
                 + " must be a positive integer");
       }
+      if (taskUpdatePriorityJobWorkerCount <= 0) {
+        throw new InvalidArgumentException(
+            "Parameter taskUpdatePriorityJobWorkerCount (taskana.jobs.priority.task.workerCount)"
+                + " must be a positive integer");
+      }
       if (taskUpdatePriorityJobRunEvery == null
           || taskUpdatePriorityJobRunEvery.isNegative()
           || taskUpdatePriorityJobRunEvery.isZero()) {
@@ -1440,6 +1834,47 @@ public class TaskanaConfiguration {
             "Parameter jobSchedulerPeriod (taskana.jobs.scheduler.period) "
                 + "must be a positive integer");
       }
+      if (workbasketPermissionCacheMaxSize <= 0) {
+        throw new InvalidArgumentException(
+            "Parameter workbasketPermissionCacheMaxSize "
+                + "(taskana.cache.workbasketPermission.maxSize) must be a positive integer");
+      }
+      if (workbasketPermissionCacheVersionCheckInterval == null
+          || workbasketPermissionCacheVersionCheckInterval.isNegative()) {
+        throw new InvalidArgumentException(
+            "Parameter workbasketPermissionCacheVersionCheckInterval "
+                + "(taskana.cache.workbasketPermission.versionCheckInterval) must not be negative");
+      }
+      if (summaryCacheMaxSize <= 0) {
+        throw new InvalidArgumentException(
+            "Parameter summaryCacheMaxSize "
+                + "(taskana.cache.summary.maxSize) must be a positive integer");
+      }
+      if (summaryCacheVersionCheckInterval == null
+          || summaryCacheVersionCheckInterval.isNegative()) {
+        throw new InvalidArgumentException(
+            "Parameter summaryCacheVersionCheckInterval "
+                + "(taskana.cache.summary.versionCheckInterval) must not be negative");
+      }
+      if (reportCacheTimeToLive == null || reportCacheTimeToLive.isNegative()) {
+        throw new InvalidArgumentException(
+            "Parameter reportCacheTimeToLive "
+                + "(taskana.cache.report.timeToLive) must not be negative");
+      }
+      if (jobLeaseDuration == null || jobLeaseDuration.isNegative() || jobLeaseDuration.isZero()) {
+        throw new InvalidArgumentException(
+            "Parameter jobLeaseDuration (taskana.jobs.lease.duration) must be a positive duration");
+      }
+      if (taskCleanupJobShardCount < 1 || taskCleanupJobShardCount > 16) {
+        throw new InvalidArgumentException(
+            "Parameter taskCleanupJobShardCount (taskana.jobs.cleanup.task.shardCount)"
+                + " must be between 1 and 16");
+      }
+      if (taskUpdatePriorityJobShardCount < 1 || taskUpdatePriorityJobShardCount > 16) {
+        throw new InvalidArgumentException(
+            "Parameter taskUpdatePriorityJobShardCount (taskana.jobs.priority.task.shardCount)"
+                + " must be between 1 and 16");
+      }
       if (!new HashSet<>(classificationTypes)
           .containsAll(classificationCategoriesByType.keySet())) {
         throw new InvalidArgumentException(
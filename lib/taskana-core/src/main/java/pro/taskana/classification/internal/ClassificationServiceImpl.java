@@ -7,6 +7,7 @@ import java.sql.SQLIntegrityConstraintViolationException;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -24,13 +25,17 @@ import pro.taskana.classification.api.models.Classification;
 import pro.taskana.classification.api.models.ClassificationSummary;
 import pro.taskana.classification.internal.jobs.ClassificationChangedJob;
 import pro.taskana.classification.internal.models.ClassificationImpl;
+import pro.taskana.classification.internal.models.ClassificationSummaryImpl;
+import pro.taskana.common.api.KeyDomain;
 import pro.taskana.common.api.ScheduledJob;
 import pro.taskana.common.api.TaskanaRole;
 import pro.taskana.common.api.exceptions.ConcurrencyException;
 import pro.taskana.common.api.exceptions.DomainNotFoundException;
 import pro.taskana.common.api.exceptions.InvalidArgumentException;
 import pro.taskana.common.api.exceptions.NotAuthorizedException;
+import pro.taskana.common.internal.CacheVersionMapper;
 import pro.taskana.common.internal.InternalTaskanaEngine;
+import pro.taskana.common.internal.SummaryCache;
 import pro.taskana.common.internal.util.IdGenerator;
 import pro.taskana.common.internal.util.LogSanitizer;
 import pro.taskana.common.internal.util.ObjectAttributeChangeDetector;
@@ -45,25 +50,50 @@ import pro.taskana.task.internal.TaskMapper;
 /** This is the implementation of ClassificationService. */
 public class ClassificationServiceImpl implements ClassificationService {
 
+  public static final String SUMMARY_CACHE_NAME = "CLASSIFICATION_SUMMARY";
+
   private static final Logger LOGGER = LoggerFactory.getLogger(ClassificationServiceImpl.class);
   private final HistoryEventManager historyEventManager;
   private final PriorityServiceManager priorityServiceManager;
   private final ClassificationMapper classificationMapper;
   private final TaskMapper taskMapper;
   private final InternalTaskanaEngine taskanaEngine;
+  private final CacheVersionMapper cacheVersionMapper;
+  private final SummaryCache<ClassificationSummary> summaryCache;
 
   public ClassificationServiceImpl(
       InternalTaskanaEngine taskanaEngine,
       PriorityServiceManager priorityServiceManager,
       ClassificationMapper classificationMapper,
-      TaskMapper taskMapper) {
+      TaskMapper taskMapper,
+      CacheVersionMapper cacheVersionMapper,
+      SummaryCache<ClassificationSummary> summaryCache) {
     this.taskanaEngine = taskanaEngine;
     this.priorityServiceManager = priorityServiceManager;
     this.classificationMapper = classificationMapper;
     this.taskMapper = taskMapper;
+    this.cacheVersionMapper = cacheVersionMapper;
+    this.summaryCache = summaryCache;
     this.historyEventManager = taskanaEngine.getHistoryEventManager();
   }
 
+  public static SummaryCache<ClassificationSummary> createSummaryCache(
+      boolean enabled, int maxSize, Duration versionCheckInterval) {
+    return new SummaryCache<>(
+        SUMMARY_CACHE_NAME,
+        enabled,
+        maxSize,
+        versionCheckInterval,
+        ClassificationSummary::getId,
+        summary -> new KeyDomain(summary.getKey(), summary.getDomain()),
+        summary -> {
+          ClassificationSummaryImpl copy = (ClassificationSummaryImpl) summary.copy();
+          copy.setId(summary.getId());
+          copy.setKey(summary.getKey());
+          return copy;
+        });
+  }
+
   @Override
   public Classification getClassification(String key, String domain)
       throws ClassificationNotFoundException {
@@ -135,6 +165,7 @@ public class ClassificationServiceImpl implements ClassificationService {
 
       try {
         this.classificationMapper.deleteClassification(classificationId);
+        invalidateSummaryCache();
 
         if (historyEventManager.isEnabled()) {
           String details =
@@ -205,6 +236,7 @@ public class ClassificationServiceImpl implements ClassificationService {
       validateAndPopulateParentInformation(classificationImpl);
 
       classificationMapper.insert(classificationImpl);
+      invalidateSummaryCache();
 
       if (historyEventManager.isEnabled()) {
         String details =
@@ -261,6 +293,7 @@ public class ClassificationServiceImpl implements ClassificationService {
 
       this.checkExistenceOfParentClassification(oldClassification, classificationImpl);
       classificationMapper.update(classificationImpl);
+      invalidateSummaryCache();
 
       if (!priorityServiceManager.isEnabled()) {
         this.createJobIfPriorityOrServiceLevelHasChanged(oldClassification, classificationImpl);
@@ -303,6 +336,53 @@ public class ClassificationServiceImpl implements ClassificationService {
     return classification;
   }
 
+  /**
+   * Returns the {@linkplain ClassificationSummary ClassificationSummaries} with the given ids.
+   * Summaries which are not present in the summary cache are queried and put into the cache.
+   *
+   * @param ids the ids of the requested {@linkplain ClassificationSummary ClassificationSummaries}
+   * @return the found {@linkplain ClassificationSummary ClassificationSummaries}
+   */
+  public List<ClassificationSummary> getClassificationSummaries(Collection<String> ids) {
+    try {
+      taskanaEngine.openConnection();
+      validateSummaryCache();
+      return summaryCache.getAll(
+          ids,
+          missingIds -> createClassificationQuery().idIn(missingIds.toArray(String[]::new)).list());
+    } finally {
+      taskanaEngine.returnConnection();
+    }
+  }
+
+  /**
+   * Returns the {@linkplain ClassificationSummary} of the {@linkplain Classification} which {@link
+   * #getClassification(String, String)} would return. The result is served from the summary cache
+   * if possible.
+   *
+   * @param key the key of the {@linkplain Classification}
+   * @param domain the domain of the {@linkplain Classification}
+   * @return the {@linkplain ClassificationSummary}
+   * @throws ClassificationNotFoundException if no {@linkplain Classification} with the given key
+   *     exists in the given domain or the master domain
+   */
+  public ClassificationSummary getClassificationSummary(String key, String domain)
+      throws ClassificationNotFoundException {
+    try {
+      taskanaEngine.openConnection();
+      validateSummaryCache();
+      KeyDomain keyDomain = new KeyDomain(key, domain);
+      ClassificationSummary summary = summaryCache.get(keyDomain);
+      if (summary == null) {
+        summary = getClassification(key, domain).asSummary();
+        summaryCache.put(keyDomain, summary);
+      }
+      return summary;
+    } finally {
+      taskanaEngine.returnConnection();
+    }
+  }
+
   private static void validateServiceLevel(Classification classification)
       throws MalformedServiceLevelException {
     String serviceLevel = classification.getServiceLevel();
@@ -381,6 +461,7 @@ public class ClassificationServiceImpl implements ClassificationService {
               masterClassification);
         }
         classificationMapper.insert(masterClassification);
+        invalidateSummaryCache();
         if (LOGGER.isDebugEnabled()) {
           LOGGER.debug(
               "Method createClassification: Classification created in "
@@ -598,4 +679,17 @@ public class ClassificationServiceImpl implements ClassificationService {
       taskanaEngine.getEngine().getJobService().createJob(job);
     }
   }
+
+  private void validateSummaryCache() {
+    summaryCache.validate(() -> cacheVersionMapper.getVersion(SUMMARY_CACHE_NAME));
+  }
+
+  private void invalidateSummaryCache() {
+    // the version is incremented even if the cache is disabled for this instance,
+    // since other instances sharing the database may have it enabled
+    cacheVersionMapper.incrementVersion(SUMMARY_CACHE_NAME);
+    // concurrent readers may cache the old rows again until the transaction is committed
+    summaryCache.invalidate();
+    taskanaEngine.runAfterTransaction(summaryCache::invalidate);
+  }
 }
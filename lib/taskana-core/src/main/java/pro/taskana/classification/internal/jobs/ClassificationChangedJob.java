@@ -1,6 +1,5 @@
 package pro.taskana.classification.internal.jobs;
 
-import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -12,7 +11,6 @@ import pro.taskana.common.api.exceptions.SystemException;
 import pro.taskana.common.api.exceptions.TaskanaException;
 import pro.taskana.common.internal.jobs.AbstractTaskanaJob;
 import pro.taskana.common.internal.transaction.TaskanaTransactionProvider;
-import pro.taskana.common.internal.util.CollectionUtil;
 import pro.taskana.task.internal.TaskServiceImpl;
 import pro.taskana.task.internal.jobs.TaskRefreshJob;
 
@@ -26,7 +24,6 @@ public class ClassificationChangedJob extends AbstractTaskanaJob {
   public static final String PRIORITY_CHANGED = "priorityChanged";
   public static final String SERVICE_LEVEL_CHANGED = "serviceLevelChanged";
   private static final Logger LOGGER = LoggerFactory.getLogger(ClassificationChangedJob.class);
-  private static final String TASK_IDS = "taskIds";
   private final String classificationId;
   private final boolean priorityChanged;
   private final boolean serviceLevelChanged;
@@ -45,10 +42,30 @@ public class ClassificationChangedJob extends AbstractTaskanaJob {
     LOGGER.info("Running ClassificationChangedJob for classification ({})", classificationId);
     try {
       TaskServiceImpl taskService = (TaskServiceImpl) taskanaEngineImpl.getTaskService();
-      List<String> affectedTaskIds =
-          taskService.findTasksIdsAffectedByClassificationChange(classificationId);
-      if (!affectedTaskIds.isEmpty()) {
-        scheduleTaskRefreshJobs(affectedTaskIds);
+      int batchSize = taskanaEngineImpl.getConfiguration().getJobBatchSize();
+      int affectedTasks = 0;
+      int scheduledJobs = 0;
+      String lastTaskId = null;
+      List<String> taskIdBatch;
+      do {
+        taskIdBatch =
+            taskService.findTaskIdsAffectedByClassificationChange(
+                classificationId, lastTaskId, batchSize);
+        if (!taskIdBatch.isEmpty()) {
+          String upToTaskId = taskIdBatch.get(taskIdBatch.size() - 1);
+          scheduleTaskRefreshJob(lastTaskId, upToTaskId);
+          affectedTasks += taskIdBatch.size();
+          scheduledJobs++;
+          lastTaskId = upToTaskId;
+        }
+      } while (taskIdBatch.size() == batchSize);
+      if (LOGGER.isDebugEnabled()) {
+        LOGGER.debug(
+            "Created {} TaskRefreshJobs out of {} affected tasks "
+                + "with a maximum number of {} tasks each. ",
+            scheduledJobs,
+            affectedTasks,
+            batchSize);
       }
       LOGGER.info("ClassificationChangedJob ended successfully.");
     } catch (Exception e) {
@@ -61,31 +78,19 @@ public class ClassificationChangedJob extends AbstractTaskanaJob {
     return ClassificationChangedJob.class.getName();
   }
 
-  private void scheduleTaskRefreshJobs(List<String> affectedTaskIds) {
-    int batchSize = taskanaEngineImpl.getConfiguration().getJobBatchSize();
-    Collection<List<String>> affectedTaskBatches =
-        CollectionUtil.partitionBasedOnSize(affectedTaskIds, batchSize);
-    if (LOGGER.isDebugEnabled()) {
-      LOGGER.debug(
-          "Creating {} TaskRefreshJobs out of {} affected tasks "
-              + "with a maximum number of {} tasks each. ",
-          affectedTaskBatches.size(),
-          affectedTaskIds.size(),
-          batchSize);
-    }
-    for (List<String> taskIdBatch : affectedTaskBatches) {
-      Map<String, String> args = new HashMap<>();
-      if (!taskIdBatch.isEmpty()) {
-        String taskIds = String.join(",", affectedTaskIds);
-        args.put(TASK_IDS, taskIds);
-        args.put(PRIORITY_CHANGED, Boolean.toString(priorityChanged));
-        args.put(SERVICE_LEVEL_CHANGED, Boolean.toString(serviceLevelChanged));
-        ScheduledJob job = new ScheduledJob();
-        job.setType(TaskRefreshJob.class.getName());
-        job.setArguments(args);
-        taskanaEngineImpl.getJobService().createJob(job);
-      }
+  private void scheduleTaskRefreshJob(String lastTaskId, String upToTaskId) {
+    Map<String, String> args = new HashMap<>();
+    args.put(TaskRefreshJob.CLASSIFICATION_ID, classificationId);
+    if (lastTaskId != null) {
+      args.put(TaskRefreshJob.LAST_TASK_ID, lastTaskId);
     }
+    args.put(TaskRefreshJob.UP_TO_TASK_ID, upToTaskId);
+    args.put(PRIORITY_CHANGED, Boolean.toString(priorityChanged));
+    args.put(SERVICE_LEVEL_CHANGED, Boolean.toString(serviceLevelChanged));
+    ScheduledJob job = new ScheduledJob();
+    job.setType(TaskRefreshJob.class.getName());
+    job.setArguments(args);
+    taskanaEngineImpl.getJobService().createJob(job);
   }
 
   @Override
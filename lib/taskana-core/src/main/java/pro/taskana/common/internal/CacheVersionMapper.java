@@ -0,0 +1,19 @@
+package pro.taskana.common.internal;
+
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.Select;
+import org.apache.ibatis.annotations.Update;
+
+/**
+ * This class provides access to the CACHE_VERSION table. Each row holds a counter which is
+ * incremented whenever the data backing an engine-local cache changes, so that other TASKANA
+ * instances sharing the database can detect that their cache is stale.
+ */
+public interface CacheVersionMapper {
+
+  @Select("SELECT VERSION FROM CACHE_VERSION WHERE NAME = #{name}")
+  Long getVersion(@Param("name") String name);
+
+  @Update("UPDATE CACHE_VERSION SET VERSION = VERSION + 1 WHERE NAME = #{name}")
+  int incrementVersion(@Param("name") String name);
+}
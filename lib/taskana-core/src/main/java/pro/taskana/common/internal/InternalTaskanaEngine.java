@@ -58,6 +58,27 @@ public interface InternalTaskanaEngine {
         });
   }
 
+  /**
+   * Executes the given supplier like {@linkplain #executeInDatabaseConnection(Supplier)}, but all
+   * statements of the supplier take effect together or not at all. If the connection is already
+   * part of a transaction, the statements are rolled back to a savepoint on failure. Otherwise they
+   * are committed in their own transaction.
+   *
+   * @param supplier a function that returns something of type T
+   * @param <T> any type
+   * @return the result of the supplier
+   */
+  <T> T executeInDatabaseTransaction(Supplier<T> supplier);
+
+  /**
+   * Runs the given action once the current transaction is committed or rolled back. This is only
+   * possible if TASKANA ends the transaction itself, i.e. in mode AUTOCOMMIT or within {@linkplain
+   * #executeInDatabaseTransaction(Supplier)}. Otherwise, the action runs immediately.
+   *
+   * @param action the action to run
+   */
+  void runAfterTransaction(Runnable action);
+
   /** Initializes the SqlSessionManager. */
   void initSqlSession();
 
@@ -69,9 +69,21 @@ public interface JobMapper {
               + "where JOB_ID = #{jobId}")
   void update(ScheduledJob job);
 
+  @Update(
+      value =
+          "UPDATE SCHEDULED_JOB SET "
+              + "ARGUMENTS = #{arguments,jdbcType=CLOB ,javaType=java.util.Map,typeHandler=pro.taskana.common.internal.persistence.MapTypeHandler} "
+              + "where JOB_ID = #{jobId}")
+  void updateArguments(ScheduledJob job);
+
   @Delete(value = "DELETE FROM SCHEDULED_JOB WHERE JOB_ID = #{jobId}")
   void delete(ScheduledJob job);
 
   @Delete(value = "DELETE FROM SCHEDULED_JOB WHERE TYPE = #{jobType}")
   void deleteMultiple(String jobType);
+
+  @Delete(
+      value =
+          "DELETE FROM SCHEDULED_JOB WHERE TYPE = #{jobType} AND (LOCK_EXPIRES is null OR LOCK_EXPIRES < #{now})")
+  void deleteMultipleNotLocked(@Param("jobType") String jobType, @Param("now") Instant now);
 }
@@ -36,8 +36,15 @@ public class JobServiceImpl implements JobService {
     return job;
   }
 
+  /**
+   * Deletes the jobs of the given type. Jobs which are currently locked, e.g. shards of a run which
+   * another node has leased, are kept until they have finished or their lock has expired.
+   *
+   * @param jobType the type of the jobs which should be deleted
+   */
   public void deleteJobs(String jobType) {
-    taskanaEngineImpl.executeInDatabaseConnection(() -> jobMapper.deleteMultiple(jobType));
+    taskanaEngineImpl.executeInDatabaseConnection(
+        () -> jobMapper.deleteMultipleNotLocked(jobType, Instant.now()));
     if (LOGGER.isDebugEnabled()) {
       LOGGER.debug("Deleted jobs of type: {}", jobType);
     }
@@ -45,25 +52,11 @@ public class JobServiceImpl implements JobService {
 
   public ScheduledJob lockJob(ScheduledJob job, String owner) {
     job.setLockedBy(owner);
-    Class<?> jobClass = null;
-    try {
-      jobClass = Thread.currentThread().getContextClassLoader().loadClass(job.getType());
-      job.setLockExpires(
-          Instant.now()
-              .plus(
-                  (Duration)
-                      jobClass
-                          .getMethod("getLockExpirationPeriod", TaskanaConfiguration.class)
-                          .invoke(null, taskanaEngineImpl.getEngine().getConfiguration())));
-    } catch (ClassNotFoundException | NoSuchMethodException e) {
-      throw new SystemException(
-          String.format(
-              "Job '%s' does not have a method matching ('getLockExpirationPeriod', %s",
-              jobClass, TaskanaConfiguration.class));
-    } catch (InvocationTargetException | IllegalAccessException e) {
-      throw new SystemException(
-          String.format(
-              "Caught Exception while invoking method 'getLockExpirationPeriod' by reflection"));
+    TaskanaConfiguration configuration = taskanaEngineImpl.getEngine().getConfiguration();
+    if (configuration.isJobLeaseEnabled()) {
+      job.setLockExpires(Instant.now().plus(configuration.getJobLeaseDuration()));
+    } else {
+      job.setLockExpires(Instant.now().plus(getLockExpirationPeriod(job, configuration)));
     }
 
     job.setRetryCount(job.getRetryCount() - 1);
@@ -74,6 +67,19 @@ public class JobServiceImpl implements JobService {
     return job;
   }
 
+  /**
+   * Stores the arguments of the given job. The other columns are left untouched, so that a renewed
+   * lease isn't overwritten.
+   *
+   * @param job the job whose arguments should be stored
+   */
+  public void updateJobArguments(ScheduledJob job) {
+    taskanaEngineImpl.executeInDatabaseConnection(() -> jobMapper.updateArguments(job));
+    if (LOGGER.isDebugEnabled()) {
+      LOGGER.debug("Updated arguments of job {}: {}", job.getJobId(), job.getArguments());
+    }
+  }
+
   public List<ScheduledJob> findJobsToRun() {
     List<ScheduledJob> availableJobs =
         taskanaEngineImpl.executeInDatabaseConnection(() -> jobMapper.findJobsToRun(Instant.now()));
@@ -90,6 +96,27 @@ public class JobServiceImpl implements JobService {
     }
   }
 
+  private static Duration getLockExpirationPeriod(
+      ScheduledJob job, TaskanaConfiguration configuration) {
+    Class<?> jobClass = null;
+    try {
+      jobClass = Thread.currentThread().getContextClassLoader().loadClass(job.getType());
+      return (Duration)
+          jobClass
+              .getMethod("getLockExpirationPeriod", TaskanaConfiguration.class)
+              .invoke(null, configuration);
+    } catch (ClassNotFoundException | NoSuchMethodException e) {
+      throw new SystemException(
+          String.format(
+              "Job '%s' does not have a method matching ('getLockExpirationPeriod', %s",
+              jobClass, TaskanaConfiguration.class));
+    } catch (InvocationTargetException | IllegalAccessException e) {
+      throw new SystemException(
+          String.format(
+              "Caught Exception while invoking method 'getLockExpirationPeriod' by reflection"));
+    }
+  }
+
   private void initializeDefaultJobProperties(ScheduledJob job) {
     Instant now = Instant.now();
     job.setCreated(now);
@@ -0,0 +1,263 @@
+package pro.taskana.common.internal;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import pro.taskana.common.api.KeyDomain;
+
+/**
+ * Engine-wide read-through cache for the summaries of rarely changing reference data like
+ * classifications and workbaskets.
+ *
+ * <p>Entries are reachable by their id and by their {@linkplain KeyDomain}. The cache is bounded
+ * and evicts the least recently used entry. Summaries are copied when they are put into and taken
+ * out of the cache, so callers can never modify a cached instance. Every change of the underlying
+ * data increments the version stored in the CACHE_VERSION table. The version is compared against
+ * the last known one at most once per configured interval and the cache is cleared on a mismatch.
+ *
+ * @param <T> the type of the cached summaries
+ */
+public class SummaryCache<T> {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(SummaryCache.class);
+
+  private final String name;
+  private final boolean enabled;
+  private final long versionCheckIntervalNanos;
+  private final Function<T, String> idFunction;
+  private final Function<T, KeyDomain> keyDomainFunction;
+  private final UnaryOperator<T> copyFunction;
+  private final Map<KeyDomain, String> idsByKeyDomain = new HashMap<>();
+  private final Map<String, T> entries;
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder invalidations = new LongAdder();
+  private Long knownVersion;
+  private long lastVersionCheck;
+
+  /**
+   * Creates a SummaryCache.
+   *
+   * @param name the name of the row in the CACHE_VERSION table which belongs to this cache
+   * @param enabled whether this cache stores anything at all
+   * @param maxSize the maximum number of cached summaries
+   * @param versionCheckInterval the minimum time between two comparisons of the version
+   * @param idFunction extracts the id of a summary
+   * @param keyDomainFunction extracts the {@linkplain KeyDomain} of a summary
+   * @param copyFunction creates an exact copy of a summary
+   */
+  public SummaryCache(
+      String name,
+      boolean enabled,
+      int maxSize,
+      Duration versionCheckInterval,
+      Function<T, String> idFunction,
+      Function<T, KeyDomain> keyDomainFunction,
+      UnaryOperator<T> copyFunction) {
+    this.name = name;
+    this.enabled = enabled;
+    this.versionCheckIntervalNanos = versionCheckInterval.toNanos();
+    this.idFunction = idFunction;
+    this.keyDomainFunction = keyDomainFunction;
+    this.copyFunction = copyFunction;
+    this.entries =
+        new LinkedHashMap<>(16, 0.75f, true) {
+          @Override
+          protected boolean removeEldestEntry(Map.Entry<String, T> eldest) {
+            if (size() > maxSize) {
+              // lookups by a fallback KeyDomain of the evicted entry simply become misses
+              idsByKeyDomain.remove(keyDomainFunction.apply(eldest.getValue()), eldest.getKey());
+              return true;
+            }
+            return false;
+          }
+        };
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * Returns a copy of the cached summary with the given id.
+   *
+   * @param id the id of the summary
+   * @return the summary or null if nothing is cached
+   */
+  public T get(String id) {
+    if (!enabled) {
+      return null;
+    }
+    T summary;
+    synchronized (entries) {
+      summary = entries.get(id);
+    }
+    return countAndCopy(summary);
+  }
+
+  /**
+   * Returns a copy of the cached summary which was stored for the given {@linkplain KeyDomain}.
+   *
+   * @param keyDomain the key and domain of the summary
+   * @return the summary or null if nothing is cached
+   */
+  public T get(KeyDomain keyDomain) {
+    if (!enabled) {
+      return null;
+    }
+    T summary = null;
+    synchronized (entries) {
+      String id = idsByKeyDomain.get(keyDomain);
+      if (id != null) {
+        summary = entries.get(id);
+      }
+    }
+    return countAndCopy(summary);
+  }
+
+  /**
+   * Returns the summaries with the given ids. Summaries which are not cached are loaded with the
+   * given loader and put into the cache.
+   *
+   * @param ids the ids of the summaries
+   * @param loader loads the summaries for the given ids which are not cached
+   * @return the cached and loaded summaries. Summaries which the loader did not find are missing.
+   */
+  public List<T> getAll(Collection<String> ids, Function<Set<String>, List<T>> loader) {
+    List<T> result = new ArrayList<>(ids.size());
+    Set<String> missingIds = new LinkedHashSet<>();
+    for (String id : ids) {
+      T summary = get(id);
+      if (summary == null) {
+        missingIds.add(id);
+      } else {
+        result.add(summary);
+      }
+    }
+    if (!missingIds.isEmpty()) {
+      List<T> loadedSummaries = loader.apply(missingIds);
+      loadedSummaries.forEach(this::put);
+      result.addAll(loadedSummaries);
+    }
+    return result;
+  }
+
+  public void put(T summary) {
+    put(keyDomainFunction.apply(summary), summary);
+  }
+
+  /**
+   * Puts a copy of the given summary into the cache and makes it reachable by the given {@link
+   * KeyDomain} in addition to its own one. This allows to cache the result of a lookup which fell
+   * back to another domain.
+   *
+   * @param keyDomain the {@linkplain KeyDomain} which was used to look up the summary
+   * @param summary the summary
+   */
+  public void put(KeyDomain keyDomain, T summary) {
+    if (!enabled) {
+      return;
+    }
+    T copy = copyFunction.apply(summary);
+    String id = idFunction.apply(copy);
+    synchronized (entries) {
+      entries.put(id, copy);
+      idsByKeyDomain.put(keyDomainFunction.apply(copy), id);
+      idsByKeyDomain.put(keyDomain, id);
+    }
+  }
+
+  /**
+   * Clears the cache if the version provided by the given supplier differs from the last known one.
+   * The supplier is only consulted once per configured version check interval.
+   *
+   * @param currentVersion supplies the version currently stored in the database
+   */
+  public void validate(Supplier<Long> currentVersion) {
+    if (!enabled) {
+      return;
+    }
+    long now = System.nanoTime();
+    synchronized (this) {
+      if (knownVersion != null && now - lastVersionCheck < versionCheckIntervalNanos) {
+        return;
+      }
+      Long version = currentVersion.get();
+      if (knownVersion != null && !knownVersion.equals(version)) {
+        if (LOGGER.isDebugEnabled()) {
+          LOGGER.debug(
+              "Version of {} changed from {} to {}. Clearing cache.", name, knownVersion, version);
+        }
+        invalidate();
+      }
+      knownVersion = version;
+      lastVersionCheck = now;
+    }
+  }
+
+  /** Removes all entries from this cache. */
+  public void invalidate() {
+    if (!enabled) {
+      return;
+    }
+    synchronized (entries) {
+      entries.clear();
+      idsByKeyDomain.clear();
+    }
+    invalidations.increment();
+  }
+
+  public long getHitCount() {
+    return hits.sum();
+  }
+
+  public long getMissCount() {
+    return misses.sum();
+  }
+
+  /**
+   * Returns the share of lookups which were answered from the cache.
+   *
+   * @return the hit rate between 0 and 1. 0 if there was no lookup yet.
+   */
+  public double getHitRate() {
+    long hitCount = hits.sum();
+    long lookups = hitCount + misses.sum();
+    return lookups == 0 ? 0 : (double) hitCount / lookups;
+  }
+
+  public long getInvalidationCount() {
+    return invalidations.sum();
+  }
+
+  public int size() {
+    synchronized (entries) {
+      return entries.size();
+    }
+  }
+
+  private T countAndCopy(T summary) {
+    if (summary == null) {
+      misses.increment();
+      return null;
+    }
+    hits.increment();
+    return copyFunction.apply(summary);
+  }
+}
@@ -5,12 +5,17 @@ import static pro.taskana.common.api.TaskanaEngine.ConnectionManagementMode.EXPL
 import java.security.PrivilegedAction;
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.sql.Savepoint;
 import java.time.Instant;
 import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Deque;
-import java.util.HashSet;
+import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.Supplier;
 import javax.security.auth.Subject;
@@ -28,6 +33,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import pro.taskana.TaskanaConfiguration;
 import pro.taskana.classification.api.ClassificationService;
+import pro.taskana.classification.api.models.ClassificationSummary;
 import pro.taskana.classification.internal.ClassificationMapper;
 import pro.taskana.classification.internal.ClassificationQueryMapper;
 import pro.taskana.classification.internal.ClassificationServiceImpl;
@@ -56,6 +62,7 @@ import pro.taskana.common.internal.workingtime.WorkingTimeCalculatorImpl;
 import pro.taskana.monitor.api.MonitorService;
 import pro.taskana.monitor.internal.MonitorMapper;
 import pro.taskana.monitor.internal.MonitorServiceImpl;
+import pro.taskana.monitor.internal.ReportCache;
 import pro.taskana.spi.history.internal.HistoryEventManager;
 import pro.taskana.spi.priority.internal.PriorityServiceManager;
 import pro.taskana.spi.routing.internal.TaskRoutingManager;
@@ -69,6 +76,7 @@ import pro.taskana.spi.task.internal.TaskEndstatePreprocessorManager;
 import pro.taskana.task.api.TaskService;
 import pro.taskana.task.internal.AttachmentMapper;
 import pro.taskana.task.internal.ObjectReferenceMapper;
+import pro.taskana.task.internal.TaskArchiveMapper;
 import pro.taskana.task.internal.TaskCommentMapper;
 import pro.taskana.task.internal.TaskCommentQueryMapper;
 import pro.taskana.task.internal.TaskMapper;
@@ -78,9 +86,11 @@ import pro.taskana.user.api.UserService;
 import pro.taskana.user.internal.UserMapper;
 import pro.taskana.user.internal.UserServiceImpl;
 import pro.taskana.workbasket.api.WorkbasketService;
+import pro.taskana.workbasket.api.models.WorkbasketSummary;
 import pro.taskana.workbasket.internal.DistributionTargetMapper;
 import pro.taskana.workbasket.internal.WorkbasketAccessMapper;
 import pro.taskana.workbasket.internal.WorkbasketMapper;
+import pro.taskana.workbasket.internal.WorkbasketPermissionCache;
 import pro.taskana.workbasket.internal.WorkbasketQueryMapper;
 import pro.taskana.workbasket.internal.WorkbasketServiceImpl;
 
@@ -106,6 +116,11 @@ public class TaskanaEngineImpl implements TaskanaEngine {
   private final HistoryEventManager historyEventManager;
   private final CurrentUserContext currentUserContext;
   private final JobScheduler jobScheduler;
+  private final WorkbasketPermissionCache workbasketPermissionCache;
+  private final SummaryCache<ClassificationSummary> classificationSummaryCache;
+  private final SummaryCache<WorkbasketSummary> workbasketSummaryCache;
+  private final ReportCache reportCache;
+  private final Map<String, Set<TaskanaRole>> rolesByAccessId;
   protected ConnectionManagementMode mode;
   protected TransactionFactory transactionFactory;
   protected SqlSessionManager sessionManager;
@@ -128,6 +143,7 @@ public class TaskanaEngineImpl implements TaskanaEngine {
       this.mode = connectionManagementMode;
     }
     this.taskanaConfiguration = taskanaConfiguration;
+    rolesByAccessId = invertRoleMap(taskanaConfiguration.getRoleMap());
     internalTaskanaEngineImpl = new InternalTaskanaEngineImpl();
     HolidaySchedule holidaySchedule =
         new HolidaySchedule(
@@ -148,6 +164,22 @@ public class TaskanaEngineImpl implements TaskanaEngine {
 
     currentUserContext =
         new CurrentUserContextImpl(TaskanaConfiguration.shouldUseLowerCaseForAccessIds());
+    workbasketPermissionCache =
+        new WorkbasketPermissionCache(
+            taskanaConfiguration.isWorkbasketPermissionCacheEnabled(),
+            taskanaConfiguration.getWorkbasketPermissionCacheMaxSize(),
+            taskanaConfiguration.getWorkbasketPermissionCacheVersionCheckInterval());
+    classificationSummaryCache =
+        ClassificationServiceImpl.createSummaryCache(
+            taskanaConfiguration.isSummaryCacheEnabled(),
+            taskanaConfiguration.getSummaryCacheMaxSize(),
+            taskanaConfiguration.getSummaryCacheVersionCheckInterval());
+    workbasketSummaryCache =
+        WorkbasketServiceImpl.createSummaryCache(
+            taskanaConfiguration.isSummaryCacheEnabled(),
+            taskanaConfiguration.getSummaryCacheMaxSize(),
+            taskanaConfiguration.getSummaryCacheVersionCheckInterval());
+    reportCache = new ReportCache(taskanaConfiguration.getReportCacheTimeToLive());
     if (transactionFactory == null) {
       createTransactionFactory(taskanaConfiguration.isUseManagedTransactions());
     } else {
@@ -215,13 +247,14 @@ public class TaskanaEngineImpl implements TaskanaEngine {
         sessionManager.getMapper(TaskCommentMapper.class),
         sessionManager.getMapper(AttachmentMapper.class),
         sessionManager.getMapper(ObjectReferenceMapper.class),
+        sessionManager.getMapper(TaskArchiveMapper.class),
         sessionManager.getMapper(UserMapper.class));
   }
 
   @Override
   public MonitorService getMonitorService() {
     return new MonitorServiceImpl(
-        internalTaskanaEngineImpl, sessionManager.getMapper(MonitorMapper.class));
+        internalTaskanaEngineImpl, sessionManager.getMapper(MonitorMapper.class), reportCache);
   }
 
   @Override
@@ -231,7 +264,10 @@ public class TaskanaEngineImpl implements TaskanaEngine {
         historyEventManager,
         sessionManager.getMapper(WorkbasketMapper.class),
         sessionManager.getMapper(DistributionTargetMapper.class),
-        sessionManager.getMapper(WorkbasketAccessMapper.class));
+        sessionManager.getMapper(WorkbasketAccessMapper.class),
+        sessionManager.getMapper(CacheVersionMapper.class),
+        workbasketPermissionCache,
+        workbasketSummaryCache);
   }
 
   @Override
@@ -240,7 +276,9 @@ public class TaskanaEngineImpl implements TaskanaEngine {
         internalTaskanaEngineImpl,
         priorityServiceManager,
         sessionManager.getMapper(ClassificationMapper.class),
-        sessionManager.getMapper(TaskMapper.class));
+        sessionManager.getMapper(TaskMapper.class),
+        sessionManager.getMapper(CacheVersionMapper.class),
+        classificationSummaryCache);
   }
 
   public Connection getConnection() {
@@ -288,6 +326,22 @@ public class TaskanaEngineImpl implements TaskanaEngine {
     return jobScheduler;
   }
 
+  public WorkbasketPermissionCache getWorkbasketPermissionCache() {
+    return workbasketPermissionCache;
+  }
+
+  public SummaryCache<ClassificationSummary> getClassificationSummaryCache() {
+    return classificationSummaryCache;
+  }
+
+  public SummaryCache<WorkbasketSummary> getWorkbasketSummaryCache() {
+    return workbasketSummaryCache;
+  }
+
+  public ReportCache getReportCache() {
+    return reportCache;
+  }
+
   @Override
   public TaskanaConfiguration getConfiguration() {
     return this.taskanaConfiguration;
@@ -337,13 +391,14 @@ public class TaskanaEngineImpl implements TaskanaEngine {
     }
 
     List<String> accessIds = currentUserContext.getAccessIds();
-    Set<String> rolesMembers = new HashSet<>();
-    for (TaskanaRole role : roles) {
-      rolesMembers.addAll(getConfiguration().getRoleMap().get(role));
-    }
-    for (String accessId : accessIds) {
-      if (rolesMembers.contains(accessId)) {
-        return true;
+    for (int i = 0; i < accessIds.size(); i++) {
+      Set<TaskanaRole> rolesOfAccessId = rolesByAccessId.get(accessIds.get(i));
+      if (rolesOfAccessId != null) {
+        for (TaskanaRole role : roles) {
+          if (rolesOfAccessId.contains(role)) {
+            return true;
+          }
+        }
       }
     }
 
@@ -439,9 +494,11 @@ public class TaskanaEngineImpl implements TaskanaEngine {
     configuration.addMapper(TaskCommentQueryMapper.class);
     configuration.addMapper(ClassificationQueryMapper.class);
     configuration.addMapper(AttachmentMapper.class);
+    configuration.addMapper(TaskArchiveMapper.class);
     configuration.addMapper(JobMapper.class);
     configuration.addMapper(UserMapper.class);
     configuration.addMapper(ConfigurationMapper.class);
+    configuration.addMapper(CacheVersionMapper.class);
 
     SqlSessionFactory localSessionFactory;
     if (DB.ORACLE == db) {
@@ -488,6 +545,25 @@ public class TaskanaEngineImpl implements TaskanaEngine {
     }
   }
 
+  /**
+   * Inverts the configured role map, so that the roles of an access id can be looked up directly.
+   *
+   * @param roleMap the configured members of each role
+   * @return the roles of each configured access id
+   */
+  private static Map<String, Set<TaskanaRole>> invertRoleMap(
+      Map<TaskanaRole, Set<String>> roleMap) {
+    Map<String, Set<TaskanaRole>> rolesByAccessId = new HashMap<>();
+    roleMap.forEach(
+        (role, accessIds) ->
+            accessIds.forEach(
+                accessId ->
+                    rolesByAccessId
+                        .computeIfAbsent(accessId, id -> EnumSet.noneOf(TaskanaRole.class))
+                        .add(role)));
+    return Collections.unmodifiableMap(rolesByAccessId);
+  }
+
   /**
    * With sessionStack, we maintain a Stack of SqlSessionManager objects on a per thread basis.
    * SqlSessionManager is the MyBatis object that wraps database connections. The purpose of this
@@ -533,6 +609,10 @@ public class TaskanaEngineImpl implements TaskanaEngine {
   /** Internal Engine for internal operations. */
   private class InternalTaskanaEngineImpl implements InternalTaskanaEngine {
 
+    private final ThreadLocal<List<Runnable>> actionsAfterTransaction =
+        ThreadLocal.withInitial(ArrayList::new);
+    private final ThreadLocal<Boolean> inOwnTransaction = ThreadLocal.withInitial(() -> false);
+
     @Override
     public void openConnection() {
       initSqlSession();
@@ -561,6 +641,8 @@ public class TaskanaEngineImpl implements TaskanaEngine {
               sessionManager.commit();
             } catch (Exception e) {
               throw new AutocommitFailedException(e.getCause());
+            } finally {
+              runActionsAfterTransaction();
             }
           }
           sessionManager.close();
@@ -579,6 +661,52 @@ public class TaskanaEngineImpl implements TaskanaEngine {
       }
     }
 
+    @Override
+    public <T> T executeInDatabaseTransaction(Supplier<T> supplier) {
+      return executeInDatabaseConnection(
+          () -> {
+            Connection connection = getSqlSession().getConnection();
+            try {
+              if (!connection.getAutoCommit()) {
+                Savepoint savepoint = connection.setSavepoint();
+                try {
+                  return supplier.get();
+                } catch (RuntimeException e) {
+                  connection.rollback(savepoint);
+                  throw e;
+                }
+              }
+              connection.setAutoCommit(false);
+              inOwnTransaction.set(true);
+              try {
+                T result = supplier.get();
+                connection.commit();
+                return result;
+              } catch (RuntimeException e) {
+                connection.rollback();
+                throw e;
+              } finally {
+                inOwnTransaction.set(false);
+                connection.setAutoCommit(true);
+                runActionsAfterTransaction();
+              }
+            } catch (SQLException e) {
+              throw new SystemException("Could not execute the statements in one transaction.", e);
+            }
+          });
+    }
+
+    @Override
+    public void runAfterTransaction(Runnable action) {
+      if (inOwnTransaction.get()
+          || mode == ConnectionManagementMode.AUTOCOMMIT
+              && !SESSION_STACK.getSessionStack().isEmpty()) {
+        actionsAfterTransaction.get().add(action);
+      } else {
+        action.run();
+      }
+    }
+
     @Override
     public void initSqlSession() {
       if (mode == EXPLICIT && connection == null) {
@@ -588,6 +716,15 @@ public class TaskanaEngineImpl implements TaskanaEngine {
       }
     }
 
+    private void runActionsAfterTransaction() {
+      List<Runnable> actions = actionsAfterTransaction.get();
+      if (!actions.isEmpty()) {
+        List<Runnable> actionsToRun = List.copyOf(actions);
+        actions.clear();
+        actionsToRun.forEach(Runnable::run);
+      }
+    }
+
     @Override
     public boolean domainExists(String domain) {
       return getConfiguration().getDomains().contains(domain);
@@ -49,17 +49,30 @@ public abstract class AbstractTaskanaJob implements TaskanaJob {
     return initTaskanaJob(engine, jobClass, txProvider, job);
   }
 
+  /**
+   * Runs this job. If the job supports sharding and more than one shard is configured, the job does
+   * not process anything itself but schedules one job per shard instead. These jobs can be claimed
+   * by any TASKANA instance. Only the job which is no shard schedules its next run.
+   *
+   * @throws TaskanaException if the execution of the job fails
+   */
   @Override
   public final void run() throws TaskanaException {
-    execute();
-    if (async) {
+    boolean isShard = getShard() != null;
+    if (!isShard && getShardCount() > 1) {
+      scheduleShardJobs();
+    } else {
+      execute();
+    }
+    if (async && !isShard) {
       scheduleNextJob();
     }
   }
 
   /**
    * Initializes the TaskCleanupJob schedule. <br>
-   * All scheduled cleanup jobs are cancelled/deleted and a new one is scheduled.
+   * All scheduled cleanup jobs which are not locked by a running instance are cancelled/deleted and
+   * a new one is scheduled.
    *
    * @param taskanaEngine the TASKANA engine.
    * @param jobClass the class of the job which should be scheduled
@@ -92,6 +105,25 @@ public abstract class AbstractTaskanaJob implements TaskanaJob {
     return taskanaConfiguration.getJobLockExpirationPeriod();
   }
 
+  /**
+   * Returns the number of shards this job is split into. Jobs which support sharding have to
+   * restrict the processed entities to the ones {@linkplain #getShard() of their shard}.
+   *
+   * @return the number of shards
+   */
+  protected int getShardCount() {
+    return 1;
+  }
+
+  /**
+   * Returns the shard this job is responsible for.
+   *
+   * @return the shard or null if this job has to process all entities
+   */
+  protected JobShard getShard() {
+    return scheduledJob == null ? null : JobShard.fromArguments(scheduledJob.getArguments());
+  }
+
   protected abstract String getType();
 
   protected abstract void execute() throws TaskanaException;
@@ -116,6 +148,17 @@ public abstract class AbstractTaskanaJob implements TaskanaJob {
     taskanaEngineImpl.getJobService().createJob(job);
   }
 
+  private void scheduleShardJobs() {
+    int shardCount = getShardCount();
+    for (int index = 0; index < shardCount; index++) {
+      ScheduledJob job = new ScheduledJob();
+      job.setType(getType());
+      job.setDue(Instant.now());
+      job.setArguments(new JobShard(index, shardCount).toArguments());
+      taskanaEngineImpl.getJobService().createJob(job);
+    }
+  }
+
   private static AbstractTaskanaJob initTaskanaJob(
       TaskanaEngine taskanaEngine,
       Class<?> jobClass,
@@ -0,0 +1,77 @@
+package pro.taskana.common.internal.jobs;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import pro.taskana.TaskanaConfiguration;
+import pro.taskana.common.api.ScheduledJob;
+import pro.taskana.common.api.TaskanaEngine;
+
+/**
+ * Extends the lease of a running {@linkplain ScheduledJob} until it is closed.
+ *
+ * <p>The lease is renewed three times per lease duration. The update uses its own connection, so
+ * that the renewal is visible to other TASKANA instances while the job's transaction is still
+ * running. If the instance dies, the lease is not renewed anymore and the job can be claimed by
+ * another instance as soon as the lease has expired.
+ */
+class JobLeaseRenewer implements AutoCloseable {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(JobLeaseRenewer.class);
+
+  private final TaskanaConfiguration configuration;
+  private final ScheduledJob job;
+  private final Duration leaseDuration;
+  private final ScheduledExecutorService executor;
+
+  JobLeaseRenewer(TaskanaEngine taskanaEngine, ScheduledJob job) {
+    this.configuration = taskanaEngine.getConfiguration();
+    this.job = job;
+    this.leaseDuration = configuration.getJobLeaseDuration();
+    this.executor =
+        Executors.newSingleThreadScheduledExecutor(
+            runnable -> {
+              Thread thread = new Thread(runnable, "taskana-job-lease-" + job.getJobId());
+              thread.setDaemon(true);
+              return thread;
+            });
+    long period = Math.max(1, leaseDuration.toMillis() / 3);
+    executor.scheduleAtFixedRate(this::renew, period, period, TimeUnit.MILLISECONDS);
+  }
+
+  @Override
+  public void close() {
+    executor.shutdownNow();
+  }
+
+  private void renew() {
+    Instant lockExpires = Instant.now().plus(leaseDuration);
+    try (Connection connection = configuration.getDataSource().getConnection()) {
+      connection.setSchema(configuration.getSchemaName());
+      try (PreparedStatement statement =
+          connection.prepareStatement(
+              "UPDATE SCHEDULED_JOB SET LOCK_EXPIRES = ? WHERE JOB_ID = ? AND LOCKED_BY = ?")) {
+        statement.setTimestamp(1, Timestamp.from(lockExpires));
+        statement.setInt(2, job.getJobId());
+        statement.setString(3, job.getLockedBy());
+        statement.executeUpdate();
+      }
+      if (!connection.getAutoCommit()) {
+        connection.commit();
+      }
+      job.setLockExpires(lockExpires);
+      if (LOGGER.isDebugEnabled()) {
+        LOGGER.debug("Renewed lease of job {} until {}", job.getJobId(), lockExpires);
+      }
+    } catch (Exception e) {
+      LOGGER.warn("Could not renew lease of job {}", job.getJobId(), e);
+    }
+  }
+}
@@ -2,7 +2,7 @@ package pro.taskana.common.internal.jobs;
 
 import java.net.InetAddress;
 import java.net.UnknownHostException;
-import java.util.List;
+import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import pro.taskana.common.api.ScheduledJob;
@@ -10,7 +10,13 @@ import pro.taskana.common.api.TaskanaEngine;
 import pro.taskana.common.internal.JobServiceImpl;
 import pro.taskana.common.internal.transaction.TaskanaTransactionProvider;
 
-/** This is the runner for Tasks jobs. */
+/**
+ * This is the runner for Tasks jobs.
+ *
+ * <p>The runner claims one due job at a time and runs it before claiming the next one. Therefore,
+ * several TASKANA instances sharing one database run different jobs concurrently instead of one
+ * instance claiming all of them.
+ */
 public class JobRunner {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(JobRunner.class);
@@ -28,23 +34,35 @@ public class JobRunner {
   }
 
   public void runJobs() {
-    findAndLockJobsToRun().forEach(this::runJobTransactionally);
+    Optional<ScheduledJob> scheduledJob = findAndLockNextJobToRun();
+    while (scheduledJob.isPresent()) {
+      runJobTransactionally(scheduledJob.get());
+      scheduledJob = findAndLockNextJobToRun();
+    }
   }
 
-  private List<ScheduledJob> findAndLockJobsToRun() {
+  private Optional<ScheduledJob> findAndLockNextJobToRun() {
     return TaskanaTransactionProvider.executeInTransactionIfPossible(
-        txProvider, () -> jobService.findJobsToRun().stream().map(this::lockJob).toList());
+        txProvider, () -> jobService.findJobsToRun().stream().findFirst().map(this::lockJob));
   }
 
   private void runJobTransactionally(ScheduledJob scheduledJob) {
-    TaskanaTransactionProvider.executeInTransactionIfPossible(
-        txProvider,
-        () -> {
-          boolean successful = taskanaEngine.runAsAdmin(() -> runScheduledJob(scheduledJob));
-          if (successful) {
-            jobService.deleteJob(scheduledJob);
-          }
-        });
+    try (JobLeaseRenewer leaseRenewer = createLeaseRenewer(scheduledJob)) {
+      TaskanaTransactionProvider.executeInTransactionIfPossible(
+          txProvider,
+          () -> {
+            boolean successful = taskanaEngine.runAsAdmin(() -> runScheduledJob(scheduledJob));
+            if (successful) {
+              jobService.deleteJob(scheduledJob);
+            }
+          });
+    }
+  }
+
+  private JobLeaseRenewer createLeaseRenewer(ScheduledJob scheduledJob) {
+    return taskanaEngine.getConfiguration().isJobLeaseEnabled()
+        ? new JobLeaseRenewer(taskanaEngine, scheduledJob)
+        : null;
   }
 
   private boolean runScheduledJob(ScheduledJob scheduledJob) {
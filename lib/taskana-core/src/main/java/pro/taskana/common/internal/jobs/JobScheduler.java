@@ -4,6 +4,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import pro.taskana.common.api.TaskanaEngine;
 import pro.taskana.common.api.exceptions.SystemException;
+import pro.taskana.task.internal.jobs.TaskArchiveJob;
 import pro.taskana.task.internal.jobs.TaskCleanupJob;
 import pro.taskana.task.internal.jobs.TaskUpdatePriorityJob;
 import pro.taskana.workbasket.internal.jobs.WorkbasketCleanupJob;
@@ -35,6 +36,10 @@ public class JobScheduler {
             AbstractTaskanaJob.initializeSchedule(taskanaEngine, TaskCleanupJob.class);
             LOGGER.info("Job '{}' enabled", TaskCleanupJob.class.getName());
           }
+          if (taskanaEngine.getConfiguration().isTaskArchiveJobEnabled()) {
+            AbstractTaskanaJob.initializeSchedule(taskanaEngine, TaskArchiveJob.class);
+            LOGGER.info("Job '{}' enabled", TaskArchiveJob.class.getName());
+          }
           if (taskanaEngine.getConfiguration().isTaskUpdatePriorityJobEnabled()) {
             AbstractTaskanaJob.initializeSchedule(taskanaEngine, TaskUpdatePriorityJob.class);
             LOGGER.info("Job '{}' enabled", TaskUpdatePriorityJob.class.getName());
@@ -49,6 +54,9 @@ public class JobScheduler {
           if (taskanaEngine.getConfiguration().isSimpleHistoryCleanupJobEnabled()) {
             initJobByClassName("pro.taskana.simplehistory.impl.jobs.HistoryCleanupJob");
           }
+          if (taskanaEngine.getConfiguration().isReportSnapshotJobEnabled()) {
+            initJobByClassName("pro.taskana.monitor.internal.jobs.ReportSnapshotJob");
+          }
           taskanaEngine.getConfiguration().getCustomJobs().forEach(this::initJobByClassName);
 
           return "Initialized Jobs successfully";
@@ -0,0 +1,115 @@
+package pro.taskana.common.internal.jobs;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * One of several disjoint parts of the entities a job has to process.
+ *
+ * <p>The entities are assigned to a shard by the first character after the four character prefix of
+ * their id (e.g. "TKI:"). Since the generated ids are random UUIDs, this character is a uniformly
+ * distributed hexadecimal digit. Shard <code>i</code> contains all ids whose digit has a value
+ * <code>v</code> with <code>v % count == i</code>. The first shard additionally contains every id
+ * which does not follow that format. Hence, each id belongs to exactly one shard.
+ */
+public final class JobShard {
+
+  private static final String SHARD_INDEX = "shardIndex";
+  private static final String SHARD_COUNT = "shardCount";
+  private static final int MAX_SHARD_COUNT = 16;
+
+  private static final String DIGITS = "0123456789abcdef";
+  private static final int PREFIX_LENGTH = 4;
+
+  private final int index;
+  private final int count;
+
+  public JobShard(int index, int count) {
+    if (count < 1 || count > MAX_SHARD_COUNT || index < 0 || index >= count) {
+      throw new IllegalArgumentException(
+          String.format("Invalid shard %d of %d shards", index, count));
+    }
+    this.index = index;
+    this.count = count;
+  }
+
+  /**
+   * Reads the shard from the arguments of a {@linkplain pro.taskana.common.api.ScheduledJob}.
+   *
+   * @param arguments the arguments of the job
+   * @return the shard or null if the job is not a shard
+   */
+  public static JobShard fromArguments(Map<String, String> arguments) {
+    if (arguments == null || !arguments.containsKey(SHARD_INDEX)) {
+      return null;
+    }
+    return new JobShard(
+        Integer.parseInt(arguments.get(SHARD_INDEX)), Integer.parseInt(arguments.get(SHARD_COUNT)));
+  }
+
+  public Map<String, String> toArguments() {
+    return Map.of(SHARD_INDEX, String.valueOf(index), SHARD_COUNT, String.valueOf(count));
+  }
+
+  public int getIndex() {
+    return index;
+  }
+
+  public int getCount() {
+    return count;
+  }
+
+  public boolean contains(String id) {
+    int value =
+        id != null && id.length() > PREFIX_LENGTH ? DIGITS.indexOf(id.charAt(PREFIX_LENGTH)) : -1;
+    return value < 0 ? index == 0 : value % count == index;
+  }
+
+  /**
+   * Creates a SQL condition which matches all ids of this shard.
+   *
+   * @param idColumn the column containing the id
+   * @return the SQL condition
+   */
+  public String toSqlCondition(String idColumn) {
+    String digit = "SUBSTR(" + idColumn + ", " + (PREFIX_LENGTH + 1) + ", 1)";
+    if (index == 0) {
+      String digitsOfOtherShards = toSqlList(IntStream.range(1, count));
+      return digitsOfOtherShards.isEmpty()
+          ? "1 = 1"
+          : "(" + digit + " IS NULL OR " + digit + " NOT IN (" + digitsOfOtherShards + "))";
+    }
+    return digit + " IN (" + toSqlList(IntStream.of(index)) + ")";
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(index, count);
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (!(obj instanceof JobShard)) {
+      return false;
+    }
+    JobShard other = (JobShard) obj;
+    return index == other.index && count == other.count;
+  }
+
+  @Override
+  public String toString() {
+    return "JobShard [index=" + index + ", count=" + count + "]";
+  }
+
+  private String toSqlList(IntStream shardIndexes) {
+    return shardIndexes
+        .flatMap(i -> IntStream.range(0, DIGITS.length()).filter(value -> value % count == i))
+        .mapToObj(value -> "'" + DIGITS.charAt(value) + "'")
+        .collect(Collectors.joining(", "));
+  }
+}
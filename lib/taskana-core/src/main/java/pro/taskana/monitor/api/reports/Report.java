@@ -9,6 +9,7 @@ import java.util.Set;
 import pro.taskana.common.api.exceptions.InvalidArgumentException;
 import pro.taskana.common.api.exceptions.NotAuthorizedException;
 import pro.taskana.monitor.api.reports.header.ColumnHeader;
+import pro.taskana.monitor.api.reports.item.AgeQueryItem;
 import pro.taskana.monitor.api.reports.item.QueryItem;
 import pro.taskana.monitor.api.reports.item.QueryItemPreprocessor;
 import pro.taskana.monitor.api.reports.row.Row;
@@ -31,6 +32,8 @@ public abstract class Report<I extends QueryItem, H extends ColumnHeader<? super
   private final Row<I> sumRow;
   private final String[] rowDesc;
   protected List<H> columnHeaders;
+  private List<H> indexedColumnHeaders;
+  private TimeIntervalColumnIndex columnIndex;
 
   protected Report(List<H> columnHeaders, String[] rowDesc) {
     this.rowDesc = rowDesc;
@@ -72,6 +75,14 @@ public abstract class Report<I extends QueryItem, H extends ColumnHeader<? super
       row = reportRows.computeIfAbsent(item.getKey(), this::createRow);
       row.updateTotalValue(item);
       sumRow.updateTotalValue(item);
+    } else if (getColumnIndex() != null) {
+      for (int i : columnIndex.getColumns(((AgeQueryItem) item).getAgeInDays())) {
+        if (row == null) {
+          row = reportRows.computeIfAbsent(item.getKey(), this::createRow);
+        }
+        row.addItem(item, i);
+        sumRow.addItem(item, i);
+      }
     } else {
       for (int i = 0; i < columnHeaders.size(); i++) {
         if (columnHeaders.get(i).fits(item)) {
@@ -97,6 +108,15 @@ public abstract class Report<I extends QueryItem, H extends ColumnHeader<? super
     items.forEach(this::addItem);
   }
 
+  private TimeIntervalColumnIndex getColumnIndex() {
+    if (indexedColumnHeaders != columnHeaders) {
+      // the index is only created once, since the column headers of a report don't change
+      columnIndex = TimeIntervalColumnIndex.of(columnHeaders);
+      indexedColumnHeaders = columnHeaders;
+    }
+    return columnIndex;
+  }
+
   public final void augmentDisplayNames(Map<String, String> displayMap) {
     reportRows.values().forEach(row -> row.setDisplayName(displayMap));
     sumRow.setDisplayName(displayMap);
@@ -0,0 +1,86 @@
+package pro.taskana.monitor.api.reports;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import pro.taskana.monitor.api.reports.header.TimeIntervalColumnHeader;
+
+/**
+ * Finds the columns of a {@linkplain Report} with {@linkplain TimeIntervalColumnHeader}s which an
+ * age in days fits into by binary search instead of asking every column header.
+ *
+ * <p>The limits of all column headers split the ages into consecutive segments. All ages within a
+ * segment fit into the same column headers, which are determined once when the index is created.
+ * Overlapping column headers simply share the segments they have in common.
+ */
+final class TimeIntervalColumnIndex {
+
+  // these column headers don't override fits, so only their limits decide which ages fit
+  private static final Set<Class<?>> INDEXABLE_COLUMN_HEADER_TYPES =
+      Set.of(
+          TimeIntervalColumnHeader.class,
+          TimeIntervalColumnHeader.Date.class,
+          TimeIntervalColumnHeader.Range.class);
+
+  private static final int[] NO_COLUMNS = new int[0];
+
+  private final long[] segmentStarts;
+  private final int[][] columnsBySegment;
+
+  private TimeIntervalColumnIndex(List<? extends TimeIntervalColumnHeader> columnHeaders) {
+    segmentStarts =
+        columnHeaders.stream()
+            .flatMapToLong(
+                header -> LongStream.of(header.getLowerAgeLimit(), header.getUpperAgeLimit() + 1L))
+            .sorted()
+            .distinct()
+            .toArray();
+    columnsBySegment = new int[segmentStarts.length][];
+    for (int segment = 0; segment < segmentStarts.length; segment++) {
+      long segmentStart = segmentStarts[segment];
+      columnsBySegment[segment] =
+          IntStream.range(0, columnHeaders.size())
+              .filter(
+                  column ->
+                      columnHeaders.get(column).getLowerAgeLimit() <= segmentStart
+                          && columnHeaders.get(column).getUpperAgeLimit() >= segmentStart)
+              .toArray();
+    }
+  }
+
+  /**
+   * Creates an index for the given column headers if all of them decide only by their limits
+   * whether an item fits into them.
+   *
+   * @param columnHeaders the column headers of the report
+   * @return the index or null if the column headers can't be indexed
+   */
+  static TimeIntervalColumnIndex of(List<?> columnHeaders) {
+    if (columnHeaders.isEmpty()
+        || !columnHeaders.stream()
+            .allMatch(header -> INDEXABLE_COLUMN_HEADER_TYPES.contains(header.getClass()))) {
+      return null;
+    }
+    @SuppressWarnings("unchecked")
+    List<? extends TimeIntervalColumnHeader> timeIntervalColumnHeaders =
+        (List<? extends TimeIntervalColumnHeader>) columnHeaders;
+    return new TimeIntervalColumnIndex(timeIntervalColumnHeaders);
+  }
+
+  /**
+   * Returns the indexes of all columns the given age fits into.
+   *
+   * @param ageInDays the age of an item
+   * @return the indexes of the columns in ascending order
+   */
+  int[] getColumns(int ageInDays) {
+    int segment = Arrays.binarySearch(segmentStarts, ageInDays);
+    if (segment < 0) {
+      // the segment which starts before the insertion point
+      segment = -segment - 2;
+    }
+    return segment < 0 ? NO_COLUMNS : columnsBySegment[segment];
+  }
+}
@@ -43,6 +43,14 @@ public interface TimeIntervalReportBuilder<
    */
   B inWorkingDays();
 
+  /**
+   * If this filter is used, the {@linkplain Task}s which have been moved to the archive are counted
+   * as well. By default only the active {@linkplain Task}s are counted.
+   *
+   * @return the TimeIntervalReportBuilder
+   */
+  B includeArchived();
+
   /**
    * Adds a list of workbasket ids to the builder. The created {@linkplain Report} contains only
    * {@linkplain Task}s with a workbasketId in this list.
@@ -2,8 +2,11 @@ package pro.taskana.monitor.internal;
 
 import java.time.Instant;
 import java.util.List;
+import org.apache.ibatis.annotations.Delete;
+import org.apache.ibatis.annotations.InsertProvider;
 import org.apache.ibatis.annotations.Param;
 import org.apache.ibatis.annotations.Result;
+import org.apache.ibatis.annotations.Select;
 import org.apache.ibatis.annotations.SelectProvider;
 import pro.taskana.monitor.api.CombinedClassificationFilter;
 import pro.taskana.monitor.api.SelectedItem;
@@ -123,4 +126,23 @@ public interface MonitorMapper {
   @Result(column = "PRIORITY", property = "priority")
   List<PriorityQueryItem> getTaskCountByPriority(
       @Param("report") WorkbasketPriorityReportBuilderImpl report);
+
+  @InsertProvider(type = MonitorMapperSqlProvider.class, method = "insertReportSnapshot")
+  int insertReportSnapshot(@Param("now") Instant now);
+
+  @Delete("DELETE FROM REPORT_SNAPSHOT")
+  void deleteReportSnapshot();
+
+  @Select("SELECT MAX(CREATED) FROM REPORT_SNAPSHOT")
+  Instant getReportSnapshotCreated();
+
+  @SelectProvider(type = MonitorMapperSqlProvider.class, method = "getTaskCountFromReportSnapshot")
+  @Result(column = "GROUP_KEY", property = "key")
+  @Result(column = "AGE_IN_DAYS", property = "ageInDays")
+  @Result(column = "NUMBER_OF_TASKS", property = "numberOfTasks")
+  List<MonitorQueryItem> getTaskCountFromReportSnapshot(
+      @Param("now") Instant now,
+      @Param("groupedBy") String groupedBy,
+      @Param("countedColumn") String countedColumn,
+      @Param("report") TimeIntervalReportBuilder<?, ?, ?> report);
 }
@@ -4,6 +4,7 @@ import static pro.taskana.common.internal.util.SqlProviderUtil.CLOSING_SCRIPT_TA
 import static pro.taskana.common.internal.util.SqlProviderUtil.CLOSING_WHERE_TAG;
 import static pro.taskana.common.internal.util.SqlProviderUtil.OPENING_SCRIPT_TAG;
 import static pro.taskana.common.internal.util.SqlProviderUtil.OPENING_WHERE_TAG;
+import static pro.taskana.common.internal.util.SqlProviderUtil.tableOrWithArchive;
 import static pro.taskana.common.internal.util.SqlProviderUtil.whereIn;
 import static pro.taskana.common.internal.util.SqlProviderUtil.whereInInterval;
 import static pro.taskana.common.internal.util.SqlProviderUtil.whereLike;
@@ -14,6 +15,11 @@ import java.util.stream.IntStream;
 import pro.taskana.common.internal.util.SqlProviderUtil;
 
 public class MonitorMapperSqlProvider {
+
+  private static final String TASK_TABLE = tableOrWithArchive("TASK", "report.includingArchived");
+  private static final String ATTACHMENT_TABLE =
+      tableOrWithArchive("ATTACHMENT", "report.includingArchived");
+
   private MonitorMapperSqlProvider() {}
 
   @SuppressWarnings("unused")
@@ -34,8 +40,12 @@ public class MonitorMapperSqlProvider {
         + "<if test=\"_databaseId == 'postgres'\">"
         + "SELECT T.WORKBASKET_KEY, DATE_PART('DAY', T.${timestamp} - #{now}) as AGE_IN_DAYS "
         + "</if> "
-        + "FROM TASK T "
-        + "LEFT JOIN ATTACHMENT A ON T.ID = A.TASK_ID "
+        + "FROM "
+        + TASK_TABLE
+        + " T "
+        + "LEFT JOIN "
+        + ATTACHMENT_TABLE
+        + " A ON T.ID = A.TASK_ID "
         + OPENING_WHERE_TAG
         + taskWhereStatements()
         + "<if test=\"report.combinedClassificationFilter != null\">"
@@ -72,7 +82,9 @@ public class MonitorMapperSqlProvider {
         + "<if test=\"_databaseId == 'postgres'\">"
         + "DATE_PART('DAY', ${timestamp} - #{now}) as AGE_IN_DAYS "
         + "</if> "
-        + "FROM TASK T "
+        + "FROM "
+        + TASK_TABLE
+        + " T "
         + OPENING_WHERE_TAG
         + taskWhereStatements()
         + "AND ${timestamp} IS NOT NULL "
@@ -100,7 +112,9 @@ public class MonitorMapperSqlProvider {
         + "<if test=\"_databaseId == 'postgres'\">"
         + "DATE_PART('DAY', ${timestamp} - #{now}) as AGE_IN_DAYS "
         + "</if> "
-        + "FROM TASK T "
+        + "FROM "
+        + TASK_TABLE
+        + " T "
         + OPENING_WHERE_TAG
         + taskWhereStatements()
         + "AND ${timestamp} IS NOT NULL "
@@ -129,8 +143,12 @@ public class MonitorMapperSqlProvider {
         + "<if test=\"_databaseId == 'postgres'\">"
         + "DATE_PART('DAY', T.${timestamp} - #{now}) as AGE_IN_DAYS "
         + "</if> "
-        + "FROM TASK T "
-        + "LEFT JOIN ATTACHMENT A ON T.ID = A.TASK_ID "
+        + "FROM "
+        + TASK_TABLE
+        + " T "
+        + "LEFT JOIN "
+        + ATTACHMENT_TABLE
+        + " A ON T.ID = A.TASK_ID "
         + OPENING_WHERE_TAG
         + taskWhereStatements()
         + "AND T.${timestamp} IS NOT NULL "
@@ -157,7 +175,9 @@ public class MonitorMapperSqlProvider {
         + "<if test=\"_databaseId == 'postgres'\">"
         + "DATE_PART('DAY', ${timestamp} - #{now}) as AGE_IN_DAYS "
         + "</if> "
-        + "FROM TASK T "
+        + "FROM "
+        + TASK_TABLE
+        + " T "
         + OPENING_WHERE_TAG
         + taskWhereStatements()
         + "AND ${timestamp} IS NOT NULL "
@@ -170,9 +190,13 @@ public class MonitorMapperSqlProvider {
   @SuppressWarnings("unused")
   public static String getTaskIdsForSelectedItems() {
     return OPENING_SCRIPT_TAG
-        + "SELECT T.ID FROM TASK T "
+        + "SELECT T.ID FROM "
+        + TASK_TABLE
+        + " T "
         + "<if test=\"joinWithAttachments\">"
-        + "LEFT JOIN ATTACHMENT A ON T.ID = A.TASK_ID "
+        + "LEFT JOIN "
+        + ATTACHMENT_TABLE
+        + " A ON T.ID = A.TASK_ID "
         + "</if>"
         + OPENING_WHERE_TAG
         + taskWhereStatements()
@@ -261,7 +285,9 @@ public class MonitorMapperSqlProvider {
         + "DATE_PART('DAY', T.${status} - #{now})"
         + "</if>"
         + " as AGE_IN_DAYS "
-        + "FROM TASK T "
+        + "FROM "
+        + TASK_TABLE
+        + " T "
         + "INNER JOIN WORKBASKET W ON T.WORKBASKET_KEY=W.KEY "
         + OPENING_WHERE_TAG
         + "<if test=\"status.name() == 'COMPLETED'\">"
@@ -278,9 +304,13 @@ public class MonitorMapperSqlProvider {
   public static String getCustomAttributeValuesForReport() {
     return OPENING_SCRIPT_TAG
         + "SELECT DISTINCT ${customField} "
-        + "FROM TASK T "
+        + "FROM "
+        + TASK_TABLE
+        + " T "
         + "<if test=\"combinedClassificationFilter != null\">"
-        + "LEFT JOIN ATTACHMENT A ON T.ID = A.TASK_ID "
+        + "LEFT JOIN "
+        + ATTACHMENT_TABLE
+        + " A ON T.ID = A.TASK_ID "
         + "</if>"
         + OPENING_WHERE_TAG
         + taskWhereStatements()
@@ -310,6 +340,71 @@ public class MonitorMapperSqlProvider {
         + CLOSING_SCRIPT_TAG;
   }
 
+  /**
+   * Counts the tasks per due day instead of per due age, so the age can be computed relative to the
+   * time the snapshot is read. NUMBER_OF_TASKS counts each task once like the classification
+   * category report does. NUMBER_OF_ATTACHMENT_ROWS counts each task once per attachment (but at
+   * least once) like the join with ATTACHMENT in the workbasket report does.
+   *
+   * <p>The age read from the snapshot is the difference of calendar days, like the queries on the
+   * TASK table compute it for DB2, Oracle and H2. On PostgreSQL those count full days of 24 hours,
+   * so the reports don't read the snapshot there.
+   *
+   * @return the statement which inserts the snapshot
+   */
+  @SuppressWarnings("unused")
+  public static String insertReportSnapshot() {
+    return OPENING_SCRIPT_TAG
+        + "INSERT INTO REPORT_SNAPSHOT (WORKBASKET_ID, WORKBASKET_KEY, DOMAIN, CLASSIFICATION_ID, "
+        + "CLASSIFICATION_CATEGORY, STATE, DUE_DAY, NUMBER_OF_TASKS, NUMBER_OF_ATTACHMENT_ROWS, "
+        + "CREATED) "
+        + "SELECT B.WORKBASKET_ID, B.WORKBASKET_KEY, B.DOMAIN, B.CLASSIFICATION_ID, "
+        + "B.CLASSIFICATION_CATEGORY, B.STATE, B.DUE_DAY, COUNT(DISTINCT B.ID), COUNT(B.ID), "
+        + "CAST(#{now} as TIMESTAMP) FROM ("
+        + "SELECT T.ID, T.WORKBASKET_ID, T.WORKBASKET_KEY, T.DOMAIN, T.CLASSIFICATION_ID, "
+        + "T.CLASSIFICATION_CATEGORY, T.STATE, "
+        + "<choose>"
+        + "<when test=\"_databaseId == 'oracle'\">"
+        + "TRUNC(T.DUE) "
+        + "</when>"
+        + "<otherwise>"
+        + "CAST(T.DUE as DATE) "
+        + "</otherwise>"
+        + "</choose>"
+        + "as DUE_DAY "
+        + "FROM TASK T "
+        + "LEFT JOIN ATTACHMENT A ON T.ID = A.TASK_ID "
+        + "WHERE T.DUE IS NOT NULL"
+        + ") B "
+        + "GROUP BY B.WORKBASKET_ID, B.WORKBASKET_KEY, B.DOMAIN, B.CLASSIFICATION_ID, "
+        + "B.CLASSIFICATION_CATEGORY, B.STATE, B.DUE_DAY"
+        + CLOSING_SCRIPT_TAG;
+  }
+
+  @SuppressWarnings("unused")
+  public static String getTaskCountFromReportSnapshot() {
+    return OPENING_SCRIPT_TAG
+        + "SELECT B.GROUP_KEY, B.AGE_IN_DAYS, SUM(B.NUMBER_OF_TASKS) AS NUMBER_OF_TASKS FROM ("
+        + "SELECT S.${groupedBy} AS GROUP_KEY, S.${countedColumn} AS NUMBER_OF_TASKS, "
+        + "<if test=\"_databaseId == 'db2'\">"
+        + "(DAYS(S.DUE_DAY) - DAYS(CAST(#{now} as TIMESTAMP))) "
+        + "</if> "
+        + "<if test=\"_databaseId == 'oracle'\">"
+        + "(S.DUE_DAY - TRUNC(CAST(#{now} as TIMESTAMP))) "
+        + "</if> "
+        + "<if test=\"_databaseId == 'h2'\">"
+        + "DATEDIFF('DAY', #{now}, S.DUE_DAY) "
+        + "</if> "
+        + "as AGE_IN_DAYS "
+        + "FROM REPORT_SNAPSHOT S "
+        + OPENING_WHERE_TAG
+        + reportSnapshotWhereStatements()
+        + CLOSING_WHERE_TAG
+        + ") B "
+        + "GROUP BY B.GROUP_KEY, B.AGE_IN_DAYS"
+        + CLOSING_SCRIPT_TAG;
+  }
+
   private static StringBuilder whereCustomStatements(
       String baseCollection, String baseColumn, int customBound, StringBuilder sb) {
     IntStream.rangeClosed(1, customBound)
@@ -350,6 +445,17 @@ public class MonitorMapperSqlProvider {
     return sb;
   }
 
+  private static StringBuilder reportSnapshotWhereStatements() {
+    StringBuilder sb = new StringBuilder();
+    SqlProviderUtil.whereIn("report.workbasketIds", "S.WORKBASKET_ID", sb);
+    SqlProviderUtil.whereIn("report.states", "S.STATE", sb);
+    SqlProviderUtil.whereIn("report.classificationCategories", "S.CLASSIFICATION_CATEGORY", sb);
+    SqlProviderUtil.whereIn("report.domains", "S.DOMAIN", sb);
+    SqlProviderUtil.whereIn("report.classificationIds", "S.CLASSIFICATION_ID", sb);
+    SqlProviderUtil.whereNotIn("report.excludedClassificationIds", "S.CLASSIFICATION_ID", sb);
+    return sb;
+  }
+
   private static StringBuilder workbasketWhereStatements() {
     StringBuilder sb = new StringBuilder();
     SqlProviderUtil.whereIn("report.workbasketTypes", "W.TYPE", sb);
@@ -1,5 +1,8 @@
 package pro.taskana.monitor.internal;
 
+import java.time.Instant;
+import pro.taskana.common.api.TaskanaRole;
+import pro.taskana.common.api.exceptions.NotAuthorizedException;
 import pro.taskana.common.internal.InternalTaskanaEngine;
 import pro.taskana.monitor.api.MonitorService;
 import pro.taskana.monitor.api.reports.ClassificationCategoryReport;
@@ -23,16 +26,19 @@ public class MonitorServiceImpl implements MonitorService {
 
   private final InternalTaskanaEngine taskanaEngine;
   private final MonitorMapper monitorMapper;
+  private final ReportCache reportCache;
 
-  public MonitorServiceImpl(InternalTaskanaEngine taskanaEngine, MonitorMapper monitorMapper) {
+  public MonitorServiceImpl(
+      InternalTaskanaEngine taskanaEngine, MonitorMapper monitorMapper, ReportCache reportCache) {
     super();
     this.taskanaEngine = taskanaEngine;
     this.monitorMapper = monitorMapper;
+    this.reportCache = reportCache;
   }
 
   @Override
   public WorkbasketReport.Builder createWorkbasketReportBuilder() {
-    return new WorkbasketReportBuilderImpl(taskanaEngine, monitorMapper);
+    return new WorkbasketReportBuilderImpl(taskanaEngine, monitorMapper, reportCache);
   }
 
   @Override
@@ -42,18 +48,19 @@ public class MonitorServiceImpl implements MonitorService {
 
   @Override
   public ClassificationCategoryReport.Builder createClassificationCategoryReportBuilder() {
-    return new ClassificationCategoryReportBuilderImpl(taskanaEngine, monitorMapper);
+    return new ClassificationCategoryReportBuilderImpl(taskanaEngine, monitorMapper, reportCache);
   }
 
   @Override
   public ClassificationReport.Builder createClassificationReportBuilder() {
-    return new ClassificationReportBuilderImpl(taskanaEngine, monitorMapper);
+    return new ClassificationReportBuilderImpl(taskanaEngine, monitorMapper, reportCache);
   }
 
   @Override
   public TaskCustomFieldValueReport.Builder createTaskCustomFieldValueReportBuilder(
       TaskCustomField taskCustomField) {
-    return new TaskCustomFieldValueReportBuilderImpl(taskanaEngine, monitorMapper, taskCustomField);
+    return new TaskCustomFieldValueReportBuilderImpl(
+        taskanaEngine, monitorMapper, reportCache, taskCustomField);
   }
 
   @Override
@@ -63,6 +70,24 @@ public class MonitorServiceImpl implements MonitorService {
 
   @Override
   public TimestampReport.Builder createTimestampReportBuilder() {
-    return new TimestampReportBuilderImpl(taskanaEngine, monitorMapper);
+    return new TimestampReportBuilderImpl(taskanaEngine, monitorMapper, reportCache);
+  }
+
+  /**
+   * Replaces the content of the report snapshot with the current number of tasks per due day. The
+   * old content is deleted and the new content inserted in one transaction, so reports never read
+   * an empty or partially refreshed snapshot.
+   *
+   * @return the number of rows of the new snapshot
+   * @throws NotAuthorizedException if the current user is not member of role ADMIN
+   */
+  public int refreshReportSnapshot() throws NotAuthorizedException {
+    taskanaEngine.getEngine().checkRoleMembership(TaskanaRole.ADMIN);
+    Instant now = Instant.now();
+    return taskanaEngine.executeInDatabaseTransaction(
+        () -> {
+          monitorMapper.deleteReportSnapshot();
+          return monitorMapper.insertReportSnapshot(now);
+        });
   }
 }
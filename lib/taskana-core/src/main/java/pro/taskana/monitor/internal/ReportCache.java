@@ -0,0 +1,186 @@
+package pro.taskana.monitor.internal;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import pro.taskana.common.internal.util.CheckedSupplier;
+
+/**
+ * Engine-wide cache for computed reports.
+ *
+ * <p>Reports are cached for the configured time to live under a key which describes the complete
+ * filter state of the report builder. Identical requests which arrive while the report is still
+ * computed don't start another computation. They wait for the running one and share its result. A
+ * failed computation is passed to all waiting requests and is not cached.
+ *
+ * <p>Cached values are shared between all callers and must not be modified. That's why the report
+ * builders only cache the items and the display names of a report and build a new report for every
+ * caller. The cache doesn't check any permissions. The report builders check the role membership of
+ * the current user before they consult the cache.
+ */
+public class ReportCache {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(ReportCache.class);
+
+  private final long timeToLiveNanos;
+  private final Map<Object, Entry> entries = new ConcurrentHashMap<>();
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder coalesced = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder savedNanos = new LongAdder();
+
+  /**
+   * Creates a ReportCache.
+   *
+   * @param timeToLive the duration a computed report is served from the cache. The cache is
+   *     disabled if this is zero.
+   */
+  public ReportCache(Duration timeToLive) {
+    this.timeToLiveNanos = timeToLive.toNanos();
+  }
+
+  public boolean isEnabled() {
+    return timeToLiveNanos > 0;
+  }
+
+  /**
+   * Returns the cached report for the given key. If there is none, the report is computed with the
+   * given loader. Concurrent calls with the same key wait for the first computation instead of
+   * running their own.
+   *
+   * @param key the key which describes the requested report completely
+   * @param loader computes the report
+   * @param <T> the type of the report
+   * @param <E> the exception the loader may throw
+   * @return the cached or computed report
+   * @throws E if the computation of the report failed
+   */
+  public <T, E extends Exception> T get(Object key, CheckedSupplier<T, E> loader) throws E {
+    if (!isEnabled()) {
+      return loader.get();
+    }
+    long now = System.nanoTime();
+    Entry newEntry = new Entry(now);
+    Entry entry =
+        entries.compute(
+            key,
+            (k, existing) -> existing == null || existing.isExpired(now) ? newEntry : existing);
+    if (entry == newEntry) {
+      misses.increment();
+      purgeExpiredEntries(now);
+      return load(key, entry, loader);
+    }
+    if (entry.result.isDone()) {
+      hits.increment();
+    } else {
+      coalesced.increment();
+    }
+    T report = this.<T, E>await(entry);
+    savedNanos.add(entry.loadNanos);
+    return report;
+  }
+
+  /** Removes all entries from this cache. */
+  public void invalidate() {
+    entries.clear();
+  }
+
+  /**
+   * Returns the number of requests which were answered by a report which had already been computed.
+   *
+   * @return the hit count
+   */
+  public long getHitCount() {
+    return hits.sum();
+  }
+
+  /**
+   * Returns the number of requests which waited for the computation of an identical request.
+   *
+   * @return the number of coalesced requests
+   */
+  public long getCoalescedCount() {
+    return coalesced.sum();
+  }
+
+  /**
+   * Returns the number of requests which computed the report.
+   *
+   * @return the miss count
+   */
+  public long getMissCount() {
+    return misses.sum();
+  }
+
+  /**
+   * Returns the sum of the computation times of all reports which were served from the cache or
+   * shared with a waiting request.
+   *
+   * @return the time which didn't have to be spent on computing reports
+   */
+  public Duration getSavedComputationTime() {
+    return Duration.ofNanos(savedNanos.sum());
+  }
+
+  public int size() {
+    return entries.size();
+  }
+
+  private <T, E extends Exception> T load(Object key, Entry entry, CheckedSupplier<T, E> loader)
+      throws E {
+    try {
+      T report = loader.get();
+      entry.loadNanos = System.nanoTime() - entry.created;
+      entry.result.complete(report);
+      if (LOGGER.isDebugEnabled()) {
+        LOGGER.debug(
+            "Computed report {} in {} ms.", key, Duration.ofNanos(entry.loadNanos).toMillis());
+      }
+      return report;
+    } catch (Exception | Error e) {
+      entries.remove(key, entry);
+      entry.result.completeExceptionally(e);
+      throw e;
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private <T, E extends Exception> T await(Entry entry) throws E {
+    try {
+      return (T) entry.result.join();
+    } catch (CompletionException e) {
+      // the loader of the entry can only throw E or unchecked exceptions
+      Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      } else if (cause instanceof Error error) {
+        throw error;
+      }
+      throw (E) cause;
+    }
+  }
+
+  private void purgeExpiredEntries(long now) {
+    entries.values().removeIf(entry -> entry.isExpired(now));
+  }
+
+  private class Entry {
+
+    private final long created;
+    private final CompletableFuture<Object> result = new CompletableFuture<>();
+    private volatile long loadNanos;
+
+    private Entry(long created) {
+      this.created = created;
+    }
+
+    private boolean isExpired(long now) {
+      return result.isDone() && now - created >= timeToLiveNanos;
+    }
+  }
+}
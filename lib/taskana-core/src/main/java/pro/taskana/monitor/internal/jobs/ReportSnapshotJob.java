@@ -0,0 +1,75 @@
+package pro.taskana.monitor.internal.jobs;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import pro.taskana.common.api.ScheduledJob;
+import pro.taskana.common.api.TaskanaEngine;
+import pro.taskana.common.api.exceptions.SystemException;
+import pro.taskana.common.internal.jobs.AbstractTaskanaJob;
+import pro.taskana.common.internal.transaction.TaskanaTransactionProvider;
+import pro.taskana.monitor.internal.MonitorServiceImpl;
+
+/**
+ * Job to refresh the report snapshot.
+ *
+ * <p>The snapshot contains the number of tasks per due day and is read by the {@linkplain
+ * pro.taskana.monitor.api.reports.WorkbasketReport} and the {@linkplain
+ * pro.taskana.monitor.api.reports.ClassificationCategoryReport} instead of the TASK table as long
+ * as it isn't older than {@linkplain pro.taskana.TaskanaConfiguration#getReportSnapshotMaxAge()}.
+ * The job recomputes the whole snapshot in one transaction, so the reports never see a partially
+ * refreshed snapshot.
+ */
+public class ReportSnapshotJob extends AbstractTaskanaJob {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(ReportSnapshotJob.class);
+
+  public ReportSnapshotJob(
+      TaskanaEngine taskanaEngine,
+      TaskanaTransactionProvider txProvider,
+      ScheduledJob scheduledJob) {
+    super(taskanaEngine, txProvider, scheduledJob, true);
+    runEvery = taskanaEngine.getConfiguration().getReportSnapshotJobRunEvery();
+  }
+
+  @Override
+  public void execute() {
+    LOGGER.info("Running job to refresh the report snapshot");
+    try {
+      MonitorServiceImpl monitorService =
+          (MonitorServiceImpl) taskanaEngineImpl.getMonitorService();
+      int numberOfRows =
+          TaskanaTransactionProvider.executeInTransactionIfPossible(
+              txProvider,
+              () -> {
+                try {
+                  return monitorService.refreshReportSnapshot();
+                } catch (Exception e) {
+                  throw new SystemException("Could not refresh the report snapshot.", e);
+                }
+              });
+      LOGGER.info("Job ended successfully. Report snapshot contains {} rows.", numberOfRows);
+    } catch (Exception e) {
+      throw new SystemException("Error while processing ReportSnapshotJob.", e);
+    }
+  }
+
+  @Override
+  protected String getType() {
+    return ReportSnapshotJob.class.getName();
+  }
+
+  @Override
+  public String toString() {
+    return "ReportSnapshotJob [firstRun="
+        + firstRun
+        + ", runEvery="
+        + runEvery
+        + ", taskanaEngineImpl="
+        + taskanaEngineImpl
+        + ", txProvider="
+        + txProvider
+        + ", scheduledJob="
+        + scheduledJob
+        + "]";
+  }
+}
@@ -2,11 +2,10 @@ package pro.taskana.monitor.internal.preprocessor;
 
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
-import java.util.Map.Entry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import pro.taskana.common.api.WorkingTimeCalculator;
@@ -20,7 +19,8 @@ import pro.taskana.monitor.api.reports.header.TimeIntervalColumnHeader;
  * TimeIntervalColumnHeader}s the converter creates a "table" with integer that represents the age
  * in days from the largest lower limit until the smallest upper limit of the
  * timeIntervalColumnHeaders. This table is valid for a whole day until the converter is initialized
- * with bigger limits.
+ * with bigger limits. The table consists of two int arrays indexed by the absolute age in days, one
+ * for the future and one for the past, so a conversion is a plain array access.
  */
 public class WorkingDaysToDaysReportConverter {
 
@@ -28,14 +28,21 @@ public class WorkingDaysToDaysReportConverter {
       LoggerFactory.getLogger(WorkingDaysToDaysReportConverter.class);
 
   private final WorkingTimeCalculator workingTimeCalculator;
-  private final Map<Integer, Integer> cacheDaysToWorkingDays;
+  // workingDaysInFuture[n] is the age in working days of n days, workingDaysInPast[n] of -n days
+  private final int[] workingDaysInFuture;
+  private final int[] workingDaysInPast;
 
   WorkingDaysToDaysReportConverter(
       List<? extends TimeIntervalColumnHeader> columnHeaders,
       WorkingTimeCalculator workingTimeCalculator,
       Instant referenceDate) {
     this.workingTimeCalculator = workingTimeCalculator;
-    cacheDaysToWorkingDays = generateDaysToWorkingDays(columnHeaders, referenceDate);
+    workingDaysInFuture =
+        calculateDaysToWorkingDays(
+            referenceDate, TimeIntervalColumnHeader.getLargestLowerLimit(columnHeaders), 1);
+    workingDaysInPast =
+        calculateDaysToWorkingDays(
+            referenceDate, TimeIntervalColumnHeader.getSmallestUpperLimit(columnHeaders), -1);
   }
 
   public static WorkingDaysToDaysReportConverter initialize(
@@ -82,65 +89,71 @@ public class WorkingDaysToDaysReportConverter {
   }
 
   public int convertDaysToWorkingDays(int amountOfDays) {
-    return cacheDaysToWorkingDays.getOrDefault(amountOfDays, amountOfDays);
+    if (amountOfDays >= 0) {
+      return amountOfDays < workingDaysInFuture.length
+          ? workingDaysInFuture[amountOfDays]
+          : amountOfDays;
+    }
+    return amountOfDays > -workingDaysInPast.length
+        ? -workingDaysInPast[-amountOfDays]
+        : amountOfDays;
   }
 
   public List<Integer> convertWorkingDaysToDays(int amountOfWorkdays) {
-    List<Integer> listOfAllMatchingDays =
-        cacheDaysToWorkingDays.entrySet().stream()
-            .filter(entry -> entry.getValue() == amountOfWorkdays)
-            .map(Entry::getKey)
-            .toList();
+    List<Integer> listOfAllMatchingDays = new ArrayList<>();
+    if (amountOfWorkdays >= 0) {
+      for (int days = 0; days < workingDaysInFuture.length; days++) {
+        if (workingDaysInFuture[days] == amountOfWorkdays) {
+          listOfAllMatchingDays.add(days);
+        }
+      }
+    }
+    if (amountOfWorkdays <= 0) {
+      for (int days = 1; days < workingDaysInPast.length; days++) {
+        if (-workingDaysInPast[days] == amountOfWorkdays) {
+          listOfAllMatchingDays.add(-days);
+        }
+      }
+    }
     if (listOfAllMatchingDays.isEmpty()) {
       return Collections.singletonList(amountOfWorkdays);
     }
     return listOfAllMatchingDays;
   }
 
-  protected Map<Integer, Integer> generateDaysToWorkingDays(
-      List<? extends TimeIntervalColumnHeader> columnHeaders, final Instant referenceDate) {
-    HashMap<Integer, Integer> daysToWorkingDaysMap = new HashMap<>();
-    daysToWorkingDaysMap.put(0, 0);
-
-    int positiveWorkdayLimit = TimeIntervalColumnHeader.getLargestLowerLimit(columnHeaders);
-    calculateFutureDaysToWorkingDays(daysToWorkingDaysMap, referenceDate, positiveWorkdayLimit);
-
-    int negativeWorkdayLimit = TimeIntervalColumnHeader.getSmallestUpperLimit(columnHeaders);
-    calculateNegativeDaysToWorkingDays(daysToWorkingDaysMap, referenceDate, negativeWorkdayLimit);
-
-    return daysToWorkingDaysMap;
-  }
-
-  private void calculateFutureDaysToWorkingDays(
-      HashMap<Integer, Integer> daysToWorkingDaysMap, Instant referenceDate, int workdayLimit) {
-    calculateDaysToWorkingDays(daysToWorkingDaysMap, referenceDate, workdayLimit, 1);
-  }
-
-  private void calculateNegativeDaysToWorkingDays(
-      HashMap<Integer, Integer> daysToWorkingDaysMap, Instant referenceDate, int workdayLimit) {
-    calculateDaysToWorkingDays(daysToWorkingDaysMap, referenceDate, workdayLimit, -1);
-  }
-
-  private void calculateDaysToWorkingDays(
-      HashMap<Integer, Integer> daysToWorkingDaysMap,
-      Instant referenceDate,
-      int workdayLimit,
-      int direction) {
+  /**
+   * Calculates the age in working days for every day from the reference date until the given limit
+   * of working days is reached.
+   *
+   * @param referenceDate the day with the age 0
+   * @param workdayLimit the age in working days at which the calculation stops
+   * @param direction 1 to calculate the days after the reference date, -1 for the days before
+   * @return the absolute ages in working days indexed by the absolute age in days
+   */
+  private int[] calculateDaysToWorkingDays(Instant referenceDate, int workdayLimit, int direction) {
+    int[] daysToWorkingDays = new int[16];
     int amountOfDays = 0;
     int amountOfWorkdays = 0;
-    while (Math.abs(amountOfWorkdays) < Math.abs(workdayLimit)) {
-      amountOfDays += direction;
-      if (workingTimeCalculator.isWorkingDay(referenceDate.plus(amountOfDays, ChronoUnit.DAYS))) {
-        amountOfWorkdays += direction;
+    while (amountOfWorkdays < Math.abs(workdayLimit)) {
+      amountOfDays++;
+      if (workingTimeCalculator.isWorkingDay(
+          referenceDate.plus((long) direction * amountOfDays, ChronoUnit.DAYS))) {
+        amountOfWorkdays++;
+      }
+      if (amountOfDays == daysToWorkingDays.length) {
+        daysToWorkingDays = Arrays.copyOf(daysToWorkingDays, amountOfDays * 2);
       }
-      daysToWorkingDaysMap.put(amountOfDays, amountOfWorkdays);
+      daysToWorkingDays[amountOfDays] = amountOfWorkdays;
     }
+    return Arrays.copyOf(daysToWorkingDays, amountOfDays + 1);
   }
 
   @Override
   public String toString() {
-    return "DaysToWorkingDaysReportConverter [cacheDaysToWorkingDays="
-        + cacheDaysToWorkingDays
+    return "DaysToWorkingDaysReportConverter [workingDaysInFuture="
+        + Arrays.toString(workingDaysInFuture)
+        + ", workingDaysInPast="
+        + Arrays.toString(workingDaysInPast)
         + ", daysToWorkingDaysConverter="
         + workingTimeCalculator
         + "]";
@@ -12,7 +12,7 @@ import pro.taskana.monitor.api.reports.ClassificationCategoryReport.Builder;
 import pro.taskana.monitor.api.reports.header.TimeIntervalColumnHeader;
 import pro.taskana.monitor.api.reports.item.MonitorQueryItem;
 import pro.taskana.monitor.internal.MonitorMapper;
-import pro.taskana.monitor.internal.preprocessor.DaysToWorkingDaysReportPreProcessor;
+import pro.taskana.monitor.internal.ReportCache;
 
 /** The implementation of CategoryReportBuilder. */
 public class ClassificationCategoryReportBuilderImpl
@@ -20,8 +20,8 @@ public class ClassificationCategoryReportBuilderImpl
     implements ClassificationCategoryReport.Builder {
 
   public ClassificationCategoryReportBuilderImpl(
-      InternalTaskanaEngine taskanaEngine, MonitorMapper monitorMapper) {
-    super(taskanaEngine, monitorMapper);
+      InternalTaskanaEngine taskanaEngine, MonitorMapper monitorMapper, ReportCache reportCache) {
+    super(taskanaEngine, monitorMapper, reportCache);
   }
 
   @Override
@@ -34,19 +34,10 @@ public class ClassificationCategoryReportBuilderImpl
   public ClassificationCategoryReport buildReport(TaskTimestamp timestamp)
       throws InvalidArgumentException, NotAuthorizedException {
     this.taskanaEngine.getEngine().checkRoleMembership(TaskanaRole.MONITOR, TaskanaRole.ADMIN);
-    try {
-      this.taskanaEngine.openConnection();
-      ClassificationCategoryReport report = new ClassificationCategoryReport(this.columnHeaders);
-      List<MonitorQueryItem> monitorQueryItems =
-          this.monitorMapper.getTaskCountOfCategories(Instant.now(), timestamp, this);
-      report.addItems(
-          monitorQueryItems,
-          new DaysToWorkingDaysReportPreProcessor<>(
-              this.columnHeaders, workingTimeCalculator, this.inWorkingDays));
-      return report;
-    } finally {
-      this.taskanaEngine.returnConnection();
-    }
+    return getReportFromCache(
+        createReportCacheKey(ClassificationCategoryReport.class, timestamp),
+        () -> new ClassificationCategoryReport(this.columnHeaders),
+        () -> computeReport(timestamp));
   }
 
   @Override
@@ -58,4 +49,19 @@ public class ClassificationCategoryReportBuilderImpl
   protected String determineGroupedBy() {
     return "CLASSIFICATION_CATEGORY";
   }
+
+  private CachedReport<MonitorQueryItem> computeReport(TaskTimestamp timestamp)
+      throws InvalidArgumentException {
+    try {
+      this.taskanaEngine.openConnection();
+      List<MonitorQueryItem> monitorQueryItems =
+          isReportSnapshotApplicable(timestamp)
+              ? this.monitorMapper.getTaskCountFromReportSnapshot(
+                  Instant.now(), determineGroupedBy(), "NUMBER_OF_TASKS", this)
+              : this.monitorMapper.getTaskCountOfCategories(Instant.now(), timestamp, this);
+      return new CachedReport<>(preprocess(monitorQueryItems));
+    } finally {
+      this.taskanaEngine.returnConnection();
+    }
+  }
 }
@@ -3,6 +3,7 @@ package pro.taskana.monitor.internal.reports;
 import java.time.Instant;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import pro.taskana.classification.api.ClassificationService;
@@ -18,9 +19,8 @@ import pro.taskana.monitor.api.reports.ClassificationReport.DetailedClassificati
 import pro.taskana.monitor.api.reports.header.TimeIntervalColumnHeader;
 import pro.taskana.monitor.api.reports.item.DetailedMonitorQueryItem;
 import pro.taskana.monitor.api.reports.item.MonitorQueryItem;
-import pro.taskana.monitor.api.reports.row.Row;
 import pro.taskana.monitor.internal.MonitorMapper;
-import pro.taskana.monitor.internal.preprocessor.DaysToWorkingDaysReportPreProcessor;
+import pro.taskana.monitor.internal.ReportCache;
 
 /** The implementation of ClassificationReportBuilder. */
 public class ClassificationReportBuilderImpl
@@ -30,8 +30,8 @@ public class ClassificationReportBuilderImpl
   private final ClassificationService classificationService;
 
   public ClassificationReportBuilderImpl(
-      InternalTaskanaEngine taskanaEngine, MonitorMapper monitorMapper) {
-    super(taskanaEngine, monitorMapper);
+      InternalTaskanaEngine taskanaEngine, MonitorMapper monitorMapper, ReportCache reportCache) {
+    super(taskanaEngine, monitorMapper, reportCache);
     classificationService = taskanaEngine.getEngine().getClassificationService();
   }
 
@@ -45,33 +45,10 @@ public class ClassificationReportBuilderImpl
   public ClassificationReport buildReport(TaskTimestamp timestamp)
       throws InvalidArgumentException, NotAuthorizedException {
     this.taskanaEngine.getEngine().checkRoleMembership(TaskanaRole.MONITOR, TaskanaRole.ADMIN);
-    try {
-      this.taskanaEngine.openConnection();
-      ClassificationReport report = new ClassificationReport(this.columnHeaders);
-      List<MonitorQueryItem> monitorQueryItems =
-          this.monitorMapper.getTaskCountOfClassifications(Instant.now(), timestamp, this);
-      report.addItems(
-          monitorQueryItems,
-          new DaysToWorkingDaysReportPreProcessor<>(
-              this.columnHeaders, workingTimeCalculator, this.inWorkingDays));
-      Map<String, String> displayMap =
-          classificationService
-              .createClassificationQuery()
-              .keyIn(
-                  report.getRows().isEmpty()
-                      ? null
-                      : report.getRows().keySet().toArray(new String[0]))
-              .domainIn(this.domains)
-              .list()
-              .stream()
-              .collect(
-                  Collectors.toMap(
-                      ClassificationSummary::getKey, ClassificationSummary::getName, (a, b) -> a));
-      report.augmentDisplayNames(displayMap);
-      return report;
-    } finally {
-      this.taskanaEngine.returnConnection();
-    }
+    return getReportFromCache(
+        createReportCacheKey(ClassificationReport.class, timestamp),
+        () -> new ClassificationReport(this.columnHeaders),
+        () -> computeReport(timestamp));
   }
 
   @Override
@@ -84,38 +61,10 @@ public class ClassificationReportBuilderImpl
   public DetailedClassificationReport buildDetailedReport(TaskTimestamp timestamp)
       throws InvalidArgumentException, NotAuthorizedException {
     this.taskanaEngine.getEngine().checkRoleMembership(TaskanaRole.MONITOR, TaskanaRole.ADMIN);
-    try {
-      this.taskanaEngine.openConnection();
-      DetailedClassificationReport report = new DetailedClassificationReport(this.columnHeaders);
-      List<DetailedMonitorQueryItem> detailedMonitorQueryItems =
-          this.monitorMapper.getTaskCountOfDetailedClassifications(Instant.now(), timestamp, this);
-
-      report.addItems(
-          detailedMonitorQueryItems,
-          new DaysToWorkingDaysReportPreProcessor<>(
-              this.columnHeaders, workingTimeCalculator, this.inWorkingDays));
-      Stream<String> attachmentKeys =
-          report.getRows().keySet().stream()
-              .map(report::getRow)
-              .flatMap(row -> row.getFoldableRows().values().stream())
-              .map(Row::getKey);
-      String[] keys =
-          Stream.concat(attachmentKeys, report.getRows().keySet().stream()).toArray(String[]::new);
-      Map<String, String> displayMap =
-          classificationService
-              .createClassificationQuery()
-              .keyIn(keys.length == 0 ? null : keys)
-              .domainIn(this.domains)
-              .list()
-              .stream()
-              .collect(
-                  Collectors.toMap(
-                      ClassificationSummary::getKey, ClassificationSummary::getName, (a, b) -> a));
-      report.augmentDisplayNames(displayMap);
-      return report;
-    } finally {
-      this.taskanaEngine.returnConnection();
-    }
+    return getReportFromCache(
+        createReportCacheKey(DetailedClassificationReport.class, timestamp),
+        () -> new DetailedClassificationReport(this.columnHeaders),
+        () -> computeDetailedReport(timestamp));
   }
 
   @Override
@@ -127,4 +76,54 @@ public class ClassificationReportBuilderImpl
   protected String determineGroupedBy() {
     return "CLASSIFICATION_KEY";
   }
+
+  private CachedReport<MonitorQueryItem> computeReport(TaskTimestamp timestamp)
+      throws InvalidArgumentException {
+    try {
+      this.taskanaEngine.openConnection();
+      List<MonitorQueryItem> monitorQueryItems =
+          preprocess(
+              this.monitorMapper.getTaskCountOfClassifications(Instant.now(), timestamp, this));
+      String[] keys =
+          monitorQueryItems.stream()
+              .map(MonitorQueryItem::getKey)
+              .distinct()
+              .toArray(String[]::new);
+      return new CachedReport<>(monitorQueryItems, getDisplayNames(keys));
+    } finally {
+      this.taskanaEngine.returnConnection();
+    }
+  }
+
+  private CachedReport<DetailedMonitorQueryItem> computeDetailedReport(TaskTimestamp timestamp)
+      throws InvalidArgumentException {
+    try {
+      this.taskanaEngine.openConnection();
+      List<DetailedMonitorQueryItem> detailedMonitorQueryItems =
+          preprocess(
+              this.monitorMapper.getTaskCountOfDetailedClassifications(
+                  Instant.now(), timestamp, this));
+      String[] keys =
+          detailedMonitorQueryItems.stream()
+              .flatMap(item -> Stream.of(item.getAttachmentKey(), item.getKey()))
+              .filter(Objects::nonNull)
+              .distinct()
+              .toArray(String[]::new);
+      return new CachedReport<>(detailedMonitorQueryItems, getDisplayNames(keys));
+    } finally {
+      this.taskanaEngine.returnConnection();
+    }
+  }
+
+  private Map<String, String> getDisplayNames(String[] classificationKeys) {
+    return classificationService
+        .createClassificationQuery()
+        .keyIn(classificationKeys.length == 0 ? null : classificationKeys)
+        .domainIn(this.domains)
+        .list()
+        .stream()
+        .collect(
+            Collectors.toMap(
+                ClassificationSummary::getKey, ClassificationSummary::getName, (a, b) -> a));
+  }
 }
@@ -12,7 +12,7 @@ import pro.taskana.monitor.api.reports.TaskCustomFieldValueReport.Builder;
 import pro.taskana.monitor.api.reports.header.TimeIntervalColumnHeader;
 import pro.taskana.monitor.api.reports.item.MonitorQueryItem;
 import pro.taskana.monitor.internal.MonitorMapper;
-import pro.taskana.monitor.internal.preprocessor.DaysToWorkingDaysReportPreProcessor;
+import pro.taskana.monitor.internal.ReportCache;
 import pro.taskana.task.api.TaskCustomField;
 
 /** The implementation of CustomFieldValueReportBuilder. */
@@ -25,8 +25,9 @@ public class TaskCustomFieldValueReportBuilderImpl
   public TaskCustomFieldValueReportBuilderImpl(
       InternalTaskanaEngine taskanaEngine,
       MonitorMapper monitorMapper,
+      ReportCache reportCache,
       TaskCustomField taskCustomField) {
-    super(taskanaEngine, monitorMapper);
+    super(taskanaEngine, monitorMapper, reportCache);
     this.taskCustomField = taskCustomField;
   }
 
@@ -40,20 +41,10 @@ public class TaskCustomFieldValueReportBuilderImpl
   public TaskCustomFieldValueReport buildReport(TaskTimestamp timestamp)
       throws InvalidArgumentException, NotAuthorizedException {
     this.taskanaEngine.getEngine().checkRoleMembership(TaskanaRole.MONITOR, TaskanaRole.ADMIN);
-    try {
-      this.taskanaEngine.openConnection();
-      TaskCustomFieldValueReport report = new TaskCustomFieldValueReport(this.columnHeaders);
-      List<MonitorQueryItem> monitorQueryItems =
-          this.monitorMapper.getTaskCountOfTaskCustomFieldValues(Instant.now(), timestamp, this);
-
-      report.addItems(
-          monitorQueryItems,
-          new DaysToWorkingDaysReportPreProcessor<>(
-              this.columnHeaders, workingTimeCalculator, this.inWorkingDays));
-      return report;
-    } finally {
-      this.taskanaEngine.returnConnection();
-    }
+    return getReportFromCache(
+        createReportCacheKey(TaskCustomFieldValueReport.class, timestamp, taskCustomField),
+        () -> new TaskCustomFieldValueReport(this.columnHeaders),
+        () -> computeReport(timestamp));
   }
 
   @Override
@@ -65,4 +56,16 @@ public class TaskCustomFieldValueReportBuilderImpl
   protected String determineGroupedBy() {
     return taskCustomField.name();
   }
+
+  private CachedReport<MonitorQueryItem> computeReport(TaskTimestamp timestamp)
+      throws InvalidArgumentException {
+    try {
+      this.taskanaEngine.openConnection();
+      List<MonitorQueryItem> monitorQueryItems =
+          this.monitorMapper.getTaskCountOfTaskCustomFieldValues(Instant.now(), timestamp, this);
+      return new CachedReport<>(preprocess(monitorQueryItems));
+    } finally {
+      this.taskanaEngine.returnConnection();
+    }
+  }
 }
@@ -3,8 +3,14 @@ package pro.taskana.monitor.internal.reports;
 import static pro.taskana.common.api.BaseQuery.toLowerCopy;
 
 import java.time.Instant;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+import pro.taskana.TaskanaConfiguration;
 import pro.taskana.common.api.IntInterval;
 import pro.taskana.common.api.TaskanaRole;
 import pro.taskana.common.api.WorkingTimeCalculator;
@@ -12,14 +18,20 @@ import pro.taskana.common.api.exceptions.InvalidArgumentException;
 import pro.taskana.common.api.exceptions.NotAuthorizedException;
 import pro.taskana.common.api.exceptions.SystemException;
 import pro.taskana.common.internal.InternalTaskanaEngine;
+import pro.taskana.common.internal.configuration.DB;
+import pro.taskana.common.internal.util.CheckedSupplier;
 import pro.taskana.monitor.api.CombinedClassificationFilter;
 import pro.taskana.monitor.api.SelectedItem;
 import pro.taskana.monitor.api.TaskTimestamp;
 import pro.taskana.monitor.api.reports.ClassificationReport;
+import pro.taskana.monitor.api.reports.Report;
 import pro.taskana.monitor.api.reports.TimeIntervalReportBuilder;
 import pro.taskana.monitor.api.reports.header.TimeIntervalColumnHeader;
 import pro.taskana.monitor.api.reports.item.AgeQueryItem;
+import pro.taskana.monitor.api.reports.item.QueryItem;
 import pro.taskana.monitor.internal.MonitorMapper;
+import pro.taskana.monitor.internal.ReportCache;
+import pro.taskana.monitor.internal.preprocessor.DaysToWorkingDaysReportPreProcessor;
 import pro.taskana.monitor.internal.preprocessor.WorkingDaysToDaysReportConverter;
 import pro.taskana.task.api.TaskCustomField;
 import pro.taskana.task.api.TaskCustomIntField;
@@ -40,8 +52,13 @@ abstract class TimeIntervalReportBuilderImpl<
 
   protected InternalTaskanaEngine taskanaEngine;
   protected MonitorMapper monitorMapper;
+  protected ReportCache reportCache;
   protected List<H> columnHeaders;
   protected boolean inWorkingDays;
+  // not named like the method, because OGNL would call includeArchived() in the mapper
+  protected boolean includingArchived;
+  // the custom filters of the report cache key by custom field and filter type
+  private final Map<String, List<String>> customFilters = new TreeMap<>();
   protected String[] workbasketIds;
   protected TaskState[] states;
   protected String[] classificationCategories;
@@ -131,9 +148,11 @@ abstract class TimeIntervalReportBuilderImpl<
   private IntInterval[] customInt8Within;
   private IntInterval[] customInt8NotWithin;
 
-  TimeIntervalReportBuilderImpl(InternalTaskanaEngine taskanaEngine, MonitorMapper monitorMapper) {
+  TimeIntervalReportBuilderImpl(
+      InternalTaskanaEngine taskanaEngine, MonitorMapper monitorMapper, ReportCache reportCache) {
     this.taskanaEngine = taskanaEngine;
     this.monitorMapper = monitorMapper;
+    this.reportCache = reportCache;
     this.columnHeaders = Collections.emptyList();
     workingTimeCalculator = taskanaEngine.getEngine().getWorkingTimeCalculator();
   }
@@ -150,6 +169,12 @@ abstract class TimeIntervalReportBuilderImpl<
     return _this();
   }
 
+  @Override
+  public B includeArchived() {
+    this.includingArchived = true;
+    return _this();
+  }
+
   @Override
   public B workbasketIdIn(List<String> workbasketIds) {
     if (workbasketIds != null) {
@@ -205,6 +230,7 @@ abstract class TimeIntervalReportBuilderImpl<
       throw new InvalidArgumentException(
           "At least one string has to be provided as a search parameter");
     }
+    addCustomFilter(customField, "IN", strings);
     switch (customField) {
       case CUSTOM_1:
         this.custom1In = strings;
@@ -268,6 +294,7 @@ abstract class TimeIntervalReportBuilderImpl<
       throw new InvalidArgumentException(
           "At least one string has to be provided as a search parameter");
     }
+    addCustomFilter(customField, "NOT IN", strings);
     switch (customField) {
       case CUSTOM_1:
         this.custom1NotIn = strings;
@@ -331,6 +358,7 @@ abstract class TimeIntervalReportBuilderImpl<
       throw new InvalidArgumentException(
           "At least one Integer has to be provided as a search parameter");
     }
+    addCustomFilter(customIntField, "IN", values);
     switch (customIntField) {
       case CUSTOM_INT_1:
         this.customInt1In = values;
@@ -370,6 +398,7 @@ abstract class TimeIntervalReportBuilderImpl<
       throw new InvalidArgumentException(
           "At least one Integer has to be provided as a search parameter");
     }
+    addCustomFilter(customIntField, "NOT IN", values);
     switch (customIntField) {
       case CUSTOM_INT_1:
         this.customInt1NotIn = values;
@@ -410,6 +439,7 @@ abstract class TimeIntervalReportBuilderImpl<
         throw new IllegalArgumentException("IntInterval " + i + " is invalid.");
       }
     }
+    addCustomFilter(customIntField, "WITHIN", values);
     switch (customIntField) {
       case CUSTOM_INT_1:
         this.customInt1Within = values;
@@ -449,6 +479,7 @@ abstract class TimeIntervalReportBuilderImpl<
         throw new IllegalArgumentException("IntInterval " + i + " is invalid.");
       }
     }
+    addCustomFilter(customIntField, "NOT WITHIN", values);
     switch (customIntField) {
       case CUSTOM_INT_1:
         this.customInt1NotWithin = values;
@@ -488,6 +519,7 @@ abstract class TimeIntervalReportBuilderImpl<
           "At least one string has to be provided as a search parameter");
     }
 
+    addCustomFilter(customField, "LIKE", strings);
     switch (customField) {
       case CUSTOM_1:
         this.custom1Like = toLowerCopy(strings);
@@ -606,6 +638,132 @@ abstract class TimeIntervalReportBuilderImpl<
     return null;
   }
 
+  /**
+   * Checks if the report can be read from the report snapshot instead of the TASK table. This is
+   * only the case if the snapshot job is enabled, the snapshot is recent enough and the report uses
+   * no filter which the snapshot can't answer. On PostgreSQL the report is never read from the
+   * snapshot, since there the age of a task is the number of full days between its due timestamp
+   * and now, which can't be computed from the due day stored in the snapshot.
+   *
+   * @param timestamp the timestamp the report is based on
+   * @return true if the report can be read from the report snapshot
+   */
+  protected boolean isReportSnapshotApplicable(TaskTimestamp timestamp) {
+    TaskanaConfiguration configuration = taskanaEngine.getEngine().getConfiguration();
+    if (!configuration.isReportSnapshotJobEnabled()
+        || timestamp != TaskTimestamp.DUE
+        || includingArchived
+        // the report snapshot doesn't contain the custom attributes of the tasks
+        || !customFilters.isEmpty()
+        || getCombinedClassificationFilter() != null
+        || DB.POSTGRES
+            == DB.getDB(taskanaEngine.getSqlSession().getConfiguration().getDatabaseId())) {
+      return false;
+    }
+    Instant snapshotCreated = monitorMapper.getReportSnapshotCreated();
+    return snapshotCreated != null
+        && !snapshotCreated.isBefore(Instant.now().minus(configuration.getReportSnapshotMaxAge()));
+  }
+
+  /**
+   * Returns the report from the {@linkplain ReportCache} or computes it. The cache contains the
+   * preprocessed items and the display names of the report instead of the report itself, so every
+   * caller gets a new report which it may modify.
+   *
+   * @param key the key of the report, see {@linkplain #createReportCacheKey}
+   * @param reportFactory creates an empty report
+   * @param computeReport queries the items and the display names of the report
+   * @param <T> the type of the items of the report
+   * @param <R> the type of the report
+   * @return a new report which contains the cached items
+   * @throws InvalidArgumentException if the report could not be computed
+   */
+  protected <T extends QueryItem, R extends Report<T, ?>> R getReportFromCache(
+      Object key,
+      Supplier<R> reportFactory,
+      CheckedSupplier<CachedReport<T>, InvalidArgumentException> computeReport)
+      throws InvalidArgumentException {
+    CachedReport<T> cachedReport = reportCache.get(key, computeReport);
+    R report = reportFactory.get();
+    report.addItems(cachedReport.items);
+    if (cachedReport.displayNames != null) {
+      report.augmentDisplayNames(cachedReport.displayNames);
+    }
+    return report;
+  }
+
+  /**
+   * Converts the age of the given items to working days if the report is built in working days.
+   *
+   * @param items the items which are queried for the report
+   * @param <T> the type of the items
+   * @return the converted items
+   * @throws InvalidArgumentException if the column headers can't be converted to days
+   */
+  protected <T extends AgeQueryItem> List<T> preprocess(List<T> items)
+      throws InvalidArgumentException {
+    DaysToWorkingDaysReportPreProcessor<T> preprocessor =
+        new DaysToWorkingDaysReportPreProcessor<>(
+            columnHeaders, workingTimeCalculator, inWorkingDays);
+    return items.stream().map(preprocessor::apply).toList();
+  }
+
+  /**
+   * Creates the key of the report in the {@linkplain ReportCache}. The key consists of the type of
+   * the report, the timestamp and the values of all filters and options of this builder. The values
+   * of the array filters are sorted, since their order has no influence on the report.
+   *
+   * @param reportType the type of the report which is built
+   * @param timestamp the timestamp the report is based on
+   * @param reportSpecificOptions the options which only the builder of the report type has
+   * @return the key of the report
+   */
+  protected Object createReportCacheKey(
+      Class<?> reportType, TaskTimestamp timestamp, Object... reportSpecificOptions) {
+    return Arrays.asList(
+        reportType.getName(),
+        timestamp,
+        columnHeaders == null
+            ? null
+            : columnHeaders.stream()
+                .map(
+                    header ->
+                        header.getClass().getName()
+                            + "["
+                            + header.getLowerAgeLimit()
+                            + ","
+                            + header.getUpperAgeLimit()
+                            + "]")
+                .toList(),
+        inWorkingDays,
+        includingArchived,
+        toSortedList(workbasketIds),
+        toSortedList(states),
+        toSortedList(classificationCategories),
+        toSortedList(domains),
+        toSortedList(classificationIds),
+        toSortedList(excludedClassificationIds),
+        Map.copyOf(customFilters),
+        getCombinedClassificationFilter() == null
+            ? null
+            : getCombinedClassificationFilter().stream()
+                .map(
+                    filter ->
+                        filter.getTaskClassificationId()
+                            + "/"
+                            + filter.getAttachmentClassificationId())
+                .toList(),
+        List.of(reportSpecificOptions));
+  }
+
+  private static List<String> toSortedList(Object[] values) {
+    return values == null ? null : Arrays.stream(values).map(String::valueOf).sorted().toList();
+  }
+
+  private void addCustomFilter(Object customField, String filter, Object[] values) {
+    customFilters.put(customField + " " + filter, toSortedList(values));
+  }
+
   private List<SelectedItem> convertWorkingDaysToDays(
       List<SelectedItem> selectedItems, List<H> columnHeaders) throws InvalidArgumentException {
     WorkingDaysToDaysReportConverter instance =
@@ -629,4 +787,26 @@ abstract class TimeIntervalReportBuilderImpl<
     }
     return false;
   }
+
+  /**
+   * The content of a report in the {@linkplain ReportCache}. It is never modified, since it is
+   * shared between all callers which request the same report.
+   *
+   * @param <T> the type of the items of the report
+   */
+  protected static final class CachedReport<T> {
+
+    private final List<T> items;
+    private final Map<String, String> displayNames;
+
+    CachedReport(List<T> items) {
+      this.items = List.copyOf(items);
+      this.displayNames = null;
+    }
+
+    CachedReport(List<T> items, Map<String, String> displayNames) {
+      this.items = List.copyOf(items);
+      this.displayNames = Collections.unmodifiableMap(new HashMap<>(displayNames));
+    }
+  }
 }
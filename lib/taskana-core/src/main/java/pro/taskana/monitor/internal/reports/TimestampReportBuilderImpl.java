@@ -17,7 +17,7 @@ import pro.taskana.monitor.api.reports.TimestampReport.Builder;
 import pro.taskana.monitor.api.reports.header.TimeIntervalColumnHeader;
 import pro.taskana.monitor.api.reports.item.TimestampQueryItem;
 import pro.taskana.monitor.internal.MonitorMapper;
-import pro.taskana.monitor.internal.preprocessor.DaysToWorkingDaysReportPreProcessor;
+import pro.taskana.monitor.internal.ReportCache;
 import pro.taskana.task.api.TaskState;
 
 /** The implementation of {@linkplain TimestampReport.Builder}. */
@@ -29,8 +29,8 @@ public class TimestampReportBuilderImpl
       Arrays.asList(TaskTimestamp.CREATED, TaskTimestamp.COMPLETED);
 
   public TimestampReportBuilderImpl(
-      InternalTaskanaEngine taskanaEngine, MonitorMapper monitorMapper) {
-    super(taskanaEngine, monitorMapper);
+      InternalTaskanaEngine taskanaEngine, MonitorMapper monitorMapper, ReportCache reportCache) {
+    super(taskanaEngine, monitorMapper, reportCache);
   }
 
   @Override
@@ -60,26 +60,10 @@ public class TimestampReportBuilderImpl
   @Override
   public TimestampReport buildReport() throws InvalidArgumentException, NotAuthorizedException {
     this.taskanaEngine.getEngine().checkRoleMembership(TaskanaRole.MONITOR, TaskanaRole.ADMIN);
-    try {
-      this.taskanaEngine.openConnection();
-      TimestampReport report = new TimestampReport(columnHeaders);
-      List<TimestampQueryItem> items =
-          status.stream()
-              // This can also be implemented into a single sql query which combines all statuses
-              // with the union operator. That would reduce the readability of the sql template.
-              // That's why "the loop" is done outside mybatis.
-              .map(this::getTasksCountForStatusGroupedByOrgLevel)
-              .flatMap(Collection::stream)
-              .toList();
-
-      report.addItems(
-          items,
-          new DaysToWorkingDaysReportPreProcessor<>(
-              columnHeaders, workingTimeCalculator, inWorkingDays));
-      return report;
-    } finally {
-      this.taskanaEngine.returnConnection();
-    }
+    return getReportFromCache(
+        createReportCacheKey(TimestampReport.class, null, status),
+        () -> new TimestampReport(columnHeaders),
+        this::computeReport);
   }
 
   @Override
@@ -95,4 +79,21 @@ public class TimestampReportBuilderImpl
   private List<TimestampQueryItem> getTasksCountForStatusGroupedByOrgLevel(TaskTimestamp s) {
     return monitorMapper.getTasksCountForStatusGroupedByOrgLevel(Instant.now(), s, this);
   }
+
+  private CachedReport<TimestampQueryItem> computeReport() throws InvalidArgumentException {
+    try {
+      this.taskanaEngine.openConnection();
+      List<TimestampQueryItem> items =
+          status.stream()
+              // This can also be implemented into a single sql query which combines all statuses
+              // with the union operator. That would reduce the readability of the sql template.
+              // That's why "the loop" is done outside mybatis.
+              .map(this::getTasksCountForStatusGroupedByOrgLevel)
+              .flatMap(Collection::stream)
+              .toList();
+      return new CachedReport<>(preprocess(items));
+    } finally {
+      this.taskanaEngine.returnConnection();
+    }
+  }
 }
@@ -15,7 +15,7 @@ import pro.taskana.monitor.api.reports.WorkbasketReport.Builder;
 import pro.taskana.monitor.api.reports.header.TimeIntervalColumnHeader;
 import pro.taskana.monitor.api.reports.item.MonitorQueryItem;
 import pro.taskana.monitor.internal.MonitorMapper;
-import pro.taskana.monitor.internal.preprocessor.DaysToWorkingDaysReportPreProcessor;
+import pro.taskana.monitor.internal.ReportCache;
 import pro.taskana.workbasket.api.WorkbasketService;
 import pro.taskana.workbasket.api.models.WorkbasketSummary;
 
@@ -27,8 +27,8 @@ public class WorkbasketReportBuilderImpl
   private List<CombinedClassificationFilter> combinedClassificationFilter;
 
   public WorkbasketReportBuilderImpl(
-      InternalTaskanaEngine taskanaEngine, MonitorMapper monitorMapper) {
-    super(taskanaEngine, monitorMapper);
+      InternalTaskanaEngine taskanaEngine, MonitorMapper monitorMapper, ReportCache reportCache) {
+    super(taskanaEngine, monitorMapper, reportCache);
     workbasketService = taskanaEngine.getEngine().getWorkbasketService();
   }
 
@@ -41,37 +41,10 @@ public class WorkbasketReportBuilderImpl
   public WorkbasketReport buildReport(TaskTimestamp timestamp)
       throws InvalidArgumentException, NotAuthorizedException {
     this.taskanaEngine.getEngine().checkRoleMembership(TaskanaRole.MONITOR, TaskanaRole.ADMIN);
-    try {
-      this.taskanaEngine.openConnection();
-      WorkbasketReport report = new WorkbasketReport(this.columnHeaders);
-      List<MonitorQueryItem> monitorQueryItems =
-          this.monitorMapper.getTaskCountOfWorkbaskets(Instant.now(), timestamp, this);
-      report.addItems(
-          monitorQueryItems,
-          new DaysToWorkingDaysReportPreProcessor<>(
-              this.columnHeaders, workingTimeCalculator, this.inWorkingDays));
-
-      Map<String, String> displayMap =
-          taskanaEngine
-              .getEngine()
-              .runAsAdmin(
-                  () ->
-                      workbasketService
-                          .createWorkbasketQuery()
-                          .keyIn(report.getRows().keySet().toArray(new String[0]))
-                          .domainIn(domains)
-                          .list()
-                          .stream()
-                          .collect(
-                              Collectors.toMap(
-                                  WorkbasketSummary::getKey,
-                                  WorkbasketSummary::getName,
-                                  (a, b) -> a)));
-      report.augmentDisplayNames(displayMap);
-      return report;
-    } finally {
-      this.taskanaEngine.returnConnection();
-    }
+    return getReportFromCache(
+        createReportCacheKey(WorkbasketReport.class, timestamp),
+        () -> new WorkbasketReport(this.columnHeaders),
+        () -> computeReport(timestamp));
   }
 
   @Override
@@ -95,4 +68,41 @@ public class WorkbasketReportBuilderImpl
   protected List<CombinedClassificationFilter> getCombinedClassificationFilter() {
     return combinedClassificationFilter;
   }
+
+  private CachedReport<MonitorQueryItem> computeReport(TaskTimestamp timestamp)
+      throws InvalidArgumentException {
+    try {
+      this.taskanaEngine.openConnection();
+      List<MonitorQueryItem> monitorQueryItems =
+          preprocess(
+              isReportSnapshotApplicable(timestamp)
+                  ? this.monitorMapper.getTaskCountFromReportSnapshot(
+                      Instant.now(), determineGroupedBy(), "NUMBER_OF_ATTACHMENT_ROWS", this)
+                  : this.monitorMapper.getTaskCountOfWorkbaskets(Instant.now(), timestamp, this));
+
+      Map<String, String> displayMap =
+          taskanaEngine
+              .getEngine()
+              .runAsAdmin(
+                  () ->
+                      workbasketService
+                          .createWorkbasketQuery()
+                          .keyIn(
+                              monitorQueryItems.stream()
+                                  .map(MonitorQueryItem::getKey)
+                                  .distinct()
+                                  .toArray(String[]::new))
+                          .domainIn(domains)
+                          .list()
+                          .stream()
+                          .collect(
+                              Collectors.toMap(
+                                  WorkbasketSummary::getKey,
+                                  WorkbasketSummary::getName,
+                                  (a, b) -> a)));
+      return new CachedReport<>(monitorQueryItems, displayMap);
+    } finally {
+      this.taskanaEngine.returnConnection();
+    }
+  }
 }
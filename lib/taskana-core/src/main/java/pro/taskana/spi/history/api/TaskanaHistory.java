@@ -39,6 +39,18 @@ public interface TaskanaHistory {
    */
   void create(ClassificationHistoryEvent event);
 
+  /**
+   * Create new {@linkplain TaskHistoryEvent TaskHistoryEvents}.
+   *
+   * <p>The default implementation creates the events one by one. Providers which are able to store
+   * several events at once should override this method.
+   *
+   * @param events the {@linkplain TaskHistoryEvent TaskHistoryEvents} to be created
+   */
+  default void createEvents(List<TaskHistoryEvent> events) {
+    events.forEach(this::create);
+  }
+
   /**
    * Delete history events by taskIds. Invalid/non-existing taskIds will be ignored
    *
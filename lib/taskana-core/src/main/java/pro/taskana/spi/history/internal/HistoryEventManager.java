@@ -57,6 +57,17 @@ public final class HistoryEventManager {
         CheckedConsumer.wrap(historyProvider -> historyProvider.create(event)));
   }
 
+  public void createEvents(List<TaskHistoryEvent> events) {
+    if (events.isEmpty()) {
+      return;
+    }
+    if (LOGGER.isDebugEnabled()) {
+      LOGGER.debug("Sending {} events to history service providers: {}", events.size(), events);
+    }
+    taskanaHistories.forEach(
+        CheckedConsumer.wrap(historyProvider -> historyProvider.createEvents(events)));
+  }
+
   public void deleteEvents(List<String> taskIds) {
     if (LOGGER.isDebugEnabled()) {
       LOGGER.debug("Sending taskIds to history service providers: {}", taskIds);
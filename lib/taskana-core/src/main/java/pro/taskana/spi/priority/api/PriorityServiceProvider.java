@@ -1,5 +1,6 @@
 package pro.taskana.spi.priority.api;
 
+import java.util.List;
 import java.util.OptionalInt;
 import pro.taskana.common.api.TaskanaEngine;
 import pro.taskana.task.api.models.Task;
@@ -45,4 +46,34 @@ public interface PriorityServiceProvider {
    * @return the computed {@linkplain Task#getPriority() priority}
    */
   OptionalInt calculatePriority(TaskSummary taskSummary);
+
+  /**
+   * Determine the {@linkplain Task#getPriority() priorities} of several {@linkplain Task Tasks} at
+   * once. TASKANA calls this method when it recalculates the priorities of many {@linkplain Task
+   * Tasks}, e.g. in the job which updates the priorities of all {@linkplain Task Tasks}.
+   *
+   * <p>The default implementation calls {@linkplain #calculatePriority(TaskSummary)} for each
+   * {@linkplain TaskSummary}. Providers which look up the priorities in external systems should
+   * override it and fetch the data for all {@linkplain Task Tasks} together.
+   *
+   * <p>If the property {@code taskana.priority.serviceProvider.parallelism} is greater than one,
+   * the {@linkplain TaskSummary TaskSummaries} are split into sub-batches, and this method is
+   * called for each sub-batch concurrently, on the threads of a pool. Then the implementation has
+   * to be thread-safe, and it runs without the context of the caller:
+   *
+   * <ul>
+   *   <li>The JAAS Subject of the caller is propagated, the caller Subject of IBM WebSphere is not.
+   *   <li>The database session and transaction of the caller aren't available. Calls to the
+   *       {@linkplain TaskanaEngine} open their own connection and don't see uncommitted changes of
+   *       the caller.
+   * </ul>
+   *
+   * @param taskSummaries the {@linkplain TaskSummary TaskSummaries} to compute the {@linkplain
+   *     Task#getPriority() priorities} for
+   * @return the computed {@linkplain Task#getPriority() priorities} in the order of the given
+   *     {@linkplain TaskSummary TaskSummaries}
+   */
+  default List<OptionalInt> calculatePriorities(List<TaskSummary> taskSummaries) {
+    return taskSummaries.stream().map(this::calculatePriority).toList();
+  }
 }
@@ -2,13 +2,34 @@ package pro.taskana.spi.priority.internal;
 
 import static pro.taskana.common.internal.util.CheckedFunction.wrap;
 
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.OptionalInt;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import javax.security.auth.Subject;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import pro.taskana.common.api.TaskanaEngine;
+import pro.taskana.common.api.exceptions.SystemException;
+import pro.taskana.common.internal.util.CollectionUtil;
 import pro.taskana.common.internal.util.LogSanitizer;
 import pro.taskana.common.internal.util.SpiLoader;
 import pro.taskana.spi.priority.api.PriorityServiceProvider;
@@ -18,16 +39,23 @@ public class PriorityServiceManager {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(PriorityServiceManager.class);
   private final List<PriorityServiceProvider> priorityServiceProviders;
+  private final Map<PriorityServiceProvider, LongAdder> calculationNanos = new IdentityHashMap<>();
+  private final int parallelism;
+  private final ExecutorService executor;
 
   public PriorityServiceManager(TaskanaEngine taskanaEngine) {
     priorityServiceProviders = SpiLoader.load(PriorityServiceProvider.class);
     for (PriorityServiceProvider priorityProvider : priorityServiceProviders) {
       priorityProvider.initialize(taskanaEngine);
+      calculationNanos.put(priorityProvider, new LongAdder());
       LOGGER.info("Registered PriorityServiceProvider: {}", priorityProvider.getClass().getName());
     }
     if (priorityServiceProviders.isEmpty()) {
       LOGGER.info("No PriorityServiceProvider found. Running without PriorityServiceProvider.");
     }
+    parallelism = taskanaEngine.getConfiguration().getPriorityServiceProviderParallelism();
+    executor =
+        parallelism > 1 && !priorityServiceProviders.isEmpty() ? createExecutor(parallelism) : null;
   }
 
   public boolean isEnabled() {
@@ -49,10 +77,154 @@ public class PriorityServiceManager {
 
     Set<OptionalInt> priorities =
         priorityServiceProviders.stream()
-            .map(wrap(provider -> provider.calculatePriority(task)))
+            .map(wrap(provider -> calculatePriority(provider, task)))
             .filter(OptionalInt::isPresent)
             .collect(Collectors.toSet());
 
+    return selectPriority(priorities, task);
+  }
+
+  /**
+   * Calculates the priorities of several tasks with {@linkplain
+   * PriorityServiceProvider#calculatePriorities(List)}. Each PriorityServiceProvider is called once
+   * for all tasks which aren't prioritised manually.
+   *
+   * <p>If the configured parallelism is greater than one, the tasks are split into as many
+   * sub-batches, and the PriorityServiceProviders are called for all sub-batches concurrently on a
+   * thread pool. The pool threads run with the JAAS Subject of the caller, but not with its
+   * database session or transaction. See {@linkplain
+   * PriorityServiceProvider#calculatePriorities(List)}.
+   *
+   * @param tasks the tasks whose priorities should be calculated
+   * @return the calculated priorities in the order of the given tasks. A priority is empty if the
+   *     task is prioritised manually or if the PriorityServiceProviders didn't determine exactly
+   *     one priority for it.
+   * @throws SystemException if a PriorityServiceProvider doesn't return one priority per task
+   */
+  public List<OptionalInt> calculatePrioritiesOfTasks(List<TaskSummary> tasks) {
+    List<TaskSummary> calculatedTasks =
+        tasks.stream().filter(task -> !task.isManualPriorityActive()).toList();
+    if (calculatedTasks.isEmpty() || priorityServiceProviders.isEmpty()) {
+      return Collections.nCopies(tasks.size(), OptionalInt.empty());
+    }
+    if (LOGGER.isDebugEnabled()) {
+      LOGGER.debug(
+          "Sending {} Tasks to PriorityServiceProviders, {} of them are prioritised manually",
+          tasks.size(),
+          tasks.size() - calculatedTasks.size());
+    }
+
+    List<List<OptionalInt>> prioritiesByProvider = calculatePriorities(calculatedTasks);
+
+    Map<TaskSummary, OptionalInt> priorityByTask = new IdentityHashMap<>();
+    for (int i = 0; i < calculatedTasks.size(); i++) {
+      final int taskIndex = i;
+      Set<OptionalInt> priorities =
+          prioritiesByProvider.stream()
+              .map(providerPriorities -> providerPriorities.get(taskIndex))
+              .filter(OptionalInt::isPresent)
+              .collect(Collectors.toSet());
+      priorityByTask.put(
+          calculatedTasks.get(i), selectPriority(priorities, calculatedTasks.get(i)));
+    }
+    return tasks.stream()
+        .map(task -> priorityByTask.getOrDefault(task, OptionalInt.empty()))
+        .toList();
+  }
+
+  /**
+   * Returns the time each PriorityServiceProvider has spent calculating priorities since the engine
+   * was started.
+   *
+   * @return the calculation times by the class names of the PriorityServiceProviders
+   */
+  public Map<String, Duration> getCalculationTimes() {
+    Map<String, Duration> calculationTimes = new LinkedHashMap<>();
+    for (PriorityServiceProvider provider : priorityServiceProviders) {
+      calculationTimes.merge(
+          provider.getClass().getName(),
+          Duration.ofNanos(calculationNanos.get(provider).sum()),
+          Duration::plus);
+    }
+    return calculationTimes;
+  }
+
+  private List<List<OptionalInt>> calculatePriorities(List<TaskSummary> tasks) {
+    if (executor == null) {
+      return priorityServiceProviders.stream()
+          .map(provider -> calculatePriorities(provider, tasks))
+          .toList();
+    }
+    int subBatchSize = (tasks.size() + parallelism - 1) / parallelism;
+    Collection<List<TaskSummary>> subBatches =
+        CollectionUtil.partitionBasedOnSize(tasks, subBatchSize);
+    Subject subject = getSubjectOfCaller();
+    List<List<CompletableFuture<List<OptionalInt>>>> futuresByProvider =
+        priorityServiceProviders.stream()
+            .map(
+                provider ->
+                    subBatches.stream()
+                        .map(
+                            subBatch ->
+                                CompletableFuture.supplyAsync(
+                                    () ->
+                                        runAs(
+                                            subject, () -> calculatePriorities(provider, subBatch)),
+                                    executor))
+                        .toList())
+            .toList();
+    List<List<OptionalInt>> prioritiesByProvider = new ArrayList<>();
+    try {
+      for (List<CompletableFuture<List<OptionalInt>>> futures : futuresByProvider) {
+        List<OptionalInt> priorities = new ArrayList<>(tasks.size());
+        for (CompletableFuture<List<OptionalInt>> future : futures) {
+          priorities.addAll(future.join());
+        }
+        prioritiesByProvider.add(priorities);
+      }
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw new SystemException("PriorityServiceProvider failed to calculate priorities", e);
+    }
+    return prioritiesByProvider;
+  }
+
+  private List<OptionalInt> calculatePriorities(
+      PriorityServiceProvider provider, List<TaskSummary> tasks) {
+    long start = System.nanoTime();
+    List<OptionalInt> priorities = provider.calculatePriorities(tasks);
+    long duration = System.nanoTime() - start;
+    calculationNanos.get(provider).add(duration);
+    if (LOGGER.isDebugEnabled()) {
+      LOGGER.debug(
+          "PriorityServiceProvider {} calculated {} priorities in {} ms.",
+          provider.getClass().getName(),
+          tasks.size(),
+          TimeUnit.NANOSECONDS.toMillis(duration));
+    }
+    if (priorities == null || priorities.size() != tasks.size()) {
+      throw new SystemException(
+          String.format(
+              "PriorityServiceProvider %s returned %s priorities for %d Tasks.",
+              provider.getClass().getName(),
+              priorities == null ? "no" : priorities.size(),
+              tasks.size()));
+    }
+    return priorities;
+  }
+
+  private OptionalInt calculatePriority(PriorityServiceProvider provider, TaskSummary task) {
+    long start = System.nanoTime();
+    try {
+      return provider.calculatePriority(task);
+    } finally {
+      calculationNanos.get(provider).add(System.nanoTime() - start);
+    }
+  }
+
+  private OptionalInt selectPriority(Set<OptionalInt> priorities, TaskSummary task) {
     if (priorities.size() == 1) {
       return priorities.iterator().next();
     } else if (!priorities.isEmpty() && LOGGER.isErrorEnabled()) {
@@ -63,4 +235,37 @@ public class PriorityServiceManager {
 
     return OptionalInt.empty();
   }
+
+  @SuppressWarnings("removal")
+  private static Subject getSubjectOfCaller() {
+    // TODO replace with Subject.current() when migrating to newer Version than 17
+    return Subject.getSubject(AccessController.getContext());
+  }
+
+  private static <T> T runAs(Subject subject, Supplier<T> supplier) {
+    if (subject == null) {
+      return supplier.get();
+    }
+    return Subject.doAs(subject, (PrivilegedAction<T>) supplier::get);
+  }
+
+  private static ExecutorService createExecutor(int parallelism) {
+    AtomicInteger threadNumber = new AtomicInteger();
+    ThreadPoolExecutor threadPoolExecutor =
+        new ThreadPoolExecutor(
+            parallelism,
+            parallelism,
+            1,
+            TimeUnit.MINUTES,
+            new LinkedBlockingQueue<>(),
+            runnable -> {
+              Thread thread =
+                  new Thread(runnable, "taskana-priority-" + threadNumber.incrementAndGet());
+              thread.setDaemon(true);
+              return thread;
+            });
+    // idle threads end, so that an unused engine doesn't keep them
+    threadPoolExecutor.allowCoreThreadTimeOut(true);
+    return threadPoolExecutor;
+  }
 }
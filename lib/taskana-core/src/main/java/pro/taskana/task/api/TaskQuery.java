@@ -1,5 +1,7 @@
 package pro.taskana.task.api;
 
+import java.util.List;
+import java.util.function.Consumer;
 import pro.taskana.common.api.BaseQuery;
 import pro.taskana.common.api.IntInterval;
 import pro.taskana.common.api.KeyDomain;
@@ -1560,6 +1562,19 @@ public interface TaskQuery extends BaseQuery<TaskSummary, TaskQueryColumnName> {
    */
   TaskQuery withoutAttachment();
 
+  // endregion
+  // region includeArchived
+
+  /**
+   * This method includes the archived {@linkplain Task Tasks} in the {@linkplain TaskQuery}.
+   *
+   * <p>Tasks in an end state are moved to the archive by the TaskArchiveJob, if it is enabled. By
+   * default only the active Tasks are searched.
+   *
+   * @return the {@linkplain TaskQuery}
+   */
+  TaskQuery includeArchived();
+
   // endregion
   // region secondaryObjectReference
 
@@ -1925,4 +1940,74 @@ public interface TaskQuery extends BaseQuery<TaskSummary, TaskQueryColumnName> {
    * @return the query
    */
   TaskQuery lockResultsEquals(Integer lockResults);
+
+  /**
+   * Restricts the columns which are read for the returned {@linkplain Task Tasks} to the given
+   * ones. The id of the Task and the columns this query is sorted by are always read. All other
+   * attributes of the returned Tasks keep their default values.
+   *
+   * <p>The classification, workbasket, attachment and object reference data is only added to the
+   * Tasks if the selected columns require it: {@linkplain TaskQueryColumnName#CLASSIFICATION_NAME}
+   * adds the {@linkplain TaskSummary#getClassificationSummary() ClassificationSummary}, attachment
+   * columns add the {@linkplain TaskSummary#getAttachmentSummaries() AttachmentSummaries} and
+   * object reference columns add the {@linkplain TaskSummary#getSecondaryObjectReferences()
+   * secondary ObjectReferences}. The {@linkplain TaskSummary#getWorkbasketSummary()
+   * WorkbasketSummary} only contains the selected workbasket columns.
+   *
+   * <p>The selection doesn't affect listValues and count. It cannot be used together with
+   * {@linkplain #groupByPor()} or {@linkplain #groupBySor(String)}.
+   *
+   * @param columns the columns to read
+   * @return the query
+   * @throws IllegalArgumentException if no column is given
+   */
+  TaskQuery select(TaskQueryColumnName... columns);
+
+  /**
+   * Returns up to <code>limit</code> Tasks which follow the Task the given cursor points at in the
+   * sort order of this query. Instead of skipping an offset, the database selects the following
+   * Tasks by their sort key values, so later pages are as cheap as the first one.
+   *
+   * <p>The id of the Task is appended as last sort criterion if the query is not sorted by id yet.
+   * Only sort criteria on columns of the Task which are always set are supported, e.g. the
+   * priority, the due date or the workbasket id. This method can throw a
+   * NotAuthorizedToQueryWorkbasketException.
+   *
+   * @param cursor the cursor of the last Task of the previous page as returned by {@link
+   *     #cursorOf(TaskSummary)}; null for the first page
+   * @param limit the maximum number of returned Tasks
+   * @return the Tasks following the cursor
+   * @throws IllegalArgumentException if the cursor does not match the sort criteria of this query,
+   *     the query is sorted by an unsupported criterion, grouped or locks its results
+   */
+  List<TaskSummary> listAfter(String cursor, int limit);
+
+  /**
+   * Returns the cursor which points at the given Task. It is meant to be passed to {@link
+   * #listAfter(String, int)} of a query with the same filter and sort criteria to request the Tasks
+   * following the given one.
+   *
+   * @param taskSummary the Task the cursor should point at, usually the last Task of a page
+   * @return the opaque cursor
+   * @throws IllegalArgumentException if the query is sorted by an unsupported criterion
+   */
+  String cursorOf(TaskSummary taskSummary);
+
+  /**
+   * Passes all Tasks matching this query to the given consumer in chunks of the given size. Unlike
+   * {@link #list()} the result is read from a database cursor, and the classification, workbasket,
+   * attachment and object reference data is added to one chunk at a time. Therefore, the memory
+   * consumption is bounded by the chunk size instead of the size of the result.
+   *
+   * <p>The consumer is called while the database connection of this query is open. Any changes it
+   * makes through TASKANA are only committed after the last chunk was processed. If the connection
+   * is in auto-commit mode, the mode is switched off while the cursor is read, so that the database
+   * driver can fetch the result in portions. This method can throw a
+   * NotAuthorizedToQueryWorkbasketException.
+   *
+   * @param chunkSize the maximum number of Tasks passed to the consumer at once
+   * @param consumer the consumer of the chunks
+   * @throws IllegalArgumentException if the chunk size is not positive
+   */
+  void forEach(int chunkSize, Consumer<List<TaskSummary>> consumer);
 }
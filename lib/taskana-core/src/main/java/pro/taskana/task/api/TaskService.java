@@ -26,6 +26,7 @@ import pro.taskana.task.api.models.Attachment;
 import pro.taskana.task.api.models.ObjectReference;
 import pro.taskana.task.api.models.Task;
 import pro.taskana.task.api.models.TaskComment;
+import pro.taskana.task.api.models.TaskSummary;
 import pro.taskana.workbasket.api.WorkbasketPermission;
 import pro.taskana.workbasket.api.exceptions.NotAuthorizedOnWorkbasketException;
 import pro.taskana.workbasket.api.exceptions.WorkbasketNotFoundException;
@@ -133,6 +134,29 @@ public interface TaskService {
           ObjectReferencePersistenceException,
           NotAuthorizedOnWorkbasketException;
 
+  /**
+   * Inserts several transient {@linkplain Task Tasks} which are not stored in the database yet.
+   *
+   * <p>Each {@linkplain Task} is initialized and validated the same way as in {@linkplain
+   * #createTask(Task)}. In contrast to creating the {@linkplain Task Tasks} one by one, each
+   * {@linkplain Workbasket}, {@linkplain Classification} and permission is only resolved once per
+   * distinct key and the {@linkplain Task Tasks}, their {@linkplain Attachment Attachments} and
+   * secondary {@linkplain ObjectReference ObjectReferences} are inserted with as few statements as
+   * possible.
+   *
+   * <p>If a {@linkplain Task} has no {@linkplain Task#getExternalId() externalId}, a generated one
+   * is set before the {@linkplain Task} is processed. A {@linkplain Task} fails with a {@linkplain
+   * TaskAlreadyExistException} if its {@linkplain Task#getExternalId() externalId} is already used
+   * by an existing or archived {@linkplain Task} or by a preceding {@linkplain Task} of the same
+   * List. All other failures are reported with the same exceptions {@linkplain #createTask(Task)}
+   * throws.
+   *
+   * @param tasksToCreate the transient {@linkplain Task Tasks} to be inserted
+   * @return the result of the operations with {@linkplain Task#getExternalId() externalIds} and
+   *     Exception for each {@linkplain Task} which could not be created
+   */
+  BulkOperationResults<String, TaskanaException> createTasks(List<Task> tasksToCreate);
+
   // endregion
 
   // region READ
@@ -203,6 +227,27 @@ public interface TaskService {
   Optional<Task> selectAndClaim(TaskQuery taskQuery)
       throws InvalidOwnerException, NotAuthorizedOnWorkbasketException;
 
+  /**
+   * Selects and claims up to <code>maxTasks</code> {@linkplain Task Tasks} in {@linkplain
+   * TaskState#READY} which are returned by the {@linkplain TaskQuery}.
+   *
+   * <p>The selected rows are locked by the statement which selects them and claimed with a single
+   * update. On databases which support it, rows that are locked by a concurrent caller are skipped
+   * instead of waited for, so that several callers can take {@linkplain Task Tasks} from the same
+   * queue in parallel. The lock is only held within a transaction. Only {@linkplain Task Tasks}
+   * without an owner or owned by the current user are claimed, and {@linkplain Task Tasks} which
+   * were claimed concurrently are not returned. {@linkplain Task Tasks} for which the current user
+   * has no {@linkplain WorkbasketPermission#EDITTASKS} are not claimed. It cannot be used together
+   * with the {@linkplain TaskQuery#lockResultsEquals(Integer)} parameter of the query.
+   *
+   * @param taskQuery the {@linkplain TaskQuery}
+   * @param maxTasks the maximum number of {@linkplain Task Tasks} to claim
+   * @return the {@linkplain TaskSummary TaskSummaries} of the claimed {@linkplain Task Tasks}
+   * @throws InvalidArgumentException if maxTasks is not positive
+   */
+  List<TaskSummary> selectAndClaim(TaskQuery taskQuery, int maxTasks)
+      throws InvalidArgumentException;
+
   /**
    * Cancel the claim of an existing {@linkplain Task} if it was claimed by the current user before.
    *
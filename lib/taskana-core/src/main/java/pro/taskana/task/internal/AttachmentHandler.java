@@ -3,6 +3,7 @@ package pro.taskana.task.internal;
 import static java.util.function.Predicate.not;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -14,9 +15,11 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import pro.taskana.classification.api.ClassificationService;
 import pro.taskana.classification.api.exceptions.ClassificationNotFoundException;
+import pro.taskana.classification.api.models.Classification;
 import pro.taskana.classification.api.models.ClassificationSummary;
 import pro.taskana.common.api.exceptions.InvalidArgumentException;
 import pro.taskana.common.internal.util.IdGenerator;
+import pro.taskana.common.internal.util.Pair;
 import pro.taskana.task.api.exceptions.AttachmentPersistenceException;
 import pro.taskana.task.api.models.Attachment;
 import pro.taskana.task.api.models.AttachmentSummary;
@@ -81,6 +84,20 @@ public class AttachmentHandler {
     }
   }
 
+  void initNewAttachmentsOnTaskCreation(
+      TaskImpl task, Map<Pair<String, String>, Classification> classificationsByKeyAndDomain)
+      throws InvalidArgumentException, ClassificationNotFoundException {
+    List<Attachment> attachments = task.getAttachments();
+
+    if (attachments != null) {
+      for (Attachment attachment : attachments) {
+        AttachmentImpl attachmentImpl = (AttachmentImpl) attachment;
+        verifyAttachment(attachmentImpl, task.getDomain(), classificationsByKeyAndDomain);
+        initAttachment(attachmentImpl, task);
+      }
+    }
+  }
+
   private void insertNewAttachmentsOnTaskUpdate(TaskImpl newTaskImpl, TaskImpl oldTaskImpl)
       throws AttachmentPersistenceException {
     Set<String> oldAttachmentIds =
@@ -178,6 +195,14 @@ public class AttachmentHandler {
 
   private void verifyAttachment(AttachmentImpl attachment, String domain)
       throws InvalidArgumentException, ClassificationNotFoundException {
+    verifyAttachment(attachment, domain, new HashMap<>());
+  }
+
+  private void verifyAttachment(
+      AttachmentImpl attachment,
+      String domain,
+      Map<Pair<String, String>, Classification> classificationsByKeyAndDomain)
+      throws InvalidArgumentException, ClassificationNotFoundException {
     ClassificationSummary classification = attachment.getClassificationSummary();
     if (classification == null) {
       throw new InvalidArgumentException("Classification of Attachment must not be null.");
@@ -188,10 +213,13 @@ public class AttachmentHandler {
 
     ObjectReferenceImpl.validate(attachment.getObjectReference(), "ObjectReference", "Attachment");
 
-    classification =
-        classificationService
-            .getClassification(attachment.getClassificationSummary().getKey(), domain)
-            .asSummary();
-    attachment.setClassificationSummary(classification);
+    Pair<String, String> keyAndDomain = Pair.of(classification.getKey(), domain);
+    Classification resolvedClassification = classificationsByKeyAndDomain.get(keyAndDomain);
+    if (resolvedClassification == null) {
+      resolvedClassification =
+          classificationService.getClassification(classification.getKey(), domain);
+      classificationsByKeyAndDomain.put(keyAndDomain, resolvedClassification);
+    }
+    attachment.setClassificationSummary(resolvedClassification.asSummary());
   }
 }
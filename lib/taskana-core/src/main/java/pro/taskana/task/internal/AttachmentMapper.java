@@ -1,6 +1,5 @@
 package pro.taskana.task.internal;
 
-import java.time.Instant;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
@@ -12,7 +11,6 @@ import org.apache.ibatis.annotations.Select;
 import org.apache.ibatis.annotations.Update;
 import org.apache.ibatis.type.ClobTypeHandler;
 import pro.taskana.common.internal.persistence.MapTypeHandler;
-import pro.taskana.common.internal.util.Pair;
 import pro.taskana.task.internal.models.AttachmentImpl;
 import pro.taskana.task.internal.models.AttachmentSummaryImpl;
 
@@ -26,6 +24,22 @@ public interface AttachmentMapper {
           + " #{att.objectReferenceImpl.type}, #{att.objectReferenceImpl.value}, #{att.channel}, #{att.received}, #{att.customAttributes,jdbcType=CLOB,javaType=java.util.Map,typeHandler=pro.taskana.common.internal.persistence.MapTypeHandler} )")
   void insert(@Param("att") AttachmentImpl att);
 
+  @Insert(
+      databaseId = "oracle",
+      value =
+          "<script>INSERT ALL <foreach item='att' collection='attachments' separator=' '>"
+              + "INTO ATTACHMENT (ID, TASK_ID, CREATED, MODIFIED, CLASSIFICATION_KEY, CLASSIFICATION_ID, REF_COMPANY, REF_SYSTEM, REF_INSTANCE, REF_TYPE, REF_VALUE, CHANNEL, RECEIVED, CUSTOM_ATTRIBUTES) "
+              + "VALUES (#{att.id}, #{att.taskId}, #{att.created}, #{att.modified}, #{att.classificationSummary.key}, #{att.classificationSummary.id}, #{att.objectReferenceImpl.company}, #{att.objectReferenceImpl.system}, #{att.objectReferenceImpl.systemInstance}, "
+              + "#{att.objectReferenceImpl.type}, #{att.objectReferenceImpl.value}, #{att.channel}, #{att.received}, #{att.customAttributes,jdbcType=CLOB,javaType=java.util.Map,typeHandler=pro.taskana.common.internal.persistence.MapTypeHandler}) "
+              + "</foreach> SELECT 1 FROM DUAL</script>")
+  @Insert(
+      "<script>INSERT INTO ATTACHMENT (ID, TASK_ID, CREATED, MODIFIED, CLASSIFICATION_KEY, CLASSIFICATION_ID, REF_COMPANY, REF_SYSTEM, REF_INSTANCE, REF_TYPE, REF_VALUE, CHANNEL, RECEIVED, CUSTOM_ATTRIBUTES) "
+          + "VALUES <foreach item='att' collection='attachments' open='(' separator='),(' close=')'>"
+          + "#{att.id}, #{att.taskId}, #{att.created}, #{att.modified}, #{att.classificationSummary.key}, #{att.classificationSummary.id}, #{att.objectReferenceImpl.company}, #{att.objectReferenceImpl.system}, #{att.objectReferenceImpl.systemInstance}, "
+          + "#{att.objectReferenceImpl.type}, #{att.objectReferenceImpl.value}, #{att.channel}, #{att.received}, #{att.customAttributes,jdbcType=CLOB,javaType=java.util.Map,typeHandler=pro.taskana.common.internal.persistence.MapTypeHandler}"
+          + "</foreach></script>")
+  void insertMultiple(@Param("attachments") List<AttachmentImpl> attachments);
+
   @Select(
       "<script> SELECT ID, TASK_ID, CREATED, MODIFIED, CLASSIFICATION_KEY, CLASSIFICATION_ID, REF_COMPANY, REF_SYSTEM, REF_INSTANCE, REF_TYPE, REF_VALUE, CHANNEL, RECEIVED, CUSTOM_ATTRIBUTES "
           + "FROM ATTACHMENT "
@@ -108,15 +122,4 @@ public interface AttachmentMapper {
       javaType = String.class,
       typeHandler = ClobTypeHandler.class)
   String getCustomAttributesAsString(@Param("attachmentId") String attachmentId);
-
-  @Select(
-      "<script> SELECT DISTINCT t.ID, t.PLANNED FROM TASK t "
-          + "LEFT JOIN ATTACHMENT a on a.TASK_ID = t.ID "
-          + "WHERE a.CLASSIFICATION_ID = #{classificationId} "
-          + "<if test=\"_databaseId == 'db2'\">with UR </if> "
-          + "</script>")
-  @Result(property = "left", column = "ID")
-  @Result(property = "right", column = "PLANNED")
-  List<Pair<String, Instant>> findTaskIdsAndPlannedAffectedByClassificationChange(
-      @Param("classificationId") String classificationId);
 }
@@ -53,6 +53,19 @@ public class ObjectReferenceHandler {
     }
   }
 
+  void initNewSecondaryObjectReferencesOnTaskCreation(TaskImpl task)
+      throws InvalidArgumentException {
+    List<ObjectReference> objectReferences = task.getSecondaryObjectReferences();
+
+    if (objectReferences != null) {
+      for (ObjectReference objectReference : objectReferences) {
+        ObjectReferenceImpl objectReferenceImpl = (ObjectReferenceImpl) objectReference;
+        initObjectReference(objectReferenceImpl, task);
+        ObjectReferenceImpl.validate(objectReferenceImpl, "ObjectReference", "Task");
+      }
+    }
+  }
+
   void insertAndDeleteObjectReferencesOnTaskUpdate(TaskImpl newTaskImpl, TaskImpl oldTaskImpl)
       throws ObjectReferencePersistenceException, InvalidArgumentException {
     List<ObjectReference> newObjectReferences =
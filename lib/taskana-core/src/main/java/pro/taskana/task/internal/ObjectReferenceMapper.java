@@ -116,6 +116,19 @@ public interface ObjectReferenceMapper {
           + "VALUES (#{ref.id}, #{ref.taskId}, #{ref.company}, #{ref.system}, #{ref.systemInstance}, #{ref.type}, #{ref.value})")
   void insert(@Param("ref") ObjectReferenceImpl ref);
 
+  @Insert(
+      databaseId = "oracle",
+      value =
+          "<script>INSERT ALL <foreach item='ref' collection='objectReferences' separator=' '>"
+              + "INTO OBJECT_REFERENCE (ID, TASK_ID, COMPANY, SYSTEM, SYSTEM_INSTANCE, TYPE, VALUE) VALUES (#{ref.id}, #{ref.taskId}, #{ref.company}, #{ref.system}, #{ref.systemInstance}, #{ref.type}, #{ref.value}) "
+              + "</foreach> SELECT 1 FROM DUAL</script>")
+  @Insert(
+      "<script>INSERT INTO OBJECT_REFERENCE (ID, TASK_ID, COMPANY, SYSTEM, SYSTEM_INSTANCE, TYPE, VALUE) VALUES "
+          + "<foreach item='ref' collection='objectReferences' open='(' separator='),(' close=')'>"
+          + "#{ref.id}, #{ref.taskId}, #{ref.company}, #{ref.system}, #{ref.systemInstance}, #{ref.type}, #{ref.value}"
+          + "</foreach></script>")
+  void insertMultiple(@Param("objectReferences") List<ObjectReferenceImpl> objectReferences);
+
   @Update(
       value =
           "UPDATE OBJECT_REFERENCE "
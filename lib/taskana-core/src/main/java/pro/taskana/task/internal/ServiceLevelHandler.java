@@ -21,6 +21,7 @@ import pro.taskana.common.api.WorkingTimeCalculator;
 import pro.taskana.common.api.exceptions.InvalidArgumentException;
 import pro.taskana.common.api.exceptions.TaskanaException;
 import pro.taskana.common.internal.InternalTaskanaEngine;
+import pro.taskana.common.internal.util.CollectionUtil;
 import pro.taskana.common.internal.util.Pair;
 import pro.taskana.task.api.models.Attachment;
 import pro.taskana.task.api.models.AttachmentSummary;
@@ -34,6 +35,7 @@ class ServiceLevelHandler {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(ServiceLevelHandler.class);
   private static final Duration MAX_DURATION = Duration.ofSeconds(Long.MAX_VALUE, 999_999_999);
+  private static final int MAX_TASKS_PER_UPDATE = 1000;
   private final InternalTaskanaEngine taskanaEngine;
   private final TaskMapper taskMapper;
   private final AttachmentMapper attachmentMapper;
@@ -236,14 +238,34 @@ class ServiceLevelHandler {
     return actualPriority;
   }
 
-  private BulkLog updateTaskDueDatesOnClassificationUpdate(
+  // The due date is calculated once per group of tasks with identical planned and duration.
+  // Since the planned date doesn't change, the tasks are written with one statement per chunk of
+  // MAX_TASKS_PER_UPDATE tasks, which contains all due dates of the tasks in that chunk.
+  private void updateTaskDueDatesOnClassificationUpdate(
       List<MinimalTaskSummary> existingTasks,
       List<AttachmentSummaryImpl> attachments,
       List<ClassificationWithServiceLevelResolved> allInvolvedClassificationsWithDuration) {
     Map<InstantDurationHolder, List<TaskDuration>> tasksPerPlannedAndDuration =
         getTasksPerPlannedAndDuration(
             existingTasks, attachments, allInvolvedClassificationsWithDuration);
-    return updateDuePropertyOfAffectedTasks(tasksPerPlannedAndDuration);
+    List<Pair<String, Instant>> dueDatePerTaskId = new ArrayList<>();
+    tasksPerPlannedAndDuration.forEach(
+        (instDurHld, taskDurationList) -> {
+          Instant due = calculateDue(instDurHld.getPlanned(), instDurHld.getDuration());
+          taskDurationList.forEach(
+              taskDuration -> dueDatePerTaskId.add(Pair.of(taskDuration.getTaskId(), due)));
+        });
+    Instant modified = Instant.now();
+    CollectionUtil.partitionBasedOnSize(dueDatePerTaskId, MAX_TASKS_PER_UPDATE)
+        .forEach(
+            chunk ->
+                taskMapper.updateDueDatesOfTasks(
+                    chunk.stream()
+                        .collect(
+                            groupingBy(
+                                Pair::getRight,
+                                Collectors.mapping(Pair::getLeft, Collectors.toList()))),
+                    modified));
   }
 
   private TaskImpl updatePlannedDueOnTaskUpdate(
@@ -405,33 +427,6 @@ class ServiceLevelHandler {
     return newTask;
   }
 
-  private BulkLog updateDuePropertyOfAffectedTasks(
-      Map<InstantDurationHolder, List<TaskDuration>> tasksPerPlannedAndDuration) {
-    BulkLog bulkLog = new BulkLog();
-    tasksPerPlannedAndDuration.forEach(
-        (instDurHld, taskDurationList) ->
-            bulkLog.addAllErrors(
-                updateDuePropertyOfTasksWithIdenticalDueDate(instDurHld, taskDurationList)));
-    return bulkLog;
-  }
-
-  private BulkOperationResults<String, TaskanaException>
-      updateDuePropertyOfTasksWithIdenticalDueDate(
-          InstantDurationHolder durationHolder, List<TaskDuration> taskDurationList) {
-    final BulkLog bulkLog = new BulkLog();
-    TaskImpl referenceTask = new TaskImpl();
-    referenceTask.setPlanned(durationHolder.getPlanned());
-    referenceTask.setModified(Instant.now());
-    referenceTask.setDue(calculateDue(referenceTask.getPlanned(), durationHolder.getDuration()));
-    List<String> taskIdsToUpdate = taskDurationList.stream().map(TaskDuration::getTaskId).toList();
-    Pair<List<MinimalTaskSummary>, BulkLog> existingAndAuthorizedTasks =
-        taskServiceImpl.getMinimalTaskSummaries(taskIdsToUpdate);
-    bulkLog.addAllErrors(existingAndAuthorizedTasks.getRight());
-
-    taskMapper.updateTaskDueDates(existingAndAuthorizedTasks.getLeft(), referenceTask);
-    return bulkLog;
-  }
-
   private BulkLog updatePlannedPropertyOfAffectedTasks(
       Instant planned, Map<Duration, List<String>> taskIdsByDueDuration) {
     final BulkLog bulkLog = new BulkLog();
@@ -0,0 +1,143 @@
+package pro.taskana.task.internal;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import org.apache.ibatis.annotations.Delete;
+import org.apache.ibatis.annotations.Insert;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.Result;
+import org.apache.ibatis.annotations.Select;
+import pro.taskana.common.internal.util.Pair;
+import pro.taskana.task.internal.models.AttachmentSummaryImpl;
+import pro.taskana.task.internal.models.ObjectReferenceImpl;
+
+/**
+ * This class is the mybatis mapping of the archive tables. The archive tables have the same
+ * columns in the same order as the tables they archive.
+ */
+@SuppressWarnings({"checkstyle:LineLength", "checkstyle:Indentation"})
+public interface TaskArchiveMapper {
+
+  @Select(
+      "<script>SELECT ID FROM TASK "
+          + "WHERE STATE IN ('COMPLETED', 'CANCELLED', 'TERMINATED') "
+          + "AND COMPLETED &lt;= #{completedBefore} "
+          + "<if test='lastTaskId != null'>AND ID &gt; #{lastTaskId} </if>"
+          + "ORDER BY ID FETCH FIRST ${limit} ROWS ONLY "
+          + "<if test=\"_databaseId == 'db2'\">with UR </if> "
+          + "</script>")
+  List<String> findTaskIdsToArchive(
+      @Param("completedBefore") Instant completedBefore,
+      @Param("lastTaskId") String lastTaskId,
+      @Param("limit") int limit);
+
+  @Select(
+      "<script>SELECT ID, PARENT_BUSINESS_PROCESS_ID FROM TASK_ARCHIVE "
+          + "WHERE COMPLETED &lt;= #{completedBefore} "
+          + "<if test='lastTaskId != null'>AND ID &gt; #{lastTaskId} </if>"
+          + "<if test='shardCondition != null'>AND ${shardCondition} </if>"
+          + "ORDER BY ID FETCH FIRST ${limit} ROWS ONLY "
+          + "<if test=\"_databaseId == 'db2'\">with UR </if> "
+          + "</script>")
+  @Result(property = "left", column = "ID")
+  @Result(property = "right", column = "PARENT_BUSINESS_PROCESS_ID")
+  List<Pair<String, String>> findArchivedTaskIdsCompletedBefore(
+      @Param("completedBefore") Instant completedBefore,
+      @Param("lastTaskId") String lastTaskId,
+      @Param("shardCondition") String shardCondition,
+      @Param("limit") int limit);
+
+  @Select(
+      "<script>SELECT EXTERNAL_ID FROM TASK_ARCHIVE "
+          + "WHERE EXTERNAL_ID IN (<foreach collection='externalIds' item='item' separator=',' >#{item}</foreach>)"
+          + "</script>")
+  List<String> findArchivedExternalIds(@Param("externalIds") Collection<String> externalIds);
+
+  @Insert(
+      "<script>INSERT INTO TASK_ARCHIVE SELECT * FROM TASK "
+          + "WHERE ID IN (<foreach collection='taskIds' item='item' separator=',' >#{item}</foreach>)"
+          + "</script>")
+  int archiveTasks(@Param("taskIds") Collection<String> taskIds);
+
+  @Insert(
+      "<script>INSERT INTO ATTACHMENT_ARCHIVE SELECT * FROM ATTACHMENT "
+          + "WHERE TASK_ID IN (<foreach collection='taskIds' item='item' separator=',' >#{item}</foreach>)"
+          + "</script>")
+  void archiveAttachments(@Param("taskIds") Collection<String> taskIds);
+
+  @Insert(
+      "<script>INSERT INTO OBJECT_REFERENCE_ARCHIVE SELECT * FROM OBJECT_REFERENCE "
+          + "WHERE TASK_ID IN (<foreach collection='taskIds' item='item' separator=',' >#{item}</foreach>)"
+          + "</script>")
+  void archiveObjectReferences(@Param("taskIds") Collection<String> taskIds);
+
+  @Insert(
+      "<script>INSERT INTO TASK_COMMENT_ARCHIVE SELECT * FROM TASK_COMMENT "
+          + "WHERE TASK_ID IN (<foreach collection='taskIds' item='item' separator=',' >#{item}</foreach>)"
+          + "</script>")
+  void archiveTaskComments(@Param("taskIds") Collection<String> taskIds);
+
+  @Delete(
+      "<script>DELETE FROM TASK_ARCHIVE "
+          + "WHERE ID IN (<foreach collection='taskIds' item='item' separator=',' >#{item}</foreach>)"
+          + "</script>")
+  int deleteArchivedTasks(@Param("taskIds") Collection<String> taskIds);
+
+  @Delete(
+      "<script>DELETE FROM ATTACHMENT_ARCHIVE "
+          + "WHERE TASK_ID IN (<foreach collection='taskIds' item='item' separator=',' >#{item}</foreach>)"
+          + "</script>")
+  void deleteArchivedAttachments(@Param("taskIds") Collection<String> taskIds);
+
+  @Delete(
+      "<script>DELETE FROM OBJECT_REFERENCE_ARCHIVE "
+          + "WHERE TASK_ID IN (<foreach collection='taskIds' item='item' separator=',' >#{item}</foreach>)"
+          + "</script>")
+  void deleteArchivedObjectReferences(@Param("taskIds") Collection<String> taskIds);
+
+  @Delete(
+      "<script>DELETE FROM TASK_COMMENT_ARCHIVE "
+          + "WHERE TASK_ID IN (<foreach collection='taskIds' item='item' separator=',' >#{item}</foreach>)"
+          + "</script>")
+  void deleteArchivedTaskComments(@Param("taskIds") Collection<String> taskIds);
+
+  @Select(
+      "<script>SELECT ID, TASK_ID, CREATED, MODIFIED, CLASSIFICATION_KEY, CLASSIFICATION_ID, REF_COMPANY, REF_SYSTEM, REF_INSTANCE, REF_TYPE, REF_VALUE, CHANNEL, RECEIVED "
+          + "FROM ATTACHMENT_ARCHIVE "
+          + "WHERE TASK_ID IN (<foreach collection='taskIds' item='item' separator=',' >#{item}</foreach>) "
+          + "<if test=\"_databaseId == 'db2'\">with UR </if> "
+          + "</script>")
+  @Result(property = "id", column = "ID")
+  @Result(property = "taskId", column = "TASK_ID")
+  @Result(property = "created", column = "CREATED")
+  @Result(property = "modified", column = "MODIFIED")
+  @Result(property = "classificationSummaryImpl.key", column = "CLASSIFICATION_KEY")
+  @Result(property = "classificationSummaryImpl.id", column = "CLASSIFICATION_ID")
+  @Result(property = "objectReferenceImpl.company", column = "REF_COMPANY")
+  @Result(property = "objectReferenceImpl.system", column = "REF_SYSTEM")
+  @Result(property = "objectReferenceImpl.systemInstance", column = "REF_INSTANCE")
+  @Result(property = "objectReferenceImpl.type", column = "REF_TYPE")
+  @Result(property = "objectReferenceImpl.value", column = "REF_VALUE")
+  @Result(property = "channel", column = "CHANNEL")
+  @Result(property = "received", column = "RECEIVED")
+  List<AttachmentSummaryImpl> findArchivedAttachmentSummariesByTaskIds(
+      @Param("taskIds") Collection<String> taskIds);
+
+  @Select(
+      "<script>SELECT ID, TASK_ID, COMPANY, SYSTEM, SYSTEM_INSTANCE, TYPE, VALUE "
+          + "FROM OBJECT_REFERENCE_ARCHIVE "
+          + "WHERE TASK_ID IN (<foreach collection='taskIds' item='item' separator=',' >#{item}</foreach>) "
+          + "ORDER BY VALUE ASC, TYPE ASC, SYSTEM_INSTANCE ASC, SYSTEM ASC, COMPANY ASC"
+          + "<if test=\"_databaseId == 'db2'\"> with UR </if> "
+          + "</script>")
+  @Result(property = "id", column = "ID")
+  @Result(property = "taskId", column = "TASK_ID")
+  @Result(property = "company", column = "COMPANY")
+  @Result(property = "system", column = "SYSTEM")
+  @Result(property = "systemInstance", column = "SYSTEM_INSTANCE")
+  @Result(property = "type", column = "TYPE")
+  @Result(property = "value", column = "VALUE")
+  List<ObjectReferenceImpl> findArchivedObjectReferencesByTaskIds(
+      @Param("taskIds") Collection<String> taskIds);
+}
@@ -7,12 +7,12 @@ import java.util.Map;
 import java.util.Set;
 import org.apache.ibatis.annotations.Delete;
 import org.apache.ibatis.annotations.Insert;
+import org.apache.ibatis.annotations.InsertProvider;
 import org.apache.ibatis.annotations.Options;
 import org.apache.ibatis.annotations.Param;
 import org.apache.ibatis.annotations.Result;
 import org.apache.ibatis.annotations.Select;
 import org.apache.ibatis.annotations.Update;
-import pro.taskana.common.internal.persistence.InstantTypeHandler;
 import pro.taskana.common.internal.persistence.MapTypeHandler;
 import pro.taskana.common.internal.util.Pair;
 import pro.taskana.task.api.CallbackState;
@@ -116,6 +116,13 @@ public interface TaskMapper {
   @Options(keyProperty = "id", keyColumn = "ID")
   void insert(TaskImpl task);
 
+  @InsertProvider(
+      type = TaskMapperSqlProvider.class,
+      method = "insertMultipleOracle",
+      databaseId = "oracle")
+  @InsertProvider(type = TaskMapperSqlProvider.class, method = "insertMultiple")
+  void insertMultiple(@Param("tasks") List<TaskImpl> tasks);
+
   @Update(
       "UPDATE TASK SET CLAIMED = #{claimed}, COMPLETED = #{completed}, MODIFIED = #{modified}, PLANNED = #{planned}, RECEIVED = #{received}, DUE = #{due}, NAME = #{name}, DESCRIPTION = #{description}, NOTE = #{note}, "
           + " PRIORITY = #{priority}, MANUAL_PRIORITY = #{manualPriority}, STATE = #{state}, CLASSIFICATION_CATEGORY = #{classificationSummary.category}, CLASSIFICATION_KEY = #{classificationSummary.key}, CLASSIFICATION_ID = #{classificationSummary.id}, "
@@ -138,6 +145,12 @@ public interface TaskMapper {
       "UPDATE TASK SET MODIFIED = #{modified}, STATE = #{state}, OWNER = #{owner} WHERE ID = #{id}")
   void requestChanges(TaskImpl task);
 
+  @Select(
+      "<script>SELECT EXTERNAL_ID FROM TASK "
+          + "WHERE EXTERNAL_ID IN(<foreach item='item' collection='externalIds' separator=',' >#{item}</foreach>)"
+          + "</script>")
+  List<String> findExistingExternalIds(@Param("externalIds") Collection<String> externalIds);
+
   @Delete("DELETE FROM TASK WHERE ID = #{id}")
   void delete(String id);
 
@@ -184,6 +197,25 @@ public interface TaskMapper {
   void updateClaimed(
       @Param("taskIds") List<String> taskIds, @Param("referenceTask") TaskSummary referenceTask);
 
+  @Update(
+      "<script>"
+          + " UPDATE TASK SET CLAIMED = #{referenceTask.claimed}, MODIFIED = #{referenceTask.modified}, STATE = #{referenceTask.state}, OWNER = #{referenceTask.owner}, IS_READ = #{referenceTask.isRead}"
+          + " WHERE ID IN <foreach item='taskId' index='index' separator=',' open='(' close=')' collection='taskIds'>#{taskId}</foreach>"
+          + " AND STATE = 'READY' AND (OWNER IS NULL OR OWNER = #{referenceTask.owner})"
+          + "</script>")
+  int claimReadyTasks(
+      @Param("taskIds") List<String> taskIds, @Param("referenceTask") TaskSummary referenceTask);
+
+  @Select(
+      "<script>SELECT ID FROM TASK "
+          + "WHERE ID IN (<foreach item='item' collection='taskIds' separator=',' >#{item}</foreach>) "
+          + "AND STATE = 'CLAIMED' AND OWNER = #{owner} AND CLAIMED = #{claimed} "
+          + "</script>")
+  List<String> findIdsOfClaimedTasks(
+      @Param("taskIds") List<String> taskIds,
+      @Param("owner") String owner,
+      @Param("claimed") Instant claimed);
+
   @Select(
       "<script>SELECT ID, EXTERNAL_ID, STATE, WORKBASKET_ID, OWNER, MODIFIED, CLASSIFICATION_ID, "
           + "PLANNED, DUE, CALLBACK_STATE, MANUAL_PRIORITY FROM TASK "
@@ -264,20 +296,38 @@ public interface TaskMapper {
   void updatePriorityOfTasks(
       @Param("taskIds") List<String> taskIds, @Param("referenceTask") TaskImpl referenceTask);
 
+  @Update(
+      "<script>"
+          + "UPDATE TASK SET MODIFIED = #{modified}, DUE = CASE "
+          + "<foreach index='due' item='taskIds' collection='taskIdsByDue'>"
+          + "WHEN ID IN(<foreach item='item' collection='taskIds' separator=',' >#{item}</foreach>) "
+          + "THEN #{due} "
+          + "</foreach>"
+          + "ELSE DUE END "
+          + "WHERE ID IN(<foreach item='taskIds' collection='taskIdsByDue.values()' separator=',' >"
+          + "<foreach item='item' collection='taskIds' separator=',' >#{item}</foreach>"
+          + "</foreach>) "
+          + "</script>")
+  void updateDueDatesOfTasks(
+      @Param("taskIdsByDue") Map<Instant, List<String>> taskIdsByDue,
+      @Param("modified") Instant modified);
+
   @Select(
-      "<script>SELECT ID, PLANNED, STATE FROM TASK "
-          + "WHERE ID IN(<foreach item='item' collection='taskIds' separator=',' >#{item}</foreach>) "
-          + "AND STATE IN ( 'READY','CLAIMED') "
+      "<script>SELECT ID FROM TASK "
+          + "WHERE STATE IN ( 'READY','CLAIMED') "
+          + "AND (CLASSIFICATION_ID = #{classificationId} "
+          + "OR ID IN (SELECT TASK_ID FROM ATTACHMENT WHERE CLASSIFICATION_ID = #{classificationId})) "
+          + "<if test='lastTaskId != null'>AND ID &gt; #{lastTaskId} </if>"
+          + "<if test='upToTaskId != null'>AND ID &lt;= #{upToTaskId} </if>"
+          + "ORDER BY ID "
+          + "<if test='limit != null'>FETCH FIRST ${limit} ROWS ONLY </if>"
           + "<if test=\"_databaseId == 'db2'\">with UR </if> "
           + "</script>")
-  @Result(property = "left", column = "ID")
-  @Result(
-      property = "right",
-      column = "PLANNED",
-      javaType = Instant.class,
-      typeHandler = InstantTypeHandler.class)
-  List<Pair<String, Instant>> filterTaskIdsForReadyAndClaimed(
-      @Param("taskIds") List<String> taskIds);
+  List<String> findTaskIdsAffectedByClassificationChange(
+      @Param("classificationId") String classificationId,
+      @Param("lastTaskId") String lastTaskId,
+      @Param("upToTaskId") String upToTaskId,
+      @Param("limit") Integer limit);
 
   @Select(
       "<script> "
@@ -307,6 +357,37 @@ public interface TaskMapper {
       @Param("taskSummaries") List<MinimalTaskSummary> taskSummaries,
       @Param("accessIds") List<String> accessIds);
 
+  @Select(
+      "<script>SELECT ID, PARENT_BUSINESS_PROCESS_ID FROM TASK "
+          + "WHERE COMPLETED &lt;= #{completedBefore} "
+          + "<if test='lastTaskId != null'>AND ID &gt; #{lastTaskId} </if>"
+          + "<if test='shardCondition != null'>AND ${shardCondition} </if>"
+          + "ORDER BY ID FETCH FIRST ${limit} ROWS ONLY "
+          + "<if test=\"_databaseId == 'db2'\">with UR </if> "
+          + "</script>")
+  @Result(property = "left", column = "ID")
+  @Result(property = "right", column = "PARENT_BUSINESS_PROCESS_ID")
+  List<Pair<String, String>> findTaskIdsCompletedBefore(
+      @Param("completedBefore") Instant completedBefore,
+      @Param("lastTaskId") String lastTaskId,
+      @Param("shardCondition") String shardCondition,
+      @Param("limit") int limit);
+
+  @Select(
+      "<script>SELECT PARENT_BUSINESS_PROCESS_ID FROM ("
+          + "SELECT PARENT_BUSINESS_PROCESS_ID, COMPLETED FROM TASK "
+          + "WHERE PARENT_BUSINESS_PROCESS_ID IN(<foreach item='item' collection='parentBusinessProcessIds' separator=',' >#{item}</foreach>) "
+          + "UNION ALL SELECT PARENT_BUSINESS_PROCESS_ID, COMPLETED FROM TASK_ARCHIVE "
+          + "WHERE PARENT_BUSINESS_PROCESS_ID IN(<foreach item='item' collection='parentBusinessProcessIds' separator=',' >#{item}</foreach>) "
+          + ") T "
+          + "GROUP BY PARENT_BUSINESS_PROCESS_ID "
+          + "HAVING SUM(CASE WHEN COMPLETED &lt;= #{completedBefore} THEN 0 ELSE 1 END) &gt; 0 "
+          + "<if test=\"_databaseId == 'db2'\">with UR </if> "
+          + "</script>")
+  List<String> findParentBusinessProcessIdsNotCompletedBefore(
+      @Param("parentBusinessProcessIds") Collection<String> parentBusinessProcessIds,
+      @Param("completedBefore") Instant completedBefore);
+
   @Update(
       "UPDATE TASK SET MODIFIED = #{modified}, NUMBER_OF_COMMENTS = NUMBER_OF_COMMENTS+1 WHERE ID = #{id}")
   void incrementNumberOfComments(@Param("id") String id, @Param("modified") Instant modified);
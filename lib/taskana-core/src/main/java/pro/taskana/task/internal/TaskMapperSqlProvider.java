@@ -0,0 +1,73 @@
+package pro.taskana.task.internal;
+
+import static pro.taskana.common.internal.util.SqlProviderUtil.CLOSING_SCRIPT_TAG;
+import static pro.taskana.common.internal.util.SqlProviderUtil.OPENING_SCRIPT_TAG;
+
+/** This class provides the dynamic SQL statements of the {@linkplain TaskMapper}. */
+public class TaskMapperSqlProvider {
+
+  private static final String MAP_TYPE =
+      "jdbcType=CLOB,javaType=java.util.Map,"
+          + "typeHandler=pro.taskana.common.internal.persistence.MapTypeHandler";
+
+  private static final String TASK_COLUMNS =
+      "ID, EXTERNAL_ID, CREATED, CLAIMED, COMPLETED, MODIFIED, PLANNED, RECEIVED, DUE, NAME, "
+          + "CREATOR, DESCRIPTION, NOTE, PRIORITY, MANUAL_PRIORITY, STATE, "
+          + "CLASSIFICATION_CATEGORY, CLASSIFICATION_KEY, CLASSIFICATION_ID, WORKBASKET_ID, "
+          + "WORKBASKET_KEY, DOMAIN, BUSINESS_PROCESS_ID, PARENT_BUSINESS_PROCESS_ID, OWNER, "
+          + "POR_COMPANY, POR_SYSTEM, POR_INSTANCE, POR_TYPE, POR_VALUE, IS_READ, IS_TRANSFERRED, "
+          + "CALLBACK_INFO, CALLBACK_STATE, CUSTOM_ATTRIBUTES, CUSTOM_1, CUSTOM_2, CUSTOM_3, "
+          + "CUSTOM_4, CUSTOM_5, CUSTOM_6, CUSTOM_7, CUSTOM_8, CUSTOM_9, CUSTOM_10, CUSTOM_11, "
+          + "CUSTOM_12, CUSTOM_13, CUSTOM_14, CUSTOM_15, CUSTOM_16, CUSTOM_INT_1, CUSTOM_INT_2, "
+          + "CUSTOM_INT_3, CUSTOM_INT_4, CUSTOM_INT_5, CUSTOM_INT_6, CUSTOM_INT_7, CUSTOM_INT_8, "
+          + "NUMBER_OF_COMMENTS";
+
+  private static final String TASK_VALUES =
+      "#{task.id}, #{task.externalId}, #{task.created}, #{task.claimed}, #{task.completed}, "
+          + "#{task.modified}, #{task.planned}, #{task.received}, #{task.due}, #{task.name}, "
+          + "#{task.creator}, #{task.description}, #{task.note}, #{task.priority}, "
+          + "#{task.manualPriority}, #{task.state}, #{task.classificationSummary.category}, "
+          + "#{task.classificationSummary.key}, #{task.classificationSummary.id}, "
+          + "#{task.workbasketSummary.id}, #{task.workbasketSummary.key}, "
+          + "#{task.workbasketSummary.domain}, #{task.businessProcessId}, "
+          + "#{task.parentBusinessProcessId}, #{task.owner}, #{task.primaryObjRef.company}, "
+          + "#{task.primaryObjRef.system}, #{task.primaryObjRef.systemInstance}, "
+          + "#{task.primaryObjRef.type}, #{task.primaryObjRef.value}, #{task.isRead}, "
+          + "#{task.isTransferred}, #{task.callbackInfo,"
+          + MAP_TYPE
+          + "}, #{task.callbackState}, #{task.customAttributes,"
+          + MAP_TYPE
+          + "}, #{task.custom1}, #{task.custom2}, #{task.custom3}, #{task.custom4}, "
+          + "#{task.custom5}, #{task.custom6}, #{task.custom7}, #{task.custom8}, #{task.custom9}, "
+          + "#{task.custom10}, #{task.custom11}, #{task.custom12}, #{task.custom13}, "
+          + "#{task.custom14}, #{task.custom15}, #{task.custom16}, #{task.customInt1}, "
+          + "#{task.customInt2}, #{task.customInt3}, #{task.customInt4}, #{task.customInt5}, "
+          + "#{task.customInt6}, #{task.customInt7}, #{task.customInt8}, #{task.numberOfComments}";
+
+  private TaskMapperSqlProvider() {}
+
+  public static String insertMultiple() {
+    return OPENING_SCRIPT_TAG
+        + "INSERT INTO TASK ("
+        + TASK_COLUMNS
+        + ") VALUES "
+        + "<foreach item='task' collection='tasks' open='(' separator='),(' close=')'>"
+        + TASK_VALUES
+        + "</foreach> "
+        + CLOSING_SCRIPT_TAG;
+  }
+
+  public static String insertMultipleOracle() {
+    return OPENING_SCRIPT_TAG
+        + "INSERT ALL "
+        + "<foreach item='task' collection='tasks' separator='\n'>"
+        + "INTO TASK ("
+        + TASK_COLUMNS
+        + ") VALUES ( "
+        + TASK_VALUES
+        + " )"
+        + "</foreach> "
+        + "SELECT 1 FROM DUAL"
+        + CLOSING_SCRIPT_TAG;
+  }
+}
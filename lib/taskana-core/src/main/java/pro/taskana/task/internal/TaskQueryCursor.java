@@ -0,0 +1,217 @@
+package pro.taskana.task.internal;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import pro.taskana.common.api.BaseQuery.SortDirection;
+import pro.taskana.task.api.models.TaskSummary;
+
+/**
+ * Cursor for the keyset pagination of a {@linkplain pro.taskana.task.api.TaskQuery TaskQuery}.
+ *
+ * <p>A cursor contains the values of all sort keys of the last {@linkplain TaskSummary} of a page.
+ * The next page is selected by a condition on these values instead of an offset, so the database
+ * does not have to read and discard all preceding rows. The id of the Task is always used as the
+ * last sort key to make the order unique.
+ *
+ * <p>Only columns of the TASK table which are never null can be used as sort keys.
+ */
+public final class TaskQueryCursor {
+
+  private static final String VALUE_SEPARATOR = ".";
+
+  private TaskQueryCursor() {}
+
+  /**
+   * Determines the sort keys of a query.
+   *
+   * @param orderByInner the order criteria of the query
+   * @return the sort keys, always ending with the id of the Task
+   * @throws IllegalArgumentException if an order criterion can't be used for keyset pagination
+   */
+  static List<SortKey> getSortKeys(List<String> orderByInner) {
+    List<SortKey> sortKeys = new ArrayList<>();
+    for (String orderBy : orderByInner) {
+      int separatorIndex = orderBy.lastIndexOf(' ');
+      String columnName = orderBy.substring(0, separatorIndex);
+      KeysetColumn column = KeysetColumn.BY_ORDER_COLUMN_NAME.get(columnName);
+      if (column == null) {
+        throw new IllegalArgumentException(
+            String.format("Sorting by '%s' is not supported for keyset pagination.", columnName));
+      }
+      boolean ascending =
+          SortDirection.ASCENDING.toString().equals(orderBy.substring(separatorIndex + 1));
+      sortKeys.add(new SortKey(column, ascending));
+    }
+    if (sortKeys.stream().noneMatch(sortKey -> sortKey.column == KeysetColumn.ID)) {
+      sortKeys.add(new SortKey(KeysetColumn.ID, true));
+    }
+    return sortKeys;
+  }
+
+  /**
+   * Creates the cursor which points at the given Task.
+   *
+   * @param sortKeys the sort keys of the query
+   * @param taskSummary the Task the cursor points at
+   * @return the cursor
+   */
+  static String encode(List<SortKey> sortKeys, TaskSummary taskSummary) {
+    return sortKeys.stream()
+        .map(sortKey -> sortKey.column.valueExtractor.apply(taskSummary))
+        .map(
+            value -> {
+              if (value == null) {
+                throw new IllegalArgumentException(
+                    "The Task " + taskSummary.getId() + " has no value for a sort key.");
+              }
+              return Base64.getUrlEncoder()
+                  .withoutPadding()
+                  .encodeToString(value.toString().getBytes(StandardCharsets.UTF_8));
+            })
+        .collect(Collectors.joining(VALUE_SEPARATOR));
+  }
+
+  /**
+   * Creates the conditions which select all Tasks following the Task the cursor points at. A Task
+   * follows if any of the conditions applies. All terms of a condition have to apply.
+   *
+   * @param sortKeys the sort keys of the query
+   * @param cursor the cursor
+   * @return the conditions
+   * @throws IllegalArgumentException if the cursor does not match the sort keys
+   */
+  static List<List<KeysetTerm>> decode(List<SortKey> sortKeys, String cursor) {
+    String[] encodedValues = cursor.split("\\" + VALUE_SEPARATOR, -1);
+    if (encodedValues.length != sortKeys.size()) {
+      throw new IllegalArgumentException("The cursor '" + cursor + "' does not match the query.");
+    }
+    List<Object> values = new ArrayList<>();
+    try {
+      for (int i = 0; i < encodedValues.length; i++) {
+        String value =
+            new String(Base64.getUrlDecoder().decode(encodedValues[i]), StandardCharsets.UTF_8);
+        values.add(sortKeys.get(i).column.valueParser.apply(value));
+      }
+    } catch (IllegalArgumentException | DateTimeParseException e) {
+      throw new IllegalArgumentException(
+          "The cursor '" + cursor + "' does not match the query.", e);
+    }
+
+    List<List<KeysetTerm>> conditions = new ArrayList<>();
+    for (int i = 0; i < sortKeys.size(); i++) {
+      List<KeysetTerm> condition = new ArrayList<>();
+      for (int j = 0; j < i; j++) {
+        condition.add(new KeysetTerm(sortKeys.get(j).column.columnName, "=", values.get(j)));
+      }
+      SortKey sortKey = sortKeys.get(i);
+      condition.add(
+          new KeysetTerm(sortKey.column.columnName, sortKey.ascending ? ">" : "<", values.get(i)));
+      conditions.add(condition);
+    }
+    return conditions;
+  }
+
+  private static String getState(TaskSummary taskSummary) {
+    return taskSummary.getState().name();
+  }
+
+  private static String getWorkbasketId(TaskSummary taskSummary) {
+    return taskSummary.getWorkbasketSummary().getId();
+  }
+
+  private static String getWorkbasketKey(TaskSummary taskSummary) {
+    return taskSummary.getWorkbasketSummary().getKey();
+  }
+
+  private static String getPorCompany(TaskSummary taskSummary) {
+    return taskSummary.getPrimaryObjRef().getCompany();
+  }
+
+  private static String getPorType(TaskSummary taskSummary) {
+    return taskSummary.getPrimaryObjRef().getType();
+  }
+
+  private static String getPorValue(TaskSummary taskSummary) {
+    return taskSummary.getPrimaryObjRef().getValue();
+  }
+
+  /** A comparison of a column of the TASK table with a value of a cursor. */
+  public static final class KeysetTerm {
+
+    private final String column;
+    private final String operator;
+    private final Object value;
+
+    KeysetTerm(String column, String operator, Object value) {
+      this.column = column;
+      this.operator = operator;
+      this.value = value;
+    }
+
+    public String getColumn() {
+      return column;
+    }
+
+    public String getOperator() {
+      return operator;
+    }
+
+    public Object getValue() {
+      return value;
+    }
+  }
+
+  static final class SortKey {
+
+    private final KeysetColumn column;
+    private final boolean ascending;
+
+    SortKey(KeysetColumn column, boolean ascending) {
+      this.column = column;
+      this.ascending = ascending;
+    }
+  }
+
+  private enum KeysetColumn {
+    ID("ID", TaskSummary::getId, String::toString),
+    CREATED("CREATED", TaskSummary::getCreated, Instant::parse),
+    MODIFIED("MODIFIED", TaskSummary::getModified, Instant::parse),
+    PLANNED("PLANNED", TaskSummary::getPlanned, Instant::parse),
+    DUE("DUE", TaskSummary::getDue, Instant::parse),
+    PRIORITY("PRIORITY", TaskSummary::getPriority, Integer::valueOf),
+    STATE("STATE", TaskQueryCursor::getState, String::toString),
+    DOMAIN("DOMAIN", TaskSummary::getDomain, String::toString),
+    WORKBASKET_ID("WORKBASKET_ID", TaskQueryCursor::getWorkbasketId, String::toString),
+    WORKBASKET_KEY("WORKBASKET_KEY", TaskQueryCursor::getWorkbasketKey, String::toString),
+    POR_COMPANY("POR_COMPANY", TaskQueryCursor::getPorCompany, String::toString),
+    POR_TYPE("POR_TYPE", TaskQueryCursor::getPorType, String::toString),
+    POR_VALUE("POR_VALUE", TaskQueryCursor::getPorValue, String::toString);
+
+    private static final Map<String, KeysetColumn> BY_ORDER_COLUMN_NAME =
+        Arrays.stream(values())
+            .collect(Collectors.toMap(column -> column.orderColumnName, Function.identity()));
+
+    private final String orderColumnName;
+    private final String columnName;
+    private final Function<TaskSummary, Object> valueExtractor;
+    private final Function<String, Object> valueParser;
+
+    KeysetColumn(
+        String orderColumnName,
+        Function<TaskSummary, Object> valueExtractor,
+        Function<String, Object> valueParser) {
+      this.orderColumnName = orderColumnName;
+      this.columnName = "t." + orderColumnName;
+      this.valueExtractor = valueExtractor;
+      this.valueParser = valueParser;
+    }
+  }
+}
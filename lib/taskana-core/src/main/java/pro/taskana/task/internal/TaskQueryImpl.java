@@ -2,19 +2,29 @@ package pro.taskana.task.internal;
 
 import static pro.taskana.common.api.BaseQuery.toLowerCopy;
 
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import org.apache.ibatis.cursor.Cursor;
 import org.apache.ibatis.exceptions.PersistenceException;
 import org.apache.ibatis.session.RowBounds;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import pro.taskana.common.api.BulkOperationResults;
 import pro.taskana.common.api.IntInterval;
 import pro.taskana.common.api.KeyDomain;
 import pro.taskana.common.api.TaskanaRole;
 import pro.taskana.common.api.TimeInterval;
 import pro.taskana.common.api.exceptions.InvalidArgumentException;
 import pro.taskana.common.api.exceptions.SystemException;
+import pro.taskana.common.api.exceptions.TaskanaException;
 import pro.taskana.common.api.exceptions.TaskanaRuntimeException;
 import pro.taskana.common.internal.InternalTaskanaEngine;
 import pro.taskana.common.internal.configuration.DB;
@@ -28,8 +38,12 @@ import pro.taskana.task.api.TaskState;
 import pro.taskana.task.api.WildcardSearchField;
 import pro.taskana.task.api.models.ObjectReference;
 import pro.taskana.task.api.models.TaskSummary;
+import pro.taskana.task.internal.TaskQueryCursor.KeysetTerm;
+import pro.taskana.task.internal.TaskQueryCursor.SortKey;
+import pro.taskana.task.internal.TaskServiceImpl.ContainedSummary;
 import pro.taskana.task.internal.models.TaskSummaryImpl;
 import pro.taskana.workbasket.api.WorkbasketPermission;
+import pro.taskana.workbasket.api.WorkbasketService;
 import pro.taskana.workbasket.api.exceptions.NotAuthorizedOnWorkbasketException;
 import pro.taskana.workbasket.api.exceptions.NotAuthorizedToQueryWorkbasketException;
 import pro.taskana.workbasket.api.exceptions.WorkbasketNotFoundException;
@@ -40,6 +54,8 @@ public class TaskQueryImpl implements TaskQuery {
 
   private static final String LINK_TO_MAPPER =
       "pro.taskana.task.internal.TaskQueryMapper.queryTaskSummaries";
+  private static final String LINK_TO_CURSOR_MAPPER =
+      "pro.taskana.task.internal.TaskQueryMapper.queryTaskSummariesWithCursor";
   private static final String LINK_TO_MAPPER_DB2 =
       "pro.taskana.task.internal.TaskQueryMapper.queryTaskSummariesDb2";
   private static final String LINK_TO_MAPPER_ORACLE =
@@ -193,6 +209,7 @@ public class TaskQueryImpl implements TaskQuery {
   private TimeInterval[] attachmentReceivedWithin;
   private TimeInterval[] attachmentReceivedNotWithin;
   private boolean withoutAttachment;
+  private boolean includeArchived;
   private ObjectReference[] secondaryObjectReferences;
   private String[] sorCompanyIn;
   private String[] sorCompanyLike;
@@ -339,6 +356,12 @@ public class TaskQueryImpl implements TaskQuery {
   private WildcardSearchField[] wildcardSearchFieldIn;
   private String wildcardSearchValueLike;
   private Integer lockResults;
+  private String claimingUserId;
+  private List<List<KeysetTerm>> keysetConditions;
+  private Integer keysetLimit;
+  private Set<TaskQueryColumnName> selectedColumnNames;
+  private List<String> selectedColumns;
+  private Set<ContainedSummary> containedSummaries = EnumSet.allOf(ContainedSummary.class);
 
   TaskQueryImpl(InternalTaskanaEngine taskanaEngine) {
     this.taskanaEngine = taskanaEngine;
@@ -1333,6 +1356,12 @@ public class TaskQueryImpl implements TaskQuery {
     return this;
   }
 
+  @Override
+  public TaskQuery includeArchived() {
+    this.includeArchived = true;
+    return this;
+  }
+
   public String[] getOwnerLongNameIn() {
     return ownerLongNameIn;
   }
@@ -2007,7 +2036,8 @@ public class TaskQueryImpl implements TaskQuery {
           List<TaskSummaryImpl> tasks =
               taskanaEngine.getSqlSession().selectList(getLinkToMapperScript(), this);
 
-          return taskService.augmentTaskSummariesByContainedSummariesWithPartitioning(tasks);
+          return taskService.augmentTaskSummariesByContainedSummariesWithPartitioning(
+              tasks, includeArchived, containedSummaries);
         });
   }
 
@@ -2023,7 +2053,9 @@ public class TaskQueryImpl implements TaskQuery {
       RowBounds rowBounds = new RowBounds(offset, limit);
       List<TaskSummaryImpl> tasks =
           taskanaEngine.getSqlSession().selectList(getLinkToMapperScript(), this, rowBounds);
-      result = taskService.augmentTaskSummariesByContainedSummariesWithPartitioning(tasks);
+      result =
+          taskService.augmentTaskSummariesByContainedSummariesWithPartitioning(
+              tasks, includeArchived, containedSummaries);
       return result;
     } catch (PersistenceException e) {
       if (e.getMessage().contains("ERRORCODE=-4470")) {
@@ -2039,6 +2071,99 @@ public class TaskQueryImpl implements TaskQuery {
     }
   }
 
+  @Override
+  public List<TaskSummary> listAfter(String cursor, int limit) {
+    if (limit < 1) {
+      throw new IllegalArgumentException("The limit must be a positive number.");
+    }
+    if (groupByPor
+        || groupBySor != null
+        || selectAndClaim
+        || lockResults != null && lockResults != 0) {
+      throw new IllegalArgumentException(
+          "Keyset pagination cannot be used together with grouping, selectAndClaim or"
+              + " lockResultsEquals.");
+    }
+    List<SortKey> sortKeys = TaskQueryCursor.getSortKeys(orderByInner);
+    if (orderByInner.stream().noneMatch(orderBy -> orderBy.startsWith("ID "))) {
+      // the id makes the order unique, which keyset pagination relies on
+      addOrderCriteria("ID", SortDirection.ASCENDING);
+    }
+    try {
+      keysetConditions = cursor == null ? null : TaskQueryCursor.decode(sortKeys, cursor);
+      keysetLimit = limit;
+      return list();
+    } finally {
+      keysetConditions = null;
+      keysetLimit = null;
+    }
+  }
+
+  @Override
+  public String cursorOf(TaskSummary taskSummary) {
+    return TaskQueryCursor.encode(TaskQueryCursor.getSortKeys(orderByInner), taskSummary);
+  }
+
+  @Override
+  public void forEach(int chunkSize, Consumer<List<TaskSummary>> consumer) {
+    if (chunkSize < 1) {
+      throw new IllegalArgumentException("The chunk size must be a positive number.");
+    }
+    taskanaEngine.executeInDatabaseConnection(
+        () -> {
+          checkForIllegalParamCombinations();
+          checkOpenReadAndReadTasksPermissionForSpecifiedWorkbaskets();
+          setupJoinAndOrderParameters();
+          setupAccessIds();
+          // drivers like the PostgreSQL one only read the result in portions within a transaction
+          Connection connection = taskanaEngine.getSqlSession().getConnection();
+          boolean autoCommit = getAutoCommit(connection);
+          if (autoCommit) {
+            setAutoCommit(connection, false);
+          }
+          try (Cursor<TaskSummaryImpl> cursor =
+              taskanaEngine.getSqlSession().selectCursor(LINK_TO_CURSOR_MAPPER, this)) {
+            List<TaskSummaryImpl> chunk = new ArrayList<>();
+            for (TaskSummaryImpl task : cursor) {
+              chunk.add(task);
+              if (chunk.size() == chunkSize) {
+                consumer.accept(
+                    taskService.augmentTaskSummariesByContainedSummariesWithPartitioning(
+                        chunk, includeArchived, containedSummaries));
+                chunk = new ArrayList<>();
+              }
+            }
+            if (!chunk.isEmpty()) {
+              consumer.accept(
+                  taskService.augmentTaskSummariesByContainedSummariesWithPartitioning(
+                      chunk, includeArchived, containedSummaries));
+            }
+          } catch (IOException e) {
+            throw new SystemException("Could not close the cursor of the task query.", e);
+          } finally {
+            if (autoCommit) {
+              setAutoCommit(connection, true);
+            }
+          }
+        });
+  }
+
+  private static boolean getAutoCommit(Connection connection) {
+    try {
+      return connection.getAutoCommit();
+    } catch (SQLException e) {
+      throw new SystemException("Could not read the auto-commit mode of the connection.", e);
+    }
+  }
+
+  private static void setAutoCommit(Connection connection, boolean autoCommit) {
+    try {
+      connection.setAutoCommit(autoCommit);
+    } catch (SQLException e) {
+      throw new SystemException("Could not change the auto-commit mode of the connection.", e);
+    }
+  }
+
   @Override
   public List<String> listValues(TaskQueryColumnName columnName, SortDirection sortDirection) {
     List<String> result;
@@ -2097,7 +2222,8 @@ public class TaskQueryImpl implements TaskQuery {
       List<TaskSummaryImpl> tasks = new ArrayList<>();
       tasks.add(taskSummaryImpl);
       List<TaskSummary> augmentedList =
-          taskService.augmentTaskSummariesByContainedSummariesWithPartitioning(tasks);
+          taskService.augmentTaskSummariesByContainedSummariesWithPartitioning(
+              tasks, includeArchived, containedSummaries);
       result = augmentedList.get(0);
 
       return result;
@@ -2122,15 +2248,41 @@ public class TaskQueryImpl implements TaskQuery {
   }
 
   public TaskQuery selectAndClaimEquals(boolean selectAndClaim) {
+    checkLockResultsNotSetForSelectAndClaim(selectAndClaim);
     this.selectAndClaim = selectAndClaim;
     return this;
   }
 
+  /**
+   * Selects up to <code>maxTasks</code> READY tasks for claiming. The rows are locked by the same
+   * statement that selects them. Rows which are already locked by another transaction are skipped
+   * where the database supports it. Tasks which are owned by another user are not selected.
+   *
+   * @param maxTasks the maximum number of tasks to select
+   * @return the query
+   */
+  public TaskQuery selectAndClaimEquals(int maxTasks) {
+    checkLockResultsNotSetForSelectAndClaim(true);
+    this.selectAndClaim = true;
+    this.lockResults = maxTasks;
+    this.claimingUserId = taskanaEngine.getEngine().getCurrentUserContext().getUserid();
+    return this;
+  }
+
   public TaskQuery lockResultsEquals(Integer lockResults) {
     this.lockResults = lockResults;
     return this;
   }
 
+  @Override
+  public TaskQuery select(TaskQueryColumnName... columns) {
+    if (columns == null || columns.length == 0) {
+      throw new IllegalArgumentException("At least one column has to be selected.");
+    }
+    selectedColumnNames = EnumSet.copyOf(Arrays.asList(columns));
+    return this;
+  }
+
   // optimized query for db2 can't be used for now in case of selectAndClaim because of temporary
   // tables and the "for update" clause clashing in db2
   private String getLinkToMapperScript() {
@@ -2139,7 +2291,8 @@ public class TaskQueryImpl implements TaskQuery {
         && lockResults == 0
         && taskanaEngine.getEngine().getConfiguration().isUseSpecificDb2Taskquery()) {
       return LINK_TO_MAPPER_DB2;
-    } else if (selectAndClaim && DB.ORACLE == getDB()) {
+    } else if (DB.ORACLE == getDB()
+        && (selectAndClaim || lockResults != null && lockResults != 0)) {
       return LINK_TO_MAPPER_ORACLE;
     } else {
       return LINK_TO_MAPPER;
@@ -2169,17 +2322,23 @@ public class TaskQueryImpl implements TaskQuery {
     }
   }
 
+  private void checkLockResultsNotSetForSelectAndClaim(boolean selectAndClaim) {
+    if (selectAndClaim && lockResults != null && lockResults != 0) {
+      throw new IllegalArgumentException(
+          "The params \"lockResultsEquals\" and \"selectAndClaim\"" + " cannot be used together!");
+    }
+  }
+
   private void checkForIllegalParamCombinations() {
+    if (selectedColumnNames != null && (groupByPor || groupBySor != null)) {
+      throw new IllegalArgumentException(
+          "The selection of columns cannot be used together with grouping.");
+    }
     if (wildcardSearchValueLike != null ^ wildcardSearchFieldIn != null) {
       throw new IllegalArgumentException(
           "The params \"wildcardSearchFieldIn\" and \"wildcardSearchValueLike\""
               + " must be used together!");
     }
-    if (selectAndClaim && lockResults != null && lockResults != 0) {
-      throw new IllegalArgumentException(
-          "The params \"lockResultsEquals\" and \"selectAndClaim\""
-              + " cannot be used together!");
-    }
     if (withoutAttachment
         && (attachmentChannelIn != null
             || attachmentChannelLike != null
@@ -2212,6 +2371,7 @@ public class TaskQueryImpl implements TaskQuery {
   }
 
   private void setupJoinAndOrderParameters() {
+    setupSelectedColumns();
     // if classificationName or attachmentClassificationName are added to the result set, and
     // multiple
     // attachments exist, the addition of these attribute may increase the result set.
@@ -2237,6 +2397,54 @@ public class TaskQueryImpl implements TaskQuery {
     }
   }
 
+  private void setupSelectedColumns() {
+    if (selectedColumnNames == null) {
+      return;
+    }
+    // the id identifies the tasks and the sort columns are needed for ordering and cursors
+    Set<TaskQueryColumnName> columns = EnumSet.of(TaskQueryColumnName.ID);
+    columns.addAll(selectedColumnNames);
+    orderByInner.stream()
+        .map(TaskQueryImpl::getTaskColumnOfOrderCriterion)
+        .flatMap(Optional::stream)
+        .forEach(columns::add);
+
+    containedSummaries = EnumSet.noneOf(ContainedSummary.class);
+    if (columns.contains(TaskQueryColumnName.CLASSIFICATION_NAME)) {
+      containedSummaries.add(ContainedSummary.CLASSIFICATIONS);
+      columns.add(TaskQueryColumnName.CLASSIFICATION_ID);
+    }
+    if (columns.stream().anyMatch(TaskQueryColumnName::isAttachmentColumn)) {
+      containedSummaries.add(ContainedSummary.ATTACHMENTS);
+      columns.add(TaskQueryColumnName.CLASSIFICATION_ID);
+    }
+    if (columns.stream().anyMatch(TaskQueryColumnName::isObjectReferenceColumn)) {
+      containedSummaries.add(ContainedSummary.OBJECT_REFERENCES);
+    }
+    if (columns.contains(TaskQueryColumnName.OWNER_LONG_NAME)) {
+      joinWithUserInfo = true;
+    }
+    // only the columns of the TASK table are selected, the others are added by the augmentation
+    selectedColumns =
+        columns.stream()
+            .map(TaskQueryColumnName::toString)
+            .filter(column -> column.startsWith("t."))
+            .toList();
+  }
+
+  private static Optional<TaskQueryColumnName> getTaskColumnOfOrderCriterion(String orderBy) {
+    String column = orderBy.substring(0, orderBy.lastIndexOf(' '));
+    if (column.startsWith("t.")) {
+      column = column.substring(2);
+    } else if (column.equals("TCLASSIFICATION_KEY")) {
+      column = "CLASSIFICATION_KEY";
+    }
+    String taskColumn = "t." + column;
+    return Arrays.stream(TaskQueryColumnName.values())
+        .filter(columnName -> columnName.toString().equalsIgnoreCase(taskColumn))
+        .findFirst();
+  }
+
   private void setupAccessIds() {
     if (taskanaEngine.getEngine().isUserInRole(TaskanaRole.ADMIN, TaskanaRole.TASK_ADMIN)
         || !filterByAccessIdIn) {
@@ -2260,59 +2468,39 @@ public class TaskQueryImpl implements TaskQuery {
       }
       return;
     }
-    try {
-      if (this.workbasketIdIn != null && this.workbasketIdIn.length > 0) {
-        filterByAccessIdIn = false;
-        for (String workbasketId : workbasketIdIn) {
-          checkOpenReadAndReadTasksPermissionById(workbasketId);
-        }
-      }
-      if (workbasketKeyDomainIn != null && workbasketKeyDomainIn.length > 0) {
-        filterByAccessIdIn = false;
-        for (KeyDomain keyDomain : workbasketKeyDomainIn) {
-          checkOpenReadAndReadTasksPermissionByKeyDomain(keyDomain);
-        }
+    WorkbasketService workbasketService = taskanaEngine.getEngine().getWorkbasketService();
+    if (this.workbasketIdIn != null && this.workbasketIdIn.length > 0) {
+      filterByAccessIdIn = false;
+      BulkOperationResults<String, TaskanaException> results =
+          workbasketService.checkAuthorization(
+              Arrays.asList(workbasketIdIn),
+              WorkbasketPermission.OPEN,
+              WorkbasketPermission.READ,
+              WorkbasketPermission.READTASKS);
+      for (String workbasketId : workbasketIdIn) {
+        handleOpenReadAndReadTasksPermissionError(results.getErrorForId(workbasketId));
       }
-    } catch (NotAuthorizedOnWorkbasketException e) {
-      throw new NotAuthorizedToQueryWorkbasketException(e.getMessage(), e.getErrorCode(), e);
     }
-  }
-
-  private void checkOpenReadAndReadTasksPermissionById(String workbasketId)
-      throws NotAuthorizedOnWorkbasketException {
-    try {
-      taskanaEngine
-          .getEngine()
-          .getWorkbasketService()
-          .checkAuthorization(
-              workbasketId,
+    if (workbasketKeyDomainIn != null && workbasketKeyDomainIn.length > 0) {
+      filterByAccessIdIn = false;
+      BulkOperationResults<KeyDomain, TaskanaException> results =
+          workbasketService.checkAuthorizationByKeyDomain(
+              Arrays.asList(workbasketKeyDomainIn),
               WorkbasketPermission.OPEN,
               WorkbasketPermission.READ,
               WorkbasketPermission.READTASKS);
-    } catch (WorkbasketNotFoundException e) {
-      LOGGER.warn(
-          String.format("The workbasket with the ID ' %s ' does not exist.", workbasketId), e);
+      for (KeyDomain keyDomain : workbasketKeyDomainIn) {
+        handleOpenReadAndReadTasksPermissionError(results.getErrorForId(keyDomain));
+      }
     }
   }
 
-  private void checkOpenReadAndReadTasksPermissionByKeyDomain(KeyDomain keyDomain)
-      throws NotAuthorizedOnWorkbasketException {
-    try {
-      taskanaEngine
-          .getEngine()
-          .getWorkbasketService()
-          .checkAuthorization(
-              keyDomain.getKey(),
-              keyDomain.getDomain(),
-              WorkbasketPermission.OPEN,
-              WorkbasketPermission.READ,
-              WorkbasketPermission.READTASKS);
-    } catch (WorkbasketNotFoundException e) {
-      LOGGER.warn(
-          String.format(
-              "The workbasket with the KEY ' %s ' and DOMAIN ' %s ' does not exist.",
-              keyDomain.getKey(), keyDomain.getDomain()),
-          e);
+  private void handleOpenReadAndReadTasksPermissionError(TaskanaException error) {
+    if (error instanceof NotAuthorizedOnWorkbasketException) {
+      throw new NotAuthorizedToQueryWorkbasketException(
+          error.getMessage(), error.getErrorCode(), error);
+    } else if (error instanceof WorkbasketNotFoundException) {
+      LOGGER.warn(error.getMessage(), error);
     }
   }
 
@@ -2609,6 +2797,8 @@ public class TaskQueryImpl implements TaskQuery {
         + Arrays.toString(attachmentReceivedNotWithin)
         + ", withoutAttachment="
         + withoutAttachment
+        + ", includeArchived="
+        + includeArchived
         + ", secondaryObjectReferences="
         + Arrays.toString(secondaryObjectReferences)
         + ", sorCompanyIn="
@@ -2833,6 +3023,8 @@ public class TaskQueryImpl implements TaskQuery {
         + wildcardSearchValueLike
         + ", lockResults="
         + lockResults
+        + ", selectedColumnNames="
+        + selectedColumnNames
         + "]";
   }
 }
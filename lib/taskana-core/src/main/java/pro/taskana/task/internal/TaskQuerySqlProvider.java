@@ -5,6 +5,7 @@ import static pro.taskana.common.internal.util.SqlProviderUtil.CLOSING_WHERE_TAG
 import static pro.taskana.common.internal.util.SqlProviderUtil.DB2_WITH_UR;
 import static pro.taskana.common.internal.util.SqlProviderUtil.OPENING_SCRIPT_TAG;
 import static pro.taskana.common.internal.util.SqlProviderUtil.OPENING_WHERE_TAG;
+import static pro.taskana.common.internal.util.SqlProviderUtil.tableOrWithArchive;
 import static pro.taskana.common.internal.util.SqlProviderUtil.whereCustomIntStatements;
 import static pro.taskana.common.internal.util.SqlProviderUtil.whereCustomStatements;
 import static pro.taskana.common.internal.util.SqlProviderUtil.whereIn;
@@ -19,6 +20,16 @@ import java.util.stream.Collectors;
 import pro.taskana.task.api.TaskQueryColumnName;
 
 public class TaskQuerySqlProvider {
+  private static final String TASK_TABLE = tableOrWithArchive("TASK", "includeArchived");
+  private static final String ATTACHMENT_TABLE =
+      tableOrWithArchive("ATTACHMENT", "includeArchived");
+  private static final String OBJECT_REFERENCE_TABLE =
+      tableOrWithArchive("OBJECT_REFERENCE", "includeArchived");
+
+  // the authorization of the db2 query needs the workbasket id, even if it isn't selected
+  private static final String WORKBASKET_ID_NOT_SELECTED =
+      "selectedColumns != null and !selectedColumns.contains('t.workbasket_id')";
+
   private TaskQuerySqlProvider() {}
 
   @SuppressWarnings("unused")
@@ -26,7 +37,7 @@ public class TaskQuerySqlProvider {
     return OPENING_SCRIPT_TAG
         + openOuterClauseForGroupByPorOrSor()
         + "SELECT <if test=\"useDistinctKeyword\">DISTINCT</if> "
-        + commonSelectFields()
+        + selectedFields()
         + "<if test='groupBySor != null'>, o.VALUE as SOR_VALUE </if>"
         + "<if test=\"addAttachmentColumnsToSelectClauseForOrdering\">"
         + ", a.CLASSIFICATION_ID as ACLASSIFICATION_ID, "
@@ -40,12 +51,18 @@ public class TaskQuerySqlProvider {
         + "<if test=\"joinWithUserInfo\">, u.LONG_NAME</if>"
         + groupByPorIfActive()
         + groupBySorIfActive()
-        + "FROM TASK t "
+        + "FROM "
+        + TASK_TABLE
+        + " t "
         + "<if test=\"joinWithAttachments\">"
-        + "LEFT JOIN ATTACHMENT a ON t.ID = a.TASK_ID "
+        + "LEFT JOIN "
+        + ATTACHMENT_TABLE
+        + " a ON t.ID = a.TASK_ID "
         + "</if>"
         + "<if test=\"joinWithSecondaryObjectReferences\">"
-        + "LEFT JOIN OBJECT_REFERENCE o ON t.ID = o.TASK_ID "
+        + "LEFT JOIN "
+        + OBJECT_REFERENCE_TABLE
+        + " o ON t.ID = o.TASK_ID "
         + "</if>"
         + "<if test=\"joinWithClassifications\">"
         + "LEFT JOIN CLASSIFICATION c ON t.CLASSIFICATION_ID = c.ID "
@@ -63,18 +80,22 @@ public class TaskQuerySqlProvider {
         + checkForAuthorization()
         + commonTaskWhereStatement()
         + "<if test='selectAndClaim == true'> AND t.STATE = 'READY' </if>"
+        + "<if test='claimingUserId != null'> "
+        + "AND (t.OWNER IS NULL OR t.OWNER = #{claimingUserId}) "
+        + "</if>"
         + CLOSING_WHERE_TAG
         + closeOuterClauseForGroupByPor()
         + closeOuterClauseForGroupBySor()
         + "<if test='!orderByOuter.isEmpty()'>"
         + "ORDER BY <foreach item='item' collection='orderByOuter' separator=',' >${item}</foreach>"
         + "</if> "
-        + "<if test='selectAndClaim == true'> "
+        + "<if test='keysetLimit != null'>FETCH FIRST ${keysetLimit} ROWS ONLY </if>"
+        + "<if test='selectAndClaim == true and lockResults == 0'> "
         + "FETCH FIRST ROW ONLY FOR UPDATE "
         + "</if>"
         + "<if test='lockResults and lockResults != 0'> "
         + "FETCH FIRST ${lockResults} ROWS ONLY FOR UPDATE "
-        + "<if test=\"_databaseId == 'postgres'\">"
+        + "<if test=\"_databaseId == 'postgres' || _databaseId == 'h2'\">"
         + "SKIP LOCKED "
         + "</if>"
         + "<if test=\"_databaseId == 'db2'\">"
@@ -92,9 +113,12 @@ public class TaskQuerySqlProvider {
     return OPENING_SCRIPT_TAG
         + "WITH X ("
         + db2selectFields()
+        + "<if test=\""
+        + WORKBASKET_ID_NOT_SELECTED
+        + "\">, WORKBASKET_ID </if>"
         + ") AS ("
         + "SELECT <if test=\"useDistinctKeyword\">DISTINCT</if> "
-        + commonSelectFields()
+        + selectedFields()
         + "<if test=\"addAttachmentColumnsToSelectClauseForOrdering\">"
         + ", a.CLASSIFICATION_ID, a.CLASSIFICATION_KEY, a.CHANNEL, a.REF_VALUE, a.RECEIVED"
         + "</if>"
@@ -102,12 +126,21 @@ public class TaskQuerySqlProvider {
         + "<if test=\"addAttachmentClassificationNameToSelectClauseForOrdering\">, ac.NAME </if>"
         + "<if test=\"addWorkbasketNameToSelectClauseForOrdering\">, w.NAME </if>"
         + "<if test=\"joinWithUserInfo\">, u.LONG_NAME </if>"
-        + "FROM TASK t "
+        + "<if test=\""
+        + WORKBASKET_ID_NOT_SELECTED
+        + "\">, t.WORKBASKET_ID </if>"
+        + "FROM "
+        + TASK_TABLE
+        + " t "
         + "<if test=\"joinWithAttachments\">"
-        + "LEFT JOIN ATTACHMENT a ON t.ID = a.TASK_ID "
+        + "LEFT JOIN "
+        + ATTACHMENT_TABLE
+        + " a ON t.ID = a.TASK_ID "
         + "</if>"
         + "<if test=\"joinWithSecondaryObjectReferences\">"
-        + "LEFT JOIN OBJECT_REFERENCE o ON t.ID = o.TASK_ID "
+        + "LEFT JOIN "
+        + OBJECT_REFERENCE_TABLE
+        + " o ON t.ID = o.TASK_ID "
         + "</if>"
         + "<if test=\"joinWithClassifications\">"
         + "LEFT JOIN CLASSIFICATION c ON t.CLASSIFICATION_ID = c.ID "
@@ -152,6 +185,7 @@ public class TaskQuerySqlProvider {
         + "<if test='!orderByOuter.isEmpty()'>"
         + "ORDER BY <foreach item='item' collection='orderByOuter' separator=',' >${item}</foreach>"
         + "</if> "
+        + "<if test='keysetLimit != null'>FETCH FIRST ${keysetLimit} ROWS ONLY </if>"
         + "with UR "
         + CLOSING_SCRIPT_TAG;
   }
@@ -159,7 +193,9 @@ public class TaskQuerySqlProvider {
   /**
    * you cant lock a view in oracle. the sql code `FETCH FIRST ROW ONLY` would create in oracle a
    * view therefore we must first select a rowid based on where criteria then we select everything
-   * based on rowid and lock this rowid
+   * based on rowid and lock this rowid. When several rows are locked, their rowids are limited by
+   * ROWNUM and rows locked by another transaction are skipped, so less rows than requested may be
+   * returned.
    *
    * @return SELECT Statement for oracle claiming
    */
@@ -167,7 +203,7 @@ public class TaskQuerySqlProvider {
   public static String queryTaskSummariesOracle() {
     return OPENING_SCRIPT_TAG
         + "SELECT "
-        + commonSelectFieldsOracle()
+        + selectedFieldsOracle()
         + "<if test=\"addAttachmentColumnsToSelectClauseForOrdering\">"
         + ", a2.CLASSIFICATION_ID, a2.CLASSIFICATION_KEY, a2.CHANNEL, a2.REF_VALUE, a2.RECEIVED"
         + "</if>"
@@ -186,7 +222,12 @@ public class TaskQuerySqlProvider {
         + "<if test=\"joinWithWorkbaskets\">LEFT JOIN WORKBASKET w2 "
         + "ON t2.WORKBASKET_ID = w2.ID </if>"
         + "<if test=\"joinWithUserInfo\">LEFT JOIN USER_INFO u2 ON t2.owner = u2.USER_ID </if>"
-        + "WHERE t2.rowid = (SELECT <if test=\"useDistinctKeyword\">DISTINCT</if> t.rowid "
+        + "WHERE t2.rowid "
+        + "<choose>"
+        + "<when test='lockResults != null and lockResults != 0'>IN (SELECT RID FROM (</when>"
+        + "<otherwise>= (</otherwise>"
+        + "</choose>"
+        + "SELECT <if test=\"useDistinctKeyword\">DISTINCT</if> t.rowid AS RID "
         + "FROM TASK t "
         + "<if test=\"joinWithAttachments\">LEFT JOIN ATTACHMENT a ON t.ID = a.TASK_ID </if>"
         + "<if test=\"joinWithSecondaryObjectReferences\">LEFT JOIN OBJECT_REFERENCE o "
@@ -199,14 +240,28 @@ public class TaskQuerySqlProvider {
         + "ON t.WORKBASKET_ID = w.ID </if>"
         + "<if test=\"joinWithUserInfo\">LEFT JOIN USER_INFO u ON t.owner = u.USER_ID </if>"
         + OPENING_WHERE_TAG
+        + checkForAuthorization()
         + commonTaskWhereStatement()
         + "<if test='selectAndClaim == true'> AND t.STATE = 'READY' </if>"
+        + "<if test='claimingUserId != null'> "
+        + "AND (t.OWNER IS NULL OR t.OWNER = #{claimingUserId}) "
+        + "</if>"
         + CLOSING_WHERE_TAG
+        + "<choose>"
+        + "<when test='lockResults != null and lockResults != 0'>"
+        + "<if test='!orderByInner.isEmpty()'>"
+        + "ORDER BY <foreach item='item' collection='orderByInner' separator=',' >${item}</foreach>"
+        + "</if> "
+        + ") WHERE ROWNUM &lt;= ${lockResults}) FOR UPDATE SKIP LOCKED"
+        + "</when>"
+        + "<otherwise>"
         + "<if test='!orderByOuter.isEmpty()'>"
         + "ORDER BY <foreach item='item' collection='orderByOuter' separator=',' >${item}</foreach>"
         + "</if> "
         + "fetch first 1 rows only "
         + ") FOR UPDATE"
+        + "</otherwise>"
+        + "</choose>"
         + CLOSING_SCRIPT_TAG;
   }
 
@@ -222,12 +277,18 @@ public class TaskQuerySqlProvider {
         + "</if> "
         + groupByPorIfActive()
         + groupBySorIfActive()
-        + "FROM TASK t "
+        + "FROM "
+        + TASK_TABLE
+        + " t "
         + "<if test=\"joinWithAttachments\">"
-        + "LEFT JOIN ATTACHMENT a ON t.ID = a.TASK_ID "
+        + "LEFT JOIN "
+        + ATTACHMENT_TABLE
+        + " a ON t.ID = a.TASK_ID "
         + "</if>"
         + "<if test=\"joinWithSecondaryObjectReferences\">"
-        + "LEFT JOIN OBJECT_REFERENCE o ON t.ID = o.TASK_ID "
+        + "LEFT JOIN "
+        + OBJECT_REFERENCE_TABLE
+        + " o ON t.ID = o.TASK_ID "
         + "</if>"
         + "<if test=\"joinWithClassifications\">"
         + "LEFT JOIN CLASSIFICATION c ON t.CLASSIFICATION_ID = c.ID "
@@ -252,9 +313,13 @@ public class TaskQuerySqlProvider {
     return OPENING_SCRIPT_TAG
         + "WITH X (ID, WORKBASKET_ID) AS ("
         + "SELECT <if test=\"useDistinctKeyword\">DISTINCT</if> "
-        + "t.ID, t.WORKBASKET_ID FROM TASK t "
+        + "t.ID, t.WORKBASKET_ID FROM "
+        + TASK_TABLE
+        + " t "
         + "<if test=\"joinWithAttachments\">"
-        + "LEFT JOIN ATTACHMENT a ON t.ID = a.TASK_ID "
+        + "LEFT JOIN "
+        + ATTACHMENT_TABLE
+        + " a ON t.ID = a.TASK_ID "
         + "</if>"
         + "<if test=\"joinWithClassifications\">"
         + "LEFT JOIN CLASSIFICATION c ON t.CLASSIFICATION_ID = c.ID "
@@ -263,7 +328,9 @@ public class TaskQuerySqlProvider {
         + "LEFT JOIN CLASSIFICATION ac ON a.CLASSIFICATION_ID = ac.ID "
         + "</if>"
         + "<if test=\"joinWithSecondaryObjectReferences\">"
-        + "LEFT JOIN OBJECT_REFERENCE o ON t.ID = o.TASK_ID "
+        + "LEFT JOIN "
+        + OBJECT_REFERENCE_TABLE
+        + " o ON t.ID = o.TASK_ID "
         + "</if>"
         + "<if test=\"joinWithUserInfo\">"
         + "LEFT JOIN USER_INFO u ON t.owner = u.USER_ID "
@@ -295,9 +362,13 @@ public class TaskQuerySqlProvider {
     return OPENING_SCRIPT_TAG
         + "SELECT DISTINCT ${columnName} "
         + "<if test=\"joinWithUserInfo\">, u.LONG_NAME </if>"
-        + "FROM TASK t "
+        + "FROM "
+        + TASK_TABLE
+        + " t "
         + "<if test=\"joinWithAttachments\">"
-        + "LEFT JOIN ATTACHMENT a ON t.ID = a.TASK_ID "
+        + "LEFT JOIN "
+        + ATTACHMENT_TABLE
+        + " a ON t.ID = a.TASK_ID "
         + "</if>"
         + "<if test=\"joinWithClassifications\">"
         + "LEFT JOIN CLASSIFICATION c ON t.CLASSIFICATION_ID = c.ID "
@@ -306,7 +377,9 @@ public class TaskQuerySqlProvider {
         + "LEFT JOIN CLASSIFICATION ac ON a.CLASSIFICATION_ID = ac.ID "
         + "</if>"
         + "<if test=\"joinWithSecondaryObjectReferences\">"
-        + "LEFT JOIN OBJECT_REFERENCE o ON t.ID = o.TASK_ID "
+        + "LEFT JOIN "
+        + OBJECT_REFERENCE_TABLE
+        + " o ON t.ID = o.TASK_ID "
         + "</if>"
         + "<if test=\"joinWithUserInfo\">"
         + "LEFT JOIN USER_INFO u ON t.owner = u.USER_ID "
@@ -364,11 +437,56 @@ public class TaskQuerySqlProvider {
         .collect(Collectors.joining(", "));
   }
 
+  private static String selectedFields() {
+    return "<choose>"
+        + "<when test='selectedColumns != null'>"
+        + "<foreach item='item' collection='selectedColumns' separator=', ' >${item}</foreach> "
+        + "</when>"
+        + "<otherwise>"
+        + commonSelectFields()
+        + "</otherwise>"
+        + "</choose>";
+  }
+
   private static String commonSelectFieldsOracle() {
     return commonSelectFields().replace("t.id", "t2.id").replace(", t", ", t2");
   }
 
+  private static String selectedFieldsOracle() {
+    return "<choose>"
+        + "<when test='selectedColumns != null'>"
+        + "<foreach item='item' collection='selectedColumns' separator=', ' >"
+        + "t2.${item.substring(2)}"
+        + "</foreach> "
+        + "</when>"
+        + "<otherwise>"
+        + commonSelectFieldsOracle()
+        + "</otherwise>"
+        + "</choose>";
+  }
+
   private static String db2selectFields() {
+    // needs to be the same order as the selectedFields
+    return "<choose>"
+        + "<when test='selectedColumns != null'>"
+        + "<foreach item='item' collection='selectedColumns' separator=', ' >"
+        + "${item == 't.classification_key' ? 'TCLASSIFICATION_KEY' : item.substring(2)}"
+        + "</foreach> "
+        + "</when>"
+        + "<otherwise>"
+        + db2CommonSelectFields()
+        + "</otherwise>"
+        + "</choose>"
+        + "<if test=\"addClassificationNameToSelectClauseForOrdering\">, CNAME</if>"
+        + "<if test=\"addAttachmentClassificationNameToSelectClauseForOrdering\">, ACNAME</if>"
+        + "<if test=\"addAttachmentColumnsToSelectClauseForOrdering\">"
+        + ", ACLASSIFICATION_ID, ACLASSIFICATION_KEY, CHANNEL, REF_VALUE, ARECEIVED"
+        + "</if>"
+        + "<if test=\"addWorkbasketNameToSelectClauseForOrdering\">, WNAME</if>"
+        + "<if test=\"joinWithUserInfo\">, ULONG_NAME </if>";
+  }
+
+  private static String db2CommonSelectFields() {
     // needs to be the same order as the commonSelectFields (TaskQueryColumnValue)
     return "ID, EXTERNAL_ID, CREATED, CLAIMED, COMPLETED, MODIFIED, PLANNED, RECEIVED, DUE, NAME, "
         + "CREATOR, DESCRIPTION, NOTE, PRIORITY, MANUAL_PRIORITY, STATE, CLASSIFICATION_CATEGORY, "
@@ -379,14 +497,7 @@ public class TaskQuerySqlProvider {
         + "CUSTOM_3, CUSTOM_4, CUSTOM_5, CUSTOM_6, CUSTOM_7, CUSTOM_8, CUSTOM_9, CUSTOM_10, "
         + "CUSTOM_11, CUSTOM_12, CUSTOM_13, CUSTOM_14, CUSTOM_15, CUSTOM_16, "
         + "CUSTOM_INT_1, CUSTOM_INT_2, CUSTOM_INT_3,  CUSTOM_INT_4,  CUSTOM_INT_5, "
-        + "CUSTOM_INT_6, CUSTOM_INT_7, CUSTOM_INT_8, NUMBER_OF_COMMENTS"
-        + "<if test=\"addClassificationNameToSelectClauseForOrdering\">, CNAME</if>"
-        + "<if test=\"addAttachmentClassificationNameToSelectClauseForOrdering\">, ACNAME</if>"
-        + "<if test=\"addAttachmentColumnsToSelectClauseForOrdering\">"
-        + ", ACLASSIFICATION_ID, ACLASSIFICATION_KEY, CHANNEL, REF_VALUE, ARECEIVED"
-        + "</if>"
-        + "<if test=\"addWorkbasketNameToSelectClauseForOrdering\">, WNAME</if>"
-        + "<if test=\"joinWithUserInfo\">, ULONG_NAME </if>";
+        + "CUSTOM_INT_6, CUSTOM_INT_7, CUSTOM_INT_8, NUMBER_OF_COMMENTS";
   }
 
   private static String checkForAuthorization() {
@@ -449,12 +560,18 @@ public class TaskQuerySqlProvider {
         + ") t LEFT JOIN"
         + " (SELECT POR_VALUE as PVALUE, COUNT(POR_VALUE) AS R_COUNT "
         + "FROM (SELECT DISTINCT t.id , POR_VALUE "
-        + "FROM TASK t"
+        + "FROM "
+        + TASK_TABLE
+        + " t "
         + "<if test=\"joinWithAttachments\">"
-        + "LEFT JOIN ATTACHMENT a ON t.ID = a.TASK_ID "
+        + "LEFT JOIN "
+        + ATTACHMENT_TABLE
+        + " a ON t.ID = a.TASK_ID "
         + "</if>"
         + "<if test=\"joinWithSecondaryObjectReferences\">"
-        + "LEFT JOIN OBJECT_REFERENCE o ON t.ID = o.TASK_ID "
+        + "LEFT JOIN "
+        + OBJECT_REFERENCE_TABLE
+        + " o ON t.ID = o.TASK_ID "
         + "</if>"
         + "<if test=\"joinWithClassifications\">"
         + "LEFT JOIN CLASSIFICATION c ON t.CLASSIFICATION_ID = c.ID "
@@ -483,10 +600,16 @@ public class TaskQuerySqlProvider {
     return "<if test='groupBySor != null'> "
         + ") t LEFT JOIN"
         + " (SELECT o.VALUE, COUNT(o.VALUE) AS R_COUNT "
-        + "FROM TASK t "
-        + "LEFT JOIN OBJECT_REFERENCE o on t.ID=o.TASK_ID "
+        + "FROM "
+        + TASK_TABLE
+        + " t "
+        + "LEFT JOIN "
+        + OBJECT_REFERENCE_TABLE
+        + " o on t.ID=o.TASK_ID "
         + "<if test=\"joinWithAttachments\">"
-        + "LEFT JOIN ATTACHMENT a ON t.ID = a.TASK_ID "
+        + "LEFT JOIN "
+        + ATTACHMENT_TABLE
+        + " a ON t.ID = a.TASK_ID "
         + "</if>"
         + "<if test=\"joinWithClassifications\">"
         + "LEFT JOIN CLASSIFICATION c ON t.CLASSIFICATION_ID = c.ID "
@@ -666,6 +789,13 @@ public class TaskQuerySqlProvider {
             + "</foreach>)"
             + "</if> ");
     sb.append("<if test='withoutAttachment'> AND a.ID IS NULL</if> ");
+    sb.append(
+        "<if test='keysetConditions != null'>AND ("
+            + "<foreach item='condition' collection='keysetConditions' separator=' OR '>("
+            + "<foreach item='term' collection='condition' separator=' AND '>"
+            + "${term.column} ${term.operator} #{term.value}"
+            + "</foreach>)</foreach>)"
+            + "</if> ");
     sb.append(commonTaskObjectReferenceWhereStatement());
     sb.append(commonTaskSecondaryObjectReferencesWhereStatement());
     return sb;
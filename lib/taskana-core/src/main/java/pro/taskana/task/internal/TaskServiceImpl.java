@@ -3,12 +3,16 @@ package pro.taskana.task.internal;
 import static java.util.function.Predicate.not;
 import static pro.taskana.common.internal.util.CheckedFunction.wrap;
 
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Savepoint;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
@@ -23,11 +27,12 @@ import java.util.stream.Stream;
 import org.apache.ibatis.exceptions.PersistenceException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import pro.taskana.classification.api.ClassificationService;
 import pro.taskana.classification.api.exceptions.ClassificationNotFoundException;
 import pro.taskana.classification.api.models.Classification;
 import pro.taskana.classification.api.models.ClassificationSummary;
+import pro.taskana.classification.internal.ClassificationServiceImpl;
 import pro.taskana.common.api.BulkOperationResults;
+import pro.taskana.common.api.KeyDomain;
 import pro.taskana.common.api.TaskanaRole;
 import pro.taskana.common.api.exceptions.ConcurrencyException;
 import pro.taskana.common.api.exceptions.InvalidArgumentException;
@@ -35,6 +40,7 @@ import pro.taskana.common.api.exceptions.NotAuthorizedException;
 import pro.taskana.common.api.exceptions.SystemException;
 import pro.taskana.common.api.exceptions.TaskanaException;
 import pro.taskana.common.internal.InternalTaskanaEngine;
+import pro.taskana.common.internal.jobs.JobShard;
 import pro.taskana.common.internal.util.CheckedConsumer;
 import pro.taskana.common.internal.util.CollectionUtil;
 import pro.taskana.common.internal.util.EnumUtil;
@@ -47,6 +53,7 @@ import pro.taskana.spi.history.api.events.task.TaskClaimedEvent;
 import pro.taskana.spi.history.api.events.task.TaskCompletedEvent;
 import pro.taskana.spi.history.api.events.task.TaskCreatedEvent;
 import pro.taskana.spi.history.api.events.task.TaskDeletedEvent;
+import pro.taskana.spi.history.api.events.task.TaskHistoryEvent;
 import pro.taskana.spi.history.api.events.task.TaskRequestChangesEvent;
 import pro.taskana.spi.history.api.events.task.TaskRequestReviewEvent;
 import pro.taskana.spi.history.api.events.task.TaskTerminatedEvent;
@@ -91,12 +98,12 @@ import pro.taskana.task.internal.models.TaskSummaryImpl;
 import pro.taskana.user.api.models.User;
 import pro.taskana.user.internal.UserMapper;
 import pro.taskana.workbasket.api.WorkbasketPermission;
-import pro.taskana.workbasket.api.WorkbasketService;
 import pro.taskana.workbasket.api.exceptions.NotAuthorizedOnWorkbasketException;
 import pro.taskana.workbasket.api.exceptions.WorkbasketNotFoundException;
 import pro.taskana.workbasket.api.models.Workbasket;
 import pro.taskana.workbasket.api.models.WorkbasketSummary;
 import pro.taskana.workbasket.internal.WorkbasketQueryImpl;
+import pro.taskana.workbasket.internal.WorkbasketServiceImpl;
 import pro.taskana.workbasket.internal.models.WorkbasketSummaryImpl;
 
 /** This is the implementation of TaskService. */
@@ -104,10 +111,13 @@ import pro.taskana.workbasket.internal.models.WorkbasketSummaryImpl;
 public class TaskServiceImpl implements TaskService {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(TaskServiceImpl.class);
+  // limits the number of rows inserted by one statement and the number of elements of IN lists
+  private static final int MAX_ROWS_PER_INSERT = 100;
+  private static final int MAX_IN_LIST_SIZE = 1000;
 
   private final InternalTaskanaEngine taskanaEngine;
-  private final WorkbasketService workbasketService;
-  private final ClassificationService classificationService;
+  private final WorkbasketServiceImpl workbasketService;
+  private final ClassificationServiceImpl classificationService;
   private final TaskMapper taskMapper;
   private final TaskTransferrer taskTransferrer;
   private final TaskCommentServiceImpl taskCommentService;
@@ -115,6 +125,7 @@ public class TaskServiceImpl implements TaskService {
   private final AttachmentHandler attachmentHandler;
   private final AttachmentMapper attachmentMapper;
   private final ObjectReferenceMapper objectReferenceMapper;
+  private final TaskArchiveMapper taskArchiveMapper;
   private final ObjectReferenceHandler objectReferenceHandler;
   private final UserMapper userMapper;
   private final HistoryEventManager historyEventManager;
@@ -126,6 +137,8 @@ public class TaskServiceImpl implements TaskService {
   private final BeforeRequestChangesManager beforeRequestChangesManager;
   private final AfterRequestChangesManager afterRequestChangesManager;
   private final TaskEndstatePreprocessorManager taskEndstatePreprocessorManager;
+  // created tasks are compared with an empty task, which is never modified
+  private final Task emptyTask = newTask();
 
   public TaskServiceImpl(
       InternalTaskanaEngine taskanaEngine,
@@ -133,14 +146,18 @@ public class TaskServiceImpl implements TaskService {
       TaskCommentMapper taskCommentMapper,
       AttachmentMapper attachmentMapper,
       ObjectReferenceMapper objectReferenceMapper,
+      TaskArchiveMapper taskArchiveMapper,
       UserMapper userMapper) {
     this.taskanaEngine = taskanaEngine;
     this.taskMapper = taskMapper;
-    this.workbasketService = taskanaEngine.getEngine().getWorkbasketService();
+    this.workbasketService =
+        (WorkbasketServiceImpl) taskanaEngine.getEngine().getWorkbasketService();
     this.attachmentMapper = attachmentMapper;
     this.objectReferenceMapper = objectReferenceMapper;
+    this.taskArchiveMapper = taskArchiveMapper;
     this.userMapper = userMapper;
-    this.classificationService = taskanaEngine.getEngine().getClassificationService();
+    this.classificationService =
+        (ClassificationServiceImpl) taskanaEngine.getEngine().getClassificationService();
     this.historyEventManager = taskanaEngine.getHistoryEventManager();
     this.createTaskPreprocessorManager = taskanaEngine.getCreateTaskPreprocessorManager();
     this.priorityServiceManager = taskanaEngine.getPriorityServiceManager();
@@ -337,6 +354,11 @@ public class TaskServiceImpl implements TaskService {
       standardSettingsOnTaskCreation(task, classification);
       setCallbackStateOnTaskCreation(task);
       priorityServiceManager.calculatePriorityOfTask(task).ifPresent(task::setPriority);
+      // the unique constraint on the external id of the TASK table doesn't cover archived tasks
+      if (isTaskArchiveEnabled()
+          && !taskArchiveMapper.findArchivedExternalIds(List.of(task.getExternalId())).isEmpty()) {
+        throw new TaskAlreadyExistException(task.getExternalId());
+      }
 
       try {
         this.taskMapper.insert(task);
@@ -346,7 +368,7 @@ public class TaskServiceImpl implements TaskService {
         if (historyEventManager.isEnabled()) {
 
           String details =
-              ObjectAttributeChangeDetector.determineChangesInAttributes(newTask(), task);
+              ObjectAttributeChangeDetector.determineChangesInAttributes(emptyTask, task);
           historyEventManager.createEvent(
               new TaskCreatedEvent(
                   IdGenerator.generateWithPrefix(IdGenerator.ID_PREFIX_TASK_HISTORY_EVENT),
@@ -376,13 +398,7 @@ public class TaskServiceImpl implements TaskService {
         // Error: SQLCODE=-803, SQLSTATE=23505, SQLERRMC=2;TASKANA.TASK, DRIVER=4.22.29
         // H2:   ### Error updating database.  Cause: org.h2.jdbc.JdbcSQLException: Unique index or
         // primary key violation: "UC_EXTERNAL_ID_INDEX_2 ON TASKANA.TASK(EXTERNAL_ID) ...
-        String msg = e.getMessage() != null ? e.getMessage().toLowerCase() : null;
-        if (msg != null
-            && (msg.contains("violation")
-                || msg.contains("violates")
-                || msg.contains("violated")
-                || msg.contains("verletzt"))
-            && msg.contains("external_id")) {
+        if (isExternalIdViolation(e)) {
           throw new TaskAlreadyExistException(task.getExternalId());
         } else {
           throw e;
@@ -394,6 +410,41 @@ public class TaskServiceImpl implements TaskService {
     }
   }
 
+  @Override
+  public BulkOperationResults<String, TaskanaException> createTasks(List<Task> tasksToCreate) {
+    BulkOperationResults<String, TaskanaException> bulkLog = new BulkOperationResults<>();
+    if (tasksToCreate == null || tasksToCreate.isEmpty()) {
+      return bulkLog;
+    }
+
+    List<TaskImpl> tasks = new ArrayList<>();
+    for (Task taskToCreate : tasksToCreate) {
+      if (createTaskPreprocessorManager.isEnabled()) {
+        taskToCreate = createTaskPreprocessorManager.processTaskBeforeCreation(taskToCreate);
+      }
+      TaskImpl task = (TaskImpl) taskToCreate;
+      if (task.getExternalId() == null) {
+        task.setExternalId(IdGenerator.generateWithPrefix(IdGenerator.ID_PREFIX_EXT_TASK));
+      }
+      tasks.add(task);
+    }
+
+    try {
+      taskanaEngine.openConnection();
+
+      tasks = resolveWorkbasketsOfNewTasks(tasks, bulkLog);
+      tasks = removeTasksNotAuthorizedToAppend(tasks, bulkLog);
+      tasks = prepareNewTasks(tasks, bulkLog);
+      tasks = insertNewTasks(tasks, bulkLog);
+      if (LOGGER.isDebugEnabled()) {
+        LOGGER.debug("Method createTasks() created {} Tasks.", tasks.size());
+      }
+      return bulkLog;
+    } finally {
+      taskanaEngine.returnConnection();
+    }
+  }
+
   @Override
   public Task getTask(String id) throws NotAuthorizedOnWorkbasketException, TaskNotFoundException {
     try {
@@ -714,6 +765,17 @@ public class TaskServiceImpl implements TaskService {
     }
   }
 
+  @Override
+  public List<TaskSummary> selectAndClaim(TaskQuery taskQuery, int maxTasks)
+      throws InvalidArgumentException {
+    if (maxTasks < 1) {
+      throw new InvalidArgumentException("maxTasks must be a positive number.");
+    }
+    ((TaskQueryImpl) taskQuery).selectAndClaimEquals(maxTasks);
+    // the selected rows stay locked until the Tasks are claimed
+    return taskanaEngine.executeInDatabaseTransaction(() -> claimSelectedTasks(taskQuery.list()));
+  }
+
   @Override
   public BulkOperationResults<String, TaskanaException> deleteTasks(List<String> taskIds)
       throws InvalidArgumentException, NotAuthorizedException {
@@ -1088,45 +1150,60 @@ public class TaskServiceImpl implements TaskService {
     return terminatedTask;
   }
 
-  public List<String> findTasksIdsAffectedByClassificationChange(String classificationId) {
-    // tasks directly affected
-    List<TaskSummary> tasksAffectedDirectly =
-        createTaskQuery()
-            .classificationIdIn(classificationId)
-            .stateIn(TaskState.READY, TaskState.CLAIMED)
-            .list();
-
-    // tasks indirectly affected via attachments
-    List<Pair<String, Instant>> affectedPairs =
-        tasksAffectedDirectly.stream()
-            .map(t -> Pair.of(t.getId(), t.getPlanned()))
-            .collect(Collectors.toList());
-    // tasks indirectly affected via attachments
-    List<Pair<String, Instant>> taskIdsAndPlannedFromAttachments =
-        attachmentMapper.findTaskIdsAndPlannedAffectedByClassificationChange(classificationId);
-
-    List<String> taskIdsFromAttachments =
-        taskIdsAndPlannedFromAttachments.stream().map(Pair::getLeft).collect(Collectors.toList());
-    List<Pair<String, Instant>> filteredTaskIdsAndPlannedFromAttachments =
-        taskIdsFromAttachments.isEmpty()
-            ? new ArrayList<>()
-            : taskMapper.filterTaskIdsForReadyAndClaimed(taskIdsFromAttachments);
-    affectedPairs.addAll(filteredTaskIdsAndPlannedFromAttachments);
-    //  sort all affected tasks according to the planned instant
-    List<String> affectedTaskIds =
-        affectedPairs.stream()
-            .sorted(Comparator.comparing(Pair::getRight))
-            .distinct()
-            .map(Pair::getLeft)
-            .collect(Collectors.toList());
-
-    if (LOGGER.isDebugEnabled()) {
-      LOGGER.debug(
-          "the following tasks are affected by the update of classification {} : {}",
-          classificationId,
-          affectedTaskIds);
+  /**
+   * Loads the next chunk of tasks which are affected by a change of the given classification. A
+   * task is affected if it is in state READY or CLAIMED and references the classification either
+   * directly or via one of its attachments.
+   *
+   * @param classificationId the id of the changed classification
+   * @param lastTaskId the id of the last task of the previous chunk or null for the first chunk
+   * @param limit the maximum size of the chunk
+   * @return the ids of the affected tasks, ordered by task id
+   */
+  public List<String> findTaskIdsAffectedByClassificationChange(
+      String classificationId, String lastTaskId, int limit) {
+    return taskanaEngine.executeInDatabaseConnection(
+        () ->
+            taskMapper.findTaskIdsAffectedByClassificationChange(
+                classificationId, lastTaskId, null, limit));
+  }
+
+  /**
+   * Refreshes the priority and the due date of all tasks affected by a change of the given
+   * classification whose id is within the given range.
+   *
+   * @param classificationId the id of the changed classification
+   * @param lastTaskId the exclusive lower bound of the task ids or null for no lower bound
+   * @param upToTaskId the inclusive upper bound of the task ids
+   * @param serviceLevelChanged whether the service level of the classification changed
+   * @param priorityChanged whether the priority of the classification changed
+   * @return the number of refreshed tasks
+   */
+  public int refreshPriorityAndDueDatesOfTasksOnClassificationUpdate(
+      String classificationId,
+      String lastTaskId,
+      String upToTaskId,
+      boolean serviceLevelChanged,
+      boolean priorityChanged) {
+    try {
+      taskanaEngine.openConnection();
+      List<String> taskIds =
+          taskMapper.findTaskIdsAffectedByClassificationChange(
+              classificationId, lastTaskId, upToTaskId, null);
+      if (LOGGER.isDebugEnabled()) {
+        LOGGER.debug(
+            "the following tasks are affected by the update of classification {} : {}",
+            classificationId,
+            taskIds);
+      }
+      if (!taskIds.isEmpty()) {
+        refreshPriorityAndDueDatesOfTasksOnClassificationUpdate(
+            taskIds, serviceLevelChanged, priorityChanged);
+      }
+      return taskIds.size();
+    } finally {
+      taskanaEngine.returnConnection();
     }
-    return affectedTaskIds;
   }
 
   public void refreshPriorityAndDueDatesOfTasksOnClassificationUpdate(
@@ -1153,6 +1230,157 @@ public class TaskServiceImpl implements TaskService {
     }
   }
 
+  /**
+   * Loads the next chunk of tasks which have been completed before the given instant.
+   *
+   * @param completedBefore the latest completion instant of the tasks
+   * @param lastTaskId the id of the last task of the previous chunk or null for the first chunk
+   * @param shard the shard the tasks have to belong to or null for all tasks
+   * @param limit the maximum size of the chunk
+   * @return pairs of task id and parent business process id, ordered by task id
+   */
+  public List<Pair<String, String>> findTaskIdsCompletedBefore(
+      Instant completedBefore, String lastTaskId, JobShard shard, int limit) {
+    return taskanaEngine.executeInDatabaseConnection(
+        () ->
+            taskMapper.findTaskIdsCompletedBefore(
+                completedBefore,
+                lastTaskId,
+                shard == null ? null : shard.toSqlCondition("ID"),
+                limit));
+  }
+
+  /**
+   * Loads the next chunk of end-state tasks which have been completed before the given instant and
+   * can be moved to the archive.
+   *
+   * @param completedBefore the latest completion instant of the tasks
+   * @param lastTaskId the id of the last task of the previous chunk or null for the first chunk
+   * @param limit the maximum size of the chunk
+   * @return the ids of the tasks, ordered by task id
+   */
+  public List<String> findTaskIdsToArchive(Instant completedBefore, String lastTaskId, int limit) {
+    return taskanaEngine.executeInDatabaseConnection(
+        () -> taskArchiveMapper.findTaskIdsToArchive(completedBefore, lastTaskId, limit));
+  }
+
+  /**
+   * Moves the given tasks together with their attachments, object references and comments into the
+   * archive tables. The tasks are not checked for their state, so callers have to make sure that
+   * only tasks in an end state are passed.
+   *
+   * @param taskIds the ids of the tasks to archive
+   * @return the number of archived tasks
+   * @throws NotAuthorizedException if the current user is not member of role ADMIN
+   */
+  public int archiveTasks(List<String> taskIds) throws NotAuthorizedException {
+    taskanaEngine.getEngine().checkRoleMembership(TaskanaRole.ADMIN);
+    if (taskIds.isEmpty()) {
+      return 0;
+    }
+    return taskanaEngine.executeInDatabaseTransaction(
+        () ->
+            CollectionUtil.partitionBasedOnSize(taskIds, MAX_IN_LIST_SIZE).stream()
+                .mapToInt(
+                    partition -> {
+                      taskArchiveMapper.archiveTaskComments(partition);
+                      taskArchiveMapper.archiveAttachments(partition);
+                      taskArchiveMapper.archiveObjectReferences(partition);
+                      final int archivedTasks = taskArchiveMapper.archiveTasks(partition);
+                      // the comments are deleted by the foreign key on delete cascade
+                      attachmentMapper.deleteMultipleByTaskIds(partition);
+                      objectReferenceMapper.deleteMultipleByTaskIds(partition);
+                      taskMapper.deleteMultiple(partition);
+                      return archivedTasks;
+                    })
+                .sum());
+  }
+
+  /**
+   * Loads the next chunk of archived tasks which have been completed before the given instant.
+   *
+   * @param completedBefore the latest completion instant of the tasks
+   * @param lastTaskId the id of the last task of the previous chunk or null for the first chunk
+   * @param shard the shard the tasks have to belong to or null for all tasks
+   * @param limit the maximum size of the chunk
+   * @return pairs of task id and parent business process id, ordered by task id
+   */
+  public List<Pair<String, String>> findArchivedTaskIdsCompletedBefore(
+      Instant completedBefore, String lastTaskId, JobShard shard, int limit) {
+    return taskanaEngine.executeInDatabaseConnection(
+        () ->
+            taskArchiveMapper.findArchivedTaskIdsCompletedBefore(
+                completedBefore,
+                lastTaskId,
+                shard == null ? null : shard.toSqlCondition("ID"),
+                limit));
+  }
+
+  /**
+   * Deletes the given archived tasks together with their attachments, object references and
+   * comments. Their history events are deleted like the ones of deleted active tasks.
+   *
+   * @param taskIds the ids of the archived tasks to delete
+   * @return the number of deleted tasks
+   * @throws NotAuthorizedException if the current user is not member of role ADMIN
+   */
+  public int deleteArchivedTasks(List<String> taskIds) throws NotAuthorizedException {
+    taskanaEngine.getEngine().checkRoleMembership(TaskanaRole.ADMIN);
+    if (taskIds.isEmpty()) {
+      return 0;
+    }
+    return taskanaEngine.executeInDatabaseConnection(
+        () -> {
+          int deletedTasks =
+              taskanaEngine.executeInDatabaseTransaction(
+                  () ->
+                      CollectionUtil.partitionBasedOnSize(taskIds, MAX_IN_LIST_SIZE).stream()
+                          .mapToInt(
+                              partition -> {
+                                taskArchiveMapper.deleteArchivedTaskComments(partition);
+                                taskArchiveMapper.deleteArchivedAttachments(partition);
+                                taskArchiveMapper.deleteArchivedObjectReferences(partition);
+                                return taskArchiveMapper.deleteArchivedTasks(partition);
+                              })
+                          .sum());
+          if (taskanaEngine.getEngine().isHistoryEnabled()
+              && taskanaEngine
+                  .getEngine()
+                  .getConfiguration()
+                  .isDeleteHistoryEventsOnTaskDeletionEnabled()) {
+            historyEventManager.deleteEvents(taskIds);
+          }
+          if (historyEventManager.isEnabled()) {
+            taskIds.forEach(this::createTaskDeletedEvent);
+          }
+          return deletedTasks;
+        });
+  }
+
+  /**
+   * Determines which of the given parent business processes still contain a task that has not been
+   * completed before the given instant.
+   *
+   * @param parentBusinessProcessIds the ids of the parent business processes to check
+   * @param completedBefore the latest completion instant of the tasks
+   * @return the ids of the parent business processes which are not completed yet
+   */
+  public Set<String> findParentBusinessProcessIdsNotCompletedBefore(
+      Collection<String> parentBusinessProcessIds, Instant completedBefore) {
+    if (parentBusinessProcessIds.isEmpty()) {
+      return Collections.emptySet();
+    }
+    return taskanaEngine.executeInDatabaseConnection(
+        () ->
+            CollectionUtil.partitionBasedOnSize(parentBusinessProcessIds, MAX_IN_LIST_SIZE).stream()
+                .map(
+                    partition ->
+                        taskMapper.findParentBusinessProcessIdsNotCompletedBefore(
+                            partition, completedBefore))
+                .flatMap(List::stream)
+                .collect(Collectors.toSet()));
+  }
+
   Pair<List<MinimalTaskSummary>, BulkLog> getMinimalTaskSummaries(Collection<String> argTaskIds) {
     BulkLog bulkLog = new BulkLog();
     // remove duplicates
@@ -1212,10 +1440,26 @@ public class TaskServiceImpl implements TaskService {
 
   List<TaskSummary> augmentTaskSummariesByContainedSummariesWithPartitioning(
       List<TaskSummaryImpl> taskSummaries) {
+    return augmentTaskSummariesByContainedSummariesWithPartitioning(taskSummaries, false);
+  }
+
+  List<TaskSummary> augmentTaskSummariesByContainedSummariesWithPartitioning(
+      List<TaskSummaryImpl> taskSummaries, boolean includeArchived) {
+    return augmentTaskSummariesByContainedSummariesWithPartitioning(
+        taskSummaries, includeArchived, EnumSet.allOf(ContainedSummary.class));
+  }
+
+  List<TaskSummary> augmentTaskSummariesByContainedSummariesWithPartitioning(
+      List<TaskSummaryImpl> taskSummaries,
+      boolean includeArchived,
+      Set<ContainedSummary> containedSummaries) {
     // splitting Augmentation into steps of maximal 32000 tasks
     // reason: DB2 has a maximum for parameters in a query
     return CollectionUtil.partitionBasedOnSize(taskSummaries, 32000).stream()
-        .map(this::appendComplexAttributesToTaskSummariesWithoutPartitioning)
+        .map(
+            partition ->
+                appendComplexAttributesToTaskSummariesWithoutPartitioning(
+                    partition, includeArchived, containedSummaries))
         .flatMap(Collection::stream)
         .collect(Collectors.toList());
   }
@@ -1242,7 +1486,9 @@ public class TaskServiceImpl implements TaskService {
   }
 
   private List<TaskSummaryImpl> appendComplexAttributesToTaskSummariesWithoutPartitioning(
-      List<TaskSummaryImpl> taskSummaries) {
+      List<TaskSummaryImpl> taskSummaries,
+      boolean includeArchived,
+      Set<ContainedSummary> containedSummaries) {
     Set<String> taskIds =
         taskSummaries.stream().map(TaskSummaryImpl::getId).collect(Collectors.toSet());
 
@@ -1250,26 +1496,45 @@ public class TaskServiceImpl implements TaskService {
       taskIds = null;
     }
 
-    if (LOGGER.isDebugEnabled()) {
-      LOGGER.debug(
-          "augmentTaskSummariesByContainedSummariesWithoutPartitioning() with sublist {} "
-              + "about to query for attachmentSummaries ",
-          taskSummaries);
-    }
-
-    List<AttachmentSummaryImpl> attachmentSummaries =
-        attachmentMapper.findAttachmentSummariesByTaskIds(taskIds);
-    Map<String, ClassificationSummary> classificationSummariesById =
-        findClassificationsForTasksAndAttachments(taskSummaries, attachmentSummaries);
-    addClassificationSummariesToAttachments(attachmentSummaries, classificationSummariesById);
-    addClassificationSummariesToTaskSummaries(taskSummaries, classificationSummariesById);
-    addAttachmentSummariesToTaskSummaries(taskSummaries, attachmentSummaries);
-    Map<String, WorkbasketSummary> workbasketSummariesById = findWorkbasketsForTasks(taskSummaries);
-    List<ObjectReferenceImpl> objectReferences =
-        objectReferenceMapper.findObjectReferencesByTaskIds(taskIds);
-
-    addWorkbasketSummariesToTaskSummaries(taskSummaries, workbasketSummariesById);
-    addObjectReferencesToTaskSummaries(taskSummaries, objectReferences);
+    if (containedSummaries.contains(ContainedSummary.ATTACHMENTS)) {
+      if (LOGGER.isDebugEnabled()) {
+        LOGGER.debug(
+            "augmentTaskSummariesByContainedSummariesWithoutPartitioning() with sublist {} "
+                + "about to query for attachmentSummaries ",
+            taskSummaries);
+      }
+
+      List<AttachmentSummaryImpl> attachmentSummaries =
+          attachmentMapper.findAttachmentSummariesByTaskIds(taskIds);
+      if (includeArchived && taskIds != null) {
+        attachmentSummaries = new ArrayList<>(attachmentSummaries);
+        attachmentSummaries.addAll(
+            taskArchiveMapper.findArchivedAttachmentSummariesByTaskIds(taskIds));
+      }
+      Map<String, ClassificationSummary> classificationSummariesById =
+          findClassificationsForTasksAndAttachments(taskSummaries, attachmentSummaries);
+      addClassificationSummariesToAttachments(attachmentSummaries, classificationSummariesById);
+      addClassificationSummariesToTaskSummaries(taskSummaries, classificationSummariesById);
+      addAttachmentSummariesToTaskSummaries(taskSummaries, attachmentSummaries);
+    } else if (containedSummaries.contains(ContainedSummary.CLASSIFICATIONS)) {
+      Map<String, ClassificationSummary> classificationSummariesById =
+          findClassificationsForTasksAndAttachments(taskSummaries, List.of());
+      addClassificationSummariesToTaskSummaries(taskSummaries, classificationSummariesById);
+    }
+    if (containedSummaries.contains(ContainedSummary.WORKBASKETS)) {
+      Map<String, WorkbasketSummary> workbasketSummariesById =
+          findWorkbasketsForTasks(taskSummaries);
+      addWorkbasketSummariesToTaskSummaries(taskSummaries, workbasketSummariesById);
+    }
+    if (containedSummaries.contains(ContainedSummary.OBJECT_REFERENCES)) {
+      List<ObjectReferenceImpl> objectReferences =
+          objectReferenceMapper.findObjectReferencesByTaskIds(taskIds);
+      if (includeArchived && taskIds != null) {
+        objectReferences = new ArrayList<>(objectReferences);
+        objectReferences.addAll(taskArchiveMapper.findArchivedObjectReferencesByTaskIds(taskIds));
+      }
+      addObjectReferencesToTaskSummaries(taskSummaries, objectReferences);
+    }
 
     return taskSummaries;
   }
@@ -1428,6 +1693,91 @@ public class TaskServiceImpl implements TaskService {
     return task;
   }
 
+  private List<TaskSummary> claimSelectedTasks(List<TaskSummary> selectedTasks) {
+    Set<String> workbasketIdsWithEditTasksPermission =
+        findWorkbasketIdsWithEditTasksPermission(selectedTasks);
+    List<TaskSummaryImpl> tasksToClaim =
+        selectedTasks.stream()
+            .map(TaskSummaryImpl.class::cast)
+            .filter(
+                task ->
+                    workbasketIdsWithEditTasksPermission.contains(
+                        task.getWorkbasketSummary().getId()))
+            .toList();
+    if (tasksToClaim.isEmpty()) {
+      return Collections.emptyList();
+    }
+
+    String userId = taskanaEngine.getEngine().getCurrentUserContext().getUserid();
+    String userLongName = null;
+    if (taskanaEngine.getEngine().getConfiguration().isAddAdditionalUserInfo()) {
+      User user = userMapper.findById(userId);
+      if (user != null) {
+        userLongName = user.getLongName();
+      }
+    }
+    // the timestamp identifies the claimed Tasks in the database, so it must not be rounded there
+    Instant now = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+    Map<String, TaskSummaryImpl> oldTasksById = new HashMap<>();
+    for (TaskSummaryImpl task : tasksToClaim) {
+      if (historyEventManager.isEnabled()) {
+        oldTasksById.put(task.getId(), duplicateTaskSummaryExactly(task));
+      }
+      claimActionsOnTask(task, userId, userLongName, now);
+    }
+
+    List<TaskSummaryImpl> claimedTasks = new ArrayList<>(tasksToClaim.size());
+    for (List<TaskSummaryImpl> partition :
+        CollectionUtil.partitionBasedOnSize(tasksToClaim, MAX_IN_LIST_SIZE)) {
+      claimedTasks.addAll(claimReadyTasks(partition, userId, now));
+    }
+    if (LOGGER.isDebugEnabled()) {
+      LOGGER.debug(
+          "Tasks '{}' claimed by user '{}'.",
+          claimedTasks.stream().map(TaskSummary::getId).toList(),
+          userId);
+    }
+    if (historyEventManager.isEnabled()) {
+      createTasksClaimedEvents(
+          claimedTasks.stream().map(task -> oldTasksById.get(task.getId())).toList(),
+          claimedTasks,
+          userId);
+    }
+    return new ArrayList<>(claimedTasks);
+  }
+
+  private List<TaskSummaryImpl> claimReadyTasks(
+      List<TaskSummaryImpl> tasks, String userId, Instant claimed) {
+    List<String> taskIds = tasks.stream().map(TaskSummary::getId).toList();
+    int claimedCount = taskMapper.claimReadyTasks(taskIds, tasks.get(0));
+    if (claimedCount == tasks.size()) {
+      return tasks;
+    }
+    Set<String> claimedTaskIds =
+        new HashSet<>(taskMapper.findIdsOfClaimedTasks(taskIds, userId, claimed));
+    return tasks.stream().filter(task -> claimedTaskIds.contains(task.getId())).toList();
+  }
+
+  private Set<String> findWorkbasketIdsWithEditTasksPermission(List<TaskSummary> tasks) {
+    if (tasks.isEmpty()) {
+      return Collections.emptySet();
+    }
+    String[] workbasketIds =
+        tasks.stream()
+            .map(TaskSummary::getWorkbasketSummary)
+            .map(WorkbasketSummary::getId)
+            .distinct()
+            .toArray(String[]::new);
+    return workbasketService
+        .createWorkbasketQuery()
+        .idIn(workbasketIds)
+        .callerHasPermissions(WorkbasketPermission.EDITTASKS)
+        .list()
+        .stream()
+        .map(WorkbasketSummary::getId)
+        .collect(Collectors.toSet());
+  }
+
   private Task requestReview(String taskId, boolean force)
       throws TaskNotFoundException,
           InvalidTaskStateException,
@@ -1611,11 +1961,7 @@ public class TaskServiceImpl implements TaskService {
     if (taskIsNotClaimed(task)) {
       throw new InvalidTaskStateException(
           task.getId(), task.getState(), TaskState.CLAIMED, TaskState.IN_REVIEW);
-    } else if (!taskanaEngine
-            .getEngine()
-            .getCurrentUserContext()
-            .getAccessIds()
-            .contains(task.getOwner())
+    } else if (!taskanaEngine.getEngine().getCurrentUserContext().hasAccessId(task.getOwner())
         && !taskanaEngine.getEngine().isUserInRole(TaskanaRole.ADMIN)) {
       throw new InvalidOwnerException(
           taskanaEngine.getEngine().getCurrentUserContext().getUserid(), task.getId());
@@ -1887,11 +2233,271 @@ public class TaskServiceImpl implements TaskService {
     return Optional.empty();
   }
 
+  private List<TaskImpl> resolveWorkbasketsOfNewTasks(
+      List<TaskImpl> tasks, BulkOperationResults<String, TaskanaException> bulkLog) {
+    Set<String> existingExternalIds = findExistingExternalIds(tasks);
+    Set<String> externalIds = new HashSet<>();
+    Map<String, Workbasket> workbasketsById = new HashMap<>();
+    Map<KeyDomain, Workbasket> workbasketsByKeyDomain = new HashMap<>();
+    List<TaskImpl> resolvedTasks = new ArrayList<>();
+    for (TaskImpl task : tasks) {
+      try {
+        if (task.getId() != null && !task.getId().isEmpty()) {
+          throw new InvalidArgumentException("taskId must be empty when creating a task");
+        }
+        if (existingExternalIds.contains(task.getExternalId())
+            || !externalIds.add(task.getExternalId())) {
+          throw new TaskAlreadyExistException(task.getExternalId());
+        }
+        Workbasket workbasket =
+            resolveWorkbasketOfNewTask(task, workbasketsById, workbasketsByKeyDomain);
+        if (workbasket.isMarkedForDeletion()) {
+          throw new WorkbasketNotFoundException(workbasket.getId());
+        }
+        task.setWorkbasketSummary(workbasket.asSummary());
+        task.setDomain(workbasket.getDomain());
+        resolvedTasks.add(task);
+      } catch (TaskanaException e) {
+        bulkLog.addError(task.getExternalId(), e);
+      }
+    }
+    return resolvedTasks;
+  }
+
+  private Set<String> findExistingExternalIds(List<TaskImpl> tasks) {
+    List<String> externalIds = tasks.stream().map(TaskImpl::getExternalId).distinct().toList();
+    boolean taskArchiveEnabled = isTaskArchiveEnabled();
+    return CollectionUtil.partitionBasedOnSize(externalIds, MAX_IN_LIST_SIZE).stream()
+        .flatMap(
+            partition ->
+                taskArchiveEnabled
+                    ? Stream.concat(
+                        taskMapper.findExistingExternalIds(partition).stream(),
+                        taskArchiveMapper.findArchivedExternalIds(partition).stream())
+                    : taskMapper.findExistingExternalIds(partition).stream())
+        .collect(Collectors.toSet());
+  }
+
+  // archived Tasks are only looked up while the archive job is enabled. Tasks which were archived
+  // before it was disabled aren't considered any more.
+  private boolean isTaskArchiveEnabled() {
+    return taskanaEngine.getEngine().getConfiguration().isTaskArchiveJobEnabled();
+  }
+
+  private Workbasket resolveWorkbasketOfNewTask(
+      TaskImpl task,
+      Map<String, Workbasket> workbasketsById,
+      Map<KeyDomain, Workbasket> workbasketsByKeyDomain)
+      throws InvalidArgumentException,
+          WorkbasketNotFoundException,
+          NotAuthorizedOnWorkbasketException {
+    String workbasketId;
+    if (task.getWorkbasketSummary() != null && task.getWorkbasketSummary().getId() != null) {
+      workbasketId = task.getWorkbasketSummary().getId();
+    } else if (task.getWorkbasketKey() != null) {
+      KeyDomain keyDomain = new KeyDomain(task.getWorkbasketKey(), task.getDomain());
+      Workbasket workbasket = workbasketsByKeyDomain.get(keyDomain);
+      if (workbasket == null) {
+        workbasket = workbasketService.getWorkbasket(keyDomain.getKey(), keyDomain.getDomain());
+        workbasketsByKeyDomain.put(keyDomain, workbasket);
+      }
+      return workbasket;
+    } else {
+      workbasketId = taskanaEngine.getTaskRoutingManager().determineWorkbasketId(task);
+      if (workbasketId == null) {
+        throw new InvalidArgumentException("Cannot create a Task outside a Workbasket");
+      }
+    }
+    Workbasket workbasket = workbasketsById.get(workbasketId);
+    if (workbasket == null) {
+      workbasket = workbasketService.getWorkbasket(workbasketId);
+      workbasketsById.put(workbasketId, workbasket);
+    }
+    return workbasket;
+  }
+
+  private List<TaskImpl> removeTasksNotAuthorizedToAppend(
+      List<TaskImpl> tasks, BulkOperationResults<String, TaskanaException> bulkLog) {
+    if (tasks.isEmpty() || taskanaEngine.getEngine().isUserInRole(TaskanaRole.TASK_ROUTER)) {
+      return tasks;
+    }
+    Set<String> workbasketIds =
+        tasks.stream().map(task -> task.getWorkbasketSummary().getId()).collect(Collectors.toSet());
+    BulkOperationResults<String, TaskanaException> authorizationLog =
+        workbasketService.checkAuthorization(workbasketIds, WorkbasketPermission.APPEND);
+    List<TaskImpl> authorizedTasks = new ArrayList<>();
+    for (TaskImpl task : tasks) {
+      TaskanaException error = authorizationLog.getErrorForId(task.getWorkbasketSummary().getId());
+      if (error == null) {
+        authorizedTasks.add(task);
+      } else {
+        bulkLog.addError(task.getExternalId(), error);
+      }
+    }
+    return authorizedTasks;
+  }
+
+  private List<TaskImpl> prepareNewTasks(
+      List<TaskImpl> tasks, BulkOperationResults<String, TaskanaException> bulkLog) {
+    Map<Pair<String, String>, Classification> classificationsByKeyAndDomain = new HashMap<>();
+    List<TaskImpl> preparedTasks = new ArrayList<>();
+    for (TaskImpl task : tasks) {
+      try {
+        String classificationKey = task.getClassificationKey();
+        if (classificationKey == null || classificationKey.length() == 0) {
+          throw new InvalidArgumentException("classificationKey of task must not be empty");
+        }
+        Pair<String, String> keyAndDomain = Pair.of(classificationKey, task.getDomain());
+        Classification classification = classificationsByKeyAndDomain.get(keyAndDomain);
+        if (classification == null) {
+          classification =
+              classificationService.getClassification(classificationKey, task.getDomain());
+          classificationsByKeyAndDomain.put(keyAndDomain, classification);
+        }
+        task.setClassificationSummary(classification.asSummary());
+        ObjectReferenceImpl.validate(task.getPrimaryObjRef(), "primary ObjectReference", "Task");
+
+        initTaskOnCreation(task, classification);
+        attachmentHandler.initNewAttachmentsOnTaskCreation(task, classificationsByKeyAndDomain);
+        objectReferenceHandler.initNewSecondaryObjectReferencesOnTaskCreation(task);
+        serviceLevelHandler.updatePrioPlannedDueOfTask(task, null);
+        setCallbackStateOnTaskCreation(task);
+        priorityServiceManager.calculatePriorityOfTask(task).ifPresent(task::setPriority);
+        preparedTasks.add(task);
+      } catch (TaskanaException e) {
+        bulkLog.addError(task.getExternalId(), e);
+      }
+    }
+    return preparedTasks;
+  }
+
+  private List<TaskImpl> insertNewTasks(
+      List<TaskImpl> tasks, BulkOperationResults<String, TaskanaException> bulkLog) {
+    if (tasks.isEmpty()) {
+      return tasks;
+    }
+    List<TaskImpl> insertedTasks = new ArrayList<>(tasks.size());
+    for (List<TaskImpl> chunk : CollectionUtil.partitionBasedOnSize(tasks, MAX_ROWS_PER_INSERT)) {
+      try {
+        executeWithSavepoint(() -> taskMapper.insertMultiple(chunk));
+        insertedTasks.addAll(chunk);
+      } catch (PersistenceException e) {
+        if (!isExternalIdViolation(e)) {
+          throw e;
+        }
+        // another transaction has created one of the external ids since they were checked.
+        // The Tasks of this chunk are inserted one by one to report only the duplicates.
+        for (TaskImpl task : chunk) {
+          try {
+            executeWithSavepoint(() -> taskMapper.insert(task));
+            insertedTasks.add(task);
+          } catch (PersistenceException duplicate) {
+            if (!isExternalIdViolation(duplicate)) {
+              throw duplicate;
+            }
+            bulkLog.addError(
+                task.getExternalId(), new TaskAlreadyExistException(task.getExternalId()));
+          }
+        }
+      }
+    }
+    tasks = insertedTasks;
+
+    List<AttachmentImpl> attachments =
+        tasks.stream()
+            .flatMap(task -> task.getAttachments().stream())
+            .map(AttachmentImpl.class::cast)
+            .toList();
+    CollectionUtil.partitionBasedOnSize(attachments, MAX_ROWS_PER_INSERT)
+        .forEach(attachmentMapper::insertMultiple);
+
+    List<ObjectReferenceImpl> objectReferences =
+        tasks.stream()
+            .map(TaskImpl::getSecondaryObjectReferences)
+            .filter(Objects::nonNull)
+            .flatMap(List::stream)
+            .map(ObjectReferenceImpl.class::cast)
+            .toList();
+    CollectionUtil.partitionBasedOnSize(objectReferences, MAX_ROWS_PER_INSERT)
+        .forEach(objectReferenceMapper::insertMultiple);
+
+    if (historyEventManager.isEnabled()) {
+      String userId = taskanaEngine.getEngine().getCurrentUserContext().getUserid();
+      List<TaskHistoryEvent> events = new ArrayList<>(tasks.size());
+      for (TaskImpl task : tasks) {
+        String details =
+            ObjectAttributeChangeDetector.determineChangesInAttributes(emptyTask, task);
+        events.add(
+            new TaskCreatedEvent(
+                IdGenerator.generateWithPrefix(IdGenerator.ID_PREFIX_TASK_HISTORY_EVENT),
+                task,
+                userId,
+                details));
+      }
+      historyEventManager.createEvents(events);
+    }
+    return tasks;
+  }
+
+  /**
+   * Executes a statement, which might fail because of a constraint violation, so that the
+   * surrounding transaction can continue. Postgres aborts the whole transaction when a statement
+   * fails, unless the transaction is rolled back to a savepoint before the statement.
+   *
+   * @param statement the statement to execute
+   * @throws PersistenceException if the statement fails. In a transaction, the statement is rolled
+   *     back before.
+   * @throws SystemException if the savepoint can't be set or rolled back to
+   */
+  private void executeWithSavepoint(Runnable statement) {
+    Connection connection = taskanaEngine.getSqlSession().getConnection();
+    Savepoint savepoint;
+    try {
+      savepoint = connection.getAutoCommit() ? null : connection.setSavepoint();
+    } catch (SQLException e) {
+      throw new SystemException("Could not set a savepoint.", e);
+    }
+    try {
+      statement.run();
+    } catch (PersistenceException e) {
+      if (savepoint != null) {
+        try {
+          connection.rollback(savepoint);
+        } catch (SQLException rollbackException) {
+          e.addSuppressed(rollbackException);
+          throw new SystemException("Could not roll back to a savepoint.", e);
+        }
+      }
+      throw e;
+    }
+  }
+
+  private static boolean isExternalIdViolation(PersistenceException e) {
+    String msg = e.getMessage() != null ? e.getMessage().toLowerCase() : null;
+    return msg != null
+        && (msg.contains("violation")
+            || msg.contains("violates")
+            || msg.contains("violated")
+            || msg.contains("verletzt"))
+        && msg.contains("external_id");
+  }
+
   private void standardSettingsOnTaskCreation(TaskImpl task, Classification classification)
       throws InvalidArgumentException,
           ClassificationNotFoundException,
           AttachmentPersistenceException,
           ObjectReferencePersistenceException {
+    initTaskOnCreation(task, classification);
+
+    attachmentHandler.insertNewAttachmentsOnTaskCreation(task);
+    objectReferenceHandler.insertNewSecondaryObjectReferencesOnTaskCreation(task);
+    // This has to be called after the AttachmentHandler because the AttachmentHandler fetches
+    // the Classifications of the Attachments.
+    // This is necessary to guarantee that the following calculation is correct.
+    serviceLevelHandler.updatePrioPlannedDueOfTask(task, null);
+  }
+
+  private void initTaskOnCreation(TaskImpl task, Classification classification) {
     final Instant now = Instant.now();
     task.setId(IdGenerator.generateWithPrefix(IdGenerator.ID_PREFIX_TASK));
     if (task.getExternalId() == null) {
@@ -1933,13 +2539,6 @@ public class TaskServiceImpl implements TaskService {
       }
     }
     setDefaultTaskReceivedDateFromAttachments(task);
-
-    attachmentHandler.insertNewAttachmentsOnTaskCreation(task);
-    objectReferenceHandler.insertNewSecondaryObjectReferencesOnTaskCreation(task);
-    // This has to be called after the AttachmentHandler because the AttachmentHandler fetches
-    // the Classifications of the Attachments.
-    // This is necessary to guarantee that the following calculation is correct.
-    serviceLevelHandler.updatePrioPlannedDueOfTask(task, null);
   }
 
   private void setDefaultTaskReceivedDateFromAttachments(TaskImpl task) {
@@ -2054,10 +2653,7 @@ public class TaskServiceImpl implements TaskService {
       LOGGER.debug(
           "queryClassificationsForTasksAndAttachments() about to query classifications and exit");
     }
-    return this.classificationService
-        .createClassificationQuery()
-        .idIn(classificationIds.toArray(new String[0]))
-        .list();
+    return this.classificationService.getClassificationSummaries(classificationIds);
   }
 
   private List<WorkbasketSummary> queryWorkbasketsForTasks(Set<String> workbasketIds) {
@@ -2065,11 +2661,7 @@ public class TaskServiceImpl implements TaskService {
     if (LOGGER.isDebugEnabled()) {
       LOGGER.debug("queryWorkbasketsForTasks() about to query workbaskets and exit");
     }
-    // perform classification query
-    return this.workbasketService
-        .createWorkbasketQuery()
-        .idIn(workbasketIds.toArray(new String[0]))
-        .list();
+    return this.workbasketService.getWorkbasketSummaries(workbasketIds);
   }
 
   private void addClassificationSummariesToTaskSummaries(
@@ -2278,22 +2870,39 @@ public class TaskServiceImpl implements TaskService {
       newClassificationSummary = oldClassificationSummary;
     }
     if (!oldClassificationSummary.getKey().equals(newClassificationSummary.getKey())) {
-      Classification newClassification =
-          this.classificationService.getClassification(
+      newClassificationSummary =
+          this.classificationService.getClassificationSummary(
               newClassificationSummary.getKey(), newTaskImpl.getWorkbasketSummary().getDomain());
-      newClassificationSummary = newClassification.asSummary();
       newTaskImpl.setClassificationSummary(newClassificationSummary);
     }
   }
 
   private void createTasksCompletedEvents(List<? extends TaskSummary> taskSummaries) {
-    taskSummaries.forEach(
-        task ->
-            historyEventManager.createEvent(
-                new TaskCompletedEvent(
-                    IdGenerator.generateWithPrefix(IdGenerator.ID_PREFIX_TASK_HISTORY_EVENT),
-                    task,
-                    taskanaEngine.getEngine().getCurrentUserContext().getUserid())));
+    String userId = taskanaEngine.getEngine().getCurrentUserContext().getUserid();
+    historyEventManager.createEvents(
+        taskSummaries.stream()
+            .<TaskHistoryEvent>map(
+                task ->
+                    new TaskCompletedEvent(
+                        IdGenerator.generateWithPrefix(IdGenerator.ID_PREFIX_TASK_HISTORY_EVENT),
+                        task,
+                        userId))
+            .toList());
+  }
+
+  private void createTasksClaimedEvents(
+      List<TaskSummaryImpl> oldTasks, List<TaskSummaryImpl> claimedTasks, String userId) {
+    List<TaskHistoryEvent> events = new ArrayList<>(claimedTasks.size());
+    for (int i = 0; i < claimedTasks.size(); i++) {
+      TaskSummaryImpl task = claimedTasks.get(i);
+      events.add(
+          new TaskClaimedEvent(
+              IdGenerator.generateWithPrefix(IdGenerator.ID_PREFIX_TASK_HISTORY_EVENT),
+              task,
+              userId,
+              ObjectAttributeChangeDetector.determineChangesInAttributes(oldTasks.get(i), task)));
+    }
+    historyEventManager.createEvents(events);
   }
 
   private void createTaskDeletedEvent(String taskId) {
@@ -2305,6 +2914,14 @@ public class TaskServiceImpl implements TaskService {
             taskanaEngine.getEngine().getCurrentUserContext().getUserid()));
   }
 
+  private TaskSummaryImpl duplicateTaskSummaryExactly(TaskSummaryImpl task) {
+    TaskSummaryImpl oldTask = task.copy();
+    oldTask.setId(task.getId());
+    oldTask.setExternalId(task.getExternalId());
+    oldTask.setSecondaryObjectReferences(task.getSecondaryObjectReferences());
+    return oldTask;
+  }
+
   private TaskImpl duplicateTaskExactly(TaskImpl task) {
     TaskImpl oldTask = task.copy();
     oldTask.setId(task.getId());
@@ -2321,4 +2938,19 @@ public class TaskServiceImpl implements TaskService {
         query.idIn(workbasketId).callerHasPermissions(WorkbasketPermission.EDITTASKS).single();
     return workbasket != null;
   }
+
+  /** The data which is added to the TaskSummaries read from the TASK table. */
+  enum ContainedSummary {
+    /** The classification summaries of the tasks. */
+    CLASSIFICATIONS,
+    /** The workbasket summaries of the tasks. */
+    WORKBASKETS,
+    /**
+     * The attachment summaries. The classification summaries of the tasks and their attachments are
+     * added as well.
+     */
+    ATTACHMENTS,
+    /** The secondary object references of the tasks. */
+    OBJECT_REFERENCES
+  }
 }
@@ -19,6 +19,7 @@ import pro.taskana.common.internal.InternalTaskanaEngine;
 import pro.taskana.common.internal.util.EnumUtil;
 import pro.taskana.common.internal.util.IdGenerator;
 import pro.taskana.common.internal.util.ObjectAttributeChangeDetector;
+import pro.taskana.spi.history.api.events.task.TaskHistoryEvent;
 import pro.taskana.spi.history.api.events.task.TaskTransferredEvent;
 import pro.taskana.spi.history.internal.HistoryEventManager;
 import pro.taskana.task.api.TaskState;
@@ -33,7 +34,6 @@ import pro.taskana.workbasket.api.WorkbasketService;
 import pro.taskana.workbasket.api.exceptions.NotAuthorizedOnWorkbasketException;
 import pro.taskana.workbasket.api.exceptions.WorkbasketNotFoundException;
 import pro.taskana.workbasket.api.models.WorkbasketSummary;
-import pro.taskana.workbasket.internal.WorkbasketQueryImpl;
 
 /** This class is responsible for the transfer of Tasks to another Workbasket. */
 final class TaskTransferrer {
@@ -177,8 +177,9 @@ final class TaskTransferrer {
       applyTransferValuesForTask(task, destinationWorkbasket, owner, setTransferFlag);
       taskMapper.update(task);
       if (historyEventManager.isEnabled()) {
-        createTransferredEvent(
-            oldTask, task, originWorkbasket.getId(), destinationWorkbasket.getId());
+        historyEventManager.createEvent(
+            newTransferredEvent(
+                oldTask, task, originWorkbasket.getId(), destinationWorkbasket.getId()));
       }
 
       return task;
@@ -292,18 +293,16 @@ final class TaskTransferrer {
       return Collections.emptySet();
     }
 
-    WorkbasketQueryImpl query = (WorkbasketQueryImpl) workbasketService.createWorkbasketQuery();
-    query.setUsedToAugmentTasks(true);
-    String[] workbasketIds =
+    Set<String> workbasketIds =
         taskSummaries.stream()
             .map(TaskSummary::getWorkbasketSummary)
             .map(WorkbasketSummary::getId)
-            .distinct()
-            .toArray(String[]::new);
+            .collect(Collectors.toCollection(HashSet::new));
 
-    List<WorkbasketSummary> sourceWorkbaskets =
-        query.callerHasPermissions(WorkbasketPermission.TRANSFER).idIn(workbasketIds).list();
-    return sourceWorkbaskets.stream().map(WorkbasketSummary::getId).collect(Collectors.toSet());
+    BulkOperationResults<String, TaskanaException> results =
+        workbasketService.checkAuthorization(workbasketIds, WorkbasketPermission.TRANSFER);
+    workbasketIds.removeAll(results.getFailedIds());
+    return workbasketIds;
   }
 
   private void updateTransferableTasks(
@@ -326,20 +325,21 @@ final class TaskTransferrer {
             updateObject);
 
         if (historyEventManager.isEnabled()) {
-          taskSummaries.forEach(
-              oldSummary -> {
-                TaskSummaryImpl newSummary = (TaskSummaryImpl) oldSummary.copy();
-                newSummary.setId(oldSummary.getId());
-                newSummary.setExternalId(oldSummary.getExternalId());
-                applyTransferValuesForTask(
-                    newSummary, destinationWorkbasket, owner, setTransferFlag);
-
-                createTransferredEvent(
+          List<TaskHistoryEvent> events = new ArrayList<>(taskSummariesWithSameGoalState.size());
+          for (TaskSummary oldSummary : taskSummariesWithSameGoalState) {
+            TaskSummaryImpl newSummary = (TaskSummaryImpl) oldSummary.copy();
+            newSummary.setId(oldSummary.getId());
+            newSummary.setExternalId(oldSummary.getExternalId());
+            applyTransferValuesForTask(newSummary, destinationWorkbasket, owner, setTransferFlag);
+
+            events.add(
+                newTransferredEvent(
                     oldSummary,
                     newSummary,
                     oldSummary.getWorkbasketSummary().getId(),
-                    newSummary.getWorkbasketSummary().getId());
-              });
+                    newSummary.getWorkbasketSummary().getId()));
+          }
+          historyEventManager.createEvents(events);
         }
       }
     }
@@ -356,20 +356,19 @@ final class TaskTransferrer {
     task.setModified(Instant.now());
   }
 
-  private void createTransferredEvent(
+  private TaskTransferredEvent newTransferredEvent(
       TaskSummary oldTask,
       TaskSummary newTask,
       String originWorkbasketId,
       String destinationWorkbasketId) {
     String details = ObjectAttributeChangeDetector.determineChangesInAttributes(oldTask, newTask);
-    historyEventManager.createEvent(
-        new TaskTransferredEvent(
-            IdGenerator.generateWithPrefix(IdGenerator.ID_PREFIX_TASK_HISTORY_EVENT),
-            newTask,
-            originWorkbasketId,
-            destinationWorkbasketId,
-            taskanaEngine.getEngine().getCurrentUserContext().getUserid(),
-            details));
+    return new TaskTransferredEvent(
+        IdGenerator.generateWithPrefix(IdGenerator.ID_PREFIX_TASK_HISTORY_EVENT),
+        newTask,
+        originWorkbasketId,
+        destinationWorkbasketId,
+        taskanaEngine.getEngine().getCurrentUserContext().getUserid(),
+        details);
   }
 
   private TaskState getStateAfterTransfer(TaskSummary taskSummary) {
@@ -0,0 +1,95 @@
+package pro.taskana.task.internal.jobs;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import pro.taskana.common.api.ScheduledJob;
+import pro.taskana.common.api.TaskanaEngine;
+import pro.taskana.common.api.exceptions.SystemException;
+import pro.taskana.common.internal.jobs.AbstractTaskanaJob;
+import pro.taskana.common.internal.transaction.TaskanaTransactionProvider;
+import pro.taskana.common.internal.util.CheckedSupplier;
+import pro.taskana.task.internal.TaskServiceImpl;
+
+/**
+ * Job to move tasks in an end state into the archive tables after a period of time.
+ *
+ * <p>The archived tasks are no longer part of the TASK table, so the queries on active tasks don't
+ * have to read them. They can still be found with {@linkplain
+ * pro.taskana.task.api.TaskQuery#includeArchived()}. The ids of the tasks to archive are read in
+ * chunks of the job batch size, ordered by id. Each chunk is archived in its own transaction. If no
+ * transaction provider is set, the chunk is still moved within one database transaction. The job
+ * stops at the first chunk which can't be archived.
+ */
+public class TaskArchiveJob extends AbstractTaskanaJob {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(TaskArchiveJob.class);
+
+  private final Duration minimumAge;
+  private final int batchSize;
+
+  public TaskArchiveJob(
+      TaskanaEngine taskanaEngine,
+      TaskanaTransactionProvider txProvider,
+      ScheduledJob scheduledJob) {
+    super(taskanaEngine, txProvider, scheduledJob, true);
+    minimumAge = taskanaEngine.getConfiguration().getTaskArchiveJobMinimumAge();
+    batchSize = taskanaEngine.getConfiguration().getJobBatchSize();
+  }
+
+  @Override
+  public void execute() {
+    Instant completedBefore = Instant.now().minus(minimumAge);
+    LOGGER.info("Running job to archive all tasks completed before ({})", completedBefore);
+    try {
+      TaskServiceImpl taskService = (TaskServiceImpl) taskanaEngineImpl.getTaskService();
+      int totalNumberOfTasksArchived = 0;
+      String lastTaskId = null;
+      List<String> chunk;
+      do {
+        chunk = taskService.findTaskIdsToArchive(completedBefore, lastTaskId, batchSize);
+        if (!chunk.isEmpty()) {
+          lastTaskId = chunk.get(chunk.size() - 1);
+          totalNumberOfTasksArchived += archiveTasksTransactionally(taskService, chunk);
+        }
+      } while (chunk.size() == batchSize);
+
+      LOGGER.info("Job ended successfully. {} tasks archived.", totalNumberOfTasksArchived);
+    } catch (Exception e) {
+      throw new SystemException("Error while processing TaskArchiveJob.", e);
+    }
+  }
+
+  @Override
+  protected String getType() {
+    return TaskArchiveJob.class.getName();
+  }
+
+  // A failed chunk is not skipped like in the TaskCleanupJob. The exception has to reach the
+  // transaction provider, so that a partially moved chunk is rolled back.
+  private int archiveTasksTransactionally(TaskServiceImpl taskService, List<String> taskIds) {
+    return TaskanaTransactionProvider.executeInTransactionIfPossible(
+        txProvider, CheckedSupplier.wrap(() -> taskService.archiveTasks(taskIds)));
+  }
+
+  @Override
+  public String toString() {
+    return "TaskArchiveJob [firstRun="
+        + firstRun
+        + ", runEvery="
+        + runEvery
+        + ", taskanaEngineImpl="
+        + taskanaEngineImpl
+        + ", txProvider="
+        + txProvider
+        + ", scheduledJob="
+        + scheduledJob
+        + ", minimumAge="
+        + minimumAge
+        + ", batchSize="
+        + batchSize
+        + "]";
+  }
+}
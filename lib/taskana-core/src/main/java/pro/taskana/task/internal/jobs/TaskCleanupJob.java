@@ -1,32 +1,37 @@
 package pro.taskana.task.internal.jobs;
 
-import static java.util.Objects.nonNull;
 import static java.util.function.Predicate.not;
 
 import java.time.Duration;
 import java.time.Instant;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import pro.taskana.TaskanaConfiguration;
-import pro.taskana.common.api.BaseQuery.SortDirection;
 import pro.taskana.common.api.BulkOperationResults;
 import pro.taskana.common.api.ScheduledJob;
 import pro.taskana.common.api.TaskanaEngine;
-import pro.taskana.common.api.TimeInterval;
 import pro.taskana.common.api.exceptions.InvalidArgumentException;
 import pro.taskana.common.api.exceptions.NotAuthorizedException;
 import pro.taskana.common.api.exceptions.SystemException;
 import pro.taskana.common.api.exceptions.TaskanaException;
 import pro.taskana.common.internal.jobs.AbstractTaskanaJob;
+import pro.taskana.common.internal.jobs.JobShard;
 import pro.taskana.common.internal.transaction.TaskanaTransactionProvider;
-import pro.taskana.common.internal.util.CollectionUtil;
 import pro.taskana.common.internal.util.LogSanitizer;
-import pro.taskana.task.api.models.TaskSummary;
-
-/** Job to cleanup completed tasks after a period of time. */
+import pro.taskana.common.internal.util.Pair;
+import pro.taskana.task.internal.TaskServiceImpl;
+
+/**
+ * Job to cleanup completed tasks after a period of time.
+ *
+ * <p>The ids of the tasks to delete are read in chunks of the job batch size, ordered by id. Each
+ * chunk is deleted in its own transaction, so the memory consumption does not depend on the number
+ * of tasks to delete. The archived tasks are deleted the same way after the active tasks.
+ */
 public class TaskCleanupJob extends AbstractTaskanaJob {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(TaskCleanupJob.class);
@@ -34,6 +39,7 @@ public class TaskCleanupJob extends AbstractTaskanaJob {
   private final Duration minimumAge;
   private final int batchSize;
   private final boolean allCompletedSameParentBusiness;
+  private final int shardCount;
 
   public TaskCleanupJob(
       TaskanaEngine taskanaEngine,
@@ -44,6 +50,7 @@ public class TaskCleanupJob extends AbstractTaskanaJob {
     batchSize = taskanaEngine.getConfiguration().getJobBatchSize();
     allCompletedSameParentBusiness =
         taskanaEngine.getConfiguration().isTaskCleanupJobAllCompletedSameParentBusiness();
+    shardCount = taskanaEngine.getConfiguration().getTaskCleanupJobShardCount();
   }
 
   @Override
@@ -51,14 +58,39 @@ public class TaskCleanupJob extends AbstractTaskanaJob {
     Instant completedBefore = Instant.now().minus(minimumAge);
     LOGGER.info("Running job to delete all tasks completed before ({})", completedBefore);
     try {
-      List<TaskSummary> tasksCompletedBefore = getTasksCompletedBefore(completedBefore);
-
-      int totalNumberOfTasksDeleted =
-          CollectionUtil.partitionBasedOnSize(tasksCompletedBefore, batchSize).stream()
-              .mapToInt(this::deleteTasksTransactionally)
-              .sum();
-
-      LOGGER.info("Job ended successfully. {} tasks deleted.", totalNumberOfTasksDeleted);
+      TaskServiceImpl taskService = (TaskServiceImpl) taskanaEngineImpl.getTaskService();
+      JobShard shard = getShard();
+      int totalNumberOfTasksDeleted = 0;
+      String lastTaskId = null;
+      List<Pair<String, String>> chunk;
+      do {
+        chunk =
+            taskService.findTaskIdsCompletedBefore(completedBefore, lastTaskId, shard, batchSize);
+        if (!chunk.isEmpty()) {
+          lastTaskId = chunk.get(chunk.size() - 1).getLeft();
+          List<String> taskIdsToDelete = getTaskIdsToDelete(taskService, chunk, completedBefore);
+          totalNumberOfTasksDeleted += deleteTasksTransactionally(taskIdsToDelete);
+        }
+      } while (chunk.size() == batchSize);
+
+      int totalNumberOfArchivedTasksDeleted = 0;
+      lastTaskId = null;
+      do {
+        chunk =
+            taskService.findArchivedTaskIdsCompletedBefore(
+                completedBefore, lastTaskId, shard, batchSize);
+        if (!chunk.isEmpty()) {
+          lastTaskId = chunk.get(chunk.size() - 1).getLeft();
+          List<String> taskIdsToDelete = getTaskIdsToDelete(taskService, chunk, completedBefore);
+          totalNumberOfArchivedTasksDeleted +=
+              deleteArchivedTasksTransactionally(taskService, taskIdsToDelete);
+        }
+      } while (chunk.size() == batchSize);
+
+      LOGGER.info(
+          "Job ended successfully. {} tasks and {} archived tasks deleted.",
+          totalNumberOfTasksDeleted,
+          totalNumberOfArchivedTasksDeleted);
     } catch (Exception e) {
       throw new SystemException("Error while processing TaskCleanupJob.", e);
     }
@@ -68,65 +100,42 @@ public class TaskCleanupJob extends AbstractTaskanaJob {
     return taskanaConfiguration.getTaskCleanupJobLockExpirationPeriod();
   }
 
+  @Override
+  protected int getShardCount() {
+    return shardCount;
+  }
+
   @Override
   protected String getType() {
     return TaskCleanupJob.class.getName();
   }
 
-  private List<TaskSummary> getTasksCompletedBefore(Instant untilDate) {
-
-    List<TaskSummary> tasksToDelete =
-        taskanaEngineImpl
-            .getTaskService()
-            .createTaskQuery()
-            .completedWithin(new TimeInterval(null, untilDate))
-            .orderByBusinessProcessId(SortDirection.ASCENDING)
-            .list();
-
-    if (allCompletedSameParentBusiness) {
-      Map<String, Long> numberParentTasksShouldHave = new HashMap<>();
-      Map<String, Long> countParentTask = new HashMap<>();
-
-      tasksToDelete.forEach(
-          task -> {
-            if (!numberParentTasksShouldHave.containsKey(task.getParentBusinessProcessId())) {
-              numberParentTasksShouldHave.put(
-                  task.getParentBusinessProcessId(),
-                  taskanaEngineImpl
-                      .getTaskService()
-                      .createTaskQuery()
-                      .parentBusinessProcessIdIn(task.getParentBusinessProcessId())
-                      .count());
-            }
-            countParentTask.merge(task.getParentBusinessProcessId(), 1L, Long::sum);
-          });
-
-      List<String> taskIdsNotAllCompletedSameParentBusiness =
-          numberParentTasksShouldHave.entrySet().stream()
-              .filter(entry -> nonNull(entry.getKey()))
-              .filter(not(entry -> entry.getKey().isEmpty()))
-              .filter(not(entry -> entry.getValue().equals(countParentTask.get(entry.getKey()))))
-              .map(Map.Entry::getKey)
-              .toList();
-
-      tasksToDelete =
-          tasksToDelete.stream()
-              .filter(
-                  taskSummary ->
-                      !taskIdsNotAllCompletedSameParentBusiness.contains(
-                          taskSummary.getParentBusinessProcessId()))
-              .toList();
+  private List<String> getTaskIdsToDelete(
+      TaskServiceImpl taskService, List<Pair<String, String>> chunk, Instant completedBefore) {
+    if (!allCompletedSameParentBusiness) {
+      return chunk.stream().map(Pair::getLeft).toList();
     }
-
-    return tasksToDelete;
+    Set<String> parentBusinessProcessIds =
+        chunk.stream()
+            .map(Pair::getRight)
+            .filter(Objects::nonNull)
+            .filter(not(String::isEmpty))
+            .collect(Collectors.toSet());
+    Set<String> parentBusinessProcessIdsNotCompleted =
+        taskService.findParentBusinessProcessIdsNotCompletedBefore(
+            parentBusinessProcessIds, completedBefore);
+    return chunk.stream()
+        .filter(not(task -> parentBusinessProcessIdsNotCompleted.contains(task.getRight())))
+        .map(Pair::getLeft)
+        .toList();
   }
 
-  private int deleteTasksTransactionally(List<TaskSummary> tasksToBeDeleted) {
+  private int deleteTasksTransactionally(List<String> tasksIdsToBeDeleted) {
     return TaskanaTransactionProvider.executeInTransactionIfPossible(
         txProvider,
         () -> {
           try {
-            return deleteTasks(tasksToBeDeleted);
+            return deleteTasks(tasksIdsToBeDeleted);
           } catch (Exception ex) {
             LOGGER.warn("Could not delete tasks.", ex);
             return 0;
@@ -134,10 +143,25 @@ public class TaskCleanupJob extends AbstractTaskanaJob {
         });
   }
 
-  private int deleteTasks(List<TaskSummary> tasksToBeDeleted)
-      throws InvalidArgumentException, NotAuthorizedException {
+  private int deleteArchivedTasksTransactionally(
+      TaskServiceImpl taskService, List<String> tasksIdsToBeDeleted) {
+    return TaskanaTransactionProvider.executeInTransactionIfPossible(
+        txProvider,
+        () -> {
+          try {
+            return taskService.deleteArchivedTasks(tasksIdsToBeDeleted);
+          } catch (Exception ex) {
+            LOGGER.warn("Could not delete archived tasks.", ex);
+            return 0;
+          }
+        });
+  }
 
-    List<String> tasksIdsToBeDeleted = tasksToBeDeleted.stream().map(TaskSummary::getId).toList();
+  private int deleteTasks(List<String> tasksIdsToBeDeleted)
+      throws InvalidArgumentException, NotAuthorizedException {
+    if (tasksIdsToBeDeleted.isEmpty()) {
+      return 0;
+    }
     BulkOperationResults<String, TaskanaException> results =
         taskanaEngineImpl.getTaskService().deleteTasks(tasksIdsToBeDeleted);
     if (LOGGER.isDebugEnabled()) {
@@ -172,6 +196,8 @@ public class TaskCleanupJob extends AbstractTaskanaJob {
         + batchSize
         + ", allCompletedSameParentBusiness="
         + allCompletedSameParentBusiness
+        + ", shardCount="
+        + shardCount
         + "]";
   }
 }
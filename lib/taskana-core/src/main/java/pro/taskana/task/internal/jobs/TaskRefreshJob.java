@@ -13,14 +13,25 @@ import pro.taskana.common.internal.jobs.AbstractTaskanaJob;
 import pro.taskana.common.internal.transaction.TaskanaTransactionProvider;
 import pro.taskana.task.internal.TaskServiceImpl;
 
-/** This class executes a job of type {@linkplain TaskRefreshJob}. */
+/**
+ * This class executes a job of type {@linkplain TaskRefreshJob}.
+ *
+ * <p>The tasks to refresh are identified by a classification and a range of task ids. Jobs which
+ * were scheduled with an explicit list of task ids are still supported.
+ */
 public class TaskRefreshJob extends AbstractTaskanaJob {
 
   public static final String TASK_IDS = "taskIds";
+  public static final String CLASSIFICATION_ID = "classificationId";
+  public static final String LAST_TASK_ID = "lastTaskId";
+  public static final String UP_TO_TASK_ID = "upToTaskId";
   public static final String PRIORITY_CHANGED = "priorityChanged";
   public static final String SERVICE_LEVEL_CHANGED = "serviceLevelChanged";
   private static final Logger LOGGER = LoggerFactory.getLogger(TaskRefreshJob.class);
   private final List<String> affectedTaskIds;
+  private final String classificationId;
+  private final String lastTaskId;
+  private final String upToTaskId;
   private final boolean priorityChanged;
   private final boolean serviceLevelChanged;
 
@@ -29,18 +40,33 @@ public class TaskRefreshJob extends AbstractTaskanaJob {
     super(engine, txProvider, job, false);
     Map<String, String> args = job.getArguments();
     String taskIdsString = args.get(TASK_IDS);
-    affectedTaskIds = Arrays.asList(taskIdsString.split(","));
+    affectedTaskIds = taskIdsString == null ? null : Arrays.asList(taskIdsString.split(","));
+    classificationId = args.get(CLASSIFICATION_ID);
+    lastTaskId = args.get(LAST_TASK_ID);
+    upToTaskId = args.get(UP_TO_TASK_ID);
     priorityChanged = Boolean.parseBoolean(args.get(PRIORITY_CHANGED));
     serviceLevelChanged = Boolean.parseBoolean(args.get(SERVICE_LEVEL_CHANGED));
   }
 
   @Override
   public void execute() throws TaskanaException {
-    LOGGER.info("Running TaskRefreshJob for {} tasks", affectedTaskIds.size());
     try {
       TaskServiceImpl taskService = (TaskServiceImpl) taskanaEngineImpl.getTaskService();
-      taskService.refreshPriorityAndDueDatesOfTasksOnClassificationUpdate(
-          affectedTaskIds, serviceLevelChanged, priorityChanged);
+      if (affectedTaskIds != null) {
+        LOGGER.info("Running TaskRefreshJob for {} tasks", affectedTaskIds.size());
+        taskService.refreshPriorityAndDueDatesOfTasksOnClassificationUpdate(
+            affectedTaskIds, serviceLevelChanged, priorityChanged);
+      } else {
+        LOGGER.info(
+            "Running TaskRefreshJob for classification ({}) and tasks ({}, {}]",
+            classificationId,
+            lastTaskId,
+            upToTaskId);
+        int refreshedTasks =
+            taskService.refreshPriorityAndDueDatesOfTasksOnClassificationUpdate(
+                classificationId, lastTaskId, upToTaskId, serviceLevelChanged, priorityChanged);
+        LOGGER.info("Refreshed {} tasks", refreshedTasks);
+      }
       LOGGER.info("TaskRefreshJob ended successfully.");
     } catch (Exception e) {
       throw new SystemException("Error while processing TaskRefreshJob.", e);
@@ -66,6 +92,12 @@ public class TaskRefreshJob extends AbstractTaskanaJob {
         + scheduledJob
         + ", affectedTaskIds="
         + affectedTaskIds
+        + ", classificationId="
+        + classificationId
+        + ", lastTaskId="
+        + lastTaskId
+        + ", upToTaskId="
+        + upToTaskId
         + ", priorityChanged="
         + priorityChanged
         + ", serviceLevelChanged="
@@ -1,24 +1,49 @@
 package pro.taskana.task.internal.jobs;
 
-import static pro.taskana.common.internal.util.CollectionUtil.partitionBasedOnSize;
-
 import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import pro.taskana.TaskanaConfiguration;
 import pro.taskana.common.api.ScheduledJob;
 import pro.taskana.common.api.TaskanaEngine;
 import pro.taskana.common.api.exceptions.SystemException;
+import pro.taskana.common.internal.JobServiceImpl;
 import pro.taskana.common.internal.jobs.AbstractTaskanaJob;
+import pro.taskana.common.internal.jobs.JobShard;
 import pro.taskana.common.internal.transaction.TaskanaTransactionProvider;
+import pro.taskana.common.internal.util.Pair;
+import pro.taskana.task.api.models.TaskSummary;
 import pro.taskana.task.internal.jobs.helper.TaskUpdatePriorityWorker;
 
-/** Job to recalculate the priority of each task that is not in an endstate. */
+/**
+ * Job to recalculate the priority of each task that is not in an endstate.
+ *
+ * <p>The relevant tasks are read page by page ordered by their id. Each page is handed to one of
+ * the configured workers, which calculates and updates the priorities using its own connection.
+ * With more than one worker the {@linkplain pro.taskana.spi.priority.api.PriorityServiceProvider
+ * PriorityServiceProviders} are called concurrently and therefore have to be thread-safe. After a
+ * page and all pages before it have been processed, its last task id is stored in the arguments of
+ * the {@linkplain ScheduledJob} within the transaction of the job. If the job fails and is run
+ * again, it resumes after that task id.
+ */
 public class TaskUpdatePriorityJob extends AbstractTaskanaJob {
 
+  public static final String LAST_PROCESSED_TASK_ID = "lastProcessedTaskId";
+
   private static final Logger LOGGER = LoggerFactory.getLogger(TaskUpdatePriorityJob.class);
 
   private final int batchSize;
+  private final int workerCount;
+  private final int shardCount;
 
   public TaskUpdatePriorityJob(TaskanaEngine taskanaEngine) {
     this(taskanaEngine, null, null);
@@ -30,6 +55,8 @@ public class TaskUpdatePriorityJob extends AbstractTaskanaJob {
       ScheduledJob scheduledJob) {
     super(taskanaEngine, txProvider, scheduledJob, true);
     batchSize = taskanaEngine.getConfiguration().getTaskUpdatePriorityJobBatchSize();
+    workerCount = taskanaEngine.getConfiguration().getTaskUpdatePriorityJobWorkerCount();
+    shardCount = taskanaEngine.getConfiguration().getTaskUpdatePriorityJobShardCount();
     runEvery = taskanaEngine.getConfiguration().getTaskUpdatePriorityJobRunEvery();
     firstRun = taskanaEngine.getConfiguration().getTaskUpdatePriorityJobFirstRun();
   }
@@ -37,13 +64,38 @@ public class TaskUpdatePriorityJob extends AbstractTaskanaJob {
   @Override
   public void execute() {
     TaskUpdatePriorityWorker worker = new TaskUpdatePriorityWorker(taskanaEngineImpl);
-    LOGGER.info("Running job to calculate all non finished task priorities");
+    JobShard shard = getShard();
+    LOGGER.info("Running job to calculate all non finished task priorities ({})", shard);
+    ExecutorService executorService =
+        workerCount > 1 ? Executors.newFixedThreadPool(workerCount) : null;
+    Executor executor = executorService != null ? executorService : Runnable::run;
     try {
-      partitionBasedOnSize(worker.getAllRelevantTaskIds(), getBatchSize())
-          .forEach(worker::executeBatch);
+      Deque<Pair<String, CompletableFuture<List<String>>>> pendingBatches = new ArrayDeque<>();
+      String lastTaskId = getLastProcessedTaskId();
+      List<String> taskIds = worker.getRelevantTaskIdsAfter(lastTaskId, batchSize, shard);
+      while (!taskIds.isEmpty()) {
+        lastTaskId = taskIds.get(taskIds.size() - 1);
+        List<TaskSummary> taskSummaries = worker.getTaskSummariesByIds(taskIds);
+        pendingBatches.add(
+            Pair.of(
+                lastTaskId,
+                CompletableFuture.supplyAsync(
+                    () -> worker.updatePriorities(taskSummaries), executor)));
+        if (pendingBatches.size() >= workerCount) {
+          awaitOldestBatch(pendingBatches);
+        }
+        taskIds = worker.getRelevantTaskIdsAfter(lastTaskId, batchSize, shard);
+      }
+      while (!pendingBatches.isEmpty()) {
+        awaitOldestBatch(pendingBatches);
+      }
       LOGGER.info("Job to update priority of tasks has finished.");
     } catch (Exception e) {
       throw new SystemException("Error while processing TaskUpdatePriorityJob.", e);
+    } finally {
+      if (executorService != null) {
+        executorService.shutdownNow();
+      }
     }
   }
 
@@ -55,6 +107,15 @@ public class TaskUpdatePriorityJob extends AbstractTaskanaJob {
     return batchSize;
   }
 
+  public int getWorkerCount() {
+    return workerCount;
+  }
+
+  @Override
+  protected int getShardCount() {
+    return shardCount;
+  }
+
   @Override
   protected String getType() {
     return TaskUpdatePriorityJob.class.getName();
@@ -74,6 +135,41 @@ public class TaskUpdatePriorityJob extends AbstractTaskanaJob {
         + scheduledJob
         + ", batchSize="
         + batchSize
+        + ", workerCount="
+        + workerCount
+        + ", shardCount="
+        + shardCount
         + "]";
   }
+
+  private void awaitOldestBatch(
+      Deque<Pair<String, CompletableFuture<List<String>>>> pendingBatches) {
+    Pair<String, CompletableFuture<List<String>>> batch = pendingBatches.poll();
+    batch.getRight().join();
+    saveLastProcessedTaskId(batch.getLeft());
+  }
+
+  private String getLastProcessedTaskId() {
+    if (scheduledJob == null || scheduledJob.getArguments() == null) {
+      return null;
+    }
+    String lastProcessedTaskId = scheduledJob.getArguments().get(LAST_PROCESSED_TASK_ID);
+    if (lastProcessedTaskId != null) {
+      LOGGER.info("Resuming job to update priority of tasks after task {}", lastProcessedTaskId);
+    }
+    return lastProcessedTaskId;
+  }
+
+  private void saveLastProcessedTaskId(String lastProcessedTaskId) {
+    if (scheduledJob == null || scheduledJob.getJobId() == null) {
+      return;
+    }
+    Map<String, String> arguments = new HashMap<>();
+    if (scheduledJob.getArguments() != null) {
+      arguments.putAll(scheduledJob.getArguments());
+    }
+    arguments.put(LAST_PROCESSED_TASK_ID, lastProcessedTaskId);
+    scheduledJob.setArguments(arguments);
+    ((JobServiceImpl) taskanaEngineImpl.getJobService()).updateJobArguments(scheduledJob);
+  }
 }
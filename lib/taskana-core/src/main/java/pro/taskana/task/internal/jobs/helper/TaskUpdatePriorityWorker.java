@@ -2,13 +2,18 @@ package pro.taskana.task.internal.jobs.helper;
 
 import static java.util.Objects.nonNull;
 
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.OptionalInt;
 import java.util.function.IntPredicate;
+import java.util.stream.Collectors;
 import pro.taskana.common.api.BaseQuery.SortDirection;
 import pro.taskana.common.api.TaskanaEngine;
 import pro.taskana.common.internal.TaskanaEngineImpl;
+import pro.taskana.common.internal.jobs.JobShard;
 import pro.taskana.spi.priority.internal.PriorityServiceManager;
 import pro.taskana.task.api.TaskQueryColumnName;
 import pro.taskana.task.api.TaskState;
@@ -27,15 +32,31 @@ public class TaskUpdatePriorityWorker {
   }
 
   public List<String> executeBatch(List<String> taskIds) {
+    return updatePriorities(getTaskSummariesByIds(taskIds));
+  }
+
+  /**
+   * Calculates the priorities of the given tasks and writes the changed ones to the database. The
+   * PriorityServiceProviders are called once for all tasks. The update uses its own connection and
+   * {@linkplain TaskUpdatePriorityBatchStatement}. Therefore, this method may be called
+   * concurrently for disjoint lists of tasks.
+   *
+   * @param taskSummaries the tasks whose priority should be recalculated
+   * @return the ids of all tasks whose priority was changed
+   */
+  public List<String> updatePriorities(List<TaskSummary> taskSummaries) {
     List<String> updatedTaskIds = new ArrayList<>();
     sqlConnectionRunner.runWithConnection(
         connection -> {
           TaskUpdatePriorityBatchStatement taskUpdateBatch =
               new TaskUpdatePriorityBatchStatement(connection);
 
-          List<TaskSummary> list = getTaskSummariesByIds(taskIds);
-          for (TaskSummary taskSummary : list) {
-            OptionalInt calculatedPriority = getCalculatedPriority(taskSummary);
+          List<OptionalInt> calculatedPriorities =
+              priorityServiceManager.calculatePrioritiesOfTasks(taskSummaries);
+          for (int i = 0; i < taskSummaries.size(); i++) {
+            TaskSummary taskSummary = taskSummaries.get(i);
+            OptionalInt calculatedPriority =
+                filterChangedPriority(taskSummary, calculatedPriorities.get(i));
             if (calculatedPriority.isPresent()) {
               final String taskId = taskSummary.getId();
               updatedTaskIds.add(taskId);
@@ -54,7 +75,52 @@ public class TaskUpdatePriorityWorker {
   }
 
   /**
-   * This will return all relevant task ids. This may result in a LOT! of ids
+   * Returns the next page of relevant task ids using keyset pagination. The ids are sorted
+   * ascending and all of them are greater than the given task id.
+   *
+   * @param lastTaskId the last task id of the previous page or null for the first page
+   * @param limit the maximum number of task ids to return
+   * @return list of task ids.
+   */
+  public List<String> getRelevantTaskIdsAfter(String lastTaskId, int limit) {
+    return getRelevantTaskIdsAfter(lastTaskId, limit, null);
+  }
+
+  /**
+   * Returns the next page of relevant task ids of the given shard using keyset pagination.
+   *
+   * @param lastTaskId the last task id of the previous page or null for the first page
+   * @param limit the maximum number of task ids to return
+   * @param shard the shard the task ids have to belong to or null for all task ids
+   * @return list of task ids.
+   * @see #getRelevantTaskIdsAfter(String, int)
+   */
+  public List<String> getRelevantTaskIdsAfter(String lastTaskId, int limit, JobShard shard) {
+    List<String> taskIds = new ArrayList<>();
+    sqlConnectionRunner.runWithConnection(
+        connection -> {
+          try (PreparedStatement statement =
+              connection.prepareStatement(createRelevantTaskIdsSql(lastTaskId, limit, shard))) {
+            int index = 1;
+            for (TaskState state : TaskState.END_STATES) {
+              statement.setString(index++, state.name());
+            }
+            if (lastTaskId != null) {
+              statement.setString(index, lastTaskId);
+            }
+            try (ResultSet resultSet = statement.executeQuery()) {
+              while (resultSet.next()) {
+                taskIds.add(resultSet.getString(1));
+              }
+            }
+          }
+        });
+    return taskIds;
+  }
+
+  /**
+   * This will return all relevant task ids. This may result in a LOT! of ids. Use {@linkplain
+   * #getRelevantTaskIdsAfter(String, int)} to load them page by page.
    *
    * @return list of task ids.
    */
@@ -75,7 +141,16 @@ public class TaskUpdatePriorityWorker {
   }
 
   public OptionalInt getCalculatedPriority(TaskSummary taskSummary) {
-    OptionalInt computedPriority = priorityServiceManager.calculatePriorityOfTask(taskSummary);
+    return filterChangedPriority(
+        taskSummary, priorityServiceManager.calculatePriorityOfTask(taskSummary));
+  }
+
+  public static IntPredicate hasDifferentPriority(TaskSummary taskSummary) {
+    return prio -> nonNull(taskSummary) && prio != taskSummary.getPriority();
+  }
+
+  private static OptionalInt filterChangedPriority(
+      TaskSummary taskSummary, OptionalInt computedPriority) {
     if (computedPriority.isPresent()
         && hasDifferentPriority(taskSummary).test(computedPriority.getAsInt())) {
       return computedPriority;
@@ -83,7 +158,16 @@ public class TaskUpdatePriorityWorker {
     return OptionalInt.empty();
   }
 
-  public static IntPredicate hasDifferentPriority(TaskSummary taskSummary) {
-    return prio -> nonNull(taskSummary) && prio != taskSummary.getPriority();
+  private static String createRelevantTaskIdsSql(String lastTaskId, int limit, JobShard shard) {
+    String stateParameters =
+        Arrays.stream(TaskState.END_STATES).map(state -> "?").collect(Collectors.joining(", "));
+    return "SELECT ID FROM TASK WHERE STATE NOT IN ("
+        + stateParameters
+        + ")"
+        + (lastTaskId == null ? "" : " AND ID > ?")
+        + (shard == null ? "" : " AND " + shard.toSqlCondition("ID"))
+        + " ORDER BY ID FETCH FIRST "
+        + limit
+        + " ROWS ONLY";
   }
 }
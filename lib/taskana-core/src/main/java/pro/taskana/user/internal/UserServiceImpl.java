@@ -2,6 +2,8 @@ package pro.taskana.user.internal;
 
 import static pro.taskana.common.internal.util.CheckedSupplier.wrap;
 
+import java.sql.Connection;
+import java.sql.SQLException;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
@@ -15,7 +17,9 @@ import pro.taskana.common.api.BaseQuery.SortDirection;
 import pro.taskana.common.api.TaskanaRole;
 import pro.taskana.common.api.exceptions.InvalidArgumentException;
 import pro.taskana.common.api.exceptions.NotAuthorizedException;
+import pro.taskana.common.api.exceptions.SystemException;
 import pro.taskana.common.internal.InternalTaskanaEngine;
+import pro.taskana.common.internal.util.CheckedConsumer;
 import pro.taskana.common.internal.util.LogSanitizer;
 import pro.taskana.user.api.UserService;
 import pro.taskana.user.api.exceptions.UserAlreadyExistException;
@@ -98,8 +102,7 @@ public class UserServiceImpl implements UserService {
     internalTaskanaEngine
         .getEngine()
         .checkRoleMembership(TaskanaRole.BUSINESS_ADMIN, TaskanaRole.ADMIN);
-    validateFields(userToCreate);
-    standardCreateActions(userToCreate);
+    prepareNewUser(userToCreate);
     insertIntoDatabase(userToCreate);
     ((UserImpl) userToCreate).setDomains(determineDomains(userToCreate));
 
@@ -164,6 +167,39 @@ public class UserServiceImpl implements UserService {
     }
   }
 
+  /**
+   * Runs the given action with the connection of the TASKANA session in one transaction. If a
+   * transaction is already active, e.g. the one of a job, the action becomes part of it. This is
+   * used by the refresh of all users from LDAP, which writes the user tables with JDBC batches.
+   *
+   * @param action the action to run with the connection
+   * @throws SystemException if the action throws a {@linkplain SQLException}
+   */
+  public void executeInTransaction(CheckedConsumer<Connection, SQLException> action) {
+    internalTaskanaEngine.executeInDatabaseTransaction(
+        () -> {
+          try {
+            action.accept(internalTaskanaEngine.getSqlSession().getConnection());
+          } catch (SQLException e) {
+            throw new SystemException("Error while writing the user tables.", e);
+          }
+          return null;
+        });
+  }
+
+  /**
+   * Validates a new {@linkplain User} and sets the defaults of its full name and long name. If
+   * access ids are stored in lower case, its id, groups and permissions are converted to lower
+   * case. This is shared by {@linkplain #createUser(User)} and the refresh of all users from LDAP.
+   *
+   * @param user the {@linkplain User} which is about to be stored
+   * @throws InvalidArgumentException if the id, the first name or the last name is missing
+   */
+  public static void prepareNewUser(User user) throws InvalidArgumentException {
+    validateFields(user);
+    standardCreateActions(user);
+  }
+
   private Set<String> determineDomains(User user) {
     Set<String> accessIds = new HashSet<>(user.getGroups());
     accessIds.addAll(user.getPermissions());
@@ -205,7 +241,7 @@ public class UserServiceImpl implements UserService {
     }
   }
 
-  private void validateFields(User userToValidate) throws InvalidArgumentException {
+  private static void validateFields(User userToValidate) throws InvalidArgumentException {
     if (userToValidate.getId() == null || userToValidate.getId().isEmpty()) {
       throw new InvalidArgumentException(
           "UserId must not be empty when creating or updating User.");
@@ -215,7 +251,7 @@ public class UserServiceImpl implements UserService {
     }
   }
 
-  private void standardCreateActions(User user) {
+  private static void standardCreateActions(User user) {
     if (user.getFullName() == null || user.getFullName().isEmpty()) {
       user.setFullName(user.getLastName() + ", " + user.getFirstName());
     }
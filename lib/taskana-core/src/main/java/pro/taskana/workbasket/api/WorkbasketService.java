@@ -1,7 +1,9 @@
 package pro.taskana.workbasket.api;
 
+import java.util.Collection;
 import java.util.List;
 import pro.taskana.common.api.BulkOperationResults;
+import pro.taskana.common.api.KeyDomain;
 import pro.taskana.common.api.TaskanaRole;
 import pro.taskana.common.api.exceptions.ConcurrencyException;
 import pro.taskana.common.api.exceptions.DomainNotFoundException;
@@ -475,6 +477,41 @@ public interface WorkbasketService {
   void checkAuthorization(String workbasketKey, String domain, WorkbasketPermission... permission)
       throws WorkbasketNotFoundException, NotAuthorizedOnWorkbasketException;
 
+  /**
+   * This method checks the authorization for the actual User on multiple {@linkplain Workbasket
+   * Workbaskets} at once. Existence and {@linkplain WorkbasketPermission permissions} of all
+   * {@linkplain Workbasket Workbaskets} are resolved with a single query.
+   *
+   * @param workbasketIds the {@linkplain Workbasket#getId() ids} of the {@linkplain Workbasket
+   *     Workbaskets} we want to access
+   * @param permission the needed {@linkplain WorkbasketPermission}; if more than one {@linkplain
+   *     WorkbasketPermission permission} is specified, the current user needs all of them
+   * @return the result of the checks; it contains a {@linkplain WorkbasketNotFoundException} for
+   *     every {@linkplain Workbasket#getId() id} which cannot be found and a {@linkplain
+   *     NotAuthorizedOnWorkbasketException} for every {@linkplain Workbasket} the current user has
+   *     not the requested authorization for
+   */
+  BulkOperationResults<String, TaskanaException> checkAuthorization(
+      Collection<String> workbasketIds, WorkbasketPermission... permission);
+
+  /**
+   * This method checks the authorization for the actual User on multiple {@linkplain Workbasket
+   * Workbaskets} at once. Existence and {@linkplain WorkbasketPermission permissions} of all
+   * {@linkplain Workbasket Workbaskets} are resolved with a single query.
+   *
+   * @param keyDomains the {@linkplain Workbasket#getKey() keys} and {@linkplain
+   *     Workbasket#getDomain() domains} of the {@linkplain Workbasket Workbaskets} we want to
+   *     access
+   * @param permission the needed {@linkplain WorkbasketPermission}; if more than one {@linkplain
+   *     WorkbasketPermission permission} is specified, the current user needs all of them
+   * @return the result of the checks; it contains a {@linkplain WorkbasketNotFoundException} for
+   *     every {@linkplain KeyDomain} which cannot be found and a {@linkplain
+   *     NotAuthorizedOnWorkbasketException} for every {@linkplain Workbasket} the current user has
+   *     not the requested authorization for
+   */
+  BulkOperationResults<KeyDomain, TaskanaException> checkAuthorizationByKeyDomain(
+      Collection<KeyDomain> keyDomains, WorkbasketPermission... permission);
+
   // endregion
 
 }
@@ -1,5 +1,6 @@
 package pro.taskana.workbasket.internal;
 
+import java.util.Collection;
 import java.util.List;
 import org.apache.ibatis.annotations.DeleteProvider;
 import org.apache.ibatis.annotations.InsertProvider;
@@ -8,7 +9,9 @@ import org.apache.ibatis.annotations.Param;
 import org.apache.ibatis.annotations.Result;
 import org.apache.ibatis.annotations.SelectProvider;
 import org.apache.ibatis.annotations.UpdateProvider;
+import pro.taskana.common.api.KeyDomain;
 import pro.taskana.workbasket.internal.models.WorkbasketAccessItemImpl;
+import pro.taskana.workbasket.internal.models.WorkbasketPermissionSummary;
 
 /** This class is the mybatis mapping of workbasket access items. */
 @SuppressWarnings("checkstyle:LineLength")
@@ -168,4 +171,62 @@ public interface WorkbasketAccessMapper {
       @Param("workbasketKey") String workbasketKey,
       @Param("domain") String domain,
       @Param("accessIds") List<String> accessIds);
+
+  @SelectProvider(
+      type = WorkbasketAccessSqlProvider.class,
+      method = "findPermissionSummariesByWorkbasketIdsAndAccessIds")
+  @Result(property = "workbasketId", column = "ID")
+  @Result(property = "key", column = "KEY")
+  @Result(property = "domain", column = "DOMAIN")
+  @Result(property = "accessItem.permRead", column = "PERM_READ")
+  @Result(property = "accessItem.permReadTasks", column = "PERM_READTASKS")
+  @Result(property = "accessItem.permEditTasks", column = "PERM_EDITTASKS")
+  @Result(property = "accessItem.permOpen", column = "PERM_OPEN")
+  @Result(property = "accessItem.permAppend", column = "PERM_APPEND")
+  @Result(property = "accessItem.permTransfer", column = "PERM_TRANSFER")
+  @Result(property = "accessItem.permDistribute", column = "PERM_DISTRIBUTE")
+  @Result(property = "accessItem.permCustom1", column = "PERM_CUSTOM_1")
+  @Result(property = "accessItem.permCustom2", column = "PERM_CUSTOM_2")
+  @Result(property = "accessItem.permCustom3", column = "PERM_CUSTOM_3")
+  @Result(property = "accessItem.permCustom4", column = "PERM_CUSTOM_4")
+  @Result(property = "accessItem.permCustom5", column = "PERM_CUSTOM_5")
+  @Result(property = "accessItem.permCustom6", column = "PERM_CUSTOM_6")
+  @Result(property = "accessItem.permCustom7", column = "PERM_CUSTOM_7")
+  @Result(property = "accessItem.permCustom8", column = "PERM_CUSTOM_8")
+  @Result(property = "accessItem.permCustom9", column = "PERM_CUSTOM_9")
+  @Result(property = "accessItem.permCustom10", column = "PERM_CUSTOM_10")
+  @Result(property = "accessItem.permCustom11", column = "PERM_CUSTOM_11")
+  @Result(property = "accessItem.permCustom12", column = "PERM_CUSTOM_12")
+  List<WorkbasketPermissionSummary> findPermissionSummariesByWorkbasketIdsAndAccessIds(
+      @Param("workbasketIds") Collection<String> workbasketIds,
+      @Param("accessIds") List<String> accessIds);
+
+  @SelectProvider(
+      type = WorkbasketAccessSqlProvider.class,
+      method = "findPermissionSummariesByKeyDomainsAndAccessIds")
+  @Result(property = "workbasketId", column = "ID")
+  @Result(property = "key", column = "KEY")
+  @Result(property = "domain", column = "DOMAIN")
+  @Result(property = "accessItem.permRead", column = "PERM_READ")
+  @Result(property = "accessItem.permReadTasks", column = "PERM_READTASKS")
+  @Result(property = "accessItem.permEditTasks", column = "PERM_EDITTASKS")
+  @Result(property = "accessItem.permOpen", column = "PERM_OPEN")
+  @Result(property = "accessItem.permAppend", column = "PERM_APPEND")
+  @Result(property = "accessItem.permTransfer", column = "PERM_TRANSFER")
+  @Result(property = "accessItem.permDistribute", column = "PERM_DISTRIBUTE")
+  @Result(property = "accessItem.permCustom1", column = "PERM_CUSTOM_1")
+  @Result(property = "accessItem.permCustom2", column = "PERM_CUSTOM_2")
+  @Result(property = "accessItem.permCustom3", column = "PERM_CUSTOM_3")
+  @Result(property = "accessItem.permCustom4", column = "PERM_CUSTOM_4")
+  @Result(property = "accessItem.permCustom5", column = "PERM_CUSTOM_5")
+  @Result(property = "accessItem.permCustom6", column = "PERM_CUSTOM_6")
+  @Result(property = "accessItem.permCustom7", column = "PERM_CUSTOM_7")
+  @Result(property = "accessItem.permCustom8", column = "PERM_CUSTOM_8")
+  @Result(property = "accessItem.permCustom9", column = "PERM_CUSTOM_9")
+  @Result(property = "accessItem.permCustom10", column = "PERM_CUSTOM_10")
+  @Result(property = "accessItem.permCustom11", column = "PERM_CUSTOM_11")
+  @Result(property = "accessItem.permCustom12", column = "PERM_CUSTOM_12")
+  List<WorkbasketPermissionSummary> findPermissionSummariesByKeyDomainsAndAccessIds(
+      @Param("keyDomains") Collection<KeyDomain> keyDomains,
+      @Param("accessIds") List<String> accessIds);
 }
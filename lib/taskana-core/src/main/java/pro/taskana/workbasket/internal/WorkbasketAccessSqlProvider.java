@@ -145,6 +145,27 @@ public class WorkbasketAccessSqlProvider {
         + CLOSING_SCRIPT_TAG;
   }
 
+  public static String findPermissionSummariesByWorkbasketIdsAndAccessIds() {
+    return OPENING_SCRIPT_TAG
+        + permissionSummarySelectStatement()
+        + "WHERE WB.ID IN "
+        + "(<foreach item='item' collection='workbasketIds' separator=',' >#{item}</foreach>) "
+        + "GROUP BY WB.ID, WB.KEY, WB.DOMAIN "
+        + DB2_WITH_UR
+        + CLOSING_SCRIPT_TAG;
+  }
+
+  public static String findPermissionSummariesByKeyDomainsAndAccessIds() {
+    return OPENING_SCRIPT_TAG
+        + permissionSummarySelectStatement()
+        + "WHERE <foreach item='item' collection='keyDomains' separator=' OR ' >"
+        + "(UPPER(WB.KEY) = UPPER(#{item.key}) AND UPPER(WB.DOMAIN) = UPPER(#{item.domain}))"
+        + "</foreach> "
+        + "GROUP BY WB.ID, WB.KEY, WB.DOMAIN "
+        + DB2_WITH_UR
+        + CLOSING_SCRIPT_TAG;
+  }
+
   private static String commonUpdateStatement() {
     return Stream.concat(COLUMNS.stream(), PERMISSIONS.stream())
         .map(col -> col.getLeft() + " = " + col.getRight())
@@ -171,6 +192,27 @@ public class WorkbasketAccessSqlProvider {
         .collect(Collectors.joining(", ", "", " "));
   }
 
+  private static String permissionSummarySelectStatement() {
+    return "<choose>"
+        + "<when test=\"_databaseId == 'db2' || _databaseId == 'oracle'\">"
+        + "SELECT WB.ID, WB.KEY, WB.DOMAIN, "
+        + getMaximumPermissionStatement(false)
+        + "</when>"
+        + "<otherwise>"
+        + "SELECT WB.ID, WB.KEY, WB.DOMAIN, "
+        + getMaximumPermissionStatement(true)
+        + "</otherwise>"
+        + "</choose>"
+        + "FROM WORKBASKET WB "
+        + "LEFT JOIN WORKBASKET_ACCESS_LIST WBA ON WBA.WORKBASKET_ID = WB.ID AND "
+        + "<choose>"
+        + "<when test='accessIds.isEmpty()'>1 = 0 </when>"
+        + "<otherwise>WBA.ACCESS_ID IN "
+        + "(<foreach item='item' collection='accessIds' separator=',' >#{item}</foreach>) "
+        + "</otherwise>"
+        + "</choose>";
+  }
+
   private static String commonSelectStatements() {
     return Stream.concat(COLUMNS.stream(), PERMISSIONS.stream())
         .map(Pair::getLeft)
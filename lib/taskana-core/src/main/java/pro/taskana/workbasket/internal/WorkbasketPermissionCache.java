@@ -0,0 +1,157 @@
+package pro.taskana.workbasket.internal;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import pro.taskana.common.api.KeyDomain;
+import pro.taskana.common.internal.util.Pair;
+import pro.taskana.workbasket.api.WorkbasketPermission;
+
+/**
+ * Engine-wide cache for the permissions granted on a workbasket to a set of access ids.
+ *
+ * <p>Entries are keyed by the workbasket (either its id or its {@linkplain KeyDomain}) and the
+ * sorted access ids of the current user. The cache is bounded and evicts the least recently used
+ * entry. Since several TASKANA instances may share one database, every change of an access item
+ * increments the version stored in the CACHE_VERSION table. The version is compared against the
+ * last known one at most once per configured interval and the cache is cleared on a mismatch.
+ */
+public class WorkbasketPermissionCache {
+
+  public static final String CACHE_NAME = "WORKBASKET_PERMISSION";
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(WorkbasketPermissionCache.class);
+
+  private final boolean enabled;
+  private final long versionCheckIntervalNanos;
+  private final Map<Pair<Object, List<String>>, List<WorkbasketPermission>> entries;
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder invalidations = new LongAdder();
+  private Long knownVersion;
+  private long lastVersionCheck;
+
+  public WorkbasketPermissionCache(boolean enabled, int maxSize, Duration versionCheckInterval) {
+    this.enabled = enabled;
+    this.versionCheckIntervalNanos = versionCheckInterval.toNanos();
+    this.entries =
+        new LinkedHashMap<>(16, 0.75f, true) {
+          @Override
+          protected boolean removeEldestEntry(
+              Map.Entry<Pair<Object, List<String>>, List<WorkbasketPermission>> eldest) {
+            return size() > maxSize;
+          }
+        };
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * Returns the cached permissions for the given workbasket and access ids.
+   *
+   * @param workbasket the id or {@linkplain KeyDomain} of the workbasket
+   * @param accessIds the access ids of the current user
+   * @return the granted permissions or null if nothing is cached
+   */
+  public List<WorkbasketPermission> get(Object workbasket, Collection<String> accessIds) {
+    if (!enabled) {
+      return null;
+    }
+    List<WorkbasketPermission> permissions;
+    synchronized (entries) {
+      permissions = entries.get(createKey(workbasket, accessIds));
+    }
+    if (permissions == null) {
+      misses.increment();
+    } else {
+      hits.increment();
+    }
+    return permissions;
+  }
+
+  public void put(
+      Object workbasket, Collection<String> accessIds, List<WorkbasketPermission> permissions) {
+    if (!enabled) {
+      return;
+    }
+    synchronized (entries) {
+      entries.put(createKey(workbasket, accessIds), List.copyOf(permissions));
+    }
+  }
+
+  /**
+   * Clears the cache if the version provided by the given supplier differs from the last known one.
+   * The supplier is only consulted once per configured version check interval.
+   *
+   * @param currentVersion supplies the version currently stored in the database
+   */
+  public void validate(Supplier<Long> currentVersion) {
+    if (!enabled) {
+      return;
+    }
+    long now = System.nanoTime();
+    synchronized (this) {
+      if (knownVersion != null && now - lastVersionCheck < versionCheckIntervalNanos) {
+        return;
+      }
+      Long version = currentVersion.get();
+      if (knownVersion != null && !knownVersion.equals(version)) {
+        if (LOGGER.isDebugEnabled()) {
+          LOGGER.debug(
+              "Version of {} changed from {} to {}. Clearing cache.",
+              CACHE_NAME,
+              knownVersion,
+              version);
+        }
+        invalidate();
+      }
+      knownVersion = version;
+      lastVersionCheck = now;
+    }
+  }
+
+  /** Removes all entries from this cache. */
+  public void invalidate() {
+    if (!enabled) {
+      return;
+    }
+    synchronized (entries) {
+      entries.clear();
+    }
+    invalidations.increment();
+  }
+
+  public long getHitCount() {
+    return hits.sum();
+  }
+
+  public long getMissCount() {
+    return misses.sum();
+  }
+
+  public long getInvalidationCount() {
+    return invalidations.sum();
+  }
+
+  public int size() {
+    synchronized (entries) {
+      return entries.size();
+    }
+  }
+
+  private static Pair<Object, List<String>> createKey(
+      Object workbasket, Collection<String> accessIds) {
+    List<String> sortedAccessIds = new ArrayList<>(accessIds);
+    sortedAccessIds.sort(null);
+    return Pair.of(workbasket, sortedAccessIds);
+  }
+}
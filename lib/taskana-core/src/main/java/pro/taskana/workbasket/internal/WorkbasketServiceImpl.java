@@ -2,13 +2,16 @@ package pro.taskana.workbasket.internal;
 
 import static pro.taskana.common.api.SharedConstants.MASTER_DOMAIN;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Stream;
 import org.apache.ibatis.exceptions.PersistenceException;
@@ -16,13 +19,17 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import pro.taskana.TaskanaConfiguration;
 import pro.taskana.common.api.BulkOperationResults;
+import pro.taskana.common.api.KeyDomain;
 import pro.taskana.common.api.TaskanaRole;
 import pro.taskana.common.api.exceptions.ConcurrencyException;
 import pro.taskana.common.api.exceptions.DomainNotFoundException;
 import pro.taskana.common.api.exceptions.InvalidArgumentException;
 import pro.taskana.common.api.exceptions.NotAuthorizedException;
 import pro.taskana.common.api.exceptions.TaskanaException;
+import pro.taskana.common.internal.CacheVersionMapper;
 import pro.taskana.common.internal.InternalTaskanaEngine;
+import pro.taskana.common.internal.SummaryCache;
+import pro.taskana.common.internal.util.CollectionUtil;
 import pro.taskana.common.internal.util.IdGenerator;
 import pro.taskana.common.internal.util.LogSanitizer;
 import pro.taskana.common.internal.util.ObjectAttributeChangeDetector;
@@ -54,30 +61,60 @@ import pro.taskana.workbasket.api.models.WorkbasketAccessItem;
 import pro.taskana.workbasket.api.models.WorkbasketSummary;
 import pro.taskana.workbasket.internal.models.WorkbasketAccessItemImpl;
 import pro.taskana.workbasket.internal.models.WorkbasketImpl;
+import pro.taskana.workbasket.internal.models.WorkbasketPermissionSummary;
 import pro.taskana.workbasket.internal.models.WorkbasketSummaryImpl;
 
 /** This is the implementation of WorkbasketService. */
 public class WorkbasketServiceImpl implements WorkbasketService {
 
+  public static final String SUMMARY_CACHE_NAME = "WORKBASKET_SUMMARY";
+
   private static final Logger LOGGER = LoggerFactory.getLogger(WorkbasketServiceImpl.class);
+  private static final int MAX_IN_LIST_SIZE = 1000;
 
   private final InternalTaskanaEngine taskanaEngine;
   private final WorkbasketMapper workbasketMapper;
   private final DistributionTargetMapper distributionTargetMapper;
   private final WorkbasketAccessMapper workbasketAccessMapper;
   private final HistoryEventManager historyEventManager;
+  private final CacheVersionMapper cacheVersionMapper;
+  private final WorkbasketPermissionCache permissionCache;
+  private final SummaryCache<WorkbasketSummary> summaryCache;
 
   public WorkbasketServiceImpl(
       InternalTaskanaEngine taskanaEngine,
       HistoryEventManager historyEventManager,
       WorkbasketMapper workbasketMapper,
       DistributionTargetMapper distributionTargetMapper,
-      WorkbasketAccessMapper workbasketAccessMapper) {
+      WorkbasketAccessMapper workbasketAccessMapper,
+      CacheVersionMapper cacheVersionMapper,
+      WorkbasketPermissionCache permissionCache,
+      SummaryCache<WorkbasketSummary> summaryCache) {
     this.taskanaEngine = taskanaEngine;
     this.workbasketMapper = workbasketMapper;
     this.distributionTargetMapper = distributionTargetMapper;
     this.workbasketAccessMapper = workbasketAccessMapper;
     this.historyEventManager = historyEventManager;
+    this.cacheVersionMapper = cacheVersionMapper;
+    this.permissionCache = permissionCache;
+    this.summaryCache = summaryCache;
+  }
+
+  public static SummaryCache<WorkbasketSummary> createSummaryCache(
+      boolean enabled, int maxSize, Duration versionCheckInterval) {
+    return new SummaryCache<>(
+        SUMMARY_CACHE_NAME,
+        enabled,
+        maxSize,
+        versionCheckInterval,
+        WorkbasketSummary::getId,
+        summary -> new KeyDomain(summary.getKey(), summary.getDomain()),
+        summary -> {
+          WorkbasketSummaryImpl copy = (WorkbasketSummaryImpl) summary.copy();
+          copy.setId(summary.getId());
+          copy.setKey(summary.getKey());
+          return copy;
+        });
   }
 
   @Override
@@ -217,6 +254,7 @@ public class WorkbasketServiceImpl implements WorkbasketService {
       } else {
         workbasketMapper.update(workbasketImplToUpdate);
       }
+      invalidateSummaryCache();
 
       if (historyEventManager.isEnabled()) {
         String details =
@@ -283,6 +321,7 @@ public class WorkbasketServiceImpl implements WorkbasketService {
       accessItem.setWorkbasketKey(wb.getKey());
       try {
         workbasketAccessMapper.insert(accessItem);
+        invalidatePermissionCache();
 
         if (historyEventManager.isEnabled()) {
 
@@ -344,6 +383,7 @@ public class WorkbasketServiceImpl implements WorkbasketService {
       }
 
       workbasketAccessMapper.update(accessItem);
+      invalidatePermissionCache();
 
       if (historyEventManager.isEnabled()) {
 
@@ -383,6 +423,7 @@ public class WorkbasketServiceImpl implements WorkbasketService {
       }
 
       workbasketAccessMapper.delete(accessItemId);
+      invalidatePermissionCache();
 
       if (historyEventManager.isEnabled() && accessItem != null) {
 
@@ -414,7 +455,11 @@ public class WorkbasketServiceImpl implements WorkbasketService {
     try {
       taskanaEngine.openConnection();
 
-      if (workbasketMapper.findById(workbasketId) == null) {
+      List<String> accessIds = taskanaEngine.getEngine().getCurrentUserContext().getAccessIds();
+      // only permissions of existing workbaskets are cached
+      List<WorkbasketPermission> grantedPermissions = getCachedPermissions(workbasketId, accessIds);
+
+      if (grantedPermissions == null && workbasketMapper.findById(workbasketId) == null) {
         throw new WorkbasketNotFoundException(workbasketId);
       }
 
@@ -422,16 +467,14 @@ public class WorkbasketServiceImpl implements WorkbasketService {
         return;
       }
 
-      Optional<List<WorkbasketPermission>> grantedPermissions =
-          Optional.ofNullable(
-                  workbasketAccessMapper.findByWorkbasketAndAccessId(
-                      workbasketId,
-                      taskanaEngine.getEngine().getCurrentUserContext().getAccessIds()))
-              .map(this::getPermissionsFromWorkbasketAccessItem);
+      if (grantedPermissions == null) {
+        grantedPermissions =
+            getPermissionsFromWorkbasketAccessItem(
+                workbasketAccessMapper.findByWorkbasketAndAccessId(workbasketId, accessIds));
+        permissionCache.put(workbasketId, accessIds, grantedPermissions);
+      }
 
-      if (grantedPermissions.isEmpty()
-          || !new HashSet<>(grantedPermissions.get())
-              .containsAll(Arrays.asList(requestedPermissions))) {
+      if (!hasAllPermissions(grantedPermissions, requestedPermissions)) {
         throw new NotAuthorizedOnWorkbasketException(
             taskanaEngine.getEngine().getCurrentUserContext().getUserid(),
             workbasketId,
@@ -449,24 +492,28 @@ public class WorkbasketServiceImpl implements WorkbasketService {
     try {
       taskanaEngine.openConnection();
 
-      if (workbasketMapper.findByKeyAndDomain(workbasketKey, domain) == null) {
+      KeyDomain keyDomain = new KeyDomain(workbasketKey, domain);
+      List<String> accessIds = taskanaEngine.getEngine().getCurrentUserContext().getAccessIds();
+      // only permissions of existing workbaskets are cached
+      List<WorkbasketPermission> grantedPermissions = getCachedPermissions(keyDomain, accessIds);
+
+      if (grantedPermissions == null
+          && workbasketMapper.findByKeyAndDomain(workbasketKey, domain) == null) {
         throw new WorkbasketNotFoundException(workbasketKey, domain);
       }
       if (skipAuthorizationCheck(requestedPermissions)) {
         return;
       }
 
-      Optional<List<WorkbasketPermission>> grantedPermissions =
-          Optional.ofNullable(
-                  workbasketAccessMapper.findByWorkbasketKeyDomainAndAccessId(
-                      workbasketKey,
-                      domain,
-                      taskanaEngine.getEngine().getCurrentUserContext().getAccessIds()))
-              .map(this::getPermissionsFromWorkbasketAccessItem);
-
-      if (grantedPermissions.isEmpty()
-          || !new HashSet<>(grantedPermissions.get())
-              .containsAll(Arrays.asList(requestedPermissions))) {
+      if (grantedPermissions == null) {
+        grantedPermissions =
+            getPermissionsFromWorkbasketAccessItem(
+                workbasketAccessMapper.findByWorkbasketKeyDomainAndAccessId(
+                    workbasketKey, domain, accessIds));
+        permissionCache.put(keyDomain, accessIds, grantedPermissions);
+      }
+
+      if (!hasAllPermissions(grantedPermissions, requestedPermissions)) {
         throw new NotAuthorizedOnWorkbasketException(
             taskanaEngine.getEngine().getCurrentUserContext().getUserid(),
             workbasketKey,
@@ -478,6 +525,137 @@ public class WorkbasketServiceImpl implements WorkbasketService {
     }
   }
 
+  @Override
+  public BulkOperationResults<String, TaskanaException> checkAuthorization(
+      Collection<String> workbasketIds, WorkbasketPermission... requestedPermissions) {
+    BulkOperationResults<String, TaskanaException> bulkLog = new BulkOperationResults<>();
+    if (workbasketIds == null || workbasketIds.isEmpty()) {
+      return bulkLog;
+    }
+    try {
+      taskanaEngine.openConnection();
+
+      List<String> accessIds = taskanaEngine.getEngine().getCurrentUserContext().getAccessIds();
+      validatePermissionCache();
+      Map<String, List<WorkbasketPermission>> grantedPermissionsById = new HashMap<>();
+      Set<String> uncachedIds = new HashSet<>();
+      for (String workbasketId : new HashSet<>(workbasketIds)) {
+        List<WorkbasketPermission> cachedPermissions = permissionCache.get(workbasketId, accessIds);
+        if (cachedPermissions == null) {
+          uncachedIds.add(workbasketId);
+        } else {
+          grantedPermissionsById.put(workbasketId, cachedPermissions);
+        }
+      }
+
+      if (!uncachedIds.isEmpty()) {
+        // Oracle allows at most 1000 expressions in an IN list
+        for (List<String> partition :
+            CollectionUtil.partitionBasedOnSize(uncachedIds, MAX_IN_LIST_SIZE)) {
+          for (WorkbasketPermissionSummary summary :
+              workbasketAccessMapper.findPermissionSummariesByWorkbasketIdsAndAccessIds(
+                  partition, accessIds)) {
+            List<WorkbasketPermission> grantedPermissions =
+                getPermissionsFromWorkbasketAccessItem(summary.getAccessItem());
+            permissionCache.put(summary.getWorkbasketId(), accessIds, grantedPermissions);
+            grantedPermissionsById.put(summary.getWorkbasketId(), grantedPermissions);
+          }
+        }
+      }
+
+      boolean skipAuthorizationCheck = skipAuthorizationCheck(requestedPermissions);
+      for (String workbasketId : workbasketIds) {
+        List<WorkbasketPermission> grantedPermissions = grantedPermissionsById.get(workbasketId);
+        if (grantedPermissions == null) {
+          bulkLog.addError(workbasketId, new WorkbasketNotFoundException(workbasketId));
+        } else if (!skipAuthorizationCheck
+            && !hasAllPermissions(grantedPermissions, requestedPermissions)) {
+          bulkLog.addError(
+              workbasketId,
+              new NotAuthorizedOnWorkbasketException(
+                  taskanaEngine.getEngine().getCurrentUserContext().getUserid(),
+                  workbasketId,
+                  requestedPermissions));
+        }
+      }
+      return bulkLog;
+    } finally {
+      taskanaEngine.returnConnection();
+    }
+  }
+
+  @Override
+  public BulkOperationResults<KeyDomain, TaskanaException> checkAuthorizationByKeyDomain(
+      Collection<KeyDomain> keyDomains, WorkbasketPermission... requestedPermissions) {
+    BulkOperationResults<KeyDomain, TaskanaException> bulkLog = new BulkOperationResults<>();
+    if (keyDomains == null || keyDomains.isEmpty()) {
+      return bulkLog;
+    }
+    try {
+      taskanaEngine.openConnection();
+
+      List<String> accessIds = taskanaEngine.getEngine().getCurrentUserContext().getAccessIds();
+      validatePermissionCache();
+      Map<KeyDomain, List<WorkbasketPermission>> grantedPermissionsByKeyDomain = new HashMap<>();
+      Set<KeyDomain> uncachedKeyDomains = new HashSet<>();
+      for (KeyDomain keyDomain : new HashSet<>(keyDomains)) {
+        List<WorkbasketPermission> cachedPermissions = permissionCache.get(keyDomain, accessIds);
+        if (cachedPermissions == null) {
+          uncachedKeyDomains.add(keyDomain);
+        } else {
+          grantedPermissionsByKeyDomain.put(keyDomain, cachedPermissions);
+        }
+      }
+
+      if (!uncachedKeyDomains.isEmpty()) {
+        // key and domain are compared case-insensitive by the database
+        Map<KeyDomain, List<WorkbasketPermission>> grantedPermissionsByUpperCaseKeyDomain =
+            new HashMap<>();
+        for (List<KeyDomain> partition :
+            CollectionUtil.partitionBasedOnSize(uncachedKeyDomains, MAX_IN_LIST_SIZE)) {
+          for (WorkbasketPermissionSummary summary :
+              workbasketAccessMapper.findPermissionSummariesByKeyDomainsAndAccessIds(
+                  partition, accessIds)) {
+            grantedPermissionsByUpperCaseKeyDomain.put(
+                toUpperCase(new KeyDomain(summary.getKey(), summary.getDomain())),
+                getPermissionsFromWorkbasketAccessItem(summary.getAccessItem()));
+          }
+        }
+        for (KeyDomain keyDomain : uncachedKeyDomains) {
+          List<WorkbasketPermission> grantedPermissions =
+              grantedPermissionsByUpperCaseKeyDomain.get(toUpperCase(keyDomain));
+          if (grantedPermissions != null) {
+            permissionCache.put(keyDomain, accessIds, grantedPermissions);
+            grantedPermissionsByKeyDomain.put(keyDomain, grantedPermissions);
+          }
+        }
+      }
+
+      boolean skipAuthorizationCheck = skipAuthorizationCheck(requestedPermissions);
+      for (KeyDomain keyDomain : keyDomains) {
+        List<WorkbasketPermission> grantedPermissions =
+            grantedPermissionsByKeyDomain.get(keyDomain);
+        if (grantedPermissions == null) {
+          bulkLog.addError(
+              keyDomain,
+              new WorkbasketNotFoundException(keyDomain.getKey(), keyDomain.getDomain()));
+        } else if (!skipAuthorizationCheck
+            && !hasAllPermissions(grantedPermissions, requestedPermissions)) {
+          bulkLog.addError(
+              keyDomain,
+              new NotAuthorizedOnWorkbasketException(
+                  taskanaEngine.getEngine().getCurrentUserContext().getUserid(),
+                  keyDomain.getKey(),
+                  keyDomain.getDomain(),
+                  requestedPermissions));
+        }
+      }
+      return bulkLog;
+    } finally {
+      taskanaEngine.returnConnection();
+    }
+  }
+
   @Override
   public List<WorkbasketAccessItem> getWorkbasketAccessItems(String workbasketId)
       throws NotAuthorizedException {
@@ -520,6 +698,7 @@ public class WorkbasketServiceImpl implements WorkbasketService {
       // delete all current ones
       workbasketAccessMapper.deleteAllAccessItemsForWorkbasketId(workbasketId);
       accessItems.forEach(workbasketAccessMapper::insert);
+      invalidatePermissionCache();
 
       if (historyEventManager.isEnabled()) {
 
@@ -560,6 +739,29 @@ public class WorkbasketServiceImpl implements WorkbasketService {
     return wb;
   }
 
+  /**
+   * Returns the {@linkplain WorkbasketSummary WorkbasketSummaries} with the given ids. Summaries
+   * which are not present in the summary cache are queried and put into the cache.
+   *
+   * <p>Cached summaries are returned without checking the permissions of the current user again.
+   * This method is therefore meant for resolving the {@linkplain Workbasket Workbaskets} of
+   * entities which the current user is already allowed to see.
+   *
+   * @param ids the ids of the requested {@linkplain WorkbasketSummary WorkbasketSummaries}
+   * @return the found {@linkplain WorkbasketSummary WorkbasketSummaries}
+   */
+  public List<WorkbasketSummary> getWorkbasketSummaries(Collection<String> ids) {
+    try {
+      taskanaEngine.openConnection();
+      validateSummaryCache();
+      return summaryCache.getAll(
+          ids,
+          missingIds -> createWorkbasketQuery().idIn(missingIds.toArray(String[]::new)).list());
+    } finally {
+      taskanaEngine.returnConnection();
+    }
+  }
+
   @Override
   public List<WorkbasketPermission> getPermissionsForWorkbasket(String workbasketId) {
     WorkbasketAccessItem wbAcc =
@@ -835,6 +1037,7 @@ public class WorkbasketServiceImpl implements WorkbasketService {
       if (canBeDeletedNow) {
         workbasketMapper.delete(workbasketId);
         deleteReferencesToWorkbasket(workbasketId);
+        invalidateSummaryCache();
 
         if (historyEventManager.isEnabled()) {
 
@@ -947,6 +1150,7 @@ public class WorkbasketServiceImpl implements WorkbasketService {
         workbasketAccessItems = workbasketAccessMapper.findByAccessId(accessId);
       }
       workbasketAccessMapper.deleteAccessItemsForAccessId(accessId);
+      invalidatePermissionCache();
 
       if (historyEventManager.isEnabled()) {
 
@@ -1127,6 +1331,18 @@ public class WorkbasketServiceImpl implements WorkbasketService {
     return permissions;
   }
 
+  private static boolean hasAllPermissions(
+      List<WorkbasketPermission> grantedPermissions, WorkbasketPermission... requestedPermissions) {
+    return !grantedPermissions.isEmpty()
+        && new HashSet<>(grantedPermissions).containsAll(Arrays.asList(requestedPermissions));
+  }
+
+  private static KeyDomain toUpperCase(KeyDomain keyDomain) {
+    return new KeyDomain(
+        keyDomain.getKey() == null ? null : keyDomain.getKey().toUpperCase(),
+        keyDomain.getDomain() == null ? null : keyDomain.getDomain().toUpperCase());
+  }
+
   private void markWorkbasketForDeletion(String workbasketId)
       throws InvalidArgumentException, NotAuthorizedException {
     taskanaEngine.getEngine().checkRoleMembership(TaskanaRole.BUSINESS_ADMIN, TaskanaRole.ADMIN);
@@ -1136,6 +1352,7 @@ public class WorkbasketServiceImpl implements WorkbasketService {
       WorkbasketImpl workbasket = workbasketMapper.findById(workbasketId);
       workbasket.setMarkedForDeletion(true);
       workbasketMapper.update(workbasket);
+      invalidateSummaryCache();
       if (historyEventManager.isEnabled()) {
 
         historyEventManager.createEvent(
@@ -1155,5 +1372,36 @@ public class WorkbasketServiceImpl implements WorkbasketService {
     distributionTargetMapper.deleteAllDistributionTargetsBySourceId(workbasketId);
     distributionTargetMapper.deleteAllDistributionTargetsByTargetId(workbasketId);
     workbasketAccessMapper.deleteAllAccessItemsForWorkbasketId(workbasketId);
+    invalidatePermissionCache();
+  }
+
+  private List<WorkbasketPermission> getCachedPermissions(
+      Object workbasket, List<String> accessIds) {
+    validatePermissionCache();
+    return permissionCache.get(workbasket, accessIds);
+  }
+
+  private void validatePermissionCache() {
+    permissionCache.validate(
+        () -> cacheVersionMapper.getVersion(WorkbasketPermissionCache.CACHE_NAME));
+  }
+
+  private void invalidatePermissionCache() {
+    // the version is incremented even if the cache is disabled for this instance,
+    // since other instances sharing the database may have it enabled
+    cacheVersionMapper.incrementVersion(WorkbasketPermissionCache.CACHE_NAME);
+    // concurrent readers may cache the old rows again until the transaction is committed
+    permissionCache.invalidate();
+    taskanaEngine.runAfterTransaction(permissionCache::invalidate);
+  }
+
+  private void validateSummaryCache() {
+    summaryCache.validate(() -> cacheVersionMapper.getVersion(SUMMARY_CACHE_NAME));
+  }
+
+  private void invalidateSummaryCache() {
+    cacheVersionMapper.incrementVersion(SUMMARY_CACHE_NAME);
+    summaryCache.invalidate();
+    taskanaEngine.runAfterTransaction(summaryCache::invalidate);
   }
 }
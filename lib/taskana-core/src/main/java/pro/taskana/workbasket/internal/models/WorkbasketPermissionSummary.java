@@ -0,0 +1,78 @@
+package pro.taskana.workbasket.internal.models;
+
+import java.util.Objects;
+
+/**
+ * A convenience class to represent a workbasket together with the maximum permissions a set of
+ * access ids holds on it.
+ */
+public class WorkbasketPermissionSummary {
+
+  private final WorkbasketAccessItemImpl accessItem = new WorkbasketAccessItemImpl();
+  private String workbasketId;
+  private String key;
+  private String domain;
+
+  WorkbasketPermissionSummary() {}
+
+  public String getWorkbasketId() {
+    return workbasketId;
+  }
+
+  public void setWorkbasketId(String workbasketId) {
+    this.workbasketId = workbasketId;
+  }
+
+  public String getKey() {
+    return key;
+  }
+
+  public void setKey(String key) {
+    this.key = key;
+  }
+
+  public String getDomain() {
+    return domain;
+  }
+
+  public void setDomain(String domain) {
+    this.domain = domain;
+  }
+
+  public WorkbasketAccessItemImpl getAccessItem() {
+    return accessItem;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(workbasketId, key, domain, accessItem);
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (!(obj instanceof WorkbasketPermissionSummary)) {
+      return false;
+    }
+    WorkbasketPermissionSummary other = (WorkbasketPermissionSummary) obj;
+    return Objects.equals(workbasketId, other.workbasketId)
+        && Objects.equals(key, other.key)
+        && Objects.equals(domain, other.domain)
+        && Objects.equals(accessItem, other.accessItem);
+  }
+
+  @Override
+  public String toString() {
+    return "WorkbasketPermissionSummary [workbasketId="
+        + workbasketId
+        + ", key="
+        + key
+        + ", domain="
+        + domain
+        + ", accessItem="
+        + accessItem
+        + "]";
+  }
+}
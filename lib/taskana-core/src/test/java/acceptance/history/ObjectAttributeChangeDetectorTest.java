@@ -105,6 +105,26 @@ class ObjectAttributeChangeDetectorTest {
     assertThat(changedAttributes).hasSize(2);
   }
 
+  @Test
+  void should_DetermineDifferencesInPrimitiveFields_When_ComparingTasks() {
+
+    TaskImpl oldTask = new TaskImpl();
+    oldTask.setPriority(1);
+    oldTask.setRead(false);
+
+    TaskImpl newTask = new TaskImpl();
+    newTask.setPriority(2);
+    newTask.setRead(true);
+
+    String details = ObjectAttributeChangeDetector.determineChangesInAttributes(oldTask, newTask);
+
+    assertThat(details)
+        .isEqualTo(
+            "{\"changes\":["
+                + "{\"newValue\":2,\"fieldName\":\"priority\",\"oldValue\":1},"
+                + "{\"newValue\":true,\"fieldName\":\"isRead\",\"oldValue\":false}]}");
+  }
+
   @Test
   void should_DetermineDifferences_When_ComparingWorkbaskets() {
 
@@ -11,6 +11,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import pro.taskana.monitor.api.reports.Report;
 import pro.taskana.monitor.api.reports.header.TimeIntervalColumnHeader;
+import pro.taskana.monitor.api.reports.item.AgeQueryItem;
 import pro.taskana.monitor.api.reports.item.MonitorQueryItem;
 import pro.taskana.monitor.api.reports.item.QueryItemPreprocessor;
 import pro.taskana.monitor.api.reports.row.FoldableRow;
@@ -233,6 +234,62 @@ class ReportTest {
     assertThat(sumRow.getTotalValue()).isEqualTo(2 * item.getValue());
   }
 
+  @Test
+  void should_InsertItemIntoAllFittingHeaders_When_HeadersOverlapAndAreOpenEnded() {
+    // given
+    List<TimeIntervalColumnHeader> headers =
+        List.of(
+            new TimeIntervalColumnHeader.Range(Integer.MIN_VALUE, -6),
+            new TimeIntervalColumnHeader.Range(-10, 10),
+            new TimeIntervalColumnHeader.Date(0),
+            new TimeIntervalColumnHeader(5, 7),
+            new TimeIntervalColumnHeader(6, Integer.MAX_VALUE));
+    report = new MonitorQueryItemTimeIntervalColumnHeaderReport(headers, new String[] {"rowDesc"});
+
+    // when
+    for (int age = -12; age <= 12; age++) {
+      MonitorQueryItem ageItem = new MonitorQueryItem();
+      ageItem.setKey("key" + age);
+      ageItem.setAgeInDays(age);
+      ageItem.setNumberOfTasks(1);
+      report.addItem(ageItem);
+    }
+
+    // then
+    for (int age = -12; age <= 12; age++) {
+      MonitorQueryItem ageItem = new MonitorQueryItem();
+      ageItem.setAgeInDays(age);
+      int[] expectedCells =
+          headers.stream().mapToInt(header -> header.fits(ageItem) ? 1 : 0).toArray();
+      assertThat(report.getRow("key" + age).getCells()).isEqualTo(expectedCells);
+    }
+  }
+
+  @Test
+  void should_AskHeader_When_HeaderDecidesOnItsOwnWhetherItemFits() {
+    // given
+    List<TimeIntervalColumnHeader> headers =
+        List.of(
+            new TimeIntervalColumnHeader(0, 3),
+            new TimeIntervalColumnHeader(0, 3) {
+              @Override
+              public boolean fits(AgeQueryItem item) {
+                return item.getAgeInDays() % 2 == 0;
+              }
+            });
+    report = new MonitorQueryItemTimeIntervalColumnHeaderReport(headers, new String[] {"rowDesc"});
+    item.setAgeInDays(5);
+
+    // when
+    report.addItem(item);
+
+    // then
+    assertThat(report.getRows()).isEmpty();
+    item.setAgeInDays(8);
+    report.addItem(item);
+    assertThat(report.getRow("key").getCells()).isEqualTo(new int[] {0, item.getValue()});
+  }
+
   @Test
   void should_FallBackToKey_When_DisplayMapDoesNotContainName() {
     report.augmentDisplayNames(new HashMap<>());
@@ -12,6 +12,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -22,9 +23,11 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.env.Environment;
+import org.springframework.ldap.control.PagedResultsDirContextProcessor;
 import org.springframework.ldap.core.DirContextOperations;
 import org.springframework.ldap.core.LdapTemplate;
 import org.springframework.ldap.core.support.AbstractContextMapper;
+import org.springframework.ldap.core.support.SingleContextSource;
 import org.springframework.ldap.filter.AndFilter;
 import org.springframework.ldap.filter.EqualsFilter;
 import org.springframework.ldap.filter.NotPresentFilter;
@@ -48,6 +51,7 @@ public class LdapClient {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(LdapClient.class);
   private static final String CN = "cn";
+  private static final int USER_SEARCH_PAGE_SIZE = 1000;
 
   private final TaskanaConfiguration taskanaConfiguration;
   private final Environment env;
@@ -141,6 +145,26 @@ public class LdapClient {
   }
 
   public List<User> searchUsersInUserRole() {
+    List<User> users = new ArrayList<>();
+    searchUsersInUserRole(users::addAll);
+
+    LOGGER.debug("exit from searchUsersInUserRole. Retrieved the following users: {}.", users);
+
+    return users;
+  }
+
+  /**
+   * Searches all users in the user role and passes them to the given consumer page by page. The
+   * search uses the paged results control, so large directories are neither truncated by the
+   * default count limit nor transferred at once.
+   *
+   * @param consumer consumes the users of one page
+   */
+  public void searchUsersInUserRole(Consumer<List<User>> consumer) {
+    searchUsersInUserRole(consumer, USER_SEARCH_PAGE_SIZE);
+  }
+
+  void searchUsersInUserRole(Consumer<List<User>> consumer, int pageSize) {
 
     Set<String> userGroupsOrUser = taskanaConfiguration.getRoleMap().get(TaskanaRole.USER);
 
@@ -151,17 +175,27 @@ public class LdapClient {
           userOrGroupFilter.or(new EqualsFilter(getUserIdAttribute(), userOrGroup));
         });
 
-    final List<User> users =
-        ldapTemplate.search(
-            getUserSearchBase(),
-            userOrGroupFilter.encode(),
-            SearchControls.SUBTREE_SCOPE,
-            getLookUpUserInfoAttributesToReturn(),
-            new UserInfoContextMapper());
-
-    LOGGER.debug("exit from searchUsersInUserRole. Retrieved the following users: {}.", users);
-
-    return users;
+    final SearchControls searchControls = new SearchControls();
+    searchControls.setSearchScope(SearchControls.SUBTREE_SCOPE);
+    searchControls.setReturningAttributes(getLookUpUserInfoAttributesToReturn());
+    final PagedResultsDirContextProcessor pagedResultsProcessor =
+        new PagedResultsDirContextProcessor(pageSize);
+
+    // the paged results control requires all pages to be requested through the same connection
+    SingleContextSource.doWithSingleContext(
+        ldapTemplate.getContextSource(),
+        operations -> {
+          do {
+            consumer.accept(
+                operations.search(
+                    getUserSearchBase(),
+                    userOrGroupFilter.encode(),
+                    searchControls,
+                    new UserInfoContextMapper(),
+                    pagedResultsProcessor));
+          } while (pagedResultsProcessor.hasMore());
+          return null;
+        });
   }
 
   public List<AccessIdRepresentationModel> searchUsersByNameOrAccessId(final String name)
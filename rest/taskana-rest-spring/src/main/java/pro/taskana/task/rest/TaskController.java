@@ -2,6 +2,7 @@ package pro.taskana.task.rest;
 
 import static java.util.function.Predicate.not;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -9,7 +10,11 @@ import io.swagger.v3.oas.annotations.media.ExampleObject;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import java.beans.ConstructorProperties;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
@@ -18,10 +23,13 @@ import java.util.Set;
 import java.util.function.BiConsumer;
 import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.hateoas.Link;
 import org.springframework.hateoas.MediaTypes;
 import org.springframework.hateoas.config.EnableHypermediaSupport;
 import org.springframework.hateoas.config.EnableHypermediaSupport.HypermediaType;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -32,6 +40,7 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import pro.taskana.classification.api.exceptions.ClassificationNotFoundException;
 import pro.taskana.common.api.BaseQuery.SortDirection;
 import pro.taskana.common.api.BulkOperationResults;
@@ -64,6 +73,7 @@ import pro.taskana.task.rest.models.IsReadRepresentationModel;
 import pro.taskana.task.rest.models.TaskRepresentationModel;
 import pro.taskana.task.rest.models.TaskSummaryCollectionRepresentationModel;
 import pro.taskana.task.rest.models.TaskSummaryPagedRepresentationModel;
+import pro.taskana.task.rest.models.TaskSummaryRepresentationModel;
 import pro.taskana.task.rest.models.TransferTaskRepresentationModel;
 import pro.taskana.workbasket.api.exceptions.NotAuthorizedOnWorkbasketException;
 import pro.taskana.workbasket.api.exceptions.WorkbasketNotFoundException;
@@ -73,11 +83,14 @@ import pro.taskana.workbasket.api.exceptions.WorkbasketNotFoundException;
 @EnableHypermediaSupport(type = HypermediaType.HAL)
 public class TaskController {
 
+  private static final int STREAM_CHUNK_SIZE = 1000;
+
   private final TaskService taskService;
   private final TaskRepresentationModelAssembler taskRepresentationModelAssembler;
   private final TaskSummaryRepresentationModelAssembler taskSummaryRepresentationModelAssembler;
   private final BulkOperationResultsRepresentationModelAssembler
       bulkOperationResultsRepresentationModelAssembler;
+  private final ObjectMapper mapper;
 
   @Autowired
   TaskController(
@@ -85,12 +98,14 @@ public class TaskController {
       TaskRepresentationModelAssembler taskRepresentationModelAssembler,
       TaskSummaryRepresentationModelAssembler taskSummaryRepresentationModelAssembler,
       BulkOperationResultsRepresentationModelAssembler
-          bulkOperationResultsRepresentationModelAssembler) {
+          bulkOperationResultsRepresentationModelAssembler,
+      ObjectMapper mapper) {
     this.taskService = taskService;
     this.taskRepresentationModelAssembler = taskRepresentationModelAssembler;
     this.taskSummaryRepresentationModelAssembler = taskSummaryRepresentationModelAssembler;
     this.bulkOperationResultsRepresentationModelAssembler =
         bulkOperationResultsRepresentationModelAssembler;
+    this.mapper = mapper;
   }
 
   // region CREATE
@@ -208,6 +223,7 @@ public class TaskController {
    * @param filterCustomFields the filter parameters regarding TaskCustomFields
    * @param filterCustomIntFields the filter parameters regarding TaskCustomIntFields * @param
    * @param groupByParameter the group by parameters
+   * @param fieldsParameter the columns to select
    * @param sortParameter the sort parameters
    * @param pagingParameter the paging parameters
    * @return the Tasks with the given filter, sort and paging options.
@@ -239,16 +255,19 @@ public class TaskController {
       @ParameterObject TaskQueryFilterCustomFields filterCustomFields,
       @ParameterObject TaskQueryFilterCustomIntFields filterCustomIntFields,
       @ParameterObject TaskQueryGroupByParameter groupByParameter,
+      @ParameterObject TaskQueryFieldsParameter fieldsParameter,
       @ParameterObject TaskQuerySortParameter sortParameter,
-      @ParameterObject QueryPagingParameter<TaskSummary, TaskQuery> pagingParameter) {
+      @ParameterObject TaskQueryPagingParameter pagingParameter) {
     QueryParamsValidator.validateParams(
         request,
         TaskQueryFilterParameter.class,
         TaskQueryFilterCustomFields.class,
         TaskQueryFilterCustomIntFields.class,
         TaskQueryGroupByParameter.class,
+        TaskQueryFieldsParameter.class,
         QuerySortParameter.class,
-        QueryPagingParameter.class);
+        QueryPagingParameter.class,
+        TaskQueryPagingParameter.class);
 
     if (QueryParamsValidator.hasQueryParameterValuesOrIsNotTrue(request, "owner-is-null")) {
       throw new InvalidArgumentException(
@@ -261,16 +280,107 @@ public class TaskController {
     filterCustomFields.apply(query);
     filterCustomIntFields.apply(query);
     groupByParameter.apply(query);
+    fieldsParameter.apply(query);
     sortParameter.apply(query);
 
     List<TaskSummary> taskSummaries = pagingParameter.apply(query);
 
     TaskSummaryPagedRepresentationModel pagedModels =
         taskSummaryRepresentationModelAssembler.toPagedModel(
-            taskSummaries, pagingParameter.getPageMetadata());
+            taskSummaries, pagingParameter.getPageMetadata(), fieldsParameter.getFields());
+    if (pagingParameter.getNextCursor() != null) {
+      pagedModels.add(
+          Link.of(
+                  ServletUriComponentsBuilder.fromCurrentRequest()
+                      .replaceQueryParam("cursor", pagingParameter.getNextCursor())
+                      .toUriString())
+              .withRel(IanaLinkRelations.NEXT));
+    }
     return ResponseEntity.ok(pagedModels);
   }
 
+  /**
+   * This endpoint streams all existing Tasks as newline delimited JSON. Filters can be applied.
+   * Unlike the paged list of Tasks, the Tasks are read from the database and written to the
+   * response in chunks, so even large results can be exported.
+   *
+   * @title Stream all Tasks
+   * @param request the HTTP request
+   * @param response the HTTP response the Tasks are written to
+   * @param filterParameter the filter parameters
+   * @param filterCustomFields the filter parameters regarding TaskCustomFields
+   * @param filterCustomIntFields the filter parameters regarding TaskCustomIntFields
+   * @param groupByParameter the group by parameters
+   * @param sortParameter the sort parameters
+   * @throws InvalidArgumentException if the query parameter "owner-is-null" has values
+   * @throws IOException if the Tasks can't be written to the response
+   */
+  @Operation(
+      summary = "Stream all Tasks",
+      description =
+          "This endpoint streams all existing Tasks as newline delimited JSON. Filters can be "
+              + "applied.",
+      responses = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "one Task with the given filter and sort options per line",
+            content = {
+              @Content(
+                  mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                  schema = @Schema(implementation = TaskSummaryRepresentationModel.class))
+            })
+      })
+  @GetMapping(path = RestEndpoints.URL_TASKS, produces = MediaType.APPLICATION_NDJSON_VALUE)
+  @Transactional(readOnly = true, rollbackFor = Exception.class)
+  public void streamTasks(
+      HttpServletRequest request,
+      HttpServletResponse response,
+      @ParameterObject TaskQueryFilterParameter filterParameter,
+      @ParameterObject TaskQueryFilterCustomFields filterCustomFields,
+      @ParameterObject TaskQueryFilterCustomIntFields filterCustomIntFields,
+      @ParameterObject TaskQueryGroupByParameter groupByParameter,
+      @ParameterObject TaskQuerySortParameter sortParameter)
+      throws IOException {
+    QueryParamsValidator.validateParams(
+        request,
+        TaskQueryFilterParameter.class,
+        TaskQueryFilterCustomFields.class,
+        TaskQueryFilterCustomIntFields.class,
+        TaskQueryGroupByParameter.class,
+        QuerySortParameter.class);
+
+    if (QueryParamsValidator.hasQueryParameterValuesOrIsNotTrue(request, "owner-is-null")) {
+      throw new InvalidArgumentException(
+          "It is prohibited to use the param owner-is-null with values.");
+    }
+
+    TaskQuery query = taskService.createTaskQuery();
+
+    filterParameter.apply(query);
+    filterCustomFields.apply(query);
+    filterCustomIntFields.apply(query);
+    groupByParameter.apply(query);
+    sortParameter.apply(query);
+
+    response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+    OutputStream out = response.getOutputStream();
+    query.forEach(
+        STREAM_CHUNK_SIZE,
+        taskSummaries -> {
+          try {
+            for (TaskSummary taskSummary : taskSummaries) {
+              out.write(
+                  mapper.writeValueAsBytes(
+                      taskSummaryRepresentationModelAssembler.toModel(taskSummary)));
+              out.write('\n');
+            }
+            out.flush();
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+        });
+  }
+
   /**
    * This endpoint retrieves a specific Task.
    *
@@ -0,0 +1,36 @@
+package pro.taskana.task.rest;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.beans.ConstructorProperties;
+import pro.taskana.common.rest.QueryParameter;
+import pro.taskana.task.api.TaskQuery;
+import pro.taskana.task.api.TaskQueryColumnName;
+
+public class TaskQueryFieldsParameter implements QueryParameter<TaskQuery, Void> {
+
+  /**
+   * Select only the given columns of the Tasks. Attributes of other columns are not returned. If
+   * this parameter is omitted, all attributes are returned.
+   */
+  @JsonProperty("fields")
+  @Schema(name = "fields")
+  private final TaskQueryColumnName[] fields;
+
+  @ConstructorProperties({"fields"})
+  public TaskQueryFieldsParameter(TaskQueryColumnName[] fields) {
+    this.fields = fields;
+  }
+
+  public TaskQueryColumnName[] getFields() {
+    return fields;
+  }
+
+  @Override
+  public Void apply(TaskQuery query) {
+    if (fields != null && fields.length > 0) {
+      query.select(fields);
+    }
+    return null;
+  }
+}
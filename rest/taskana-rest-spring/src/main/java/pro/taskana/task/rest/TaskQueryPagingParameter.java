@@ -0,0 +1,66 @@
+package pro.taskana.task.rest;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.beans.ConstructorProperties;
+import java.util.List;
+import pro.taskana.common.api.exceptions.InvalidArgumentException;
+import pro.taskana.common.rest.QueryPagingParameter;
+import pro.taskana.task.api.TaskQuery;
+import pro.taskana.task.api.models.TaskSummary;
+
+public class TaskQueryPagingParameter extends QueryPagingParameter<TaskSummary, TaskQuery> {
+
+  @Schema(
+      name = "cursor",
+      description =
+          "Request the Tasks following the given cursor. Use an empty value for the first page. "
+              + "The cursor of the next page is part of the 'next' link of the response. Unlike "
+              + "the 'page' parameter this does not count the Tasks, so no page meta data is "
+              + "returned. Requires the definition of the 'page-size'.")
+  @JsonProperty("cursor")
+  private final String cursor;
+
+  @JsonIgnore private String nextCursor;
+
+  @ConstructorProperties({"page", "page-size", "cursor"})
+  public TaskQueryPagingParameter(Integer page, Integer pageSize, String cursor)
+      throws InvalidArgumentException {
+    super(page, pageSize);
+    this.cursor = cursor;
+    validatePagingParameters();
+  }
+
+  public String getCursor() {
+    return cursor;
+  }
+
+  public String getNextCursor() {
+    return nextCursor;
+  }
+
+  @Override
+  public List<TaskSummary> apply(TaskQuery query) {
+    if (cursor == null) {
+      return super.apply(query);
+    }
+    int pageSize = getPageSize();
+    // one additional Task is requested to find out whether there is a next page
+    List<TaskSummary> taskSummaries =
+        query.listAfter(
+            cursor.isEmpty() ? null : cursor,
+            pageSize == Integer.MAX_VALUE ? pageSize : pageSize + 1);
+    if (taskSummaries.size() > pageSize) {
+      taskSummaries = taskSummaries.subList(0, pageSize);
+      nextCursor = query.cursorOf(taskSummaries.get(pageSize - 1));
+    }
+    return taskSummaries;
+  }
+
+  private void validatePagingParameters() throws InvalidArgumentException {
+    if (cursor != null && getPage() != null) {
+      throw new InvalidArgumentException("The params 'cursor' and 'page' cannot be used together.");
+    }
+  }
+}
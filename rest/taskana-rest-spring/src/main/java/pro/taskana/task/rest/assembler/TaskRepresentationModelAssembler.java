@@ -138,10 +138,16 @@ public class TaskRepresentationModelAssembler
     task.setCreator(repModel.getCreator());
     task.setNote(repModel.getNote());
     task.setDescription(repModel.getDescription());
-    task.setPriority(repModel.getPriority());
-    task.setManualPriority(repModel.getManualPriority());
+    if (repModel.getPriority() != null) {
+      task.setPriority(repModel.getPriority());
+    }
+    if (repModel.getManualPriority() != null) {
+      task.setManualPriority(repModel.getManualPriority());
+    }
     task.setState(repModel.getState());
-    task.setNumberOfComments(repModel.getNumberOfComments());
+    if (repModel.getNumberOfComments() != null) {
+      task.setNumberOfComments(repModel.getNumberOfComments());
+    }
     if (repModel.getClassificationSummary() != null) {
       task.setClassificationSummary(
           classificationAssembler.toEntityModel(repModel.getClassificationSummary()));
@@ -154,8 +160,12 @@ public class TaskRepresentationModelAssembler
     task.setOwner(repModel.getOwner());
     task.setOwnerLongName(repModel.getOwnerLongName());
     task.setPrimaryObjRef(objectReferenceAssembler.toEntity(repModel.getPrimaryObjRef()));
-    task.setRead(repModel.isRead());
-    task.setTransferred(repModel.isTransferred());
+    if (repModel.isRead() != null) {
+      task.setRead(repModel.isRead());
+    }
+    if (repModel.isTransferred() != null) {
+      task.setTransferred(repModel.isTransferred());
+    }
     task.setGroupByCount(repModel.getGroupByCount());
     task.setCustomField(TaskCustomField.CUSTOM_1, repModel.getCustom1());
     task.setCustomField(TaskCustomField.CUSTOM_2, repModel.getCustom2());
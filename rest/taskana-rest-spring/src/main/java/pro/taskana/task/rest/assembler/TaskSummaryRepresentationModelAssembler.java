@@ -1,16 +1,21 @@
 package pro.taskana.task.rest.assembler;
 
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Component;
 import pro.taskana.classification.rest.assembler.ClassificationSummaryRepresentationModelAssembler;
+import pro.taskana.common.api.exceptions.SystemException;
 import pro.taskana.common.rest.assembler.CollectionRepresentationModelAssembler;
 import pro.taskana.common.rest.assembler.PagedRepresentationModelAssembler;
 import pro.taskana.common.rest.models.PageMetadata;
 import pro.taskana.task.api.TaskCustomField;
 import pro.taskana.task.api.TaskCustomIntField;
+import pro.taskana.task.api.TaskQueryColumnName;
 import pro.taskana.task.api.TaskService;
 import pro.taskana.task.api.models.TaskSummary;
 import pro.taskana.task.internal.models.TaskSummaryImpl;
@@ -68,14 +73,22 @@ public class TaskSummaryRepresentationModelAssembler
     repModel.setManualPriority(taskSummary.getManualPriority());
     repModel.setState(taskSummary.getState());
     repModel.setNumberOfComments(taskSummary.getNumberOfComments());
-    repModel.setClassificationSummary(
-        classificationAssembler.toModel(taskSummary.getClassificationSummary()));
-    repModel.setWorkbasketSummary(workbasketAssembler.toModel(taskSummary.getWorkbasketSummary()));
+    // these are missing if the Tasks were queried with a selection of columns
+    if (taskSummary.getClassificationSummary() != null) {
+      repModel.setClassificationSummary(
+          classificationAssembler.toModel(taskSummary.getClassificationSummary()));
+    }
+    if (taskSummary.getWorkbasketSummary() != null) {
+      repModel.setWorkbasketSummary(
+          workbasketAssembler.toModel(taskSummary.getWorkbasketSummary()));
+    }
     repModel.setBusinessProcessId(taskSummary.getBusinessProcessId());
     repModel.setParentBusinessProcessId(taskSummary.getParentBusinessProcessId());
     repModel.setOwner(taskSummary.getOwner());
     repModel.setOwnerLongName(taskSummary.getOwnerLongName());
-    repModel.setPrimaryObjRef(objectReferenceAssembler.toModel(taskSummary.getPrimaryObjRef()));
+    if (taskSummary.getPrimaryObjRef() != null) {
+      repModel.setPrimaryObjRef(objectReferenceAssembler.toModel(taskSummary.getPrimaryObjRef()));
+    }
     repModel.setSecondaryObjectReferences(
         taskSummary.getSecondaryObjectReferences().stream()
             .map(objectReferenceAssembler::toModel)
@@ -112,6 +125,62 @@ public class TaskSummaryRepresentationModelAssembler
     return repModel;
   }
 
+  /**
+   * Converts a TaskSummary which was queried with a selection of columns. Only the id and the
+   * attributes of the selected columns are set, all others stay empty.
+   *
+   * @param taskSummary the TaskSummary to convert
+   * @param fields the selected columns
+   * @return the model with the attributes of the selected columns
+   */
+  public TaskSummaryRepresentationModel toModel(
+      TaskSummary taskSummary, Set<TaskQueryColumnName> fields) {
+    TaskSummaryRepresentationModel repModel = new TaskSummaryRepresentationModel();
+    repModel.setTaskId(taskSummary.getId());
+    repModel.setManualPriority(null);
+    repModel.setSecondaryObjectReferences(null);
+    repModel.setAttachmentSummaries(null);
+    for (TaskQueryColumnName field : fields) {
+      if (field.isAttachmentColumn()) {
+        repModel.setAttachmentSummaries(
+            taskSummary.getAttachmentSummaries().stream()
+                .map(attachmentAssembler::toModel)
+                .toList());
+      } else if (field.isObjectReferenceColumn()) {
+        repModel.setSecondaryObjectReferences(
+            taskSummary.getSecondaryObjectReferences().stream()
+                .map(objectReferenceAssembler::toModel)
+                .toList());
+      } else {
+        setAttributeOfColumn(repModel, taskSummary, field);
+      }
+    }
+    return repModel;
+  }
+
+  /**
+   * Converts TaskSummaries which were queried with a selection of columns. If no columns were
+   * selected, all attributes are converted.
+   *
+   * @param taskSummaries the TaskSummaries to convert
+   * @param pageMetadata the page metadata of the result
+   * @param fields the selected columns, may be null or empty
+   * @return the paged model of the TaskSummaries
+   */
+  public TaskSummaryPagedRepresentationModel toPagedModel(
+      List<TaskSummary> taskSummaries, PageMetadata pageMetadata, TaskQueryColumnName[] fields) {
+    if (fields == null || fields.length == 0) {
+      return toPagedModel(taskSummaries, pageMetadata);
+    }
+    Set<TaskQueryColumnName> selectedFields = EnumSet.copyOf(Arrays.asList(fields));
+    return addLinksToPagedModel(
+        buildPageableEntity(
+            taskSummaries.stream()
+                .map(taskSummary -> toModel(taskSummary, selectedFields))
+                .toList(),
+            pageMetadata));
+  }
+
   public TaskSummary toEntityModel(TaskSummaryRepresentationModel repModel) {
     TaskSummaryImpl taskSummary = (TaskSummaryImpl) taskService.newTask().asSummary();
     taskSummary.setId(repModel.getTaskId());
@@ -127,10 +196,16 @@ public class TaskSummaryRepresentationModelAssembler
     taskSummary.setCreator(repModel.getCreator());
     taskSummary.setNote(repModel.getNote());
     taskSummary.setDescription(repModel.getDescription());
-    taskSummary.setPriority(repModel.getPriority());
-    taskSummary.setManualPriority(repModel.getManualPriority());
+    if (repModel.getPriority() != null) {
+      taskSummary.setPriority(repModel.getPriority());
+    }
+    if (repModel.getManualPriority() != null) {
+      taskSummary.setManualPriority(repModel.getManualPriority());
+    }
     taskSummary.setState(repModel.getState());
-    taskSummary.setNumberOfComments(repModel.getNumberOfComments());
+    if (repModel.getNumberOfComments() != null) {
+      taskSummary.setNumberOfComments(repModel.getNumberOfComments());
+    }
     taskSummary.setClassificationSummary(
         classificationAssembler.toEntityModel(repModel.getClassificationSummary()));
     if (repModel.getWorkbasketSummary() != null) {
@@ -146,8 +221,12 @@ public class TaskSummaryRepresentationModelAssembler
         repModel.getSecondaryObjectReferences().stream()
             .map(objectReferenceAssembler::toEntity)
             .toList());
-    taskSummary.setRead(repModel.isRead());
-    taskSummary.setTransferred(repModel.isTransferred());
+    if (repModel.isRead() != null) {
+      taskSummary.setRead(repModel.isRead());
+    }
+    if (repModel.isTransferred() != null) {
+      taskSummary.setTransferred(repModel.isTransferred());
+    }
     taskSummary.setGroupByCount(repModel.getGroupByCount());
     taskSummary.setAttachmentSummaries(
         repModel.getAttachmentSummaries().stream()
@@ -191,4 +270,87 @@ public class TaskSummaryRepresentationModelAssembler
       List<TaskSummaryRepresentationModel> content) {
     return new TaskSummaryCollectionRepresentationModel(content);
   }
+
+  private void setAttributeOfColumn(
+      TaskSummaryRepresentationModel repModel,
+      TaskSummary taskSummary,
+      TaskQueryColumnName column) {
+    switch (column) {
+      case ID -> repModel.setTaskId(taskSummary.getId());
+      case EXTERNAL_ID -> repModel.setExternalId(taskSummary.getExternalId());
+      case CREATED -> repModel.setCreated(taskSummary.getCreated());
+      case CLAIMED -> repModel.setClaimed(taskSummary.getClaimed());
+      case COMPLETED -> repModel.setCompleted(taskSummary.getCompleted());
+      case MODIFIED -> repModel.setModified(taskSummary.getModified());
+      case PLANNED -> repModel.setPlanned(taskSummary.getPlanned());
+      case RECEIVED -> repModel.setReceived(taskSummary.getReceived());
+      case DUE -> repModel.setDue(taskSummary.getDue());
+      case NAME -> repModel.setName(taskSummary.getName());
+      case CREATOR -> repModel.setCreator(taskSummary.getCreator());
+      case DESCRIPTION -> repModel.setDescription(taskSummary.getDescription());
+      case NOTE -> repModel.setNote(taskSummary.getNote());
+      case PRIORITY -> repModel.setPriority(taskSummary.getPriority());
+      case MANUAL_PRIORITY -> repModel.setManualPriority(taskSummary.getManualPriority());
+      case STATE -> repModel.setState(taskSummary.getState());
+      case CLASSIFICATION_CATEGORY, CLASSIFICATION_KEY, CLASSIFICATION_ID, CLASSIFICATION_NAME -> {
+        if (taskSummary.getClassificationSummary() != null) {
+          repModel.setClassificationSummary(
+              classificationAssembler.toModel(taskSummary.getClassificationSummary()));
+        }
+      }
+      case WORKBASKET_ID, WORKBASKET_KEY, DOMAIN -> {
+        if (taskSummary.getWorkbasketSummary() != null) {
+          repModel.setWorkbasketSummary(
+              workbasketAssembler.toModel(taskSummary.getWorkbasketSummary()));
+        }
+      }
+      case BUSINESS_PROCESS_ID -> repModel.setBusinessProcessId(taskSummary.getBusinessProcessId());
+      case PARENT_BUSINESS_PROCESS_ID ->
+          repModel.setParentBusinessProcessId(taskSummary.getParentBusinessProcessId());
+      case OWNER -> repModel.setOwner(taskSummary.getOwner());
+      case OWNER_LONG_NAME -> repModel.setOwnerLongName(taskSummary.getOwnerLongName());
+      case POR_COMPANY, POR_SYSTEM, POR_INSTANCE, POR_TYPE, POR_VALUE -> {
+        if (taskSummary.getPrimaryObjRef() != null) {
+          repModel.setPrimaryObjRef(
+              objectReferenceAssembler.toModel(taskSummary.getPrimaryObjRef()));
+        }
+      }
+      case IS_READ -> repModel.setRead(taskSummary.isRead());
+      case IS_TRANSFERRED -> repModel.setTransferred(taskSummary.isTransferred());
+      case CUSTOM_1 -> repModel.setCustom1(taskSummary.getCustomField(TaskCustomField.CUSTOM_1));
+      case CUSTOM_2 -> repModel.setCustom2(taskSummary.getCustomField(TaskCustomField.CUSTOM_2));
+      case CUSTOM_3 -> repModel.setCustom3(taskSummary.getCustomField(TaskCustomField.CUSTOM_3));
+      case CUSTOM_4 -> repModel.setCustom4(taskSummary.getCustomField(TaskCustomField.CUSTOM_4));
+      case CUSTOM_5 -> repModel.setCustom5(taskSummary.getCustomField(TaskCustomField.CUSTOM_5));
+      case CUSTOM_6 -> repModel.setCustom6(taskSummary.getCustomField(TaskCustomField.CUSTOM_6));
+      case CUSTOM_7 -> repModel.setCustom7(taskSummary.getCustomField(TaskCustomField.CUSTOM_7));
+      case CUSTOM_8 -> repModel.setCustom8(taskSummary.getCustomField(TaskCustomField.CUSTOM_8));
+      case CUSTOM_9 -> repModel.setCustom9(taskSummary.getCustomField(TaskCustomField.CUSTOM_9));
+      case CUSTOM_10 -> repModel.setCustom10(taskSummary.getCustomField(TaskCustomField.CUSTOM_10));
+      case CUSTOM_11 -> repModel.setCustom11(taskSummary.getCustomField(TaskCustomField.CUSTOM_11));
+      case CUSTOM_12 -> repModel.setCustom12(taskSummary.getCustomField(TaskCustomField.CUSTOM_12));
+      case CUSTOM_13 -> repModel.setCustom13(taskSummary.getCustomField(TaskCustomField.CUSTOM_13));
+      case CUSTOM_14 -> repModel.setCustom14(taskSummary.getCustomField(TaskCustomField.CUSTOM_14));
+      case CUSTOM_15 -> repModel.setCustom15(taskSummary.getCustomField(TaskCustomField.CUSTOM_15));
+      case CUSTOM_16 -> repModel.setCustom16(taskSummary.getCustomField(TaskCustomField.CUSTOM_16));
+      case CUSTOM_INT_1 ->
+          repModel.setCustomInt1(taskSummary.getCustomIntField(TaskCustomIntField.CUSTOM_INT_1));
+      case CUSTOM_INT_2 ->
+          repModel.setCustomInt2(taskSummary.getCustomIntField(TaskCustomIntField.CUSTOM_INT_2));
+      case CUSTOM_INT_3 ->
+          repModel.setCustomInt3(taskSummary.getCustomIntField(TaskCustomIntField.CUSTOM_INT_3));
+      case CUSTOM_INT_4 ->
+          repModel.setCustomInt4(taskSummary.getCustomIntField(TaskCustomIntField.CUSTOM_INT_4));
+      case CUSTOM_INT_5 ->
+          repModel.setCustomInt5(taskSummary.getCustomIntField(TaskCustomIntField.CUSTOM_INT_5));
+      case CUSTOM_INT_6 ->
+          repModel.setCustomInt6(taskSummary.getCustomIntField(TaskCustomIntField.CUSTOM_INT_6));
+      case CUSTOM_INT_7 ->
+          repModel.setCustomInt7(taskSummary.getCustomIntField(TaskCustomIntField.CUSTOM_INT_7));
+      case CUSTOM_INT_8 ->
+          repModel.setCustomInt8(taskSummary.getCustomIntField(TaskCustomIntField.CUSTOM_INT_8));
+      case NUMBER_OF_COMMENTS -> repModel.setNumberOfComments(taskSummary.getNumberOfComments());
+      default -> throw new SystemException("Unknown column '" + column + "'");
+    }
+  }
 }
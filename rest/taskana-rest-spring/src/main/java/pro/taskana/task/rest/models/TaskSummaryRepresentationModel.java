@@ -2,6 +2,8 @@ package pro.taskana.task.rest.models;
 
 import static pro.taskana.task.api.models.TaskSummary.DEFAULT_MANUAL_PRIORITY;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotNull;
 import java.time.Instant;
@@ -12,6 +14,8 @@ import pro.taskana.classification.rest.models.ClassificationSummaryRepresentatio
 import pro.taskana.task.api.TaskState;
 import pro.taskana.workbasket.rest.models.WorkbasketSummaryRepresentationModel;
 
+// attributes without a value are omitted, e.g. the ones which weren't selected with "fields"
+@JsonInclude(Include.NON_NULL)
 public class TaskSummaryRepresentationModel
     extends RepresentationModel<TaskSummaryRepresentationModel> {
 
@@ -57,8 +61,10 @@ public class TaskSummaryRepresentationModel
   protected String note;
   @Schema(name = "description", description = "The description of the task.")
   protected String description;
+
   @Schema(name = "priority", description = "The priority of the task.")
-  protected int priority;
+  protected Integer priority;
+
   @Schema(
       name = "manualPriority",
       description =
@@ -66,7 +72,8 @@ public class TaskSummaryRepresentationModel
               + "priority is automatically set to manualPriority. In this case, all computations of"
               + " priority are disabled. If the value of manualPriority is negative, Tasks are not"
               + " prioritized manually.")
-  protected int manualPriority = DEFAULT_MANUAL_PRIORITY;
+  protected Integer manualPriority = DEFAULT_MANUAL_PRIORITY;
+
   @Schema(
       name = "state",
       description =
@@ -75,8 +82,10 @@ public class TaskSummaryRepresentationModel
               + " priority are disabled. If the value of manualPriority is negative, Tasks are not "
               + "prioritized manually.")
   protected TaskState state;
+
   /** The current count of the comments. */
-  protected int numberOfComments;
+  protected Integer numberOfComments;
+
   @Schema(name = "classificationSummary", description = "The classification of this task.")
   @NotNull
   protected ClassificationSummaryRepresentationModel classificationSummary;
@@ -95,10 +104,13 @@ public class TaskSummaryRepresentationModel
   protected String ownerLongName;
   @Schema(name = "primaryObjRef", description = "The Objects primary ObjectReference.")
   @NotNull protected ObjectReferenceRepresentationModel primaryObjRef;
+
   @Schema(name = "isRead", description = "Indicator if the task has been read.")
-  protected boolean isRead;
+  protected Boolean isRead;
+
   @Schema(name = "isTransferred", description = "Indicator if the task has been transferred.")
-  protected boolean isTransferred;
+  protected Boolean isTransferred;
+
   @Schema(
       name = "groupByCount",
       description = "Number of Tasks that are grouped together with this Task during a groupBy.")
@@ -262,19 +274,19 @@ public class TaskSummaryRepresentationModel
     this.description = description;
   }
 
-  public int getPriority() {
+  public Integer getPriority() {
     return priority;
   }
 
-  public void setPriority(int priority) {
+  public void setPriority(Integer priority) {
     this.priority = priority;
   }
 
-  public int getManualPriority() {
+  public Integer getManualPriority() {
     return manualPriority;
   }
 
-  public void setManualPriority(int manualPriority) {
+  public void setManualPriority(Integer manualPriority) {
     this.manualPriority = manualPriority;
   }
 
@@ -286,11 +298,11 @@ public class TaskSummaryRepresentationModel
     this.state = state;
   }
 
-  public int getNumberOfComments() {
+  public Integer getNumberOfComments() {
     return numberOfComments;
   }
 
-  public void setNumberOfComments(int numberOfComments) {
+  public void setNumberOfComments(Integer numberOfComments) {
     this.numberOfComments = numberOfComments;
   }
 
@@ -360,19 +372,19 @@ public class TaskSummaryRepresentationModel
     this.secondaryObjectReferences = secondaryObjectReferences;
   }
 
-  public boolean isRead() {
+  public Boolean isRead() {
     return isRead;
   }
 
-  public void setRead(boolean isRead) {
+  public void setRead(Boolean isRead) {
     this.isRead = isRead;
   }
 
-  public boolean isTransferred() {
+  public Boolean isTransferred() {
     return isTransferred;
   }
 
-  public void setTransferred(boolean isTransferred) {
+  public void setTransferred(Boolean isTransferred) {
     this.isTransferred = isTransferred;
   }
 
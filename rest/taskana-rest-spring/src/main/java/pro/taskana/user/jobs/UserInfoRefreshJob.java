@@ -1,31 +1,53 @@
 package pro.taskana.user.jobs;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Connection;
 import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
 import java.time.Duration;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import pro.taskana.TaskanaConfiguration;
 import pro.taskana.common.api.ScheduledJob;
 import pro.taskana.common.api.TaskanaEngine;
 import pro.taskana.common.api.exceptions.InvalidArgumentException;
-import pro.taskana.common.api.exceptions.NotAuthorizedException;
 import pro.taskana.common.api.exceptions.SystemException;
 import pro.taskana.common.internal.jobs.AbstractTaskanaJob;
 import pro.taskana.common.internal.transaction.TaskanaTransactionProvider;
 import pro.taskana.common.rest.ldap.LdapClient;
 import pro.taskana.common.rest.util.ApplicationContextProvider;
 import pro.taskana.spi.user.internal.RefreshUserPostprocessorManager;
-import pro.taskana.task.internal.jobs.helper.SqlConnectionRunner;
-import pro.taskana.user.api.exceptions.UserAlreadyExistException;
-import pro.taskana.user.api.exceptions.UserNotFoundException;
 import pro.taskana.user.api.models.User;
+import pro.taskana.user.internal.UserServiceImpl;
 
-/** Job to refresh all user info after a period of time. */
+/**
+ * Job to refresh all user info after a period of time.
+ *
+ * <p>The users of the user role are read from LDAP page by page and compared with the stored users
+ * by a hash of all their values. Only new, changed and removed users are written, and all changes
+ * are made in the transaction of the job, so the user info stays available while the job runs.
+ */
 public class UserInfoRefreshJob extends AbstractTaskanaJob {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(UserInfoRefreshJob.class);
-  private final SqlConnectionRunner sqlConnectionRunner;
+  private static final String USER_INFO_COLUMNS =
+      "USER_ID, FIRST_NAME, LASTNAME, FULL_NAME, LONG_NAME, E_MAIL, PHONE, MOBILE_PHONE, "
+          + "ORG_LEVEL_4, ORG_LEVEL_3, ORG_LEVEL_2, ORG_LEVEL_1, DATA";
+  private static final int USER_INFO_COLUMN_COUNT = 13;
+  private static final int USERS_PER_FLUSH = 1000;
   private final RefreshUserPostprocessorManager refreshUserPostprocessorManager;
 
   public UserInfoRefreshJob(TaskanaEngine taskanaEngine) {
@@ -39,7 +61,6 @@ public class UserInfoRefreshJob extends AbstractTaskanaJob {
     super(taskanaEngine, txProvider, scheduledJob, true);
     runEvery = taskanaEngine.getConfiguration().getUserRefreshJobRunEvery();
     firstRun = taskanaEngine.getConfiguration().getUserRefreshJobFirstRun();
-    sqlConnectionRunner = new SqlConnectionRunner(taskanaEngine);
     refreshUserPostprocessorManager = new RefreshUserPostprocessorManager();
   }
 
@@ -55,95 +76,291 @@ public class UserInfoRefreshJob extends AbstractTaskanaJob {
   @Override
   protected void execute() {
     LOGGER.info("Running job to refresh all user info");
+    long start = System.nanoTime();
 
     LdapClient ldapClient =
         ApplicationContextProvider.getApplicationContext().getBean("ldapClient", LdapClient.class);
 
     try {
+      // LDAP is searched before the user tables are touched, so no connection is held meanwhile
+      Map<String, User> refreshedUsers = new LinkedHashMap<>();
+      ldapClient.searchUsersInUserRole(
+          users -> {
+            for (User user : users) {
+              User userAfterProcessing =
+                  refreshUserPostprocessorManager.processUserAfterRefresh(user);
+              prepareUser(userAfterProcessing);
+              if (refreshedUsers.putIfAbsent(userAfterProcessing.getId(), userAfterProcessing)
+                  != null) {
+                LOGGER.warn(
+                    "Ignoring duplicate user {} returned by LDAP.", userAfterProcessing.getId());
+              }
+            }
+          });
 
-      List<User> users = ldapClient.searchUsersInUserRole();
-      List<User> usersAfterProcessing =
-          users.stream().map(refreshUserPostprocessorManager::processUserAfterRefresh).toList();
-      addExistingConfigurationDataToUsers(usersAfterProcessing);
-      clearExistingUsersAndGroupsAndPermissions();
-      insertNewUsers(usersAfterProcessing);
-
-      LOGGER.info("Job to refresh all user info has finished.");
+      ((UserServiceImpl) taskanaEngineImpl.getUserService())
+          .executeInTransaction(
+              connection -> {
+                try (UserInfoWriter writer = new UserInfoWriter(connection)) {
+                  Map<String, StoredUser> storedUsers = readStoredUsers(connection);
+                  int written = 0;
+                  for (User user : refreshedUsers.values()) {
+                    writer.write(user, storedUsers.get(user.getId()));
+                    if (++written % USERS_PER_FLUSH == 0) {
+                      writer.flush();
+                    }
+                  }
+                  for (String userId : storedUsers.keySet()) {
+                    if (!refreshedUsers.containsKey(userId)) {
+                      writer.delete(userId);
+                    }
+                  }
+                  writer.flush();
 
+                  LOGGER.info(
+                      "Job to refresh all user info has finished. Inserted {}, updated {}, "
+                          + "deleted {} and kept {} unchanged users in {} ms.",
+                      writer.inserted,
+                      writer.updated,
+                      writer.deleted,
+                      writer.unchanged,
+                      Duration.ofNanos(System.nanoTime() - start).toMillis());
+                }
+              });
     } catch (Exception e) {
       throw new SystemException("Error while processing UserRefreshJob.", e);
     }
   }
 
-  private void clearExistingUsersAndGroupsAndPermissions() {
-
-    sqlConnectionRunner.runWithConnection(
-        connection -> {
-          if (LOGGER.isDebugEnabled()) {
-            LOGGER.debug("Trying to delete all users, groups and permissions");
-          }
-          String sql = "DELETE FROM USER_INFO; DELETE FROM GROUP_INFO; DELETE FROM PERMISSION_INFO";
-          PreparedStatement statement = connection.prepareStatement(sql);
-          statement.execute();
-          if (LOGGER.isDebugEnabled()) {
-            LOGGER.debug("Successfully deleted all users, groups and permissions");
-          }
-
-          if (!connection.getAutoCommit()) {
-            connection.commit();
-          }
-        });
+  private static Map<String, StoredUser> readStoredUsers(Connection connection)
+      throws SQLException {
+    Map<String, Set<String>> groupsByUserId =
+        readUserAssignments(connection, "SELECT USER_ID, GROUP_ID FROM GROUP_INFO");
+    Map<String, Set<String>> permissionsByUserId =
+        readUserAssignments(connection, "SELECT USER_ID, PERMISSION_ID FROM PERMISSION_INFO");
+
+    Map<String, StoredUser> storedUsers = new HashMap<>();
+    try (Statement statement = connection.createStatement();
+        ResultSet rs = statement.executeQuery("SELECT " + USER_INFO_COLUMNS + " FROM USER_INFO")) {
+      while (rs.next()) {
+        String[] values = new String[USER_INFO_COLUMN_COUNT];
+        for (int i = 0; i < USER_INFO_COLUMN_COUNT; i++) {
+          values[i] = rs.getString(i + 1);
+        }
+        String userId = values[0];
+        String hash =
+            hash(
+                values,
+                groupsByUserId.getOrDefault(userId, Set.of()),
+                permissionsByUserId.getOrDefault(userId, Set.of()));
+        storedUsers.put(userId, new StoredUser(hash, values[USER_INFO_COLUMN_COUNT - 1]));
+      }
+    }
+    return storedUsers;
   }
 
-  private void insertNewUsers(List<User> users) {
+  private static Map<String, Set<String>> readUserAssignments(Connection connection, String sql)
+      throws SQLException {
+    Map<String, Set<String>> assignmentsByUserId = new HashMap<>();
+    try (Statement statement = connection.createStatement();
+        ResultSet rs = statement.executeQuery(sql)) {
+      while (rs.next()) {
+        assignmentsByUserId
+            .computeIfAbsent(rs.getString(1), userId -> new HashSet<>())
+            .add(rs.getString(2));
+      }
+    }
+    return assignmentsByUserId;
+  }
 
-    users.forEach(
-        user -> {
-          try {
-            if (LOGGER.isDebugEnabled()) {
-              LOGGER.debug("Trying to insert user {}", user);
-            }
-            taskanaEngineImpl.getUserService().createUser(user);
-            if (LOGGER.isDebugEnabled()) {
-              LOGGER.debug("Successfully inserted user {}", user);
-            }
-          } catch (InvalidArgumentException
-              | NotAuthorizedException
-              | UserAlreadyExistException e) {
-            throw new SystemException("Caught Exception while trying to insert new User", e);
-          }
-        });
+  private static String[] getColumnValues(User user) {
+    return new String[] {
+      user.getId(),
+      user.getFirstName(),
+      user.getLastName(),
+      user.getFullName(),
+      user.getLongName(),
+      user.getEmail(),
+      user.getPhone(),
+      user.getMobilePhone(),
+      user.getOrgLevel4(),
+      user.getOrgLevel3(),
+      user.getOrgLevel2(),
+      user.getOrgLevel1(),
+      user.getData()
+    };
+  }
+
+  private static String hash(String[] values, Set<String> groups, Set<String> permissions) {
+    StringBuilder content = new StringBuilder();
+    Arrays.stream(values).forEach(value -> appendHashValue(content, value));
+    new TreeSet<>(groups).forEach(group -> appendHashValue(content, group));
+    // separates the groups from the permissions
+    appendHashValue(content, null);
+    new TreeSet<>(permissions).forEach(permission -> appendHashValue(content, permission));
+    try {
+      byte[] digest =
+          MessageDigest.getInstance("SHA-256")
+              .digest(content.toString().getBytes(StandardCharsets.UTF_8));
+      return Base64.getEncoder().encodeToString(digest);
+    } catch (NoSuchAlgorithmException e) {
+      throw new SystemException("SHA-256 is not supported by this JVM.", e);
+    }
   }
 
-  private void addExistingConfigurationDataToUsers(List<User> users) {
+  private static void appendHashValue(StringBuilder content, String value) {
+    // distinguishes null from any string and keeps the values apart unambiguously. Empty strings
+    // are treated like null, since Oracle stores them as null.
+    content
+        .append(
+            value == null || value.isEmpty() ? "\u0000" : value.replace("\u001F", "\u001F\u001F"))
+        .append('\u001F');
+  }
 
-    users.forEach(
-        user -> {
-          try {
+  /**
+   * Applies the same validation and defaults as {@linkplain UserServiceImpl#prepareNewUser(User)},
+   * so that refreshed users are stored exactly like users created through the UserService.
+   *
+   * @param user the {@linkplain User} read from LDAP
+   * @throws SystemException if the {@linkplain User} misses its id, first name or last name
+   */
+  private static void prepareUser(User user) {
+    try {
+      UserServiceImpl.prepareNewUser(user);
+    } catch (InvalidArgumentException e) {
+      throw new SystemException(e.getMessage(), e);
+    }
+  }
 
-            String userData = taskanaEngineImpl.getUserService().getUser(user.getId()).getData();
-            if (userData != null) {
-              if (LOGGER.isDebugEnabled()) {
-                LOGGER.debug("Trying to set userData {} for user {}", userData, user);
-              }
-              user.setData(userData);
-              if (LOGGER.isDebugEnabled()) {
-                LOGGER.debug("Successfully set userData {} for user {}", userData, user);
-              }
-            }
-          } catch (UserNotFoundException e) {
-            if (LOGGER.isDebugEnabled()) {
-              LOGGER.debug(
-                  String.format(
-                      "Failed to fetch configuration data for User "
-                          + "with ID '%s' because it doesn't exist",
-                      user.getId()));
-            }
-          } catch (InvalidArgumentException e) {
-            if (LOGGER.isDebugEnabled()) {
-              LOGGER.debug("Failed to fetch configuration data because userId was NULL or empty");
-            }
-          }
-        });
+  private static final class StoredUser {
+
+    private final String hash;
+    private final String data;
+
+    private StoredUser(String hash, String data) {
+      this.hash = hash;
+      this.data = data;
+    }
+  }
+
+  /** Writes the differences between LDAP and the user tables with JDBC batches. */
+  private static final class UserInfoWriter implements AutoCloseable {
+
+    private final PreparedStatement insertUser;
+    private final PreparedStatement updateUser;
+    private final PreparedStatement deleteUser;
+    private final PreparedStatement deleteGroups;
+    private final PreparedStatement deletePermissions;
+    private final PreparedStatement insertGroup;
+    private final PreparedStatement insertPermission;
+    private int inserted;
+    private int updated;
+    private int deleted;
+    private int unchanged;
+
+    private UserInfoWriter(Connection connection) throws SQLException {
+      insertUser =
+          connection.prepareStatement(
+              "INSERT INTO USER_INFO ("
+                  + USER_INFO_COLUMNS
+                  + ") VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)");
+      updateUser =
+          connection.prepareStatement(
+              "UPDATE USER_INFO SET FIRST_NAME = ?, LASTNAME = ?, FULL_NAME = ?, LONG_NAME = ?, "
+                  + "E_MAIL = ?, PHONE = ?, MOBILE_PHONE = ?, ORG_LEVEL_4 = ?, ORG_LEVEL_3 = ?, "
+                  + "ORG_LEVEL_2 = ?, ORG_LEVEL_1 = ?, DATA = ? WHERE USER_ID = ?");
+      deleteUser = connection.prepareStatement("DELETE FROM USER_INFO WHERE USER_ID = ?");
+      deleteGroups = connection.prepareStatement("DELETE FROM GROUP_INFO WHERE USER_ID = ?");
+      deletePermissions =
+          connection.prepareStatement("DELETE FROM PERMISSION_INFO WHERE USER_ID = ?");
+      insertGroup =
+          connection.prepareStatement("INSERT INTO GROUP_INFO (USER_ID, GROUP_ID) VALUES (?, ?)");
+      insertPermission =
+          connection.prepareStatement(
+              "INSERT INTO PERMISSION_INFO (USER_ID, PERMISSION_ID) VALUES (?, ?)");
+    }
+
+    private void write(User user, StoredUser storedUser) throws SQLException {
+      if (storedUser != null && storedUser.data != null) {
+        // data is maintained within TASKANA and has to survive the refresh
+        user.setData(storedUser.data);
+      }
+      String[] values = getColumnValues(user);
+      if (storedUser == null) {
+        setValues(insertUser, values, 0);
+        insertUser.addBatch();
+        addAssignments(user);
+        inserted++;
+      } else if (!storedUser.hash.equals(hash(values, user.getGroups(), user.getPermissions()))) {
+        setValues(updateUser, Arrays.copyOfRange(values, 1, values.length), 0);
+        updateUser.setString(values.length, user.getId());
+        updateUser.addBatch();
+        removeAssignments(user.getId());
+        addAssignments(user);
+        updated++;
+      } else {
+        unchanged++;
+      }
+    }
+
+    private void delete(String userId) throws SQLException {
+      deleteUser.setString(1, userId);
+      deleteUser.addBatch();
+      removeAssignments(userId);
+      deleted++;
+    }
+
+    private void flush() throws SQLException {
+      // assignments of updated users have to be removed before they are inserted again
+      deleteGroups.executeBatch();
+      deletePermissions.executeBatch();
+      deleteUser.executeBatch();
+      updateUser.executeBatch();
+      insertUser.executeBatch();
+      insertGroup.executeBatch();
+      insertPermission.executeBatch();
+    }
+
+    @Override
+    public void close() throws SQLException {
+      for (PreparedStatement statement :
+          List.of(
+              insertUser,
+              updateUser,
+              deleteUser,
+              deleteGroups,
+              deletePermissions,
+              insertGroup,
+              insertPermission)) {
+        statement.close();
+      }
+    }
+
+    private void removeAssignments(String userId) throws SQLException {
+      deleteGroups.setString(1, userId);
+      deleteGroups.addBatch();
+      deletePermissions.setString(1, userId);
+      deletePermissions.addBatch();
+    }
+
+    private void addAssignments(User user) throws SQLException {
+      for (String group : user.getGroups()) {
+        insertGroup.setString(1, user.getId());
+        insertGroup.setString(2, group);
+        insertGroup.addBatch();
+      }
+      for (String permission : user.getPermissions()) {
+        insertPermission.setString(1, user.getId());
+        insertPermission.setString(2, permission);
+        insertPermission.addBatch();
+      }
+    }
+
+    private static void setValues(PreparedStatement statement, String[] values, int offset)
+        throws SQLException {
+      for (int i = 0; i < values.length; i++) {
+        statement.setString(offset + i + 1, values[i]);
+      }
+    }
   }
 }
@@ -0,0 +1,36 @@
+package pro.taskana.common.rest.ldap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import pro.taskana.rest.test.TaskanaSpringBootTest;
+import pro.taskana.user.api.models.User;
+
+@TaskanaSpringBootTest
+class LdapClientIntTest {
+
+  private final LdapClient ldapClient;
+
+  @Autowired
+  LdapClientIntTest(LdapClient ldapClient) {
+    this.ldapClient = ldapClient;
+  }
+
+  @Test
+  void should_PassUsersPageByPage_When_SearchingUsersInUserRoleWithSmallPages() {
+    List<User> allUsers = ldapClient.searchUsersInUserRole();
+    List<List<User>> pages = new ArrayList<>();
+
+    ldapClient.searchUsersInUserRole(pages::add, 2);
+
+    assertThat(allUsers).hasSizeGreaterThan(2);
+    assertThat(pages)
+        .hasSize((allUsers.size() + 1) / 2)
+        .allSatisfy(page -> assertThat(page).hasSizeBetween(1, 2));
+    assertThat(pages.stream().flatMap(List::stream).map(User::getId))
+        .containsExactlyInAnyOrderElementsOf(allUsers.stream().map(User::getId).toList());
+  }
+}
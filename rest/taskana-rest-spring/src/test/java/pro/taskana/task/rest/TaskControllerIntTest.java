@@ -5,6 +5,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static pro.taskana.rest.test.RestHelper.TEMPLATE;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import java.io.BufferedWriter;
 import java.io.OutputStreamWriter;
 import java.lang.reflect.Field;
@@ -13,6 +15,7 @@ import java.net.URL;
 import java.net.URLEncoder;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
@@ -34,9 +37,12 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.hateoas.Link;
 import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.client.HttpStatusCodeException;
 import org.testcontainers.shaded.com.google.common.collect.Lists;
@@ -75,6 +81,7 @@ class TaskControllerIntTest {
   private final DataSource dataSource;
   private final String schemaName;
   @Autowired TaskanaConfiguration taskanaConfiguration;
+  @Autowired ObjectMapper objectMapper;
 
   @Autowired
   TaskControllerIntTest(
@@ -203,6 +210,54 @@ class TaskControllerIntTest {
       assertThat(response.getBody().getContent()).hasSize(22);
     }
 
+    @Test
+    void should_OnlyReturnSelectedFields_When_GettingTasksWithFields() {
+      String url =
+          restHelper.toUrl(RestEndpoints.URL_TASKS)
+              + "?workbasket-id=WBI:100000000000000000000000000000000001"
+              + "&fields=NAME&fields=CLASSIFICATION_NAME&sort-by=NAME";
+      HttpEntity<Object> auth = new HttpEntity<>(RestHelper.generateHeadersForUser("teamlead-1"));
+
+      ResponseEntity<TaskSummaryPagedRepresentationModel> response =
+          TEMPLATE.exchange(url, HttpMethod.GET, auth, TASK_SUMMARY_PAGE_MODEL_TYPE);
+
+      assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+      assertThat(response.getBody()).isNotNull();
+      assertThat(response.getBody().getContent())
+          .hasSize(22)
+          .allSatisfy(
+              task -> {
+                assertThat(task.getTaskId()).isNotNull();
+                assertThat(task.getName()).isNotNull();
+                assertThat(task.getClassificationSummary().getName()).isNotNull();
+                assertThat(task.getCreated()).isNull();
+                assertThat(task.getCustom1()).isNull();
+                assertThat(task.getWorkbasketSummary()).isNull();
+                assertThat(task.getPrimaryObjRef()).isNull();
+                assertThat(task.getSecondaryObjectReferences()).isEmpty();
+              });
+    }
+
+    @Test
+    void should_OmitAttributesOfOtherColumns_When_GettingTasksWithFields() throws Exception {
+      String url =
+          restHelper.toUrl(RestEndpoints.URL_TASKS)
+              + "?workbasket-id=WBI:100000000000000000000000000000000001"
+              + "&fields=NAME&sort-by=DUE";
+      HttpEntity<Object> auth = new HttpEntity<>(RestHelper.generateHeadersForUser("teamlead-1"));
+
+      ResponseEntity<String> response = TEMPLATE.exchange(url, HttpMethod.GET, auth, String.class);
+
+      assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+      JsonNode tasks = objectMapper.readTree(response.getBody()).get("tasks");
+      assertThat(tasks)
+          .hasSize(22)
+          .allSatisfy(
+              task ->
+                  assertThat(Lists.newArrayList(task.fieldNames()))
+                      .containsExactlyInAnyOrder("taskId", "name"));
+    }
+
     @Test
     void should_GetAllTasks_For_SpecifiedWorkbasketIdWithinMultiplePlannedTimeIntervals() {
       Instant firstInstant = Instant.now().minus(7, ChronoUnit.DAYS);
@@ -1358,6 +1413,62 @@ class TaskControllerIntTest {
       assertThat(response.getBody().getLink(IanaLinkRelations.PREV)).isNotNull();
     }
 
+    @Test
+    void should_ReturnAllTasksWithoutPageMetadata_When_FollowingNextCursorLinks() {
+      String url =
+          restHelper.toUrl(RestEndpoints.URL_TASKS)
+              + "?sort-by=DUE&order=DESCENDING&page-size=5&cursor=";
+      HttpEntity<String> auth = new HttpEntity<>(RestHelper.generateHeadersForUser("teamlead-1"));
+
+      List<String> taskIds = new ArrayList<>();
+      TaskSummaryPagedRepresentationModel page;
+      do {
+        ResponseEntity<TaskSummaryPagedRepresentationModel> response =
+            TEMPLATE.exchange(url, HttpMethod.GET, auth, TASK_SUMMARY_PAGE_MODEL_TYPE);
+        page = response.getBody();
+        assertThat(page).isNotNull();
+        assertThat(page.getPageMetadata()).isNull();
+        page.getContent().forEach(task -> taskIds.add(task.getTaskId()));
+        url = page.getLink(IanaLinkRelations.NEXT).map(Link::getHref).orElse(null);
+      } while (url != null);
+
+      assertThat(taskIds).hasSize(61).doesNotHaveDuplicates();
+    }
+
+    @Test
+    void should_StreamAllTasksAsNdjson_When_RequestingNdjson() {
+      String url = restHelper.toUrl(RestEndpoints.URL_TASKS) + "?sort-by=DUE&order=DESCENDING";
+      HttpHeaders headers = RestHelper.generateHeadersForUser("teamlead-1");
+      headers.setAccept(List.of(MediaType.APPLICATION_NDJSON));
+      HttpEntity<String> auth = new HttpEntity<>(headers);
+
+      ResponseEntity<String> response = TEMPLATE.exchange(url, HttpMethod.GET, auth, String.class);
+
+      assertThat(response.getHeaders().getContentType())
+          .isNotNull()
+          .matches(MediaType.APPLICATION_NDJSON::isCompatibleWith);
+      assertThat(response.getBody()).isNotNull();
+      assertThat(response.getBody().split("\n"))
+          .hasSize(61)
+          .allSatisfy(line -> assertThat(line).startsWith("{").contains("\"taskId\":\"TKI:"));
+    }
+
+    @Test
+    void should_ThrowException_When_CursorAndPageAreUsedTogether() {
+      String url = restHelper.toUrl(RestEndpoints.URL_TASKS) + "?page-size=5&page=1&cursor=";
+      HttpEntity<String> auth = new HttpEntity<>(RestHelper.generateHeadersForUser("teamlead-1"));
+
+      ThrowingCallable httpCall =
+          () -> TEMPLATE.exchange(url, HttpMethod.GET, auth, TASK_SUMMARY_PAGE_MODEL_TYPE);
+
+      assertThatThrownBy(httpCall)
+          .isInstanceOf(HttpStatusCodeException.class)
+          .hasMessageContaining("The params 'cursor' and 'page' cannot be used together.")
+          .extracting(HttpStatusCodeException.class::cast)
+          .extracting(HttpStatusCodeException::getStatusCode)
+          .isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
     @Test
     void should_GetAllTasks_For_GettingSecondPageFilteredByPorAttributesSortedByType() {
       String url =
@@ -241,6 +241,24 @@ class TaskSummaryRepresentationModelAssemblerTest {
             "markedForDeletion", "custom1", "custom2", "custom3", "custom4");
   }
 
+  @Test
+  void should_ReturnRepresentationModelWithoutSummaries_When_EntityHasNoSummaries() {
+    // given
+    TaskSummaryImpl task = new TaskSummaryImpl();
+    task.setId("taskId");
+    task.setName("name");
+    // when
+    TaskSummaryRepresentationModel repModel = assembler.toModel(task);
+    // then
+    assertThat(repModel.getTaskId()).isEqualTo("taskId");
+    assertThat(repModel.getName()).isEqualTo("name");
+    assertThat(repModel.getClassificationSummary()).isNull();
+    assertThat(repModel.getWorkbasketSummary()).isNull();
+    assertThat(repModel.getPrimaryObjRef()).isNull();
+    assertThat(repModel.getAttachmentSummaries()).isEmpty();
+    assertThat(repModel.getSecondaryObjectReferences()).isEmpty();
+  }
+
   @Test
   void should_Equal_When_ComparingEntityWithConvertedEntity() {
     // given
@@ -134,6 +134,165 @@ class UserInfoRefreshJobIntTest {
     }
   }
 
+  @Test
+  @WithAccessId(user = "businessadmin")
+  @Order(3)
+  void should_WriteOnlyDifferences_When_StoredUsersDifferFromLdap() throws Exception {
+
+    try (Connection connection = taskanaEngine.getConfiguration().getDataSource().getConnection()) {
+      List<User> ldapUsers = ldapClient.searchUsersInUserRole();
+      ldapUsers.sort(Comparator.comparing(User::getId));
+      User missingUser = ldapUsers.get(0);
+      final User outdatedUser = ldapUsers.get(1);
+      final User unchangedUser = ldapUsers.get(2);
+      String schema = connection.getSchema();
+
+      executeUpdate(
+          connection,
+          "DELETE FROM " + schema + ".USER_INFO WHERE USER_ID = ?",
+          missingUser.getId());
+      executeUpdate(
+          connection,
+          "DELETE FROM " + schema + ".GROUP_INFO WHERE USER_ID = ?",
+          missingUser.getId());
+      executeUpdate(
+          connection,
+          "DELETE FROM " + schema + ".PERMISSION_INFO WHERE USER_ID = ?",
+          missingUser.getId());
+      executeUpdate(
+          connection,
+          "UPDATE " + schema + ".USER_INFO SET FIRST_NAME = 'outdated' WHERE USER_ID = ?",
+          outdatedUser.getId());
+      executeUpdate(
+          connection,
+          "INSERT INTO " + schema + ".USER_INFO (USER_ID, FIRST_NAME, LASTNAME) VALUES (?, ?, ?)",
+          "obsolete-user",
+          "Obsolete",
+          "User");
+      executeUpdate(
+          connection,
+          "INSERT INTO " + schema + ".GROUP_INFO (USER_ID, GROUP_ID) VALUES (?, ?)",
+          "obsolete-user",
+          "obsolete-group");
+      final User unchangedUserBefore = userService.getUser(unchangedUser.getId());
+
+      new UserInfoRefreshJob(taskanaEngine).execute();
+
+      assertThat(userService.getUser(missingUser.getId()).getFirstName())
+          .isEqualTo(missingUser.getFirstName());
+      assertThat(getGroupInfo(connection, missingUser.getId()))
+          .containsExactlyInAnyOrderElementsOf(missingUser.getGroups());
+      assertThat(userService.getUser(outdatedUser.getId()).getFirstName())
+          .isEqualTo(outdatedUser.getFirstName());
+      assertThat(getUsers(connection))
+          .extracting(User::getId)
+          .doesNotContain("obsolete-user")
+          .hasSameSizeAs(ldapUsers);
+      assertThat(getGroupInfo(connection, "obsolete-user")).isEmpty();
+      assertThat(userService.getUser(unchangedUser.getId()))
+          .usingRecursiveComparison()
+          .ignoringCollectionOrder()
+          .isEqualTo(unchangedUserBefore);
+    }
+  }
+
+  @Test
+  @WithAccessId(user = "businessadmin")
+  @Order(4)
+  void should_RewriteAssignments_When_OnlyGroupsAndPermissionsDifferFromLdap() throws Exception {
+
+    try (Connection connection = taskanaEngine.getConfiguration().getDataSource().getConnection()) {
+      User ldapUser =
+          ldapClient.searchUsersInUserRole().stream()
+              .filter(user -> !user.getGroups().isEmpty())
+              .findFirst()
+              .orElseThrow();
+      String schema = connection.getSchema();
+      executeUpdate(
+          connection,
+          "DELETE FROM " + schema + ".GROUP_INFO WHERE USER_ID = ? AND GROUP_ID = ?",
+          ldapUser.getId(),
+          ldapUser.getGroups().iterator().next());
+      executeUpdate(
+          connection,
+          "INSERT INTO " + schema + ".PERMISSION_INFO (USER_ID, PERMISSION_ID) VALUES (?, ?)",
+          ldapUser.getId(),
+          "outdated-permission");
+
+      new UserInfoRefreshJob(taskanaEngine).execute();
+
+      assertThat(getGroupInfo(connection, ldapUser.getId()))
+          .containsExactlyInAnyOrderElementsOf(ldapUser.getGroups());
+      assertThat(getPermissionInfo(connection, ldapUser.getId()))
+          .containsExactlyInAnyOrderElementsOf(ldapUser.getPermissions());
+    }
+  }
+
+  @Test
+  @WithAccessId(user = "businessadmin")
+  @Order(5)
+  void should_KeepData_When_UserIsUpdatedFromLdap() throws Exception {
+
+    try (Connection connection = taskanaEngine.getConfiguration().getDataSource().getConnection()) {
+      User ldapUser = ldapClient.searchUsersInUserRole().get(0);
+      executeUpdate(
+          connection,
+          "UPDATE "
+              + connection.getSchema()
+              + ".USER_INFO SET FIRST_NAME = 'outdated', DATA = ? WHERE USER_ID = ?",
+          "{\"key\":\"value\"}",
+          ldapUser.getId());
+
+      new UserInfoRefreshJob(taskanaEngine).execute();
+
+      User refreshedUser = userService.getUser(ldapUser.getId());
+      assertThat(refreshedUser.getFirstName()).isEqualTo(ldapUser.getFirstName());
+      assertThat(refreshedUser.getData()).isEqualTo("{\"key\":\"value\"}");
+    }
+  }
+
+  @Test
+  @WithAccessId(user = "businessadmin")
+  @Order(6)
+  void should_NotRewriteUser_When_StoredValueIsEmptyAndLdapValueIsNull() throws Exception {
+
+    try (Connection connection = taskanaEngine.getConfiguration().getDataSource().getConnection()) {
+      User ldapUser =
+          ldapClient.searchUsersInUserRole().stream()
+              .filter(user -> user.getMobilePhone() == null)
+              .findFirst()
+              .orElseThrow();
+      String schema = connection.getSchema();
+      executeUpdate(
+          connection,
+          "UPDATE " + schema + ".USER_INFO SET MOBILE_PHONE = '' WHERE USER_ID = ?",
+          ldapUser.getId());
+
+      new UserInfoRefreshJob(taskanaEngine).execute();
+
+      // an empty string is read back as null on Oracle, so both are treated as equal
+      try (PreparedStatement ps =
+          connection.prepareStatement(
+              "SELECT MOBILE_PHONE FROM " + schema + ".USER_INFO WHERE USER_ID = ?")) {
+        ps.setString(1, ldapUser.getId());
+        try (ResultSet rs = ps.executeQuery()) {
+          assertThat(rs.next()).isTrue();
+          assertThat(rs.getString(1)).isEmpty();
+        }
+      }
+    }
+  }
+
+  private void executeUpdate(Connection connection, String sql, String... parameters)
+      throws Exception {
+    try (PreparedStatement ps = connection.prepareStatement(sql)) {
+      for (int i = 0; i < parameters.length; i++) {
+        ps.setString(i + 1, parameters[i]);
+      }
+      ps.executeUpdate();
+    }
+  }
+
   private List<User> getUsers(Connection connection) throws Exception {
 
     List<String> users = new ArrayList<>();
@@ -20,12 +20,14 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.util.ClassUtils;
 import org.springframework.web.multipart.MultipartFile;
 import pro.taskana.common.api.KeyDomain;
 import pro.taskana.common.api.TaskanaEngine;
 import pro.taskana.common.api.TaskanaRole;
 import pro.taskana.common.api.exceptions.NotAuthorizedException;
 import pro.taskana.common.api.exceptions.SystemException;
+import pro.taskana.routing.dmn.DmnTaskRouter;
 import pro.taskana.routing.dmn.service.util.InputEntriesSanitizer;
 import pro.taskana.routing.dmn.spi.internal.DmnValidatorManager;
 import pro.taskana.workbasket.api.WorkbasketService;
@@ -35,6 +37,9 @@ import pro.taskana.workbasket.api.WorkbasketService;
 public class DmnConverterService {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(DmnConverterService.class);
+  private static final boolean DMN_TASK_ROUTER_PRESENT =
+      ClassUtils.isPresent(
+          "pro.taskana.routing.dmn.DmnTaskRouter", DmnConverterService.class.getClassLoader());
 
   private final TaskanaEngine taskanaEngine;
 
@@ -85,6 +90,12 @@ public class DmnConverterService {
       File uploadDestinationFile = new File(dmnUploadPath);
       Dmn.writeModelToFile(uploadDestinationFile, patchedModel);
 
+      // the DmnTaskRouter is optional, it only has to be present if tasks are routed.
+      // Only the routers of this instance are reloaded, other instances keep their table.
+      if (DMN_TASK_ROUTER_PRESENT) {
+        DmnTaskRouter.reload(taskanaEngine, patchedModel);
+      }
+
       return patchedModel;
     }
   }
@@ -0,0 +1,324 @@
+package pro.taskana.routing.dmn;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.camunda.bpm.model.dmn.HitPolicy;
+import org.camunda.bpm.model.dmn.instance.DecisionTable;
+import org.camunda.bpm.model.dmn.instance.Input;
+import org.camunda.bpm.model.dmn.instance.InputEntry;
+import org.camunda.bpm.model.dmn.instance.InputExpression;
+import org.camunda.bpm.model.dmn.instance.Rule;
+
+/**
+ * Finds the matching rule of a decision table by hash lookups instead of evaluating every input
+ * entry with the DMN engine.
+ *
+ * <p>Input entries can be indexed if their input expression is a property path like {@code
+ * task.primaryObjRef.value} and the entry is one of
+ *
+ * <ul>
+ *   <li>empty or {@code -}, which matches every value,
+ *   <li>a list of string literals like {@code "00000001","00000002"} or
+ *   <li>an anchored alternation of literals like {@code matches(cellInput,"^(12012|12013)$")}.
+ * </ul>
+ *
+ * <p>Each input column maps every literal to the rules which accept it. The rules which match a
+ * task are the intersection of the rules which accept the value of the task in every column. Rules
+ * with other input entries may match any value. If such a rule could be the result, the index can't
+ * decide and the DMN engine has to evaluate the decision table.
+ */
+final class DmnRuleIndex {
+
+  /** No rule of the decision table matches. */
+  static final int NO_MATCH = -1;
+
+  /** The index can't decide which rule matches, so the DMN engine has to evaluate the table. */
+  static final int NOT_APPLICABLE = -2;
+
+  private static final String DEFAULT_INPUT_VARIABLE = "cellInput";
+  private static final String FEEL = "feel";
+  private static final String JUEL = "juel";
+  private static final Pattern PROPERTY_PATH = Pattern.compile("[a-zA-Z_]\\w*(\\.[a-zA-Z_]\\w*)+");
+  private static final Pattern STRING_LITERALS =
+      Pattern.compile("\"[^\"\\\\]*\"(\\s*,\\s*\"[^\"\\\\]*\")*");
+  private static final Pattern STRING_LITERAL = Pattern.compile("\"([^\"\\\\]*)\"");
+  private static final Pattern MATCHES_CALL =
+      Pattern.compile("matches\\(\\s*(\\w+)\\s*,\\s*\"(.*)\"\\s*\\)");
+  private static final String REGEX_LITERAL = "[\\p{L}\\p{N}_ -]*";
+  private static final Pattern ANCHORED_ALTERNATION =
+      Pattern.compile(
+          "\\^(?:\\(("
+              + REGEX_LITERAL
+              + "(?:\\|"
+              + REGEX_LITERAL
+              + ")*)\\)|("
+              + REGEX_LITERAL
+              + "))\\$");
+  private static final Object UNRESOLVABLE = new Object();
+
+  private final boolean unique;
+  private final BitSet allRules;
+  private final BitSet uncertainRules;
+  private final List<Column> columns;
+
+  private DmnRuleIndex(boolean unique, int ruleCount, BitSet uncertainRules, List<Column> columns) {
+    this.unique = unique;
+    this.allRules = new BitSet(ruleCount);
+    this.allRules.set(0, ruleCount);
+    this.uncertainRules = uncertainRules;
+    this.columns = columns;
+  }
+
+  /**
+   * Creates an index for the given decision table.
+   *
+   * @param decisionTable the decision table
+   * @param variableName the name of the variable which the input expressions start with
+   * @return the index or null if the DMN engine has to evaluate every rule of the decision table
+   */
+  static DmnRuleIndex of(DecisionTable decisionTable, String variableName) {
+    HitPolicy hitPolicy = decisionTable.getHitPolicy();
+    if (hitPolicy != HitPolicy.FIRST && hitPolicy != HitPolicy.UNIQUE) {
+      return null;
+    }
+    List<Input> inputs = new ArrayList<>(decisionTable.getInputs());
+    List<Rule> rules = new ArrayList<>(decisionTable.getRules());
+    List<List<InputEntry>> inputEntriesByRule = new ArrayList<>();
+    for (Rule rule : rules) {
+      List<InputEntry> inputEntries = new ArrayList<>(rule.getInputEntries());
+      if (inputEntries.size() != inputs.size()) {
+        return null;
+      }
+      inputEntriesByRule.add(inputEntries);
+    }
+
+    List<Column> columns = new ArrayList<>();
+    BitSet uncertainRules = new BitSet(rules.size());
+    for (int input = 0; input < inputs.size(); input++) {
+      String inputVariable = inputs.get(input).getCamundaInputVariable();
+      Column column =
+          new Column(inputVariable == null ? DEFAULT_INPUT_VARIABLE : inputVariable, rules.size());
+      for (int rule = 0; rule < rules.size(); rule++) {
+        column.addInputEntry(rule, inputEntriesByRule.get(rule).get(input));
+      }
+      if (column.matchesEveryValue()) {
+        // such a column doesn't restrict the rules, so its input isn't evaluated
+        continue;
+      }
+      if (column.compilePath(inputs.get(input).getInputExpression(), variableName)) {
+        column.complete();
+        columns.add(column);
+        uncertainRules.or(column.uncertainRules);
+      } else {
+        uncertainRules.or(column.getRestrictedRules(rules.size()));
+      }
+    }
+    if (uncertainRules.cardinality() == rules.size()) {
+      return null;
+    }
+    return new DmnRuleIndex(hitPolicy == HitPolicy.UNIQUE, rules.size(), uncertainRules, columns);
+  }
+
+  /**
+   * Finds the rule which matches the given variable.
+   *
+   * @param variable the variable which the input expressions start with
+   * @return the position of the matching rule in the decision table, {@linkplain #NO_MATCH} or
+   *     {@linkplain #NOT_APPLICABLE}
+   */
+  int findMatchingRule(Object variable) {
+    BitSet candidates = allRules;
+    for (Column column : columns) {
+      Object value = column.resolve(variable);
+      // the DMN engine decides how other types and null are compared with string literals
+      if (!(value instanceof String)) {
+        return NOT_APPLICABLE;
+      }
+      BitSet matchingRules = column.getMatchingRules((String) value);
+      if (candidates == allRules) {
+        candidates = (BitSet) matchingRules.clone();
+      } else {
+        candidates.and(matchingRules);
+      }
+      if (candidates.isEmpty()) {
+        return NO_MATCH;
+      }
+    }
+    int firstRule = candidates.nextSetBit(0);
+    if (firstRule < 0) {
+      return NO_MATCH;
+    } else if (uncertainRules.get(firstRule)) {
+      return NOT_APPLICABLE;
+    } else if (unique && (candidates.cardinality() > 1 || candidates.intersects(uncertainRules))) {
+      // let the DMN engine decide whether the hit policy is violated
+      return NOT_APPLICABLE;
+    }
+    return firstRule;
+  }
+
+  private static boolean isFeel(String expressionLanguage) {
+    return expressionLanguage == null || expressionLanguage.toLowerCase(Locale.ROOT).contains(FEEL);
+  }
+
+  private static class Column {
+
+    private final String inputVariable;
+    private final Map<String, BitSet> rulesByLiteral = new HashMap<>();
+    private final BitSet wildcardRules;
+    private final BitSet uncertainRules;
+    private BitSet otherValueRules;
+    private Getter[] path;
+
+    private Column(String inputVariable, int ruleCount) {
+      this.inputVariable = inputVariable;
+      this.wildcardRules = new BitSet(ruleCount);
+      this.uncertainRules = new BitSet(ruleCount);
+    }
+
+    private void addInputEntry(int rule, InputEntry inputEntry) {
+      String text = inputEntry.getText() == null ? null : inputEntry.getText().getTextContent();
+      if (!isFeel(inputEntry.getExpressionLanguage())) {
+        uncertainRules.set(rule);
+      } else if (text == null || text.isBlank() || text.trim().equals("-")) {
+        wildcardRules.set(rule);
+      } else {
+        List<String> literals = parseLiterals(text.trim());
+        if (literals == null) {
+          uncertainRules.set(rule);
+        } else {
+          literals.forEach(
+              literal -> rulesByLiteral.computeIfAbsent(literal, l -> new BitSet()).set(rule));
+        }
+      }
+    }
+
+    private List<String> parseLiterals(String text) {
+      List<String> literals = new ArrayList<>();
+      if (STRING_LITERALS.matcher(text).matches()) {
+        Matcher literal = STRING_LITERAL.matcher(text);
+        while (literal.find()) {
+          literals.add(literal.group(1));
+        }
+      } else {
+        Matcher matchesCall = MATCHES_CALL.matcher(text);
+        if (!matchesCall.matches() || !matchesCall.group(1).equals(inputVariable)) {
+          return null;
+        }
+        // matches(...) searches the pattern, so only an anchored pattern compares the whole value
+        Matcher alternation = ANCHORED_ALTERNATION.matcher(matchesCall.group(2));
+        if (!alternation.matches()) {
+          return null;
+        }
+        if (alternation.group(1) != null) {
+          literals.addAll(List.of(alternation.group(1).split("\\|", -1)));
+        } else {
+          literals.add(alternation.group(2));
+        }
+      }
+      return literals;
+    }
+
+    private boolean matchesEveryValue() {
+      return rulesByLiteral.isEmpty() && uncertainRules.isEmpty();
+    }
+
+    private BitSet getRestrictedRules(int ruleCount) {
+      BitSet restrictedRules = new BitSet(ruleCount);
+      restrictedRules.set(0, ruleCount);
+      restrictedRules.andNot(wildcardRules);
+      return restrictedRules;
+    }
+
+    private boolean compilePath(InputExpression inputExpression, String variableName) {
+      String expressionLanguage = inputExpression.getExpressionLanguage();
+      String typeRef = inputExpression.getTypeRef();
+      String text =
+          inputExpression.getText() == null ? null : inputExpression.getText().getTextContent();
+      if (text == null
+          || !PROPERTY_PATH.matcher(text.trim()).matches()
+          || !(isFeel(expressionLanguage) || JUEL.equalsIgnoreCase(expressionLanguage))
+          || !(typeRef == null || typeRef.equals("string"))) {
+        return false;
+      }
+      String[] names = text.trim().split("\\.");
+      if (!names[0].equals(variableName)) {
+        return false;
+      }
+      path = new Getter[names.length - 1];
+      for (int i = 1; i < names.length; i++) {
+        path[i - 1] = new Getter(names[i]);
+      }
+      return true;
+    }
+
+    private void complete() {
+      // rules which may match any value are candidates for each literal
+      otherValueRules = (BitSet) wildcardRules.clone();
+      otherValueRules.or(uncertainRules);
+      rulesByLiteral.values().forEach(rules -> rules.or(otherValueRules));
+    }
+
+    private Object resolve(Object variable) {
+      Object value = variable;
+      for (Getter getter : path) {
+        if (value == null) {
+          return null;
+        }
+        value = getter.invoke(value);
+        if (value == UNRESOLVABLE) {
+          return UNRESOLVABLE;
+        }
+      }
+      return value;
+    }
+
+    private BitSet getMatchingRules(String value) {
+      return rulesByLiteral.getOrDefault(value, otherValueRules);
+    }
+  }
+
+  private static class Getter extends ClassValue<Method> {
+
+    private final String capitalizedName;
+
+    private Getter(String name) {
+      this.capitalizedName = Character.toUpperCase(name.charAt(0)) + name.substring(1);
+    }
+
+    @Override
+    protected Method computeValue(Class<?> type) {
+      for (String prefix : List.of("get", "is")) {
+        try {
+          Method method = type.getMethod(prefix + capitalizedName);
+          if (Modifier.isPublic(method.getDeclaringClass().getModifiers())) {
+            return method;
+          }
+        } catch (NoSuchMethodException e) {
+          // try the next prefix
+        }
+      }
+      return null;
+    }
+
+    private Object invoke(Object target) {
+      Method method = get(target.getClass());
+      if (method == null) {
+        return UNRESOLVABLE;
+      }
+      try {
+        return method.invoke(target);
+      } catch (IllegalAccessException | InvocationTargetException e) {
+        return UNRESOLVABLE;
+      }
+    }
+  }
+}
@@ -3,9 +3,13 @@ package pro.taskana.routing.dmn;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
 import org.camunda.bpm.dmn.engine.DmnDecision;
 import org.camunda.bpm.dmn.engine.DmnDecisionTableResult;
 import org.camunda.bpm.dmn.engine.DmnEngine;
@@ -14,20 +18,40 @@ import org.camunda.bpm.engine.variable.VariableMap;
 import org.camunda.bpm.engine.variable.Variables;
 import org.camunda.bpm.model.dmn.Dmn;
 import org.camunda.bpm.model.dmn.DmnModelInstance;
+import org.camunda.bpm.model.dmn.instance.Decision;
+import org.camunda.bpm.model.dmn.instance.DecisionTable;
+import org.camunda.bpm.model.dmn.instance.Output;
 import org.camunda.bpm.model.dmn.instance.OutputEntry;
 import org.camunda.bpm.model.dmn.instance.Rule;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import pro.taskana.common.api.TaskanaEngine;
+import pro.taskana.common.api.TaskanaRole;
 import pro.taskana.common.api.exceptions.SystemException;
 import pro.taskana.common.internal.util.FileLoaderUtil;
 import pro.taskana.common.internal.util.Pair;
 import pro.taskana.spi.routing.api.TaskRoutingProvider;
 import pro.taskana.task.api.models.Task;
+import pro.taskana.workbasket.api.WorkbasketPermission;
 import pro.taskana.workbasket.api.WorkbasketService;
 import pro.taskana.workbasket.api.exceptions.NotAuthorizedOnWorkbasketException;
 import pro.taskana.workbasket.api.exceptions.WorkbasketNotFoundException;
 
+/**
+ * Routes tasks with the DMN table configured by the property {@code taskana.routing.dmn}.
+ *
+ * <p>The table is compiled when the router is initialized: All workbaskets in its outputs have to
+ * exist. Rules whose input entries are string literals or anchored alternations of literals are
+ * found by a {@linkplain DmnRuleIndex}. The DMN engine only evaluates the table if a rule with
+ * other input entries could match. The IDs of the workbaskets in the outputs are kept by key and
+ * domain. If a workbasket is missing there or was deleted since, its ID is looked up again, so a
+ * workbasket which is recreated after the table was compiled is still found. The permissions of the
+ * current user are checked with {@linkplain WorkbasketService#checkAuthorization(String,
+ * WorkbasketPermission...)}, which caches them.
+ *
+ * <p>A new table can be swapped in with {@linkplain #reload(TaskanaEngine, DmnModelInstance)}.
+ * Tasks which are routed concurrently use either the old or the new table completely.
+ */
 public class DmnTaskRouter implements TaskRoutingProvider {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(DmnTaskRouter.class);
@@ -37,27 +61,78 @@ public class DmnTaskRouter implements TaskRoutingProvider {
   private static final String DECISION_VARIABLE_MAP_NAME = "task";
   private static final String OUTPUT_WORKBASKET_KEY = "workbasketKey";
   private static final String OUTPUT_DOMAIN = "domain";
+
+  // initialized routers are held weakly, so that they are released together with their engine
+  private static final Set<DmnTaskRouter> INITIALIZED_ROUTERS =
+      Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+
   private TaskanaEngine taskanaEngine;
   private DmnEngine dmnEngine;
-  private DmnDecision decision;
+  private volatile CompiledTable compiledTable;
 
   @Override
   public void initialize(TaskanaEngine taskanaEngine) {
     this.taskanaEngine = taskanaEngine;
     dmnEngine = DmnEngineConfiguration.createDefaultDmnEngineConfiguration().buildEngine();
 
-    DmnModelInstance dmnModel = readModelFromDmnTable();
+    compiledTable = compile(readModelFromDmnTable());
+    INITIALIZED_ROUTERS.add(this);
+  }
 
-    decision = dmnEngine.parseDecision(DECISION_ID, dmnModel);
+  /**
+   * Replaces the DMN table of every DmnTaskRouter which was initialized with the given {@linkplain
+   * TaskanaEngine}. The routers keep their current table if the new one contains unknown
+   * workbaskets.
+   *
+   * <p>Only the routers of the current JVM are reloaded. Other instances of a cluster aren't
+   * notified. They keep routing with their current table until this method is called in their JVM
+   * as well, or until they are restarted and read the table of the property {@code
+   * taskana.routing.dmn} again.
+   *
+   * @param taskanaEngine the engine the routers were initialized with
+   * @param dmnModel the new DMN table
+   * @throws SystemException if the new DMN table contains unknown workbaskets
+   */
+  public static void reload(TaskanaEngine taskanaEngine, DmnModelInstance dmnModel) {
+    List<DmnTaskRouter> routers;
+    synchronized (INITIALIZED_ROUTERS) {
+      routers =
+          INITIALIZED_ROUTERS.stream()
+              .filter(router -> router.taskanaEngine == taskanaEngine)
+              .toList();
+    }
+    for (DmnTaskRouter router : routers) {
+      router.reload(dmnModel);
+    }
+  }
 
-    validateOutputs(dmnModel);
+  /**
+   * Replaces the DMN table of this router.
+   *
+   * @param dmnModel the new DMN table
+   * @throws SystemException if the new DMN table contains unknown workbaskets
+   */
+  public void reload(DmnModelInstance dmnModel) {
+    compiledTable = compile(dmnModel);
+    LOGGER.info("Reloaded DMN table. Routing by index: {}", compiledTable.ruleIndex != null);
   }
 
   @Override
   public String determineWorkbasketId(Task task) {
+    CompiledTable table = compiledTable;
+    if (table.ruleIndex != null) {
+      int rule = table.ruleIndex.findMatchingRule(task);
+      if (rule == DmnRuleIndex.NO_MATCH) {
+        return null;
+      } else if (rule != DmnRuleIndex.NOT_APPLICABLE) {
+        Pair<String, String> output = table.outputsByRule.get(rule);
+        return getWorkbasketId(table, output.getLeft(), output.getRight());
+      }
+    }
+
     VariableMap variables = Variables.putValue(DECISION_VARIABLE_MAP_NAME, task);
 
-    DmnDecisionTableResult result = dmnEngine.evaluateDecisionTable(decision, variables);
+    DmnDecisionTableResult result = dmnEngine.evaluateDecisionTable(table.decision, variables);
 
     if (result.getSingleResult() == null) {
       return null;
@@ -66,21 +141,7 @@ public class DmnTaskRouter implements TaskRoutingProvider {
     String workbasketKey = result.getSingleResult().getEntry(OUTPUT_WORKBASKET_KEY);
     String domain = result.getSingleResult().getEntry(OUTPUT_DOMAIN);
 
-    try {
-
-      return taskanaEngine.getWorkbasketService().getWorkbasket(workbasketKey, domain).getId();
-    } catch (WorkbasketNotFoundException e) {
-      throw new SystemException(
-          String.format(
-              "Unknown workbasket defined in DMN Table. key: '%s', domain: '%s'",
-              workbasketKey, domain));
-    } catch (NotAuthorizedOnWorkbasketException e) {
-      throw new SystemException(
-          String.format(
-              "The current user is not authorized to create a task in the routed workbasket. "
-                  + "key: '%s', domain: '%s'",
-              workbasketKey, domain));
-    }
+    return getWorkbasketId(table, workbasketKey, domain);
   }
 
   protected Set<Pair<String, String>> getAllWorkbasketAndDomainOutputs(DmnModelInstance dmnModel) {
@@ -108,15 +169,136 @@ public class DmnTaskRouter implements TaskRoutingProvider {
     }
   }
 
-  private void validateOutputs(DmnModelInstance dmnModel) {
+  private String getWorkbasketId(CompiledTable table, String workbasketKey, String domain) {
+    Pair<String, String> keyDomain = Pair.of(workbasketKey, domain);
+    try {
+      String workbasketId = table.workbasketIds.get(keyDomain);
+      if (workbasketId != null) {
+        try {
+          checkAuthorization(workbasketId);
+          return workbasketId;
+        } catch (WorkbasketNotFoundException e) {
+          // the workbasket was deleted and maybe recreated with another ID
+        }
+      }
+      workbasketId = findWorkbasketId(workbasketKey, domain);
+      table.workbasketIds.put(keyDomain, workbasketId);
+      checkAuthorization(workbasketId);
+      return workbasketId;
+    } catch (WorkbasketNotFoundException e) {
+      throw new SystemException(
+          String.format(
+              "Unknown workbasket defined in DMN Table. key: '%s', domain: '%s'",
+              workbasketKey, domain));
+    } catch (NotAuthorizedOnWorkbasketException e) {
+      throw new SystemException(
+          String.format(
+              "The current user is not authorized to create a task in the routed workbasket. "
+                  + "key: '%s', domain: '%s'",
+              workbasketKey, domain));
+    }
+  }
+
+  private void checkAuthorization(String workbasketId)
+      throws WorkbasketNotFoundException, NotAuthorizedOnWorkbasketException {
+    try {
+      // checks that the workbasket exists before it checks the permissions
+      taskanaEngine
+          .getWorkbasketService()
+          .checkAuthorization(workbasketId, WorkbasketPermission.READ);
+    } catch (NotAuthorizedOnWorkbasketException e) {
+      // like WorkbasketService.getWorkbasket(key, domain), which was used to route the tasks before
+      if (!taskanaEngine.isUserInRole(
+          TaskanaRole.ADMIN,
+          TaskanaRole.BUSINESS_ADMIN,
+          TaskanaRole.TASK_ADMIN,
+          TaskanaRole.TASK_ROUTER)) {
+        throw e;
+      }
+    }
+  }
+
+  private String findWorkbasketId(String workbasketKey, String domain)
+      throws WorkbasketNotFoundException {
+    WorkbasketService workbasketService = taskanaEngine.getWorkbasketService();
+    String workbasketId =
+        taskanaEngine.runAsAdmin(
+            () -> {
+              try {
+                return workbasketService.getWorkbasket(workbasketKey, domain).getId();
+              } catch (WorkbasketNotFoundException | NotAuthorizedOnWorkbasketException e) {
+                return null;
+              }
+            });
+    if (workbasketId == null) {
+      throw new WorkbasketNotFoundException(workbasketKey, domain);
+    }
+    return workbasketId;
+  }
+
+  private CompiledTable compile(DmnModelInstance dmnModel) {
+    final DmnDecision decision = dmnEngine.parseDecision(DECISION_ID, dmnModel);
+    final Map<Pair<String, String>, String> workbasketIds = validateOutputs(dmnModel);
+
+    DmnRuleIndex ruleIndex = null;
+    List<Pair<String, String>> outputsByRule = null;
+    Decision decisionElement = dmnModel.getModelElementById(DECISION_ID);
+    if (decisionElement.getExpression() instanceof DecisionTable decisionTable) {
+      outputsByRule = getOutputsByRule(decisionTable);
+      if (outputsByRule != null) {
+        ruleIndex = DmnRuleIndex.of(decisionTable, DECISION_VARIABLE_MAP_NAME);
+      }
+    }
+    if (ruleIndex == null) {
+      LOGGER.info("The DMN table can't be indexed. Every task is routed by the DMN engine.");
+    }
+    return new CompiledTable(decision, ruleIndex, outputsByRule, workbasketIds);
+  }
+
+  private List<Pair<String, String>> getOutputsByRule(DecisionTable decisionTable) {
+    List<String> outputNames = decisionTable.getOutputs().stream().map(Output::getName).toList();
+    int workbasketKeyPosition = outputNames.indexOf(OUTPUT_WORKBASKET_KEY);
+    int domainPosition = outputNames.indexOf(OUTPUT_DOMAIN);
+    if (workbasketKeyPosition < 0 || domainPosition < 0) {
+      return null;
+    }
+
+    List<Pair<String, String>> outputsByRule = new ArrayList<>();
+    for (Rule rule : decisionTable.getRules()) {
+      List<OutputEntry> outputEntries = new ArrayList<>(rule.getOutputEntries());
+      String workbasketKey = getStringLiteral(outputEntries.get(workbasketKeyPosition));
+      String domain = getStringLiteral(outputEntries.get(domainPosition));
+      // outputs which are expressions can only be evaluated by the DMN engine
+      if (workbasketKey == null || domain == null) {
+        return null;
+      }
+      outputsByRule.add(Pair.of(workbasketKey, domain));
+    }
+    return outputsByRule;
+  }
+
+  private String getStringLiteral(OutputEntry outputEntry) {
+    String text = outputEntry.getTextContent().trim();
+    if (text.length() < 2
+        || !text.startsWith("\"")
+        || !text.endsWith("\"")
+        || text.indexOf('"', 1) != text.length() - 1
+        || text.indexOf('\\') >= 0) {
+      return null;
+    }
+    return text.substring(1, text.length() - 1);
+  }
+
+  private Map<Pair<String, String>, String> validateOutputs(DmnModelInstance dmnModel) {
     Set<Pair<String, String>> allWorkbasketAndDomainOutputs =
         getAllWorkbasketAndDomainOutputs(dmnModel);
 
-    validate(allWorkbasketAndDomainOutputs);
+    return validate(allWorkbasketAndDomainOutputs);
   }
 
-  private void validate(Set<Pair<String, String>> allWorkbasketAndDomainOutputs) {
-    WorkbasketService workbasketService = taskanaEngine.getWorkbasketService();
+  private Map<Pair<String, String>, String> validate(
+      Set<Pair<String, String>> allWorkbasketAndDomainOutputs) {
+    Map<Pair<String, String>, String> workbasketIds = new ConcurrentHashMap<>();
 
     for (Pair<String, String> pair : allWorkbasketAndDomainOutputs) {
       String workbasketKey = pair.getLeft().replace("\"", "");
@@ -124,19 +306,37 @@ public class DmnTaskRouter implements TaskRoutingProvider {
       // This can be replaced with a workbasketQuery call.
       // Unfortunately the WorkbasketQuery does not support a keyDomainIn operation.
       // Therefore we fetch every workbasket separately
+      try {
+        workbasketIds.put(Pair.of(workbasketKey, domain), findWorkbasketId(workbasketKey, domain));
+      } catch (WorkbasketNotFoundException e) {
+        throw new SystemException(
+            String.format(
+                "Unknown workbasket defined in DMN Table. key: '%s', domain: '%s'",
+                workbasketKey, domain),
+            e);
+      }
+    }
+    return workbasketIds;
+  }
+
+  private static class CompiledTable {
+
+    private final DmnDecision decision;
+    private final DmnRuleIndex ruleIndex;
+    // the workbasket key and domain of each rule, if the rule index is used
+    private final List<Pair<String, String>> outputsByRule;
+    // the workbasket ID by workbasket key and domain, entries are replaced if they are stale
+    private final Map<Pair<String, String>, String> workbasketIds;
 
-      taskanaEngine.runAsAdmin(
-          () -> {
-            try {
-              return workbasketService.getWorkbasket(workbasketKey, domain);
-            } catch (Exception e) {
-              throw new SystemException(
-                  String.format(
-                      "Unknown workbasket defined in DMN Table. key: '%s', domain: '%s'",
-                      workbasketKey, domain),
-                  e);
-            }
-          });
+    private CompiledTable(
+        DmnDecision decision,
+        DmnRuleIndex ruleIndex,
+        List<Pair<String, String>> outputsByRule,
+        Map<Pair<String, String>, String> workbasketIds) {
+      this.decision = decision;
+      this.ruleIndex = ruleIndex;
+      this.outputsByRule = outputsByRule;
+      this.workbasketIds = workbasketIds;
     }
   }
 }
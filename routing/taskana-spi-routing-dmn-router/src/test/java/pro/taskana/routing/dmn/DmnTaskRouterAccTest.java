@@ -5,11 +5,19 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static pro.taskana.testapi.DefaultTestEntities.defaultTestClassification;
 import static pro.taskana.testapi.DefaultTestEntities.defaultTestWorkbasket;
 
+import java.io.InputStream;
 import java.lang.reflect.Field;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.camunda.bpm.model.dmn.Dmn;
+import org.camunda.bpm.model.dmn.DmnModelInstance;
+import org.camunda.bpm.model.dmn.instance.InputEntry;
+import org.camunda.bpm.model.dmn.instance.OutputEntry;
+import org.camunda.bpm.model.dmn.instance.Rule;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import pro.taskana.TaskanaConfiguration;
@@ -17,6 +25,7 @@ import pro.taskana.classification.api.ClassificationService;
 import pro.taskana.classification.api.models.ClassificationSummary;
 import pro.taskana.common.api.TaskanaEngine;
 import pro.taskana.common.api.exceptions.InvalidArgumentException;
+import pro.taskana.common.api.exceptions.SystemException;
 import pro.taskana.common.internal.InternalTaskanaEngine;
 import pro.taskana.spi.routing.api.TaskRoutingProvider;
 import pro.taskana.spi.routing.internal.TaskRoutingManager;
@@ -85,6 +94,11 @@ class DmnTaskRouterAccTest {
     reinitializeTaskRoutingProviders();
   }
 
+  @AfterEach
+  void restoreDmnTable() throws Exception {
+    DmnTaskRouter.reload(taskanaEngine, readDmnTable());
+  }
+
   @WithAccessId(user = "taskadmin")
   @Test
   void should_RouteTaskToCorrectWorkbasket_When_DmnTaskRouterFindsRule() throws Exception {
@@ -114,6 +128,77 @@ class DmnTaskRouterAccTest {
         .isEqualTo("Cannot create a Task outside a Workbasket");
   }
 
+  @WithAccessId(user = "taskadmin")
+  @Test
+  void should_RouteTaskWithNewTable_When_DmnTableIsReloaded() throws Exception {
+    DmnModelInstance dmnModel = readDmnTable();
+    getOutputEntries(getRules(dmnModel).get(0)).get(0).getText().setTextContent("\"GPK_KSC_2\"");
+
+    DmnTaskRouter.reload(taskanaEngine, dmnModel);
+
+    Task routedTask = createTaskWithPrimaryObjRef("00000001", "MyType1");
+    assertThat(routedTask.getWorkbasketKey()).isEqualTo("GPK_KSC_2");
+  }
+
+  @WithAccessId(user = "admin")
+  @Test
+  void should_RouteTaskToRecreatedWorkbasket_When_WorkbasketIsRecreatedAfterReload()
+      throws Exception {
+    WorkbasketSummary workbasket =
+        createWorkbasketWithDomainA("GPK_KSC_3").buildAndStoreAsSummary(workbasketService);
+    DmnModelInstance dmnModel = readDmnTable();
+    getOutputEntries(getRules(dmnModel).get(0)).get(0).getText().setTextContent("\"GPK_KSC_3\"");
+    DmnTaskRouter.reload(taskanaEngine, dmnModel);
+
+    workbasketService.deleteWorkbasket(workbasket.getId());
+    WorkbasketSummary recreatedWorkbasket =
+        createWorkbasketWithDomainA("GPK_KSC_3").buildAndStoreAsSummary(workbasketService);
+
+    Task routedTask = createTaskWithPrimaryObjRef("00000001", "MyType1");
+    assertThat(routedTask.getWorkbasketSummary().getId()).isEqualTo(recreatedWorkbasket.getId());
+  }
+
+  @WithAccessId(user = "taskadmin")
+  @Test
+  void should_KeepDmnTable_When_ReloadedDmnTableContainsUnknownWorkbasket() throws Exception {
+    DmnModelInstance dmnModel = readDmnTable();
+    getOutputEntries(getRules(dmnModel).get(0)).get(0).getText().setTextContent("\"UNKNOWN\"");
+
+    assertThatThrownBy(() -> DmnTaskRouter.reload(taskanaEngine, dmnModel))
+        .isInstanceOf(SystemException.class)
+        .hasMessage("Unknown workbasket defined in DMN Table. key: 'UNKNOWN', domain: 'DOMAIN_A'");
+
+    Task routedTask = createTaskWithPrimaryObjRef("00000001", "MyType1");
+    assertThat(routedTask.getWorkbasketKey()).isEqualTo("GPK_KSC");
+  }
+
+  @WithAccessId(user = "taskadmin")
+  @Test
+  void should_RouteTask_When_AnchoredRegexOfRuleMatches() throws Exception {
+    DmnModelInstance dmnModel = readDmnTable();
+    getInputEntries(getRules(dmnModel).get(1))
+        .get(0)
+        .getText()
+        .setTextContent("matches(cellInput,\"^(00000005|00000006)$\")");
+    DmnTaskRouter.reload(taskanaEngine, dmnModel);
+
+    Task routedTask = createTaskWithPrimaryObjRef("00000006", "MyType2");
+    assertThat(routedTask.getWorkbasketKey()).isEqualTo("GPK_KSC_1");
+  }
+
+  @WithAccessId(user = "taskadmin")
+  @Test
+  void should_RouteTaskWithDmnEngine_When_RuleWithComplexInputEntryMayMatch() throws Exception {
+    DmnModelInstance dmnModel = readDmnTable();
+    getInputEntries(getRules(dmnModel).get(0)).get(0).getText().setTextContent("not(\"00000002\")");
+    DmnTaskRouter.reload(taskanaEngine, dmnModel);
+
+    Task taskRoutedByEngine = createTaskWithPrimaryObjRef("00000003", "MyType1");
+    Task taskRoutedByIndex = createTaskWithPrimaryObjRef("00000001", "MyType2");
+    assertThat(taskRoutedByEngine.getWorkbasketKey()).isEqualTo("GPK_KSC");
+    assertThat(taskRoutedByIndex.getWorkbasketKey()).isEqualTo("GPK_KSC_1");
+  }
+
   ObjectReference createObjectReference(
       String company, String system, String systemInstance, String type, String value) {
     return ObjectReferenceBuilder.newObjectReference()
@@ -125,6 +210,31 @@ class DmnTaskRouterAccTest {
         .build();
   }
 
+  private Task createTaskWithPrimaryObjRef(String value, String type) throws Exception {
+    Task taskToRoute = taskService.newTask();
+    taskToRoute.setClassificationKey(defaultClassificationSummary.getKey());
+    taskToRoute.setPrimaryObjRef(createObjectReference("company", null, null, type, value));
+    return taskService.createTask(taskToRoute);
+  }
+
+  private DmnModelInstance readDmnTable() throws Exception {
+    try (InputStream stream = getClass().getResourceAsStream("/dmn-table.dmn")) {
+      return Dmn.readModelFromStream(stream);
+    }
+  }
+
+  private List<Rule> getRules(DmnModelInstance dmnModel) {
+    return new ArrayList<>(dmnModel.getModelElementsByType(Rule.class));
+  }
+
+  private List<InputEntry> getInputEntries(Rule rule) {
+    return new ArrayList<>(rule.getInputEntries());
+  }
+
+  private List<OutputEntry> getOutputEntries(Rule rule) {
+    return new ArrayList<>(rule.getOutputEntries());
+  }
+
   private void changeDmnTable(String newPath) throws Exception {
     Map<String, String> mutableProperties = new HashMap<>();
     String dmnTableProperty = "taskana.routing.dmn";